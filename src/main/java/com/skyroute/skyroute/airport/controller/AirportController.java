@@ -4,6 +4,7 @@ import com.skyroute.skyroute.airport.dto.AirportCreateRequest;
 import com.skyroute.skyroute.airport.dto.AirportResponse;
 import com.skyroute.skyroute.airport.dto.AirportUpdateRequest;
 import com.skyroute.skyroute.airport.service.AirportService;
+import com.skyroute.skyroute.shared.catalog.CatalogVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +24,7 @@ import java.util.List;
 @Tag(name = "Airport", description = "Airport management APIs")
 public class AirportController {
     private final AirportService airportService;
+    private final CatalogVersions catalogVersions;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
@@ -35,8 +38,8 @@ public class AirportController {
 
     @GetMapping
     @Operation(summary = "List all Airports", description = "Retrieve a list of all registered airports")
-    public ResponseEntity<List<AirportResponse>> getAllAirports(){
-        return ResponseEntity.ok(airportService.getAllAirports());
+    public ResponseEntity<List<AirportResponse>> getAllAirports(WebRequest request){
+        return catalogVersions.airports().respond(request, airportService::getAllAirports);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,4 @@
+package com.skyroute.skyroute.airport.event;
+
+public record AirportChangedEvent(Long airportId) {
+}
@@ -5,12 +5,14 @@ import com.skyroute.skyroute.airport.dto.AirportMapper;
 import com.skyroute.skyroute.airport.dto.AirportResponse;
 import com.skyroute.skyroute.airport.dto.AirportUpdateRequest;
 import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
 import com.skyroute.skyroute.airport.repository.AirportRepository;
 import com.skyroute.skyroute.cloudinary.CloudinaryService;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
 import com.skyroute.skyroute.shared.exception.custom_exception.InvalidUpdateRequestException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.List;
 public class AirportServiceImpl implements AirportService {
     private final AirportRepository airportRepository;
     private final CloudinaryService cloudinaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,6 +37,7 @@ public class AirportServiceImpl implements AirportService {
         Airport airport = AirportMapper.toEntityFromCreate(request, imageUrl);
 
         Airport saved = airportRepository.save(airport);
+        eventPublisher.publishEvent(new AirportChangedEvent(saved.getId()));
         return AirportMapper.toDto(saved);
     }
 
@@ -70,6 +74,7 @@ public class AirportServiceImpl implements AirportService {
         AirportMapper.toEntityFromUpdate(airport, request);
 
         Airport updated = airportRepository.save(airport);
+        eventPublisher.publishEvent(new AirportChangedEvent(updated.getId()));
         return AirportMapper.toDto(updated);
     }
 
@@ -87,6 +92,7 @@ public class AirportServiceImpl implements AirportService {
         }
 
         airportRepository.delete(airport);
+        eventPublisher.publishEvent(new AirportChangedEvent(airport.getId()));
     }
 
     @Override
@@ -12,6 +12,7 @@ import com.skyroute.skyroute.email.PasswordResetEmailTemplates;
 import com.skyroute.skyroute.email.RegistrationEmailTemplates;
 import com.skyroute.skyroute.security.details.CustomUserDetails;
 import com.skyroute.skyroute.security.jwt.JwtUtil;
+import com.skyroute.skyroute.security.jwt.SecurityStampChangedEvent;
 import com.skyroute.skyroute.security.jwt.TokenBlacklistService;
 import com.skyroute.skyroute.shared.exception.custom_exception.EmailAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.UserNotFoundException;
@@ -21,6 +22,7 @@ import com.skyroute.skyroute.user.entity.User;
 import com.skyroute.skyroute.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -43,6 +45,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtUtil jwtUtil;
     private final TokenBlacklistService tokenBlacklistService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RegisterResponse register(UserRequest request) {
@@ -105,7 +108,7 @@ public class AuthServiceImpl implements AuthService {
         log.info("Refresh token request received");
         String refreshToken = request.refreshToken();
 
-        if (tokenBlacklistService.isBlacklisted(refreshToken)) {
+        if (tokenBlacklistService.isRevoked(refreshToken)) {
             log.warn("Attempted to use blacklisted refresh token");
             throw new RuntimeException("Token has been revoked");
         }
@@ -187,7 +190,9 @@ public class AuthServiceImpl implements AuthService {
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         user.setPasswordResetToken(null);
         user.setPasswordResetTokenExpiresAt(null);
+        user.setSecurityStamp(user.getSecurityStamp() + 1);
         userRepository.save(user);
+        eventPublisher.publishEvent(new SecurityStampChangedEvent(user.getId(), user.getSecurityStamp()));
 
         log.info("Password successfully reset for user: {}", user.getEmail());
         return new PasswordResetResponse("Password has been successfully reset", true);
@@ -1,10 +1,15 @@
 package com.skyroute.skyroute.booking.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.skyroute.skyroute.booking.dto.BookingRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.dto.BulkBookingRequest;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
 import com.skyroute.skyroute.booking.service.BookingService;
+import com.skyroute.skyroute.flight.inventory.SeatInventory;
+import com.skyroute.skyroute.shared.idempotency.IdempotencyService;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,6 +40,8 @@ import java.util.List;
 public class BookingController {
     private final BookingService bookingService;
     private final UserService userService;
+    private final IdempotencyService idempotencyService;
+    private final SeatInventory seatInventory;
 
     @Operation(
             summary = "Get all bookings (Admin only)",
@@ -75,7 +82,7 @@ public class BookingController {
             @Parameter(description = "Page size (1-10)") @RequestParam(defaultValue = "10") @Min(1) @Max(10) int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection) {
-        User user = userService.getCurrentUser();
+        UserIdentity user = userService.getCurrentUserIdentity();
         Page<BookingResponse> bookingsResponse = bookingService.getAllBookingsUser(user, page, size, sortBy, sortDirection);
 
         return ResponseEntity.status(HttpStatus.OK).body(bookingsResponse);
@@ -97,7 +104,7 @@ public class BookingController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<BookingResponse> getBookingById(@Parameter(description = "Booking ID", required = true) @PathVariable Long id) {
-        User user = userService.getCurrentUser();
+        UserIdentity user = userService.getCurrentUserIdentity();
         BookingResponse bookingResponse = bookingService.getBookingById(id, user);
 
         return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
@@ -119,11 +126,40 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PostMapping
-    public ResponseEntity<BookingResponse> createBooking(@Parameter(description = "Booking request details", required = true) @Valid @RequestBody BookingRequest bookingRequest) {
+    public ResponseEntity<BookingResponse> createBooking(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking request details", required = true) @Valid @RequestBody BookingRequest bookingRequest) {
+        User user = userService.getCurrentUser();
+
+        return idempotencyService.execute(idempotencyKey, user.getId(), "POST /api/bookings", bookingRequest, new TypeReference<>() {}, () -> {
+            seatInventory.prepare(List.of(bookingRequest.flightId()));
+            BookingResponse bookingResponse = bookingService.createBooking(bookingRequest, user);
+            return ResponseEntity.status(HttpStatus.CREATED).body(bookingResponse);
+        });
+    }
+
+    @Operation(
+            summary = "Create bookings in bulk",
+            description = "Creates up to 50 bookings for the authenticated user in a single transaction. Either all bookings are created or none."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Bookings created successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid booking request", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Flight not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Not enough seats available", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BookingResponse>> createBookings(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Bookings to create", required = true) @Valid @RequestBody BulkBookingRequest bulkBookingRequest) {
         User user = userService.getCurrentUser();
-        BookingResponse bookingResponse = bookingService.createBooking(bookingRequest, user);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(bookingResponse);
+        return idempotencyService.execute(idempotencyKey, user.getId(), "POST /api/bookings/bulk", bulkBookingRequest, new TypeReference<>() {}, () -> {
+            seatInventory.prepare(bulkBookingRequest.bookings().stream().map(BookingRequest::flightId).distinct().toList());
+            List<BookingResponse> bookingResponses = bookingService.createBookings(bulkBookingRequest.bookings(), user);
+            return ResponseEntity.status(HttpStatus.CREATED).body(bookingResponses);
+        });
     }
 
     @Operation(
@@ -142,11 +178,13 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PutMapping("/{id}/status")
-    public ResponseEntity<BookingResponse> updateBookingStatus(@Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "New booking status", required = true) @RequestParam BookingStatus status) {
-        User user = userService.getCurrentUser();
-        BookingResponse bookingResponse = bookingService.updateBookingStatus(id, status, user);
+    public ResponseEntity<BookingResponse> updateBookingStatus(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "New booking status", required = true) @RequestParam BookingStatus status) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        return idempotencyService.execute(idempotencyKey, user.getId(), "PUT /api/bookings/" + id + "/status", status, new TypeReference<>() {}, () -> {
+            BookingResponse bookingResponse = bookingService.updateBookingStatus(id, status, user);
+            return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        });
     }
 
     @Operation(
@@ -165,11 +203,13 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PostMapping("/{id}/confirm")
-    public ResponseEntity<BookingResponse> confirmBooking(@Parameter(description = "Booking ID", required = true) @PathVariable Long id) {
-        User user = userService.getCurrentUser();
-        BookingResponse bookingResponse = bookingService.confirmBooking(id, user);
+    public ResponseEntity<BookingResponse> confirmBooking(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking ID", required = true) @PathVariable Long id) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        return idempotencyService.execute(idempotencyKey, user.getId(), "POST /api/bookings/" + id + "/confirm", null, new TypeReference<>() {}, () -> {
+            BookingResponse bookingResponse = bookingService.confirmBooking(id, user);
+            return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        });
     }
 
     @Operation(
@@ -184,11 +224,13 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PostMapping("/{id}/cancel")
-    public ResponseEntity<Void> cancelBooking(@PathVariable Long id) {
-        User user = userService.getCurrentUser();
-        bookingService.cancelBooking(id, user);
+    public ResponseEntity<Void> cancelBooking(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @PathVariable Long id) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.noContent().build();
+        return idempotencyService.execute(idempotencyKey, user.getId(), "POST /api/bookings/" + id + "/cancel", null, new TypeReference<>() {}, () -> {
+            bookingService.cancelBooking(id, user);
+            return ResponseEntity.noContent().build();
+        });
     }
 
     @Operation(
@@ -207,11 +249,13 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PutMapping("/{id}/passenger-names")
-    public ResponseEntity<BookingResponse> updatePassengerNames(@Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "List of passenger names", required = true) @RequestBody List<String> names) {
-        User user = userService.getCurrentUser();
-        BookingResponse bookingResponse = bookingService.updatePassengerNames(id, names, user);
+    public ResponseEntity<BookingResponse> updatePassengerNames(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "List of passenger names", required = true) @RequestBody List<String> names) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        return idempotencyService.execute(idempotencyKey, user.getId(), "PUT /api/bookings/" + id + "/passenger-names", names, new TypeReference<>() {}, () -> {
+            BookingResponse bookingResponse = bookingService.updatePassengerNames(id, names, user);
+            return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        });
     }
 
     @Operation(
@@ -230,11 +274,13 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PutMapping("/{id}/passenger-birth-dates")
-    public ResponseEntity<BookingResponse> updatePassengerBirthDates(@Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "List of passenger birth dates (yyyy-MM-dd format)", required = true) @RequestBody List<LocalDate> birthDates) {
-        User user = userService.getCurrentUser();
-        BookingResponse bookingResponse = bookingService.updatePassengerBirthDates(id, birthDates, user);
+    public ResponseEntity<BookingResponse> updatePassengerBirthDates(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking ID", required = true) @PathVariable Long id, @Parameter(description = "List of passenger birth dates (yyyy-MM-dd format)", required = true) @RequestBody List<LocalDate> birthDates) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        return idempotencyService.execute(idempotencyKey, user.getId(), "PUT /api/bookings/" + id + "/passenger-birth-dates", birthDates, new TypeReference<>() {}, () -> {
+            BookingResponse bookingResponse = bookingService.updatePassengerBirthDates(id, birthDates, user);
+            return ResponseEntity.status(HttpStatus.OK).body(bookingResponse);
+        });
     }
 
     @Operation(
@@ -248,10 +294,12 @@ public class BookingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteBooking(@Parameter(description = "Booking ID", required = true) @PathVariable Long id) {
-        User user = userService.getCurrentUser();
-        bookingService.deleteBooking(id, user);
+    public ResponseEntity<Void> deleteBooking(@Parameter(description = "Key that makes retries of this request return the first response instead of repeating it") @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, @Parameter(description = "Booking ID", required = true) @PathVariable Long id) {
+        UserIdentity user = userService.getCurrentUserIdentity();
 
-        return ResponseEntity.noContent().build();
+        return idempotencyService.execute(idempotencyKey, user.getId(), "DELETE /api/bookings/" + id, null, new TypeReference<>() {}, () -> {
+            bookingService.deleteBooking(id, user);
+            return ResponseEntity.noContent().build();
+        });
     }
  }
\ No newline at end of file
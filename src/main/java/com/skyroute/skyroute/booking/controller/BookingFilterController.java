@@ -4,7 +4,7 @@ import com.skyroute.skyroute.booking.dto.BookingFilterRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
 import com.skyroute.skyroute.booking.service.BookingFilterService;
-import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -71,7 +71,7 @@ public class BookingFilterController {
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "DESC") String sortDirection
     ) {
-        User user = userService.getCurrentUser();
+        UserIdentity user = userService.getCurrentUserIdentity();
         BookingFilterRequest filterRequest = new BookingFilterRequest(
                 bookingStatus, bookingNumber, flightDepartureDate, minPrice, null, null, null, null, null, null, originAirport, destinationAirport, passengerName, futureFlightsOnly,null, null
         );
@@ -119,7 +119,7 @@ public class BookingFilterController {
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "DESC") String sortDirection
     ) {
-        User admin = userService.getCurrentUser();
+        UserIdentity admin = userService.getCurrentUserIdentity();
         BookingFilterRequest filterRequest = new BookingFilterRequest(
                 bookingStatus, bookingNumber, flightDepartureDate, minPrice, maxPrice, userId, userEmail, userName, flightId, flightNumber, originAirport, destinationAirport, passengerName, futureFlightsOnly, activeOnly, pendingOnly
         );
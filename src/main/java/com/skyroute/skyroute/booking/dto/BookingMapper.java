@@ -1,23 +1,26 @@
 package com.skyroute.skyroute.booking.dto;
 
 import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.entity.Passenger;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.user.entity.User;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class BookingMapper {
    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
-   public static Booking toEntity(BookingRequest request, User user, Flight flight, Double totalPrice) {
+   public static Booking toEntity(BookingRequest request, User user, Flight flight, Double totalPrice, String bookingNumber) {
         return Booking.builder()
-                .bookingNumber(generateBookingNumber())
+                .bookingNumber(bookingNumber)
                 .bookedSeats(request.bookedSeats())
-                .passengerNames(request.passengerNames())
-                .passengerBirthDates(request.passengerBirthDates())
+                .passengers(toPassengers(request.passengerNames(), request.passengerBirthDates()))
                 .totalPrice(totalPrice)
                 .bookingStatus(BookingStatus.CREATED)
                 .user(user)
@@ -26,10 +29,7 @@ public class BookingMapper {
     }
 
     public static BookingResponse toDto(Booking booking) {
-        List<String> formatBirthDates = booking.getPassengerBirthDates()
-                .stream()
-                .map(date -> date.format(DATE_TIME_FORMATTER))
-                .toList();
+        List<String> formatBirthDates = formatBirthDates(booking.getPassengerBirthDates());
 
         return new BookingResponse(
                 booking.getId(),
@@ -50,7 +50,15 @@ public class BookingMapper {
         );
     }
 
-    private static String generateBookingNumber() {
-        return "SR-" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+    public static List<String> formatBirthDates(List<LocalDate> birthDates) {
+        return birthDates.stream()
+                .map(date -> date.format(DATE_TIME_FORMATTER))
+                .toList();
+    }
+
+    public static List<Passenger> toPassengers(List<String> names, List<LocalDate> birthDates) {
+        return IntStream.range(0, names.size())
+                .mapToObj(i -> new Passenger(names.get(i), birthDates.get(i)))
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 }
@@ -0,0 +1,15 @@
+package com.skyroute.skyroute.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkBookingRequest(
+    @NotEmpty(message = "At least one booking is required")
+    @Size(max = 50, message = "Maximum 50 bookings per request")
+    List<@NotNull(message = "Booking cannot be null") @Valid BookingRequest> bookings
+) {
+}
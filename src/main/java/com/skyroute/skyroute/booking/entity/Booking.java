@@ -6,8 +6,11 @@ import com.skyroute.skyroute.shared.BaseEntity;
 import com.skyroute.skyroute.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
@@ -20,7 +23,9 @@ import java.util.List;
 public class Booking extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_id")
+    @TableGenerator(name = "booking_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "booking", allocationSize = 50)
     private Long id;
 
     @Column(name= "booking_number", nullable = false, unique = true, length = 50)
@@ -30,14 +35,11 @@ public class Booking extends BaseEntity {
     private int bookedSeats;
 
     @ElementCollection
-    @CollectionTable(name = "booking_passenger_names", joinColumns = @JoinColumn(name = "booking_id"))
-    @Column(name= "passenger_names")
-    private List<String> passengerNames;
-
-    @ElementCollection
-    @CollectionTable(name = "booking_passenger_birth_dates", joinColumns = @JoinColumn(name = "booking_id"))
-    @Column(name= "passenger_birth_dates")
-    private List<LocalDate> passengerBirthDates;
+    @CollectionTable(name = "booking_passenger", joinColumns = @JoinColumn(name = "booking_id"))
+    @OrderColumn(name = "ordinal")
+    @BatchSize(size = 50)
+    @Builder.Default
+    private List<Passenger> passengers = new ArrayList<>();
 
     @Column(nullable = false)
     private Double totalPrice;
@@ -46,6 +48,12 @@ public class Booking extends BaseEntity {
     @Column(name= "booking_status", nullable = false)
     private BookingStatus bookingStatus;
 
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
     private User user;
@@ -53,4 +61,12 @@ public class Booking extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flight_id", referencedColumnName = "id", nullable = false)
     private Flight flight;
+
+    public List<String> getPassengerNames() {
+        return passengers.stream().map(Passenger::getName).toList();
+    }
+
+    public List<LocalDate> getPassengerBirthDates() {
+        return passengers.stream().map(Passenger::getBirthDate).toList();
+    }
 }
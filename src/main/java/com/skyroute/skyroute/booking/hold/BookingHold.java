@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.booking.hold;
+
+import java.time.LocalDateTime;
+
+public record BookingHold(Long bookingId, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,77 @@
+package com.skyroute.skyroute.booking.hold;
+
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.shared.timer.HierarchicalTimingWheel;
+import com.skyroute.skyroute.shared.timer.HierarchicalTimingWheel.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class SeatHoldTracker {
+
+    private final BookingRepository bookingRepository;
+    private final Duration holdTtl;
+    private final Duration retryDelay;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, Timeout<Long>> holds = new ConcurrentHashMap<>();
+
+    public SeatHoldTracker(BookingRepository bookingRepository,
+                           @Value("${app.bookings.hold.ttl:15m}") Duration holdTtl,
+                           @Value("${app.bookings.hold.retry-delay:30s}") Duration retryDelay,
+                           @Value("${app.bookings.hold.tick:1s}") Duration tick,
+                           @Value("${app.bookings.hold.wheel-size:64}") int wheelSize) {
+        this.bookingRepository = bookingRepository;
+        this.holdTtl = holdTtl;
+        this.retryDelay = retryDelay;
+        this.wheel = new HierarchicalTimingWheel<>(tick, wheelSize, Instant.now());
+    }
+
+    public LocalDateTime holdUntil(LocalDateTime now) {
+        return now.plus(holdTtl);
+    }
+
+    public void track(Long bookingId, LocalDateTime expiresAt) {
+        Timeout<Long> previous = holds.put(bookingId, wheel.schedule(bookingId, toInstant(expiresAt)));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    public void retryLater(Long bookingId, LocalDateTime now) {
+        track(bookingId, now.plus(retryDelay));
+    }
+
+    public List<Long> expired(LocalDateTime now) {
+        List<Long> bookingIds = wheel.advance(toInstant(now));
+        bookingIds.forEach(holds::remove);
+        return bookingIds;
+    }
+
+    public int pendingHolds() {
+        return wheel.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        List<BookingHold> pending = bookingRepository.findHolds(BookingStatus.CREATED);
+        pending.forEach(hold -> track(hold.bookingId(), hold.expiresAt()));
+        log.info("Rehydrated {} seat holds", pending.size());
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.booking.number;
+
+public interface BookingNumberGenerator {
+
+    String next();
+}
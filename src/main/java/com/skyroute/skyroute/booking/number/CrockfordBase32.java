@@ -0,0 +1,46 @@
+package com.skyroute.skyroute.booking.number;
+
+public final class CrockfordBase32 {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int BITS_PER_CHAR = 5;
+
+    private CrockfordBase32() {
+    }
+
+    public static String encode(long value, int length) {
+        if (value < 0 || length < 1 || (length * BITS_PER_CHAR < Long.SIZE - 1 && value >>> (length * BITS_PER_CHAR) != 0)) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in " + length + " base32 characters");
+        }
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= BITS_PER_CHAR;
+        }
+        return new String(chars);
+    }
+
+    public static long decode(CharSequence text) {
+        long value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            value = value << BITS_PER_CHAR | digit(text.charAt(i));
+        }
+        return value;
+    }
+
+    private static int digit(char c) {
+        char upper = Character.toUpperCase(c);
+        if (upper == 'O') {
+            return 0;
+        }
+        if (upper == 'I' || upper == 'L') {
+            return 1;
+        }
+        for (int digit = 0; digit < ALPHABET.length; digit++) {
+            if (ALPHABET[digit] == upper) {
+                return digit;
+            }
+        }
+        throw new IllegalArgumentException("Invalid base32 character: " + c);
+    }
+}
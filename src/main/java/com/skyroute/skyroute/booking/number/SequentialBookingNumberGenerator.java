@@ -0,0 +1,57 @@
+package com.skyroute.skyroute.booking.number;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class SequentialBookingNumberGenerator implements BookingNumberGenerator {
+
+    static final String PREFIX = "SR-";
+    static final int NODE_CHARS = 2;
+    static final int COUNTER_CHARS = 9;
+    static final int SEQUENCE_BITS = 14;
+    static final int MAX_NODES = 1 << (NODE_CHARS * 5);
+    static final long EPOCH_SECOND = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    private final String nodePrefix;
+    private final LongSupplier epochSeconds;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Autowired
+    public SequentialBookingNumberGenerator(@Value("${app.bookings.number.node:}") String node) {
+        this(nodeIndex(node), () -> System.currentTimeMillis() / 1000);
+    }
+
+    SequentialBookingNumberGenerator(int node, LongSupplier epochSeconds) {
+        if (node < 0 || node >= MAX_NODES) {
+            throw new IllegalArgumentException("Booking number node must be between 0 and " + (MAX_NODES - 1));
+        }
+        this.nodePrefix = PREFIX + CrockfordBase32.encode(node, NODE_CHARS);
+        this.epochSeconds = epochSeconds;
+    }
+
+    @Override
+    public String next() {
+        long floor = (epochSeconds.getAsLong() - EPOCH_SECOND) << SEQUENCE_BITS;
+        long value = counter.updateAndGet(previous -> Math.max(previous + 1, floor));
+        return nodePrefix + CrockfordBase32.encode(value, COUNTER_CHARS);
+    }
+
+    static int nodeIndex(String node) {
+        if (node == null || node.isBlank()) {
+            throw new IllegalStateException("app.bookings.number.node must be set to a number unique per instance, "
+                    + "such as the StatefulSet pod index");
+        }
+        try {
+            return Integer.parseInt(node.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("app.bookings.number.node must be a number between 0 and "
+                    + (MAX_NODES - 1) + ", got '" + node + "'", e);
+        }
+    }
+}
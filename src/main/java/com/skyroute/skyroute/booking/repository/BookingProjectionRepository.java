@@ -0,0 +1,16 @@
+package com.skyroute.skyroute.booking.repository;
+
+import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.entity.Booking;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+
+public interface BookingProjectionRepository {
+
+    Page<BookingResponse> findResponses(Specification<Booking> specification, Pageable pageable);
+
+    Optional<BookingResponse> findResponse(Specification<Booking> specification);
+}
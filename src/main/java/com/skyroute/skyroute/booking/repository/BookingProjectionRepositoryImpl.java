@@ -0,0 +1,144 @@
+package com.skyroute.skyroute.booking.repository;
+
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
+import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.entity.Passenger;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.route.entity.Route;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@RequiredArgsConstructor
+public class BookingProjectionRepositoryImpl implements BookingProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<BookingResponse> findResponses(Specification<Booking> specification, Pageable pageable) {
+        TypedQuery<Tuple> query = entityManager.createQuery(responseQuery(specification, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(toResponses(query.getResultList()), pageable,
+                () -> count(specification));
+    }
+
+    @Override
+    public Optional<BookingResponse> findResponse(Specification<Booking> specification) {
+        List<Tuple> rows = entityManager.createQuery(responseQuery(specification, Sort.unsorted()))
+                .setMaxResults(1)
+                .getResultList();
+
+        return toResponses(rows).stream().findFirst();
+    }
+
+    private CriteriaQuery<Tuple> responseQuery(Specification<Booking> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Flight> flight = booking.join("flight", JoinType.LEFT);
+        Join<Flight, Route> route = flight.join("route", JoinType.LEFT);
+        Join<Route, Airport> origin = route.join("origin", JoinType.LEFT);
+        Join<Route, Airport> destination = route.join("destination", JoinType.LEFT);
+
+        query.multiselect(
+                booking.get("id"),
+                booking.get("bookingNumber"),
+                booking.get("bookingStatus"),
+                flight.get("id"),
+                flight.get("flightNumber"),
+                origin.get("city"),
+                destination.get("city"),
+                flight.get("departureTime"),
+                flight.get("arrivalTime"),
+                booking.get("bookedSeats"),
+                booking.get("totalPrice"),
+                booking.get("createdAt"),
+                booking.get("updatedAt"));
+        query.distinct(true);
+
+        Predicate predicate = specification.toPredicate(booking, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, booking, criteriaBuilder));
+        }
+        return query;
+    }
+
+    private long count(Specification<Booking> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Booking> booking = query.from(Booking.class);
+        query.select(criteriaBuilder.countDistinct(booking));
+
+        Predicate predicate = specification.toPredicate(booking, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<BookingResponse> toResponses(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(0, Long.class)).toList();
+        Map<Long, List<Passenger>> passengersByBooking = passengersByBooking(ids);
+
+        return rows.stream()
+                .map(row -> {
+                    Long id = row.get(0, Long.class);
+                    List<Passenger> passengers = passengersByBooking.getOrDefault(id, List.of());
+                    return new BookingResponse(
+                            id,
+                            row.get(1, String.class),
+                            row.get(2, BookingStatus.class),
+                            row.get(3, Long.class),
+                            row.get(4, String.class),
+                            row.get(5, String.class),
+                            row.get(6, String.class),
+                            row.get(7, LocalDateTime.class),
+                            row.get(8, LocalDateTime.class),
+                            passengers.stream().map(Passenger::getName).toList(),
+                            BookingMapper.formatBirthDates(passengers.stream().map(Passenger::getBirthDate).toList()),
+                            row.get(9, Integer.class),
+                            row.get(10, Double.class),
+                            row.get(11, LocalDateTime.class),
+                            row.get(12, LocalDateTime.class));
+                })
+                .toList();
+    }
+
+    private Map<Long, List<Passenger>> passengersByBooking(List<Long> ids) {
+        Map<Long, List<Passenger>> passengersByBooking = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT b.id, p FROM Booking b JOIN b.passengers p WHERE b.id IN :ids ORDER BY b.id, INDEX(p)",
+                        Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> passengersByBooking
+                        .computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add((Passenger) row[1]));
+        return passengersByBooking;
+    }
+}
@@ -1,25 +1,34 @@
 package com.skyroute.skyroute.booking.repository;
 
 import com.skyroute.skyroute.booking.entity.Booking;
-import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.hold.BookingHold;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
-
-    @EntityGraph(attributePaths = {"flight", "flight.route", "user"})
-    Page<Booking> findAllByUser(Pageable pageable, User user);
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking>,
+        BookingProjectionRepository {
 
     @EntityGraph(attributePaths = {"flight", "flight.route", "user"})
     Page<Booking> findAll(Pageable pageable);
 
     @EntityGraph(attributePaths = {"flight", "flight.route", "user"})
     Optional<Booking> findById(Long id);
+
+    @Query("""
+            SELECT new com.skyroute.skyroute.booking.hold.BookingHold(b.id, b.holdExpiresAt)
+            FROM Booking b
+            WHERE b.bookingStatus = :status AND b.holdExpiresAt IS NOT NULL
+            """)
+    List<BookingHold> findHolds(@Param("status") BookingStatus status);
 }
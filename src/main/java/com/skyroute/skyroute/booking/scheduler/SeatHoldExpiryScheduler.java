@@ -0,0 +1,36 @@
+package com.skyroute.skyroute.booking.scheduler;
+
+import com.skyroute.skyroute.booking.hold.SeatHoldTracker;
+import com.skyroute.skyroute.booking.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SeatHoldExpiryScheduler {
+
+    private final SeatHoldTracker seatHoldTracker;
+    private final BookingService bookingService;
+
+    @Scheduled(fixedDelayString = "${app.bookings.hold.tick:1s}")
+    public void expireSeatHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long bookingId : seatHoldTracker.expired(now)) {
+            try {
+                if (bookingService.expireHold(bookingId, now)) {
+                    log.info("Seat hold of booking {} expired, seats released", bookingId);
+                }
+            } catch (Exception e) {
+                log.error("Error expiring seat hold of booking {}", bookingId, e);
+                seatHoldTracker.retryLater(bookingId, now);
+            }
+        }
+    }
+}
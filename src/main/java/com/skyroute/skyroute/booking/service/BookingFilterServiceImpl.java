@@ -1,12 +1,11 @@
 package com.skyroute.skyroute.booking.service;
 
 import com.skyroute.skyroute.booking.dto.BookingFilterRequest;
-import com.skyroute.skyroute.booking.dto.BookingMapper;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.entity.Booking;
 import com.skyroute.skyroute.booking.repository.BookingRepository;
 import com.skyroute.skyroute.booking.specification.BookingSpecification;
-import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,19 +21,19 @@ public class BookingFilterServiceImpl implements BookingFilterService{
     private final BookingRepository bookingRepository;
 
     @Override
-    public Page<BookingResponse> filterBookings(BookingFilterRequest filterRequest, Pageable pageable, User user) {
+    public Page<BookingResponse> filterBookings(BookingFilterRequest filterRequest, Pageable pageable, UserIdentity user) {
         Specification<Booking> specification = buildSpecificationByRole(filterRequest, user);
 
-        return bookingRepository.findAll(specification, pageable).map(booking -> BookingMapper.toDto(booking));
+        return bookingRepository.findResponses(specification, pageable);
     }
 
-    private Specification<Booking> buildSpecificationByRole(BookingFilterRequest filterRequest, User user) {
+    private Specification<Booking> buildSpecificationByRole(BookingFilterRequest filterRequest, UserIdentity user) {
         return user.getRole() == Role.ADMIN
             ? buildAdminSpecification(filterRequest)
             : buildUserSpecification(filterRequest, user);
     }
 
-    private Specification<Booking> buildUserSpecification(BookingFilterRequest filterRequest, User user) {
+    private Specification<Booking> buildUserSpecification(BookingFilterRequest filterRequest, UserIdentity user) {
         Specification<Booking> specification = BookingSpecification.hasUserId(user.getId());
 
         return specification.and(buildCommonFilters(filterRequest));
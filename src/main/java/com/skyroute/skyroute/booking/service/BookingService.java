@@ -4,20 +4,24 @@ import com.skyroute.skyroute.booking.dto.BookingRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookingService {
     Page<BookingResponse> getAllBookingsAdmin(int page, int size, String sortBy, String sortDirection);
-    Page<BookingResponse> getAllBookingsUser(User user, int page, int size, String sortBy, String sortDirection);
-    BookingResponse getBookingById(Long id, User user);
+    Page<BookingResponse> getAllBookingsUser(UserIdentity user, int page, int size, String sortBy, String sortDirection);
+    BookingResponse getBookingById(Long id, UserIdentity user);
     BookingResponse createBooking(BookingRequest request, User user);
-    BookingResponse updateBookingStatus(Long id, BookingStatus status, User user);
-    void cancelBooking(Long id, User user);
-    BookingResponse confirmBooking(Long id, User user);
-    BookingResponse updatePassengerNames(Long id, List<String> names, User user);
-    BookingResponse updatePassengerBirthDates(Long id, List<LocalDate> birthDates, User user);
-    void deleteBooking(Long id, User user);
+    List<BookingResponse> createBookings(List<BookingRequest> requests, User user);
+    BookingResponse updateBookingStatus(Long id, BookingStatus status, UserIdentity user);
+    void cancelBooking(Long id, UserIdentity user);
+    BookingResponse confirmBooking(Long id, UserIdentity user);
+    BookingResponse updatePassengerNames(Long id, List<String> names, UserIdentity user);
+    BookingResponse updatePassengerBirthDates(Long id, List<LocalDate> birthDates, UserIdentity user);
+    void deleteBooking(Long id, UserIdentity user);
+    boolean expireHold(Long id, LocalDateTime now);
 }
@@ -4,26 +4,35 @@ import com.skyroute.skyroute.booking.dto.BookingMapper;
 import com.skyroute.skyroute.booking.dto.BookingRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.entity.Passenger;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.hold.SeatHoldTracker;
+import com.skyroute.skyroute.booking.number.BookingNumberGenerator;
 import com.skyroute.skyroute.email.EmailService;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.flight.service.FlightService;
 import com.skyroute.skyroute.shared.exception.custom_exception.*;
 import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.booking.specification.BookingSpecification;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @Transactional
@@ -32,6 +41,8 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final FlightService flightService;
     private final EmailService emailService;
+    private final SeatHoldTracker seatHoldTracker;
+    private final BookingNumberGenerator bookingNumberGenerator;
 
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("id", "bookingNumber", "bookingStatus", "createdAt", "flightNumber");
 
@@ -40,48 +51,86 @@ public class BookingServiceImpl implements BookingService {
     public Page<BookingResponse> getAllBookingsAdmin(int page, int size, String sortBy, String sortDirection) {
         Pageable pageable = createPageable(page, size, sortBy, sortDirection);
 
-        return bookingRepository.findAll(pageable).map(booking -> BookingMapper.toDto(booking));
+        return bookingRepository.findResponses(Specification.unrestricted(), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<BookingResponse> getAllBookingsUser(User user, int page, int size, String sortBy, String sortDirection) {
+    public Page<BookingResponse> getAllBookingsUser(UserIdentity user, int page, int size, String sortBy, String sortDirection) {
         Pageable pageable = createPageable(page, size, sortBy, sortDirection);
 
-        return bookingRepository.findAllByUser(pageable, user).map(booking -> BookingMapper.toDto(booking));
+        return bookingRepository.findResponses(BookingSpecification.hasUserId(user.getId()), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public BookingResponse getBookingById(Long id, User user) {
-        Booking booking = findBookingById(id);
-        validateUserAccess(booking, user);
+    public BookingResponse getBookingById(Long id, UserIdentity user) {
+        Specification<Booking> specification = BookingSpecification.hasId(id);
+        if (user.getRole() == Role.USER) {
+            specification = specification.and(BookingSpecification.hasUserId(user.getId()));
+        }
 
-        return BookingMapper.toDto(booking);
+        return bookingRepository.findResponse(specification).orElseThrow(() -> {
+            if (bookingRepository.existsById(id)) {
+                return new BookingAccessDeniedException("User cannot access this booking");
+            }
+            return new EntityNotFoundException("Booking not found");
+        });
     }
 
     @Override
     public BookingResponse createBooking(BookingRequest request, User user) {
-        Flight flight = flightService.findById(request.flightId());
-        validateFlightBookingEligibility(request.flightId(), request.bookedSeats());
+        validateBookedSeats(request.bookedSeats());
+        Flight flight = flightService.bookSeats(request.flightId(), request.bookedSeats());
         Double totalPrice = calculateTotalPrice(flight, request.bookedSeats());
-        Booking booking = BookingMapper.toEntity(request, user, flight, totalPrice);
-        flightService.bookSeats(request.flightId(), request.bookedSeats());
-        flightService.updateAvailabilityIfNeeded(request.flightId());
+        Booking booking = BookingMapper.toEntity(request, user, flight, totalPrice, bookingNumberGenerator.next());
+        booking.setHoldExpiresAt(seatHoldTracker.holdUntil(LocalDateTime.now()));
         Booking savedBooking = bookingRepository.save(booking);
+        seatHoldTracker.track(savedBooking.getId(), savedBooking.getHoldExpiresAt());
         emailService.sendBookingConfirmationEmail(savedBooking, user, flight);
 
         return BookingMapper.toDto(savedBooking);
     }
 
     @Override
-    public BookingResponse updateBookingStatus(Long id, BookingStatus newStatus, User user) {
+    public List<BookingResponse> createBookings(List<BookingRequest> requests, User user) {
+        Map<Long, Integer> seatsByFlight = new TreeMap<>();
+        requests.forEach(request -> {
+            validateBookedSeats(request.bookedSeats());
+            seatsByFlight.merge(request.flightId(), request.bookedSeats(), Integer::sum);
+        });
+
+        Map<Long, Flight> flights = new HashMap<>();
+        seatsByFlight.forEach((flightId, seats) -> flights.put(flightId, flightService.bookSeats(flightId, seats)));
+
+        LocalDateTime holdExpiresAt = seatHoldTracker.holdUntil(LocalDateTime.now());
+        List<Booking> bookings = requests.stream()
+                .map(request -> {
+                    Flight flight = flights.get(request.flightId());
+                    Booking booking = BookingMapper.toEntity(request, user, flight, calculateTotalPrice(flight, request.bookedSeats()),
+                            bookingNumberGenerator.next());
+                    booking.setHoldExpiresAt(holdExpiresAt);
+                    return booking;
+                })
+                .toList();
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        savedBookings.forEach(booking -> {
+            seatHoldTracker.track(booking.getId(), booking.getHoldExpiresAt());
+            emailService.sendBookingConfirmationEmail(booking, user, booking.getFlight());
+        });
+
+        return savedBookings.stream().map(BookingMapper::toDto).toList();
+    }
+
+    @Override
+    public BookingResponse updateBookingStatus(Long id, BookingStatus newStatus, UserIdentity user) {
         Booking booking = findBookingById(id);
         validateUserAccess(booking, user);
         validateStatusTransition(booking.getBookingStatus(), newStatus);
         BookingStatus previousStatus = booking.getBookingStatus();
         validateUserStatusChangePermissions(user, previousStatus, newStatus, booking);
         booking.setBookingStatus(newStatus);
+        booking.setHoldExpiresAt(null);
         handleSeatReleaseIfNeeded(newStatus, previousStatus, booking);
         Booking updatedBooking = bookingRepository.save(booking);
         sendStatusChangeNotifications(newStatus, previousStatus, updatedBooking);
@@ -90,17 +139,17 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public void cancelBooking(Long id, User user) {
+    public void cancelBooking(Long id, UserIdentity user) {
         updateBookingStatus(id, BookingStatus.CANCELLED, user);
     }
 
     @Override
-    public BookingResponse confirmBooking(Long id, User user) {
+    public BookingResponse confirmBooking(Long id, UserIdentity user) {
         return updateBookingStatus(id, BookingStatus.CONFIRMED, user);
     }
 
     @Override
-    public BookingResponse updatePassengerNames(Long id, List<String> names, User user) {
+    public BookingResponse updatePassengerNames(Long id, List<String> names, UserIdentity user) {
         Booking booking = findBookingById(id);
         validateUserAccess(booking, user);
 
@@ -108,13 +157,17 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingAccessDeniedException("Cannot modify passenger names after booking is CONFORMED or CANCELLED");
         }
 
-        booking.setPassengerNames(names);
+        validatePassengerCount(booking, names.size());
+        List<Passenger> passengers = booking.getPassengers();
+        for (int i = 0; i < names.size(); i++) {
+            passengers.set(i, new Passenger(names.get(i), passengers.get(i).getBirthDate()));
+        }
 
         return BookingMapper.toDto(bookingRepository.save(booking));
     }
 
     @Override
-    public BookingResponse updatePassengerBirthDates(Long id, List<LocalDate> birthDates, User user) {
+    public BookingResponse updatePassengerBirthDates(Long id, List<LocalDate> birthDates, UserIdentity user) {
         Booking booking = findBookingById(id);
         validateUserAccess(booking, user);
 
@@ -122,13 +175,17 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingAccessDeniedException("Cannot modify passenger birth dates after booking is CONFORMED or CANCELLED");
         }
 
-        booking.setPassengerBirthDates(birthDates);
+        validatePassengerCount(booking, birthDates.size());
+        List<Passenger> passengers = booking.getPassengers();
+        for (int i = 0; i < birthDates.size(); i++) {
+            passengers.set(i, new Passenger(passengers.get(i).getName(), birthDates.get(i)));
+        }
 
         return BookingMapper.toDto(bookingRepository.save(booking));
     }
 
     @Override
-    public void deleteBooking(Long id, User user) {
+    public void deleteBooking(Long id, UserIdentity user) {
         Booking booking = findBookingById(id);
         validateUserAccess(booking, user);
 
@@ -136,11 +193,27 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingAccessDeniedException("Users can only delete bookings in CREATED status");
         }
 
+        bookingRepository.delete(booking);
         if (booking.getBookingStatus() != BookingStatus.CANCELLED) {
             flightService.releaseSeats(booking.getFlight().getId(), booking.getBookedSeats());
         }
+    }
 
-        bookingRepository.delete(booking);
+    @Override
+    public boolean expireHold(Long id, LocalDateTime now) {
+        Booking booking = bookingRepository.findById(id).orElse(null);
+        if (booking == null || booking.getBookingStatus() != BookingStatus.CREATED
+                || booking.getHoldExpiresAt() == null || booking.getHoldExpiresAt().isAfter(now)) {
+            return false;
+        }
+
+        booking.setBookingStatus(BookingStatus.CANCELLED);
+        booking.setHoldExpiresAt(null);
+        flightService.releaseSeats(booking.getFlight().getId(), booking.getBookedSeats());
+        Booking expiredBooking = bookingRepository.save(booking);
+        sendStatusChangeNotifications(BookingStatus.CANCELLED, BookingStatus.CREATED, expiredBooking);
+
+        return true;
     }
 
     private Pageable createPageable(int page, int size, String sortBy, String sortDirection) {
@@ -172,14 +245,14 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Booking not found"));
     }
 
-    private void validateUserAccess(Booking booking, User user) {
+    private void validateUserAccess(Booking booking, UserIdentity user) {
 
         if (user.getRole() == Role.USER && !booking.getUser().getId().equals(user.getId())) {
             throw new BookingAccessDeniedException("User cannot access this booking");
         }
     }
 
-    private void validateUserStatusChangePermissions(User user, BookingStatus currentStatus, BookingStatus newStatus, Booking booking) {
+    private void validateUserStatusChangePermissions(UserIdentity user, BookingStatus currentStatus, BookingStatus newStatus, Booking booking) {
 
         if (user.getRole() != Role.USER) {
             return;
@@ -233,24 +306,21 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private void validateFlightBookingEligibility(Long flightId, int requestedSeats) {
+    private void validateBookedSeats(int bookedSeats) {
 
-        if (!flightService.isFlightAvailable(flightId)) {
-            throw new InvalidBookingOperationException("Flight not available for booking");
-        }
-
-        if (!flightService.hasAvailableSeats(flightId, requestedSeats)) {
-            Flight flight = flightService.findById(flightId);
-            throw new NotEnoughSeatsException("Not enough seats available. Requested: " + requestedSeats + ". Available: " + flight.getAvailableSeats());
+        if (bookedSeats <= 0) {
+            throw new IllegalArgumentException("Number of seats booked mut be positive");
         }
     }
 
-    private Double calculateTotalPrice(Flight flight, int bookedSeats) {
+    private void validatePassengerCount(Booking booking, int count) {
 
-        if (bookedSeats <= 0) {
-            throw new IllegalArgumentException("Number of seats booked mut be positive");
+        if (count != booking.getPassengers().size()) {
+            throw new IllegalArgumentException("Booking has " + booking.getPassengers().size() + " passengers but " + count + " values were given");
         }
+    }
 
+    private Double calculateTotalPrice(Flight flight, int bookedSeats) {
         return flight.getPrice() * bookedSeats;
     }
 
@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
 
 public class BookingSpecification {
 
+    public static Specification<Booking> hasId(Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id);
+    }
+
     public static Specification<Booking> hasStatus(BookingStatus status) {
         return (root, query, criteriaBuilder) -> {
             if (status == null) {
@@ -148,9 +152,9 @@ public class BookingSpecification {
             if (passengerName == null || passengerName.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            Join<Object, Object> passengerNames = root.join("passengerNames", JoinType.INNER);
+            Join<Object, Object> passengers = root.join("passengers", JoinType.INNER);
             return criteriaBuilder.like(
-                    criteriaBuilder.lower(passengerNames.as(String.class)), "%" + passengerName.toLowerCase() + "%" );
+                    criteriaBuilder.lower(passengers.get("name")), "%" + passengerName.toLowerCase() + "%" );
         };
     }
 
@@ -1,6 +1,7 @@
 package com.skyroute.skyroute.email;
 
 import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.email.outbox.EmailOutbox;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.user.entity.User;
 import jakarta.mail.MessagingException;
@@ -8,10 +9,15 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.format.DateTimeFormatter;
 
 @Slf4j
@@ -20,9 +26,20 @@ import java.time.format.DateTimeFormatter;
 public class EmailService {
 
         private final JavaMailSender mailSender;
+        private final EmailOutbox emailOutbox;
         private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+        private static final InputStreamSource LOGO = loadLogo();
+
+        private static InputStreamSource loadLogo() {
+                try (InputStream in = new ClassPathResource("static/images/logo.png").getInputStream()) {
+                        byte[] logo = in.readAllBytes();
+                        return () -> new ByteArrayInputStream(logo);
+                } catch (IOException e) {
+                        throw new UncheckedIOException("Email logo static/images/logo.png could not be read", e);
+                }
+        }
 
-        public void sendRegistrationEmail(String to, String subject, String plainText, String htmlContent)
+        public MimeMessage createEmail(String to, String subject, String plainText, String htmlContent)
                         throws MessagingException {
                 MimeMessage message = mailSender.createMimeMessage();
                 MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -30,43 +47,33 @@ public class EmailService {
                 helper.setSubject(subject);
                 helper.setText(plainText, htmlContent);
 
-                ClassPathResource logoResource = new ClassPathResource("static/images/logo.png");
-                helper.addInline("logo", logoResource);
+                helper.addInline("logo", LOGO, "image/png");
 
-                mailSender.send(message);
+                return message;
         }
 
-        public void sendBookingEmail(String to, String subject, String plainText, String htmlContent)
-                        throws MessagingException {
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-                helper.setTo(to);
-                helper.setSubject(subject);
-                helper.setText(plainText, htmlContent);
+        public void send(MimeMessage... messages) {
+                mailSender.send(messages);
+        }
 
-                ClassPathResource logoResource = new ClassPathResource("static/images/logo.png");
-                helper.addInline("logo", logoResource);
+        public void sendRegistrationEmail(String to, String subject, String plainText, String htmlContent)
+                        throws MessagingException {
+                mailSender.send(createEmail(to, subject, plainText, htmlContent));
+        }
 
-                mailSender.send(message);
+        public void sendBookingEmail(String to, String subject, String plainText, String htmlContent)
+                        throws MessagingException {
+                mailSender.send(createEmail(to, subject, plainText, htmlContent));
         }
 
         public void sendPasswordResetEmail(String to, String subject, String plainText, String htmlContent)
                         throws MessagingException {
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-                helper.setTo(to);
-                helper.setSubject(subject);
-                helper.setText(plainText, htmlContent);
-
-                ClassPathResource logoResource = new ClassPathResource("static/images/logo.png");
-                helper.addInline("logo", logoResource);
-
-                mailSender.send(message);
+                mailSender.send(createEmail(to, subject, plainText, htmlContent));
         }
 
         public void sendBookingConfirmationEmail(Booking booking, User user, Flight flight) {
                 try {
-                        log.info("Sending booking confirmation email for booking {} to user {}",
+                        log.info("Queueing booking confirmation email for booking {} to user {}",
                                         booking.getBookingNumber(), user.getEmail());
 
                         String departureTime = flight.getDepartureTime().format(DATE_TIME_FORMATTER);
@@ -97,22 +104,22 @@ public class EmailService {
                                         arrivalCity,
                                         booking.getTotalPrice());
 
-                        sendBookingEmail(
+                        emailOutbox.enqueue(
                                         user.getEmail(),
                                         BookingEmailTemplates.getSubject(),
                                         plainText,
                                         htmlContent);
 
-                        log.info("Booking confirmation email sent successfully to {}", user.getEmail());
+                        log.info("Booking confirmation email queued for {}", user.getEmail());
                 } catch (Exception e) {
-                        log.error("Failed to send booking confirmation email to {}: {}",
+                        log.error("Failed to queue booking confirmation email to {}: {}",
                                         user.getEmail(), e.getMessage(), e);
                 }
         }
 
         public void sendBookingConfirmationStatusEmail(Booking booking, User user, Flight flight) {
                 try {
-                        log.info("Sending booking confirmation status email for booking {} to user {}",
+                        log.info("Queueing booking confirmation status email for booking {} to user {}",
                                         booking.getBookingNumber(), user.getEmail());
 
                         String departureTime = flight.getDepartureTime().format(DATE_TIME_FORMATTER);
@@ -143,22 +150,22 @@ public class EmailService {
                                         arrivalCity,
                                         booking.getTotalPrice());
 
-                        sendBookingEmail(
+                        emailOutbox.enqueue(
                                         user.getEmail(),
                                         BookingConfirmationStatusEmailTemplates.getSubject(),
                                         plainText,
                                         htmlContent);
 
-                        log.info("Booking confirmation status email sent successfully to {}", user.getEmail());
+                        log.info("Booking confirmation status email queued for {}", user.getEmail());
                 } catch (Exception e) {
-                        log.error("Failed to send booking confirmation status email to {}: {}",
+                        log.error("Failed to queue booking confirmation status email to {}: {}",
                                         user.getEmail(), e.getMessage(), e);
                 }
         }
 
         public void sendBookingCancellationEmail(Booking booking, User user, Flight flight) {
                 try {
-                        log.info("Sending booking cancellation email for booking {} to user {}",
+                        log.info("Queueing booking cancellation email for booking {} to user {}",
                                         booking.getBookingNumber(), user.getEmail());
 
                         String departureTime = flight.getDepartureTime().format(DATE_TIME_FORMATTER);
@@ -189,15 +196,15 @@ public class EmailService {
                                         arrivalCity,
                                         booking.getTotalPrice());
 
-                        sendBookingEmail(
+                        emailOutbox.enqueue(
                                         user.getEmail(),
                                         BookingCancellationEmailTemplates.getSubject(),
                                         plainText,
                                         htmlContent);
 
-                        log.info("Booking cancellation email sent successfully to {}", user.getEmail());
+                        log.info("Booking cancellation email queued for {}", user.getEmail());
                 } catch (Exception e) {
-                        log.error("Failed to send booking cancellation email to {}: {}",
+                        log.error("Failed to queue booking cancellation email to {}: {}",
                                         user.getEmail(), e.getMessage(), e);
                 }
         }
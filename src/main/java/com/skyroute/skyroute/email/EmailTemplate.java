@@ -0,0 +1,91 @@
+package com.skyroute.skyroute.email;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class EmailTemplate {
+
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final String pattern;
+    private final String[] literals;
+    private final boolean[] prices;
+
+    private EmailTemplate(String pattern, String[] literals, boolean[] prices) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.prices = prices;
+    }
+
+    static EmailTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Boolean> prices = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+            } else if (pattern.startsWith("%%", i)) {
+                literal.append('%');
+                i++;
+            } else if (pattern.startsWith("%s", i)) {
+                literals.add(literal.toString());
+                prices.add(false);
+                literal.setLength(0);
+                i++;
+            } else if (pattern.startsWith("%.2f", i)) {
+                literals.add(literal.toString());
+                prices.add(true);
+                literal.setLength(0);
+                i += 3;
+            } else {
+                throw new IllegalArgumentException("Unsupported format specifier at index " + i + " of email template");
+            }
+        }
+        literals.add(literal.toString());
+
+        boolean[] priceFlags = new boolean[prices.size()];
+        for (int i = 0; i < priceFlags.length; i++) {
+            priceFlags[i] = prices.get(i);
+        }
+        return new EmailTemplate(pattern, literals.toArray(String[]::new), priceFlags);
+    }
+
+    String pattern() {
+        return pattern;
+    }
+
+    String render(Object... args) {
+        if (args.length != prices.length) {
+            throw new IllegalArgumentException("Email template expects " + prices.length + " arguments but got " + args.length);
+        }
+        StringBuilder out = BUILDER.get();
+        out.setLength(0);
+        for (int i = 0; i < args.length; i++) {
+            out.append(literals[i]);
+            if (prices[i]) {
+                appendPrice(out, args[i]);
+            } else {
+                out.append(args[i]);
+            }
+        }
+        out.append(literals[args.length]);
+        String rendered = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return rendered;
+    }
+
+    private static void appendPrice(StringBuilder out, Object price) {
+        if (price instanceof Double value && Double.isFinite(value) && !value.equals(-0.0)) {
+            out.append(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        } else {
+            out.append(String.format(Locale.US, "%.2f", price));
+        }
+    }
+}
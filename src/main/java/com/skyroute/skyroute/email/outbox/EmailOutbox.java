@@ -0,0 +1,29 @@
+package com.skyroute.skyroute.email.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private final EmailOutboxRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EmailOutboxMessage enqueue(String recipient, String subject, String plainText, String htmlContent) {
+        EmailOutboxMessage message = repository.save(EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .plainText(plainText)
+                .htmlContent(htmlContent)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new EmailQueuedEvent(message.getId()));
+        return message;
+    }
+}
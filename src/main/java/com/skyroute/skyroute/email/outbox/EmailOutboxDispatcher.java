@@ -0,0 +1,222 @@
+package com.skyroute.skyroute.email.outbox;
+
+import com.skyroute.skyroute.email.EmailService;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository repository;
+    private final EmailService emailService;
+    private final int batchSize;
+    private final int sendBatchSize;
+    private final Duration coalesceWindow;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration sendTimeout;
+    private final Duration retention;
+    private final BlockingQueue<Long> pending;
+    private final ExecutorService workers;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository repository,
+                                 EmailService emailService,
+                                 @Value("${app.email.outbox.workers:4}") int workers,
+                                 @Value("${app.email.outbox.queue-capacity:500}") int queueCapacity,
+                                 @Value("${app.email.outbox.batch-size:100}") int batchSize,
+                                 @Value("${app.email.outbox.send-batch-size:50}") int sendBatchSize,
+                                 @Value("${app.email.outbox.coalesce-window:50ms}") Duration coalesceWindow,
+                                 @Value("${app.email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.email.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${app.email.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${app.email.outbox.send-timeout:2m}") Duration sendTimeout,
+                                 @Value("${app.email.outbox.retention:7d}") Duration retention) {
+        this.repository = repository;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.sendBatchSize = sendBatchSize;
+        this.coalesceWindow = coalesceWindow;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "email-outbox-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            this.workers.execute(this::drain);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        submit(event.messageId());
+    }
+
+    public int dispatchDue() {
+        List<Long> due = repository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        int submitted = 0;
+        for (Long messageId : due) {
+            if (!submit(messageId)) {
+                break;
+            }
+            submitted++;
+        }
+        return submitted;
+    }
+
+    public void purgeSent() {
+        int purged = repository.deleteSentBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} sent emails from outbox", purged);
+        }
+    }
+
+    void deliver(List<Long> messageIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = messageIds.stream()
+                .distinct()
+                .filter(messageId -> repository.claim(messageId, now, now.plus(sendTimeout)) == 1)
+                .toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<MimeMessage, EmailOutboxMessage> batch = new LinkedHashMap<>();
+        for (EmailOutboxMessage message : repository.findAllById(claimed)) {
+            try {
+                batch.put(emailService.createEmail(message.getRecipient(), message.getSubject(),
+                        message.getPlainText(), message.getHtmlContent()), message);
+            } catch (Exception e) {
+                failed(message, e);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            emailService.send(batch.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? failAll(batch.keySet(), e) : e.getFailedMessages();
+        } catch (Exception e) {
+            failures = failAll(batch.keySet(), e);
+        }
+
+        List<Long> sent = new ArrayList<>(batch.size());
+        for (Map.Entry<MimeMessage, EmailOutboxMessage> entry : batch.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sent.add(entry.getValue().getId());
+            } else {
+                failed(entry.getValue(), failure);
+            }
+        }
+        if (!sent.isEmpty()) {
+            repository.markSent(sent, LocalDateTime.now());
+            log.info("Sent {} of {} email(s) in one SMTP batch", sent.size(), batch.size());
+        }
+    }
+
+    Duration backoff(int attempts) {
+        long doublings = Math.min(attempts - 1, 30);
+        long millis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << doublings);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis / 2, millis + 1));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdownNow();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Email outbox workers did not finish their current batch");
+        }
+    }
+
+    private boolean submit(Long messageId) {
+        if (pending.offer(messageId)) {
+            return true;
+        }
+        log.debug("Email outbox queue is full, email {} left for the next poll", messageId);
+        return false;
+    }
+
+    private void drain() {
+        List<Long> batch = new ArrayList<>(sendBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(pending.take());
+                long deadline = System.nanoTime() + coalesceWindow.toNanos();
+                while (batch.size() < sendBatchSize) {
+                    Long next = pending.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error dispatching emails {}", batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private Map<Object, Exception> failAll(Collection<MimeMessage> mimeMessages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        mimeMessages.forEach(mimeMessage -> failures.put(mimeMessage, e));
+        return failures;
+    }
+
+    private void failed(EmailOutboxMessage message, Exception e) {
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        if (message.getAttempts() >= maxAttempts) {
+            repository.markDead(message.getId(), error);
+            log.error("Email {} to {} failed {} times and was moved to the dead letter state: {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), error);
+            return;
+        }
+        Duration delay = backoff(message.getAttempts());
+        repository.reschedule(message.getId(), LocalDateTime.now().plus(delay), error);
+        log.warn("Email {} to {} failed on attempt {}, retrying in {}s: {}", message.getId(),
+                message.getRecipient(), message.getAttempts(), delay.toSeconds(), error);
+    }
+
+    private String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,69 @@
+package com.skyroute.skyroute.email.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    @Query("""
+            SELECT m.id FROM EmailOutboxMessage m
+            WHERE m.status = com.skyroute.skyroute.email.outbox.EmailOutboxStatus.PENDING AND m.nextAttemptAt <= :now
+            ORDER BY m.nextAttemptAt
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil
+            WHERE m.id = :id
+            AND m.status = com.skyroute.skyroute.email.outbox.EmailOutboxStatus.PENDING
+            AND m.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.status = com.skyroute.skyroute.email.outbox.EmailOutboxStatus.SENT, m.sentAt = :sentAt,
+                m.lastError = NULL
+            WHERE m.id IN :ids
+            """)
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.status = com.skyroute.skyroute.email.outbox.EmailOutboxStatus.DEAD, m.lastError = :error
+            WHERE m.id = :id
+            """)
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM EmailOutboxMessage m
+            WHERE m.status = com.skyroute.skyroute.email.outbox.EmailOutboxStatus.SENT AND m.sentAt < :cutoff
+            """)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(EmailOutboxStatus status);
+}
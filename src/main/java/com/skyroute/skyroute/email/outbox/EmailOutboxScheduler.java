@@ -0,0 +1,34 @@
+package com.skyroute.skyroute.email.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxScheduler {
+
+    private final EmailOutboxDispatcher dispatcher;
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval:5s}")
+    public void dispatchDueEmails() {
+        try {
+            dispatcher.dispatchDue();
+        } catch (Exception e) {
+            log.error("Error polling email outbox", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.purge-interval:1h}")
+    public void purgeSentEmails() {
+        try {
+            dispatcher.purgeSent();
+        } catch (Exception e) {
+            log.error("Error purging sent emails from outbox", e);
+        }
+    }
+}
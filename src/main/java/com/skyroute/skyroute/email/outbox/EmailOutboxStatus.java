@@ -0,0 +1,7 @@
+package com.skyroute.skyroute.email.outbox;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
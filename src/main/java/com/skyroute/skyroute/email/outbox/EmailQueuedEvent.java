@@ -0,0 +1,4 @@
+package com.skyroute.skyroute.email.outbox;
+
+public record EmailQueuedEvent(Long messageId) {
+}
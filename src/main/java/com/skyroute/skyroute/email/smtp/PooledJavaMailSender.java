@@ -0,0 +1,159 @@
+package com.skyroute.skyroute.email.smtp;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final int maxIdle;
+    private final long idleTimeoutNanos;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private boolean closed;
+
+    public PooledJavaMailSender(int maxIdle, Duration idleTimeout) {
+        this.maxIdle = maxIdle;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    public long connectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public synchronized int idleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    protected Transport getTransport(Session session) {
+        return new PooledTransport(session);
+    }
+
+    @Override
+    public void destroy() {
+        List<IdleConnection> connections;
+        synchronized (this) {
+            closed = true;
+            connections = new ArrayList<>(idle);
+            idle.clear();
+        }
+        connections.forEach(connection -> closeQuietly(connection.transport()));
+    }
+
+    private Transport borrow(Session session, String host, int port, String user, String password)
+            throws MessagingException {
+        IdleConnection connection;
+        while ((connection = pollIdle()) != null) {
+            if (connection.transport().isConnected()) {
+                return connection.transport();
+            }
+            closeQuietly(connection.transport());
+        }
+        Transport transport = openTransport(session);
+        transport.connect(host, port, user, password);
+        connectionsOpened.incrementAndGet();
+        return transport;
+    }
+
+    private Transport openTransport(Session session) throws NoSuchProviderException {
+        return super.getTransport(session);
+    }
+
+    private synchronized IdleConnection pollIdle() {
+        evictExpired(System.nanoTime());
+        return idle.pollFirst();
+    }
+
+    private void release(Transport transport) {
+        synchronized (this) {
+            long now = System.nanoTime();
+            evictExpired(now);
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(new IdleConnection(transport, now));
+                return;
+            }
+        }
+        closeQuietly(transport);
+    }
+
+    private void evictExpired(long now) {
+        while (!idle.isEmpty() && now - idle.peekLast().since() > idleTimeoutNanos) {
+            closeQuietly(idle.pollLast().transport());
+        }
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection", e);
+        }
+    }
+
+    private record IdleConnection(Transport transport, long since) {
+    }
+
+    private final class PooledTransport extends Transport {
+
+        private Transport delegate;
+        private boolean broken;
+
+        private PooledTransport(Session session) {
+            super(session, null);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password)
+                throws MessagingException {
+            delegate = borrow(session, host, port, user, password);
+            broken = false;
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isConnected() {
+            return super.isConnected() && !broken;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            try {
+                delegate.sendMessage(message, addresses);
+            } catch (SendFailedException e) {
+                throw e;
+            } catch (MessagingException | RuntimeException e) {
+                broken = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public synchronized void close() throws MessagingException {
+            if (delegate != null) {
+                if (broken) {
+                    closeQuietly(delegate);
+                } else {
+                    release(delegate);
+                }
+                delegate = null;
+            }
+            super.close();
+        }
+    }
+}
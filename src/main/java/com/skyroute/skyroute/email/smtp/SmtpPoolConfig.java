@@ -0,0 +1,38 @@
+package com.skyroute.skyroute.email.smtp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(name = "app.email.smtp.pool.enabled", havingValue = "true", matchIfMissing = true)
+public class SmtpPoolConfig {
+
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties mailProperties,
+                                           @Value("${app.email.smtp.pool.max-idle:4}") int maxIdle,
+                                           @Value("${app.email.smtp.pool.idle-timeout:60s}") Duration idleTimeout) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxIdle, idleTimeout);
+        mailSender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        mailSender.setJavaMailProperties(javaMailProperties);
+        return mailSender;
+    }
+}
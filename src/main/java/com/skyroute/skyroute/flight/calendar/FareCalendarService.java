@@ -0,0 +1,172 @@
+package com.skyroute.skyroute.flight.calendar;
+
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.dto.FareCalendarDayResponse;
+import com.skyroute.skyroute.flight.dto.FareCalendarResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Service
+public class FareCalendarService {
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private final FlightRepository flightRepository;
+    private final Duration maxAge;
+
+    private final Map<CalendarKey, CachedCalendar> cache = new ConcurrentHashMap<>();
+    private long invalidations;
+
+    public FareCalendarService(FlightRepository flightRepository,
+                               @Value("${app.flights.fare-calendar.max-age:5m}") Duration maxAge) {
+        this.flightRepository = flightRepository;
+        this.maxAge = maxAge;
+    }
+
+    @Transactional(readOnly = true)
+    public FareCalendarResponse getFareCalendar(String origin, String destination, String month) {
+        CalendarKey key = new CalendarKey(normalize(origin), normalize(destination), parseMonth(month));
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedCalendar cached = cache.get(key);
+        if (cached != null && cached.isValidAt(now)) {
+            return cached.response();
+        }
+
+        long invalidationsBeforeLoad = invalidationCount();
+        CachedCalendar loaded = load(key, now);
+        if (loaded.validUntil() != null) {
+            cacheUnlessInvalidated(key, loaded, invalidationsBeforeLoad);
+        }
+        return loaded.response();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFlightChanged(FlightChangedEvent event) {
+        invalidations++;
+        if (event.isDeleted() && event.previous().departureTime() == null) {
+            cache.clear();
+            return;
+        }
+        Stream.of(event.snapshot(), event.previous())
+                .filter(Objects::nonNull)
+                .filter(snapshot -> snapshot.departureTime() != null)
+                .flatMap(CalendarKey::coveringKeys)
+                .forEach(cache::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRouteChanged(RouteChangedEvent event) {
+        invalidations++;
+        cache.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAirportChanged(AirportChangedEvent event) {
+        invalidations++;
+        cache.clear();
+    }
+
+    public int cachedCalendars() {
+        return cache.size();
+    }
+
+    private synchronized long invalidationCount() {
+        return invalidations;
+    }
+
+    private synchronized void cacheUnlessInvalidated(CalendarKey key, CachedCalendar calendar,
+                                                     long invalidationsBeforeLoad) {
+        if (invalidations == invalidationsBeforeLoad) {
+            cache.put(key, calendar);
+        }
+    }
+
+    private CachedCalendar load(CalendarKey key, LocalDateTime now) {
+        LocalDateTime monthStart = key.month().atDay(1).atStartOfDay();
+        LocalDateTime from = monthStart.isAfter(now) ? monthStart : now;
+        LocalDateTime to = key.month().plusMonths(1).atDay(1).atStartOfDay();
+
+        Map<LocalDate, FareCalendarDayResponse> faresByDay = new HashMap<>();
+        LocalDateTime earliestDeparture = null;
+        if (from.isBefore(to)) {
+            for (Object[] row : flightRepository.findDailyFaresByRoute(key.origin(), key.destination(), from, to)) {
+                LocalDate day = (LocalDate) row[0];
+                faresByDay.put(day, new FareCalendarDayResponse(
+                        day,
+                        (Double) row[1],
+                        (Integer) row[2],
+                        (Long) row[3]));
+
+                LocalDateTime departure = (LocalDateTime) row[4];
+                if (earliestDeparture == null || departure.isBefore(earliestDeparture)) {
+                    earliestDeparture = departure;
+                }
+            }
+        }
+
+        List<FareCalendarDayResponse> days = new ArrayList<>(key.month().lengthOfMonth());
+        for (int dayOfMonth = 1; dayOfMonth <= key.month().lengthOfMonth(); dayOfMonth++) {
+            LocalDate day = key.month().atDay(dayOfMonth);
+            days.add(faresByDay.getOrDefault(day, new FareCalendarDayResponse(day, null, 0, 0L)));
+        }
+
+        FareCalendarResponse response = new FareCalendarResponse(key.origin(), key.destination(), key.month(), days);
+        LocalDateTime expiresAt = now.plus(maxAge);
+        return new CachedCalendar(response, earliestDeparture != null && earliestDeparture.isAfter(expiresAt)
+                ? expiresAt : earliestDeparture);
+    }
+
+    private static String normalize(String airport) {
+        return airport.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month.trim(), MONTH_FORMATTER);
+        } catch (DateTimeParseException exception) {
+            throw new BusinessException("Invalid month format. Expected MM/yyyy");
+        }
+    }
+
+    private record CalendarKey(String origin, String destination, YearMonth month) {
+
+        static Stream<CalendarKey> coveringKeys(FlightSnapshot snapshot) {
+            YearMonth month = YearMonth.from(snapshot.departureTime());
+            return airportTerms(snapshot.originCode(), snapshot.originCity())
+                    .flatMap(origin -> airportTerms(snapshot.destinationCode(), snapshot.destinationCity())
+                            .map(destination -> new CalendarKey(origin, destination, month)));
+        }
+
+        private static Stream<String> airportTerms(String code, String city) {
+            return Stream.of(code, city)
+                    .filter(Objects::nonNull)
+                    .map(FareCalendarService::normalize)
+                    .distinct();
+        }
+    }
+
+    private record CachedCalendar(FareCalendarResponse response, LocalDateTime validUntil) {
+
+        boolean isValidAt(LocalDateTime now) {
+            return now.isBefore(validUntil);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.skyroute.skyroute.flight.connection;
+
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+final class ConnectionGraph {
+
+    static final ConnectionGraph EMPTY = build(List.of());
+
+    private final String[] airportCodes;
+    private final String[] airportCities;
+
+    private final int[] origin;
+    private final int[] destination;
+    private final long[] departure;
+    private final long[] arrival;
+    private final int[] seats;
+    private final double[] price;
+    private final FlightSnapshot[] flights;
+    private final int[] departuresStart;
+    private final int[] arrivalsStart;
+    private final int[] arrivalsFrom;
+
+    private ConnectionGraph(String[] airportCodes, String[] airportCities, int[] origin, int[] destination,
+                            long[] departure, long[] arrival, int[] seats, double[] price, FlightSnapshot[] flights,
+                            int[] departuresStart, int[] arrivalsStart, int[] arrivalsFrom) {
+        this.airportCodes = airportCodes;
+        this.airportCities = airportCities;
+        this.origin = origin;
+        this.destination = destination;
+        this.departure = departure;
+        this.arrival = arrival;
+        this.seats = seats;
+        this.price = price;
+        this.flights = flights;
+        this.departuresStart = departuresStart;
+        this.arrivalsStart = arrivalsStart;
+        this.arrivalsFrom = arrivalsFrom;
+    }
+
+    static ConnectionGraph build(Collection<FlightSnapshot> snapshots) {
+        Map<Long, Integer> airportIndex = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        List<String> cities = new ArrayList<>();
+
+        List<FlightSnapshot> candidates = snapshots.stream()
+                .filter(snapshot -> snapshot.originId() != null && snapshot.destinationId() != null)
+                .filter(snapshot -> snapshot.departureTime() != null && snapshot.arrivalTime() != null)
+                .toList();
+
+        for (FlightSnapshot edge : candidates) {
+            register(airportIndex, codes, cities, edge.originId(), edge.originCode(), edge.originCity());
+            register(airportIndex, codes, cities, edge.destinationId(), edge.destinationCode(), edge.destinationCity());
+        }
+
+        List<FlightSnapshot> edges = candidates.stream()
+                .sorted(Comparator.<FlightSnapshot>comparingInt(snapshot -> airportIndex.get(snapshot.originId()))
+                        .thenComparing(FlightSnapshot::departureTime))
+                .toList();
+
+        int edgeCount = edges.size();
+        int[] origin = new int[edgeCount];
+        int[] destination = new int[edgeCount];
+        long[] departure = new long[edgeCount];
+        long[] arrival = new long[edgeCount];
+        int[] seats = new int[edgeCount];
+        double[] price = new double[edgeCount];
+        FlightSnapshot[] flights = new FlightSnapshot[edgeCount];
+
+        for (int i = 0; i < edgeCount; i++) {
+            FlightSnapshot edge = edges.get(i);
+            origin[i] = airportIndex.get(edge.originId());
+            destination[i] = airportIndex.get(edge.destinationId());
+            departure[i] = toEpochSecond(edge.departureTime());
+            arrival[i] = toEpochSecond(edge.arrivalTime());
+            seats[i] = edge.availableSeats();
+            price[i] = edge.price();
+            flights[i] = edge;
+        }
+
+        // Edges are grouped by origin airport, so each airport's departures form one contiguous,
+        // time-ordered range [departuresStart[a], departuresStart[a + 1]).
+        int airportCount = codes.size();
+        int[] departuresStart = new int[airportCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            departuresStart[origin[i] + 1]++;
+        }
+        for (int a = 0; a < airportCount; a++) {
+            departuresStart[a + 1] += departuresStart[a];
+        }
+
+        // Distinct origin airports flying into each airport, [arrivalsStart[a], arrivalsStart[a + 1]), used to
+        // skip legs that cannot reach the destination within the remaining stops.
+        long[] routes = new long[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            routes[i] = (long) destination[i] << 32 | origin[i];
+        }
+        long[] distinctRoutes = Arrays.stream(routes).sorted().distinct().toArray();
+        int[] arrivalsStart = new int[airportCount + 1];
+        int[] arrivalsFrom = new int[distinctRoutes.length];
+        for (int i = 0; i < distinctRoutes.length; i++) {
+            arrivalsStart[(int) (distinctRoutes[i] >>> 32) + 1]++;
+            arrivalsFrom[i] = (int) distinctRoutes[i];
+        }
+        for (int a = 0; a < airportCount; a++) {
+            arrivalsStart[a + 1] += arrivalsStart[a];
+        }
+
+        return new ConnectionGraph(codes.toArray(String[]::new), cities.toArray(String[]::new), origin, destination,
+                departure, arrival, seats, price, flights, departuresStart, arrivalsStart, arrivalsFrom);
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    int flightCount() {
+        return flights.length;
+    }
+
+    boolean[] resolveAirports(String term) {
+        boolean[] matches = new boolean[airportCodes.length];
+        for (int a = 0; a < airportCodes.length; a++) {
+            matches[a] = term.equalsIgnoreCase(airportCodes[a]) || term.equalsIgnoreCase(airportCities[a]);
+        }
+        return matches;
+    }
+
+    FlightSnapshot flight(int edge) {
+        return flights[edge];
+    }
+
+    double price(int edge) {
+        return price[edge];
+    }
+
+    List<int[]> findItineraries(boolean[] origins, boolean[] destinations, long windowStart, long windowEnd,
+                                int passengers, int maxStops, long minConnectionSeconds, long maxConnectionSeconds,
+                                int maxResults) {
+        Search search = new Search(origins, destinations, hopsTo(destinations, maxStops), passengers, maxStops,
+                minConnectionSeconds, maxConnectionSeconds, maxResults);
+
+        for (int a = 0; a < origins.length; a++) {
+            if (!origins[a]) {
+                continue;
+            }
+            for (int first = firstDepartureAtOrAfter(a, windowStart); first < departuresStart[a + 1]; first++) {
+                if (departure[first] >= windowEnd) {
+                    break;
+                }
+                if (seats[first] >= passengers && search.canReach(destination[first], 1)) {
+                    search.extend(first, 0);
+                }
+            }
+        }
+        return new ArrayList<>(search.best);
+    }
+
+    private int[] hopsTo(boolean[] destinations, int maxStops) {
+        int[] hops = new int[destinations.length];
+        Arrays.fill(hops, Integer.MAX_VALUE);
+        int[] queue = new int[destinations.length];
+        int tail = 0;
+        for (int a = 0; a < destinations.length; a++) {
+            if (destinations[a]) {
+                hops[a] = 0;
+                queue[tail++] = a;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int airport = queue[head];
+            if (hops[airport] >= maxStops) {
+                continue;
+            }
+            for (int i = arrivalsStart[airport]; i < arrivalsStart[airport + 1]; i++) {
+                int from = arrivalsFrom[i];
+                if (hops[from] == Integer.MAX_VALUE) {
+                    hops[from] = hops[airport] + 1;
+                    queue[tail++] = from;
+                }
+            }
+        }
+        return hops;
+    }
+
+    private long durationMinutes(int[] path) {
+        return (arrival[path[path.length - 1]] - departure[path[0]]) / 60;
+    }
+
+    private double totalPrice(int[] path) {
+        double total = 0;
+        for (int edge : path) {
+            total += price[edge];
+        }
+        return total;
+    }
+
+    private final class Search {
+
+        private final boolean[] origins;
+        private final boolean[] destinations;
+        private final int[] hops;
+        private final int passengers;
+        private final int maxStops;
+        private final long minConnectionSeconds;
+        private final long maxConnectionSeconds;
+        private final int maxResults;
+        private final int[] path;
+        private final PriorityQueue<int[]> best;
+
+        private Search(boolean[] origins, boolean[] destinations, int[] hops, int passengers, int maxStops,
+                       long minConnectionSeconds, long maxConnectionSeconds, int maxResults) {
+            this.origins = origins;
+            this.destinations = destinations;
+            this.hops = hops;
+            this.passengers = passengers;
+            this.maxStops = maxStops;
+            this.minConnectionSeconds = minConnectionSeconds;
+            this.maxConnectionSeconds = maxConnectionSeconds;
+            this.maxResults = maxResults;
+            this.path = new int[maxStops + 1];
+            this.best = new PriorityQueue<>(Comparator.<int[]>comparingLong(p -> arrival[p[p.length - 1]])
+                    .thenComparingLong(ConnectionGraph.this::durationMinutes)
+                    .thenComparingDouble(ConnectionGraph.this::totalPrice)
+                    .reversed());
+        }
+
+        private boolean canReach(int airport, int legs) {
+            return hops[airport] != Integer.MAX_VALUE && legs + hops[airport] <= maxStops + 1;
+        }
+
+        private void extend(int edge, int depth) {
+            path[depth] = edge;
+            int airport = destination[edge];
+            if (isFull() && arrival[edge] > arrival[worst()[worst().length - 1]]) {
+                return;
+            }
+
+            if (destinations[airport]) {
+                offer(Arrays.copyOf(path, depth + 1));
+                return;
+            }
+            if (origins[airport] || visits(airport, depth)) {
+                return;
+            }
+
+            long earliest = arrival[edge] + minConnectionSeconds;
+            long latest = arrival[edge] + maxConnectionSeconds;
+            for (int next = firstDepartureAtOrAfter(airport, earliest); next < departuresStart[airport + 1]; next++) {
+                if (departure[next] > latest) {
+                    break;
+                }
+                if (seats[next] >= passengers && canReach(destination[next], depth + 2)) {
+                    extend(next, depth + 1);
+                }
+            }
+        }
+
+        private boolean visits(int airport, int depth) {
+            for (int i = 0; i < depth; i++) {
+                if (destination[path[i]] == airport) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isFull() {
+            return best.size() >= maxResults;
+        }
+
+        private int[] worst() {
+            return best.peek();
+        }
+
+        private void offer(int[] itinerary) {
+            if (!isFull()) {
+                best.add(itinerary);
+            } else if (best.comparator().compare(itinerary, worst()) > 0) {
+                best.poll();
+                best.add(itinerary);
+            }
+        }
+    }
+
+    private int firstDepartureAtOrAfter(int airport, long time) {
+        int low = departuresStart[airport];
+        int high = departuresStart[airport + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (departure[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void register(Map<Long, Integer> airportIndex, List<String> codes, List<String> cities,
+                                 Long airportId, String code, String city) {
+        if (airportIndex.containsKey(airportId)) {
+            return;
+        }
+        airportIndex.put(airportId, codes.size());
+        codes.add(code);
+        cities.add(city);
+    }
+}
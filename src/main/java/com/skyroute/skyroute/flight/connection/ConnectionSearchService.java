@@ -0,0 +1,181 @@
+package com.skyroute.skyroute.flight.connection;
+
+import com.skyroute.skyroute.flight.dto.ConnectionItineraryResponse;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.event.FlightSnapshotVersions;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchCriteria;
+import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class ConnectionSearchService {
+
+    public static final int MAX_STOPS = 2;
+
+    private static final Comparator<ConnectionItineraryResponse> ITINERARY_ORDER = Comparator
+            .comparing(ConnectionItineraryResponse::arrivalDate)
+            .thenComparingLong(ConnectionItineraryResponse::durationMinutes)
+            .thenComparingDouble(ConnectionItineraryResponse::totalPrice);
+
+    private final FlightRepository flightRepository;
+    private final long minConnectionSeconds;
+    private final long maxConnectionSeconds;
+    private final int maxResults;
+
+    private final Map<Long, FlightSnapshot> flightsById = new ConcurrentHashMap<>();
+    private final FlightSnapshotVersions versions = new FlightSnapshotVersions();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+    private volatile ConnectionGraph graph = ConnectionGraph.EMPTY;
+
+    public ConnectionSearchService(FlightRepository flightRepository,
+                                   @Value("${app.connections.min-connection-minutes:45}") long minConnectionMinutes,
+                                   @Value("${app.connections.max-connection-hours:24}") long maxConnectionHours,
+                                   @Value("${app.connections.max-results:50}") int maxResults) {
+        this.flightRepository = flightRepository;
+        this.minConnectionSeconds = Duration.ofMinutes(minConnectionMinutes).toSeconds();
+        this.maxConnectionSeconds = Duration.ofHours(maxConnectionHours).toSeconds();
+        this.maxResults = maxResults;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightSnapshot> snapshots = flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(now)
+                .stream()
+                .map(FlightMapper::toSnapshot)
+                .filter(snapshot -> snapshot.isBookableAt(now))
+                .toList();
+
+        synchronized (this) {
+            snapshots.stream()
+                    .filter(snapshot -> !versions.isStale(FlightChangedEvent.updated(snapshot), null))
+                    .forEach(snapshot -> flightsById.putIfAbsent(snapshot.id(), snapshot));
+        }
+        rebuild();
+        log.info("Connection graph built with {} flights", graph.flightCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFlightChanged(FlightChangedEvent event) {
+        if (versions.isStale(event, flightsById.get(event.flightId()))) {
+            return;
+        }
+        boolean bookable = !event.isDeleted() && event.snapshot().isBookableAt(LocalDateTime.now());
+        if (bookable) {
+            flightsById.put(event.flightId(), event.snapshot());
+        } else {
+            flightsById.remove(event.flightId());
+        }
+        versions.applied(event, bookable);
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.connections.rebuild-interval-ms:250}")
+    public void refresh() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    public List<ConnectionItineraryResponse> searchConnections(String origin, String destination, String departureDate,
+                                                               Optional<Integer> passengers,
+                                                               Optional<Integer> maxStops) {
+        LocalDate day = parseDepartureDate(departureDate);
+        int stops = maxStops.orElse(MAX_STOPS);
+        if (stops < 0 || stops > MAX_STOPS) {
+            throw new BusinessException("Max stops must be between 0 and " + MAX_STOPS);
+        }
+        int seats = passengers.orElse(1);
+        if (seats < 1) {
+            throw new BusinessException("Passengers must be at least 1");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = day.atStartOfDay().isAfter(now) ? day.atStartOfDay() : now;
+        LocalDateTime windowEnd = day.plusDays(1).atStartOfDay();
+        if (!windowStart.isBefore(windowEnd)) {
+            return List.of();
+        }
+
+        ConnectionGraph current = graph;
+        List<int[]> paths = current.findItineraries(
+                current.resolveAirports(origin.trim()),
+                current.resolveAirports(destination.trim()),
+                ConnectionGraph.toEpochSecond(windowStart),
+                ConnectionGraph.toEpochSecond(windowEnd),
+                seats, stops, minConnectionSeconds, maxConnectionSeconds, maxResults);
+
+        return paths.stream()
+                .filter(path -> stillListed(current, path))
+                .map(path -> toItinerary(current, path))
+                .sorted(ITINERARY_ORDER)
+                .limit(maxResults)
+                .toList();
+    }
+
+    private void rebuild() {
+        synchronized (rebuildLock) {
+            LocalDateTime now = LocalDateTime.now();
+            flightsById.forEach((id, snapshot) -> {
+                if (!snapshot.isBookableAt(now)) {
+                    flightsById.remove(id, snapshot);
+                }
+            });
+            graph = ConnectionGraph.build(List.copyOf(flightsById.values()));
+        }
+    }
+
+    private boolean stillListed(ConnectionGraph current, int[] path) {
+        for (int edge : path) {
+            if (!flightsById.containsKey(current.flight(edge).id())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LocalDate parseDepartureDate(String departureDate) {
+        return FlightSearchCriteria.parseDepartureDate(departureDate)
+                .orElseThrow(() -> new BusinessException("Invalid departure date format. Expected dd/MM/yyyy"));
+    }
+
+    private ConnectionItineraryResponse toItinerary(ConnectionGraph current, int[] path) {
+        List<FlightSimpleResponse> legs = new ArrayList<>(path.length);
+        double totalPrice = 0;
+        for (int edge : path) {
+            legs.add(FlightMapper.toSimpleResponse(current.flight(edge)));
+            totalPrice += current.price(edge);
+        }
+
+        FlightSimpleResponse first = legs.getFirst();
+        FlightSimpleResponse last = legs.getLast();
+        return new ConnectionItineraryResponse(
+                path.length - 1,
+                first.origin(),
+                last.destination(),
+                first.departureDate(),
+                last.arrivalDate(),
+                Duration.between(first.departureDate(), last.arrivalDate()).toMinutes(),
+                totalPrice,
+                legs);
+    }
+}
@@ -1,12 +1,19 @@
 package com.skyroute.skyroute.flight.controller;
 
+import com.skyroute.skyroute.flight.calendar.FareCalendarService;
+import com.skyroute.skyroute.flight.connection.ConnectionSearchService;
+import com.skyroute.skyroute.flight.dto.ConnectionItineraryResponse;
+import com.skyroute.skyroute.flight.dto.FareCalendarResponse;
+import com.skyroute.skyroute.flight.dto.FlightCursorPage;
 import com.skyroute.skyroute.flight.dto.FlightRequest;
 import com.skyroute.skyroute.flight.dto.FlightResponse;
 import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
 import com.skyroute.skyroute.flight.dto.FlightStatusUpdateRequest;
 import com.skyroute.skyroute.flight.dto.FlightUpdate;
 import com.skyroute.skyroute.flight.dto.MinPriceResponse;
+import com.skyroute.skyroute.flight.export.FlightExportService;
 import com.skyroute.skyroute.flight.service.FlightService;
+import com.skyroute.skyroute.shared.catalog.CatalogVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,9 +23,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
@@ -31,10 +41,14 @@ import java.util.Optional;
 public class FlightController {
 
     private final FlightService flightService;
+    private final ConnectionSearchService connectionSearchService;
+    private final FareCalendarService fareCalendarService;
+    private final FlightExportService flightExportService;
+    private final CatalogVersions catalogVersions;
 
     @GetMapping("/search")
     @Operation(summary = "Search flights by parameters", description = "Search available flights by origin, destination, date and passengers")
-    public ResponseEntity<?> searchFlights(
+    public ResponseEntity<Page<FlightSimpleResponse>> searchFlights(
             @RequestParam @Parameter(description = "Origin airport code or city") Optional<String> origin,
             @RequestParam @Parameter(description = "Destination airport code or city") Optional<String> destination,
             @RequestParam @Parameter(description = "Departure date (dd/MM/yyyy)") Optional<String> departureDate,
@@ -49,11 +63,30 @@ public class FlightController {
         return ResponseEntity.ok(flights);
     }
 
+    @GetMapping("/search/cursor")
+    @Operation(summary = "Search flights by parameters with a cursor", description = "Search available flights ordered by departure time, price and id, continuing after the given cursor")
+    public ResponseEntity<FlightCursorPage> searchFlightsAfter(
+            @RequestParam @Parameter(description = "Origin airport code or city") Optional<String> origin,
+            @RequestParam @Parameter(description = "Destination airport code or city") Optional<String> destination,
+            @RequestParam @Parameter(description = "Departure date (dd/MM/yyyy)") Optional<String> departureDate,
+            @RequestParam @Parameter(description = "Number of passengers") Optional<Integer> passengers,
+            @RequestParam @Parameter(description = "nextCursor from the previous page; omit it for the first page") Optional<String> cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(flightService.searchFlightsAfter(
+                origin,
+                destination,
+                departureDate,
+                passengers,
+                cursor,
+                pageable.getPageSize()));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get flight by ID", description = "Retrieve flight details by ID")
-    public ResponseEntity<FlightSimpleResponse> getFlightById(@PathVariable Long id) {
-        FlightSimpleResponse flight = flightService.getFlightSimpleById(id);
-        return ResponseEntity.ok(flight);
+    public ResponseEntity<FlightSimpleResponse> getFlightById(@PathVariable Long id, WebRequest request) {
+        return catalogVersions.flight(id)
+                .map(version -> version.respond(request, () -> flightService.getFlightSimpleById(id)))
+                .orElseGet(() -> ResponseEntity.ok(flightService.getFlightSimpleById(id)));
     }
 
     @GetMapping("/search-filters")
@@ -68,6 +101,65 @@ public class FlightController {
         return ResponseEntity.ok(flights);
     }
 
+    @GetMapping("/search-filters/cursor")
+    @Operation(summary = "Search flights by city and budget with a cursor", description = "Searches available flights by origin, destination and maximum budget, ordered by departure time, price and id, continuing after the given cursor")
+    public ResponseEntity<FlightCursorPage> getFlightsByBudgetAndCityAfter(
+            @RequestParam @Parameter(description = "Origin airport code or city") Optional<String> origin,
+            @RequestParam @Parameter(description = "Destination airport code or city") Optional<String> destination,
+            @RequestParam @Parameter(description = "Maximum flight price") Optional<Double> budget,
+            @RequestParam @Parameter(description = "nextCursor from the previous page; omit it for the first page") Optional<String> cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(flightService.searchFlightsByBudgetAndCityAfter(origin, destination, budget,
+                cursor, pageable.getPageSize()));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export flights as NDJSON", description = "Stream every available flight matching the search filters as newline-delimited JSON, ordered by departure time")
+    public ResponseEntity<StreamingResponseBody> exportFlights(
+            @RequestParam @Parameter(description = "Origin airport code or city") Optional<String> origin,
+            @RequestParam @Parameter(description = "Destination airport code or city") Optional<String> destination,
+            @RequestParam @Parameter(description = "Departure date (dd/MM/yyyy)") Optional<String> departureDate,
+            @RequestParam @Parameter(description = "Number of passengers") Optional<Integer> passengers,
+            @RequestParam @Parameter(description = "Maximum flight price") Optional<Double> budget) {
+        StreamingResponseBody body = outputStream -> flightExportService.exportFlights(
+                origin,
+                destination,
+                departureDate,
+                passengers,
+                budget,
+                outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/connections")
+    @Operation(summary = "Search connecting itineraries", description = "Search itineraries of up to two stops between an origin and destination on a given day, respecting minimum connection times")
+    public ResponseEntity<List<ConnectionItineraryResponse>> searchConnections(
+            @RequestParam @Parameter(description = "Origin airport code or city") String origin,
+            @RequestParam @Parameter(description = "Destination airport code or city") String destination,
+            @RequestParam @Parameter(description = "Departure date (dd/MM/yyyy)") String departureDate,
+            @RequestParam @Parameter(description = "Number of passengers") Optional<Integer> passengers,
+            @RequestParam @Parameter(description = "Maximum number of stops (0-2)") Optional<Integer> maxStops) {
+        List<ConnectionItineraryResponse> itineraries = connectionSearchService.searchConnections(
+                origin,
+                destination,
+                departureDate,
+                passengers,
+                maxStops);
+        return ResponseEntity.ok(itineraries);
+    }
+
+    @GetMapping("/fare-calendar")
+    @Operation(summary = "Get fare calendar for a route", description = "Retrieve the minimum price and seat availability for every day of a month between an origin and destination")
+    public ResponseEntity<FareCalendarResponse> getFareCalendar(
+            @RequestParam @Parameter(description = "Origin airport code or city") String origin,
+            @RequestParam @Parameter(description = "Destination airport code or city") String destination,
+            @RequestParam @Parameter(description = "Month (MM/yyyy)") String month) {
+        FareCalendarResponse calendar = fareCalendarService.getFareCalendar(origin, destination, month);
+        return ResponseEntity.ok(calendar);
+    }
+
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all flights (Admin only)", description = "Retrieve paginated list of all flights")
@@ -113,10 +205,11 @@ public class FlightController {
     @GetMapping("/min-prices")
     @Operation(summary = "Get minimum flight prices by destinations", description = "Retrieve minimum prices for flights to specified destinations")
     public ResponseEntity<List<MinPriceResponse>> getMinPrices(
-            @RequestParam @Parameter(description = "Comma-separated list of destination codes (e.g., BCN,MAD)") String destinations) {
+            @RequestParam @Parameter(description = "Comma-separated list of destination codes (e.g., BCN,MAD)") String destinations,
+            WebRequest request) {
         List<String> destinationCodes = Arrays.asList(destinations.split(","));
         List<MinPriceResponse> minPrices = flightService.getMinPricesByDestinations(destinationCodes);
-        return ResponseEntity.ok(minPrices);
+        return catalogVersions.minPrices(minPrices).respond(request, () -> minPrices);
     }
 
     @PatchMapping("/admin/{id}/status")
@@ -0,0 +1,15 @@
+package com.skyroute.skyroute.flight.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ConnectionItineraryResponse(
+        int stops,
+        String origin,
+        String destination,
+        LocalDateTime departureDate,
+        LocalDateTime arrivalDate,
+        long durationMinutes,
+        Double totalPrice,
+        List<FlightSimpleResponse> legs
+) {}
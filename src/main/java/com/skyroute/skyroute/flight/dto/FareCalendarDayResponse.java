@@ -0,0 +1,10 @@
+package com.skyroute.skyroute.flight.dto;
+
+import java.time.LocalDate;
+
+public record FareCalendarDayResponse(
+        LocalDate date,
+        Double minPrice,
+        Integer maxAvailableSeats,
+        Long flights
+) {}
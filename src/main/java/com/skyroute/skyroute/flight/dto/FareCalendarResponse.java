@@ -0,0 +1,11 @@
+package com.skyroute.skyroute.flight.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record FareCalendarResponse(
+        String origin,
+        String destination,
+        YearMonth month,
+        List<FareCalendarDayResponse> days
+) {}
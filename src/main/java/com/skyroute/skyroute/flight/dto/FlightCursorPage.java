@@ -0,0 +1,20 @@
+package com.skyroute.skyroute.flight.dto;
+
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
+
+import java.util.List;
+
+public record FlightCursorPage(
+        List<FlightSimpleResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static FlightCursorPage of(List<FlightSimpleResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<FlightSimpleResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? FlightSearchCursor.of(content.getLast()).encode() : null;
+
+        return new FlightCursorPage(content, size, hasNext, nextCursor);
+    }
+}
@@ -1,8 +1,10 @@
 package com.skyroute.skyroute.flight.dto;
 
 import com.skyroute.skyroute.aircraft.dto.AircraftMapper;
+import com.skyroute.skyroute.airport.entity.Airport;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.route.dto.RouteMapper;
+import com.skyroute.skyroute.route.entity.Route;
 
 public class FlightMapper {
 
@@ -33,6 +35,43 @@ public class FlightMapper {
         );
     }
 
+    public static FlightSimpleResponse toSimpleResponse(FlightSnapshot snapshot) {
+        return new FlightSimpleResponse(
+                snapshot.id(),
+                snapshot.flightNumber(),
+                snapshot.originCity(),
+                snapshot.destinationCity(),
+                snapshot.departureTime(),
+                snapshot.arrivalTime(),
+                snapshot.price(),
+                snapshot.availableSeats()
+        );
+    }
+
+    public static FlightSnapshot toSnapshot(Flight flight) {
+        Route route = flight.getRoute();
+        Airport origin = route != null ? route.getOrigin() : null;
+        Airport destination = route != null ? route.getDestination() : null;
+
+        return new FlightSnapshot(
+                flight.getId(),
+                flight.getFlightNumber(),
+                route != null ? route.getId() : null,
+                origin != null ? origin.getId() : null,
+                origin != null ? origin.getCode() : null,
+                origin != null ? origin.getCity() : null,
+                destination != null ? destination.getId() : null,
+                destination != null ? destination.getCode() : null,
+                destination != null ? destination.getCity() : null,
+                flight.getDepartureTime(),
+                flight.getArrivalTime(),
+                flight.getPrice(),
+                flight.getAvailableSeats(),
+                flight.isAvailable(),
+                flight.getVersion()
+        );
+    }
+
     public static FlightResponse toResponse(Flight flight) {
         return new FlightResponse(
                 flight.getId(),
@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.flight.dto;
+
+import java.time.LocalDateTime;
+
+public record FlightRevision(long version, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,28 @@
+package com.skyroute.skyroute.flight.dto;
+
+import java.time.LocalDateTime;
+
+public record FlightSnapshot(
+        Long id,
+        String flightNumber,
+        Long routeId,
+        Long originId,
+        String originCode,
+        String originCity,
+        Long destinationId,
+        String destinationCode,
+        String destinationCity,
+        LocalDateTime departureTime,
+        LocalDateTime arrivalTime,
+        double price,
+        int availableSeats,
+        boolean available,
+        long version
+) {
+    public boolean isBookableAt(LocalDateTime now) {
+        return available
+                && availableSeats > 0
+                && departureTime != null
+                && departureTime.isAfter(now);
+    }
+}
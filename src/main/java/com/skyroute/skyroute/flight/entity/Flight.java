@@ -39,6 +39,9 @@ public class Flight extends BaseEntity {
     @Column(nullable = false)
     private boolean available;
 
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "aircraft_id", nullable = false)
     private Aircraft aircraft;
@@ -0,0 +1,25 @@
+package com.skyroute.skyroute.flight.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "flight_seat_leases")
+@Entity
+public class FlightSeatLease {
+
+    @Id
+    private Long flightId;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private int seatTotal;
+}
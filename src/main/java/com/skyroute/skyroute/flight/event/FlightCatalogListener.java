@@ -0,0 +1,45 @@
+package com.skyroute.skyroute.flight.event;
+
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FlightCatalogListener {
+
+    private final FlightRepository flightRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    @Transactional
+    public void onRouteChanged(RouteChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (flightRepository.touchUpcomingByRoute(event.routeId(), now) > 0) {
+            publish(flightRepository.findUpcomingByRoute(event.routeId(), now));
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onAirportChanged(AirportChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (flightRepository.touchUpcomingByAirport(event.airportId(), now) > 0) {
+            publish(flightRepository.findUpcomingByAirport(event.airportId(), now));
+        }
+    }
+
+    private void publish(List<Flight> flights) {
+        flights.forEach(flight -> eventPublisher.publishEvent(FlightChangedEvent.updated(FlightMapper.toSnapshot(flight))));
+    }
+}
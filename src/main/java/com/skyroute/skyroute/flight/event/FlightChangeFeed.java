@@ -0,0 +1,118 @@
+package com.skyroute.skyroute.flight.event;
+
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.entity.FlightChange;
+import com.skyroute.skyroute.flight.repository.FlightChangeRepository;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class FlightChangeFeed {
+
+    private final FlightChangeRepository changeRepository;
+    private final FlightRepository flightRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration syncOverlap;
+    private final Duration retention;
+    private final Map<Long, Seen> seen = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedUntil = LocalDateTime.now();
+
+    public FlightChangeFeed(FlightChangeRepository changeRepository,
+                            FlightRepository flightRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.flights.changes.sync-overlap:5s}") Duration syncOverlap,
+                            @Value("${app.flights.changes.retention:10m}") Duration retention) {
+        this.changeRepository = changeRepository;
+        this.flightRepository = flightRepository;
+        this.eventPublisher = eventPublisher;
+        this.syncOverlap = syncOverlap;
+        this.retention = retention;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(FlightChangedEvent event) {
+        changeRepository.save(FlightChange.builder()
+                .flightId(event.flightId())
+                .version(event.version())
+                .deleted(event.isDeleted())
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        seen.merge(event.flightId(), new Seen(event.version(), event.isDeleted(), LocalDateTime.now()), Seen::latest);
+    }
+
+    public int sync() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, FlightChange> unseen = new HashMap<>();
+        for (FlightChange change : changeRepository.findAllByChangedAtGreaterThanEqual(syncedUntil.minus(syncOverlap))) {
+            Seen known = seen.get(change.getFlightId());
+            if (known == null || known.isBefore(change.getVersion(), change.isDeleted())) {
+                unseen.merge(change.getFlightId(), change, FlightChangeFeed::latest);
+            }
+        }
+
+        List<Long> updatedIds = unseen.values().stream()
+                .filter(change -> !change.isDeleted())
+                .map(FlightChange::getFlightId)
+                .toList();
+        Map<Long, Flight> flights = updatedIds.isEmpty() ? Map.of() : flightRepository.findAllByIdIn(updatedIds)
+                .stream()
+                .collect(Collectors.toMap(Flight::getId, Function.identity()));
+
+        unseen.values().forEach(change -> {
+            if (change.isDeleted()) {
+                eventPublisher.publishEvent(FlightChangedEvent.deleted(change.getFlightId(), change.getVersion()));
+            } else if (flights.containsKey(change.getFlightId())) {
+                eventPublisher.publishEvent(FlightChangedEvent.updated(
+                        FlightMapper.toSnapshot(flights.get(change.getFlightId()))));
+            }
+        });
+        syncedUntil = now;
+        return unseen.size();
+    }
+
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = changeRepository.deleteChangedBefore(cutoff);
+        seen.values().removeIf(known -> known.at().isBefore(cutoff));
+        if (purged > 0) {
+            log.debug("Purged {} expired flight changes", purged);
+        }
+        return purged;
+    }
+
+    private static FlightChange latest(FlightChange first, FlightChange second) {
+        Seen known = new Seen(first.getVersion(), first.isDeleted(), first.getChangedAt());
+        return known.isBefore(second.getVersion(), second.isDeleted()) ? second : first;
+    }
+
+    private record Seen(long version, boolean deleted, LocalDateTime at) {
+
+        boolean isBefore(long otherVersion, boolean otherDeleted) {
+            return version < otherVersion || version == otherVersion && !deleted && otherDeleted;
+        }
+
+        Seen latest(Seen other) {
+            return isBefore(other.version, other.deleted) ? other : new Seen(version, deleted, other.at);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.skyroute.skyroute.flight.event;
+
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+
+public record FlightChangedEvent(Long flightId, FlightSnapshot snapshot, FlightSnapshot previous) {
+
+    public static FlightChangedEvent updated(FlightSnapshot snapshot) {
+        return new FlightChangedEvent(snapshot.id(), snapshot, null);
+    }
+
+    public static FlightChangedEvent updated(FlightSnapshot previous, FlightSnapshot snapshot) {
+        return new FlightChangedEvent(snapshot.id(), snapshot, previous);
+    }
+
+    public static FlightChangedEvent deleted(FlightSnapshot previous) {
+        return new FlightChangedEvent(previous.id(), null, previous);
+    }
+
+    public static FlightChangedEvent deleted(Long flightId, long version) {
+        return deleted(new FlightSnapshot(flightId, null, null, null, null, null, null, null, null, null, null, 0, 0,
+                false, version));
+    }
+
+    public boolean isDeleted() {
+        return snapshot == null;
+    }
+
+    public long version() {
+        return isDeleted() ? previous.version() : snapshot.version();
+    }
+}
@@ -0,0 +1,46 @@
+package com.skyroute.skyroute.flight.event;
+
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class FlightSnapshotVersions {
+
+    static final Duration RETENTION = Duration.ofMinutes(5);
+
+    private final Map<Long, Removed> removed = new LinkedHashMap<>();
+
+    public boolean isStale(FlightChangedEvent event, FlightSnapshot current) {
+        long version = event.version();
+        if (current != null && version < current.version()) {
+            return true;
+        }
+        Removed dropped = removed.get(event.flightId());
+        return dropped != null && (version < dropped.version
+                || version == dropped.version && dropped.deleted && !event.isDeleted());
+    }
+
+    public void applied(FlightChangedEvent event, boolean retained) {
+        if (retained) {
+            removed.remove(event.flightId());
+            return;
+        }
+        long now = System.nanoTime();
+        removed.remove(event.flightId());
+        removed.put(event.flightId(), new Removed(event.version(), event.isDeleted(), now));
+        Iterator<Removed> oldest = removed.values().iterator();
+        while (oldest.hasNext() && now - oldest.next().at > RETENTION.toNanos()) {
+            oldest.remove();
+        }
+    }
+
+    int removedCount() {
+        return removed.size();
+    }
+
+    private record Removed(long version, boolean deleted, long at) {
+    }
+}
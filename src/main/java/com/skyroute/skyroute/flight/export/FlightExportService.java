@@ -0,0 +1,82 @@
+package com.skyroute.skyroute.flight.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
+import com.skyroute.skyroute.flight.specification.FlightSpecificationBuilder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class FlightExportService {
+
+    private final FlightRepository flightRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public FlightExportService(FlightRepository flightRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               @Value("${app.flights.export.fetch-size:500}") int fetchSize,
+                               @Value("${app.flights.export.clear-interval:500}") int clearInterval) {
+        this.flightRepository = flightRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportFlights(
+            Optional<String> origin,
+            Optional<String> destination,
+            Optional<String> departureDate,
+            Optional<Integer> passengers,
+            Optional<Double> budget,
+            OutputStream outputStream) throws IOException {
+        Specification<Flight> specification = FlightSpecificationBuilder.builder()
+                .originEquals(origin)
+                .destinationEquals(destination)
+                .departureDateEquals(departureDate)
+                .passengersAvailable(passengers)
+                .pricelessThanOrEqual(budget)
+                .onlyAvailable(Optional.of(LocalDateTime.now()), true)
+                .build();
+
+        long exported = 0;
+        try (Stream<Flight> flights = flightRepository.streamAll(specification, FlightSearchCursor.SORT, fetchSize);
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Flight> iterator = flights.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(FlightMapper.toSimpleResponse(iterator.next()));
+                generator.writeRaw('\n');
+                if (++exported % clearInterval == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("Exported {} flights", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,341 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidBookingOperationException;
+import com.skyroute.skyroute.shared.exception.custom_exception.NotEnoughSeatsException;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class SeatInventory {
+
+    private final SeatLeaseStore leaseStore;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int stripes;
+    private final Duration leaseDuration;
+    private final Duration idleTimeout;
+    private final long unbookableTtlNanos;
+
+    private final Map<Long, OwnedFlight> ownedFlights = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<OwnedFlight>> acquiring = new ConcurrentHashMap<>();
+    private final Map<Long, Long> unbookableUntil = new ConcurrentHashMap<>();
+
+    public SeatInventory(SeatLeaseStore leaseStore,
+                         @Value("${app.flights.inventory.mode:database}") String mode,
+                         @Value("${app.flights.inventory.node-id:${HOSTNAME:local}}") String nodeId,
+                         @Value("${app.flights.inventory.stripes:8}") int stripes,
+                         @Value("${app.flights.inventory.lease-duration:30s}") Duration leaseDuration,
+                         @Value("${app.flights.inventory.idle-timeout:5m}") Duration idleTimeout,
+                         @Value("${app.flights.inventory.unbookable-cache-ttl:1s}") Duration unbookableTtl) {
+        this.leaseStore = leaseStore;
+        this.enabled = "sharded".equalsIgnoreCase(mode);
+        this.nodeId = nodeId;
+        this.stripes = stripes;
+        this.leaseDuration = leaseDuration;
+        this.idleTimeout = idleTimeout;
+        this.unbookableTtlNanos = unbookableTtl.toNanos();
+    }
+
+    public void prepare(Collection<Long> flightIds) {
+        if (!enabled) {
+            return;
+        }
+        flightIds.forEach(this::ownedFlight);
+    }
+
+    public boolean reserve(Long flightId, int seats) {
+        if (!enabled) {
+            return false;
+        }
+        OwnedFlight owned = ownedFlights.get(flightId);
+        if (owned == null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            owned = ownedFlight(flightId);
+        }
+        if (owned == null) {
+            return false;
+        }
+        OwnedFlight flight = owned;
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!flight.available || !flight.departureTime.isAfter(now)) {
+            throw new InvalidBookingOperationException("Flight not available for booking");
+        }
+        if (now.isAfter(flight.leaseDeadline) || !flight.begin()) {
+            throw new SeatInventoryUnavailableException(
+                    "Seat inventory for flight " + flightId + " is being handed over, please retry");
+        }
+        if (!flight.counter.tryAcquire(seats)) {
+            flight.end();
+            throw new NotEnoughSeatsException("Not enough seats available. Requested: " + seats
+                    + ". Available: " + flight.counter.available());
+        }
+
+        flight.lastActivity = now;
+        onCompletion(committed -> {
+            if (committed) {
+                flight.counter.recordCommitted(seats);
+            } else {
+                flight.counter.release(seats);
+            }
+            flight.end();
+        });
+        return true;
+    }
+
+    public boolean release(Long flightId, int seats) {
+        if (!enabled) {
+            return false;
+        }
+        OwnedFlight flight = ownedFlights.get(flightId);
+        if (flight == null || !flight.begin()) {
+            return false;
+        }
+
+        onCompletion(committed -> {
+            if (committed) {
+                flight.counter.release(seats);
+                flight.counter.recordCommitted(-seats);
+            }
+            flight.end();
+        });
+        return true;
+    }
+
+    public boolean isLeasedElsewhere(Long flightId) {
+        return !ownedFlights.containsKey(flightId) && leaseStore.isLeased(flightId, LocalDateTime.now());
+    }
+
+    int ownedFlightCount() {
+        return ownedFlights.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.flights.inventory.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        unbookableUntil.values().removeIf(until -> until - nowNanos < 0);
+        if (ownedFlights.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> renewing = Set.copyOf(ownedFlights.keySet());
+        Map<Long, Integer> consumedSeats = new HashMap<>();
+        renewing.forEach(flightId -> {
+            int consumed = ownedFlights.get(flightId).counter.drainUnflushed();
+            if (consumed != 0) {
+                consumedSeats.put(flightId, consumed);
+            }
+        });
+
+        Set<Long> held;
+        try {
+            held = leaseStore.writeBack(consumedSeats, renewing, nodeId, now, now.plus(leaseDuration));
+        } catch (RuntimeException e) {
+            consumedSeats.forEach((flightId, consumed) -> ownedFlights.get(flightId).counter.restoreUnflushed(consumed));
+            log.warn("Could not write back seat inventory of {} flights", consumedSeats.size(), e);
+            return;
+        }
+
+        LocalDateTime deadline = now.plus(leaseDuration.multipliedBy(2).dividedBy(3));
+        for (Long flightId : renewing) {
+            OwnedFlight flight = ownedFlights.get(flightId);
+            if (!held.contains(flightId)) {
+                ownedFlights.remove(flightId);
+                log.warn("Lost seat inventory lease of flight {} to another instance", flightId);
+            } else if (flight.shouldRetire(now, idleTimeout)) {
+                retire(flightId, flight, now);
+            } else {
+                flight.leaseDeadline = deadline;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        boolean bookable = !event.isDeleted() && event.snapshot().isBookableAt(LocalDateTime.now());
+        if (bookable) {
+            unbookableUntil.remove(event.flightId());
+        }
+        OwnedFlight flight = ownedFlights.get(event.flightId());
+        if (flight == null) {
+            return;
+        }
+        if (!bookable) {
+            flight.available = false;
+            flight.retireRequested = true;
+        } else if (event.previous() != null) {
+            flight.retireRequested = true;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOwnedLeases() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> recovered = leaseStore.recoverOwned(nodeId);
+        if (!recovered.isEmpty()) {
+            log.info("Recovered seat inventory of {} flights left by a previous run of {}", recovered.size(), nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ownedFlights.forEach((flightId, flight) -> {
+            flight.retireRequested = true;
+            retire(flightId, flight, now);
+        });
+    }
+
+    private OwnedFlight ownedFlight(Long flightId) {
+        OwnedFlight owned = ownedFlights.get(flightId);
+        if (owned != null || isUnbookable(flightId)) {
+            return owned;
+        }
+
+        CompletableFuture<OwnedFlight> acquisition = new CompletableFuture<>();
+        CompletableFuture<OwnedFlight> running = acquiring.putIfAbsent(flightId, acquisition);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            owned = ownedFlights.get(flightId);
+            if (owned == null) {
+                owned = acquire(flightId);
+                if (owned == null) {
+                    unbookableUntil.put(flightId, System.nanoTime() + unbookableTtlNanos);
+                } else {
+                    OwnedFlight existing = ownedFlights.putIfAbsent(flightId, owned);
+                    owned = existing != null ? existing : owned;
+                }
+            }
+            acquisition.complete(owned);
+            return owned;
+        } catch (RuntimeException e) {
+            acquisition.completeExceptionally(e);
+            throw e;
+        } finally {
+            acquiring.remove(flightId, acquisition);
+        }
+    }
+
+    private boolean isUnbookable(Long flightId) {
+        Long until = unbookableUntil.get(flightId);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    private OwnedFlight await(CompletableFuture<OwnedFlight> acquisition) {
+        try {
+            return acquisition.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private OwnedFlight acquire(Long flightId) {
+        LocalDateTime now = LocalDateTime.now();
+        return leaseStore.acquire(flightId, nodeId, now, now.plus(leaseDuration))
+                .map(grant -> new OwnedFlight(new StripedSeatCounter(grant.seats(), stripes), grant.departureTime(),
+                        now.plus(leaseDuration.multipliedBy(2).dividedBy(3)), now))
+                .orElse(null);
+    }
+
+    private void retire(Long flightId, OwnedFlight flight, LocalDateTime now) {
+        flight.closed = true;
+        if (flight.inFlight.get() > 0) {
+            return;
+        }
+        int consumed = flight.counter.drainUnflushed();
+        try {
+            leaseStore.release(flightId, consumed, nodeId, now);
+            ownedFlights.remove(flightId);
+        } catch (RuntimeException e) {
+            flight.counter.restoreUnflushed(consumed);
+            log.warn("Could not release seat inventory lease of flight {}", flightId, e);
+        }
+    }
+
+    private void onCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static final class OwnedFlight {
+        private final StripedSeatCounter counter;
+        private final LocalDateTime departureTime;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean available = true;
+        private volatile LocalDateTime leaseDeadline;
+        private volatile LocalDateTime lastActivity;
+        private volatile boolean retireRequested;
+        private volatile boolean closed;
+
+        private OwnedFlight(StripedSeatCounter counter, LocalDateTime departureTime, LocalDateTime leaseDeadline,
+                            LocalDateTime lastActivity) {
+            this.counter = counter;
+            this.departureTime = departureTime;
+            this.leaseDeadline = leaseDeadline;
+            this.lastActivity = lastActivity;
+        }
+
+        private boolean begin() {
+            inFlight.incrementAndGet();
+            if (closed) {
+                inFlight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        private void end() {
+            inFlight.decrementAndGet();
+        }
+
+        private boolean shouldRetire(LocalDateTime now, Duration idleTimeout) {
+            return closed || retireRequested || !departureTime.isAfter(now)
+                    || lastActivity.plus(idleTimeout).isBefore(now);
+        }
+    }
+}
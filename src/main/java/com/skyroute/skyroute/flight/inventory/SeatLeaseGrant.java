@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import java.time.LocalDateTime;
+
+public record SeatLeaseGrant(int seats, LocalDateTime departureTime) {
+}
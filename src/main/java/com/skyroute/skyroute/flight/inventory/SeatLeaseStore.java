@@ -0,0 +1,130 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.entity.FlightSeatLease;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.repository.FlightSeatLeaseRepository;
+import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLeaseStore {
+
+    private final FlightRepository flightRepository;
+    private final FlightSeatLeaseRepository leaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<SeatLeaseGrant> acquire(Long flightId, String owner, LocalDateTime now, LocalDateTime until) {
+        Flight flight = flightRepository.findForUpdate(flightId)
+                .orElseThrow(() -> new EntityNotFoundException("Flight with id: " + flightId + " not found"));
+        FlightSeatLease lease = leaseRepository.findForUpdate(flightId)
+                .orElseGet(() -> FlightSeatLease.builder().flightId(flightId).build());
+
+        if (lease.getOwner() != null && !lease.getOwner().equals(owner) && lease.getLeaseUntil().isAfter(now)) {
+            throw new SeatInventoryUnavailableException(
+                    "Seat inventory for flight " + flightId + " is managed by another instance, please retry");
+        }
+
+        long bookedSeats = leaseRepository.sumBookedSeats(flightId, BookingStatus.CANCELLED);
+        if (lease.getOwner() != null) {
+            recover(flight, lease, bookedSeats);
+        } else {
+            lease.setSeatTotal(Math.toIntExact(flight.getAvailableSeats() + bookedSeats));
+        }
+
+        if (!flight.isAvailable() || !flight.getDepartureTime().isAfter(now) || flight.getAvailableSeats() <= 0) {
+            lease.setOwner(null);
+            lease.setLeaseUntil(null);
+            leaseRepository.save(lease);
+            return Optional.empty();
+        }
+
+        lease.setOwner(owner);
+        lease.setLeaseUntil(until);
+        leaseRepository.save(lease);
+        return Optional.of(new SeatLeaseGrant(flight.getAvailableSeats(), flight.getDepartureTime()));
+    }
+
+    public boolean isLeased(Long flightId, LocalDateTime now) {
+        return leaseRepository.existsByFlightIdAndLeaseUntilAfter(flightId, now);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Long> writeBack(Map<Long, Integer> consumedSeats, Collection<Long> ownedFlightIds, String owner,
+                               LocalDateTime now, LocalDateTime until) {
+        applySeatDeltas(consumedSeats, owner, now);
+        if (ownedFlightIds.isEmpty()) {
+            return Set.of();
+        }
+        leaseRepository.renew(ownedFlightIds, owner, until);
+        return new HashSet<>(leaseRepository.findOwnedFlightIds(ownedFlightIds, owner));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(Long flightId, int consumedSeats, String owner, LocalDateTime now) {
+        applySeatDeltas(Map.of(flightId, consumedSeats), owner, now);
+        leaseRepository.release(flightId, owner);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> recoverOwned(String owner) {
+        List<FlightSeatLease> leases = leaseRepository.findAllByOwner(owner);
+        for (FlightSeatLease lease : leases) {
+            flightRepository.findForUpdate(lease.getFlightId()).ifPresent(flight ->
+                    recover(flight, lease, leaseRepository.sumBookedSeats(flight.getId(), BookingStatus.CANCELLED)));
+            lease.setOwner(null);
+            lease.setLeaseUntil(null);
+        }
+        return leases.stream().map(FlightSeatLease::getFlightId).toList();
+    }
+
+    private void applySeatDeltas(Map<Long, Integer> consumedSeats, String owner, LocalDateTime now) {
+        Set<Long> applied = new HashSet<>();
+        consumedSeats.forEach((flightId, consumed) -> {
+            if (consumed == 0) {
+                return;
+            }
+            if (flightRepository.applySeatDelta(flightId, consumed, owner, now) == 0) {
+                log.warn("Dropped {} unflushed seats for flight {}: lease no longer held by {}", consumed, flightId, owner);
+            } else {
+                applied.add(flightId);
+            }
+        });
+        if (!applied.isEmpty()) {
+            flightRepository.findAllById(applied).forEach(flight ->
+                    eventPublisher.publishEvent(FlightChangedEvent.updated(FlightMapper.toSnapshot(flight))));
+        }
+    }
+
+    private void recover(Flight flight, FlightSeatLease lease, long bookedSeats) {
+        int recovered = (int) Math.max(0, lease.getSeatTotal() - bookedSeats);
+        log.warn("Recovering seat inventory of flight {} left by {}: {} -> {} seats",
+                flight.getId(), lease.getOwner(), flight.getAvailableSeats(), recovered);
+        flight.setAvailableSeats(recovered);
+        if (recovered == 0) {
+            flight.setAvailable(false);
+        }
+        flightRepository.flush();
+        eventPublisher.publishEvent(FlightChangedEvent.updated(FlightMapper.toSnapshot(flight)));
+    }
+}
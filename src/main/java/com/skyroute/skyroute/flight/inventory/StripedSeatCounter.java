@@ -0,0 +1,92 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+final class StripedSeatCounter {
+
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+    private final AtomicInteger unflushed = new AtomicInteger();
+
+    StripedSeatCounter(int seats, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+        for (int stripe = 0; stripe < this.stripes; stripe++) {
+            cells.set(cell(stripe), seats / this.stripes + (stripe < seats % this.stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(int seats) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        int[] taken = null;
+        int remaining = seats;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int stripe = (start + i) % stripes;
+            int granted = takeUpTo(stripe, remaining);
+            if (granted > 0) {
+                if (taken == null) {
+                    taken = new int[stripes];
+                }
+                taken[stripe] = granted;
+                remaining -= granted;
+            }
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        if (taken != null) {
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                if (taken[stripe] > 0) {
+                    cells.addAndGet(cell(stripe), taken[stripe]);
+                }
+            }
+        }
+        return false;
+    }
+
+    void release(int seats) {
+        cells.addAndGet(cell(ThreadLocalRandom.current().nextInt(stripes)), seats);
+    }
+
+    int available() {
+        int total = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            total += cells.get(cell(stripe));
+        }
+        return total;
+    }
+
+    void recordCommitted(int consumedSeats) {
+        unflushed.addAndGet(consumedSeats);
+    }
+
+    int drainUnflushed() {
+        return unflushed.getAndSet(0);
+    }
+
+    void restoreUnflushed(int consumedSeats) {
+        unflushed.addAndGet(consumedSeats);
+    }
+
+    private int takeUpTo(int stripe, int wanted) {
+        int index = cell(stripe);
+        while (true) {
+            int current = cells.get(index);
+            if (current == 0) {
+                return 0;
+            }
+            int granted = Math.min(current, wanted);
+            if (cells.compareAndSet(index, current, current - granted)) {
+                return granted;
+            }
+        }
+    }
+
+    private int cell(int stripe) {
+        return stripe * PADDING;
+    }
+}
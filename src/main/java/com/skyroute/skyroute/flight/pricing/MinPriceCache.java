@@ -0,0 +1,186 @@
+package com.skyroute.skyroute.flight.pricing;
+
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.dto.MinPriceResponse;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.event.FlightSnapshotVersions;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class MinPriceCache {
+
+    private static final Comparator<FlightSnapshot> BY_PRICE = Comparator
+            .comparingDouble(FlightSnapshot::price)
+            .thenComparing(FlightSnapshot::id);
+
+    private final FlightRepository flightRepository;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fallbacks;
+
+    private final Map<Long, FlightSnapshot> flightsById = new HashMap<>();
+    private final Map<String, NavigableSet<FlightSnapshot>> flightsByDestination = new HashMap<>();
+    private final Map<String, FlightSnapshot> cheapestByDestination = new ConcurrentHashMap<>();
+    private final Set<Long> changedWhileWarming = new HashSet<>();
+    private final FlightSnapshotVersions versions = new FlightSnapshotVersions();
+    private volatile boolean ready;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public MinPriceCache(FlightRepository flightRepository, MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.hits = Counter.builder("skyroute.flights.min-price.cache.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("skyroute.flights.min-price.cache.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("skyroute.flights.min-price.cache.lookups")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+        Gauge.builder("skyroute.flights.min-price.cache.hit.ratio", this, MinPriceCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("skyroute.flights.min-price.cache.last.refresh", this,
+                        cache -> cache.lastRefresh.getEpochSecond())
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("skyroute.flights.min-price.cache.destinations", cheapestByDestination, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightSnapshot> snapshots = flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(now)
+                .stream()
+                .map(FlightMapper::toSnapshot)
+                .filter(snapshot -> snapshot.isBookableAt(now))
+                .toList();
+
+        synchronized (this) {
+            snapshots.stream()
+                    .filter(snapshot -> !changedWhileWarming.contains(snapshot.id()))
+                    .forEach(this::put);
+            changedWhileWarming.clear();
+            ready = true;
+            lastRefresh = Instant.now();
+        }
+        log.info("Min price cache warmed with {} destinations", cheapestByDestination.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFlightChanged(FlightChangedEvent event) {
+        if (versions.isStale(event, flightsById.get(event.flightId()))) {
+            return;
+        }
+        if (!ready) {
+            changedWhileWarming.add(event.flightId());
+        }
+        remove(event.flightId());
+        boolean bookable = !event.isDeleted() && event.snapshot().isBookableAt(LocalDateTime.now());
+        if (bookable) {
+            put(event.snapshot());
+        }
+        versions.applied(event, bookable);
+        lastRefresh = Instant.now();
+    }
+
+    public Optional<List<MinPriceResponse>> lookup(List<String> destinationCodes) {
+        if (!ready) {
+            fallbacks.increment(destinationCodes.size());
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MinPriceResponse> minPrices = new ArrayList<>();
+        destinationCodes.stream()
+                .map(code -> code.trim().toUpperCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .forEach(code -> cheapest(code, now).ifPresentOrElse(cheapest -> {
+                    hits.increment();
+                    minPrices.add(new MinPriceResponse(
+                            cheapest.destinationCode(),
+                            cheapest.destinationCity(),
+                            cheapest.price()));
+                }, misses::increment));
+        return Optional.of(minPrices);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Instant lastRefresh() {
+        return lastRefresh;
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count() + fallbacks.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private Optional<FlightSnapshot> cheapest(String destinationCode, LocalDateTime now) {
+        FlightSnapshot cheapest = cheapestByDestination.get(destinationCode);
+        if (cheapest != null && !cheapest.departureTime().isAfter(now)) {
+            return evictDeparted(destinationCode, now);
+        }
+        return Optional.ofNullable(cheapest);
+    }
+
+    private synchronized Optional<FlightSnapshot> evictDeparted(String destinationCode, LocalDateTime now) {
+        NavigableSet<FlightSnapshot> flights = flightsByDestination.getOrDefault(destinationCode,
+                Collections.emptyNavigableSet());
+        List<Long> departed = flights.stream()
+                .filter(flight -> !flight.departureTime().isAfter(now))
+                .map(FlightSnapshot::id)
+                .toList();
+        departed.forEach(this::remove);
+        if (!departed.isEmpty()) {
+            lastRefresh = Instant.now();
+        }
+        return Optional.ofNullable(cheapestByDestination.get(destinationCode));
+    }
+
+    private void put(FlightSnapshot snapshot) {
+        if (snapshot.destinationCode() == null) {
+            return;
+        }
+        String destinationCode = snapshot.destinationCode().toUpperCase(Locale.ROOT);
+        flightsById.put(snapshot.id(), snapshot);
+        NavigableSet<FlightSnapshot> flights = flightsByDestination.computeIfAbsent(destinationCode,
+                code -> new TreeSet<>(BY_PRICE));
+        flights.add(snapshot);
+        cheapestByDestination.put(destinationCode, flights.first());
+    }
+
+    private void remove(Long flightId) {
+        FlightSnapshot existing = flightsById.remove(flightId);
+        if (existing == null) {
+            return;
+        }
+        String destinationCode = existing.destinationCode().toUpperCase(Locale.ROOT);
+        NavigableSet<FlightSnapshot> flights = flightsByDestination.get(destinationCode);
+        flights.remove(existing);
+        if (flights.isEmpty()) {
+            flightsByDestination.remove(destinationCode);
+            cheapestByDestination.remove(destinationCode);
+        } else {
+            cheapestByDestination.put(destinationCode, flights.first());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.skyroute.skyroute.flight.repository;
+
+import com.skyroute.skyroute.flight.entity.FlightChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FlightChangeRepository extends JpaRepository<FlightChange, Long> {
+
+    List<FlightChange> findAllByChangedAtGreaterThanEqual(LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FlightChange c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
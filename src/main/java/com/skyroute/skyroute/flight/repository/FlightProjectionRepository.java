@@ -0,0 +1,20 @@
+package com.skyroute.skyroute.flight.repository;
+
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.entity.Flight;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface FlightProjectionRepository {
+
+    Page<FlightSimpleResponse> findSimpleResponses(Specification<Flight> specification, Pageable pageable);
+
+    List<FlightSimpleResponse> findSimpleResponses(Specification<Flight> specification, Sort sort, int limit);
+
+    Stream<Flight> streamAll(Specification<Flight> specification, Sort sort, int fetchSize);
+}
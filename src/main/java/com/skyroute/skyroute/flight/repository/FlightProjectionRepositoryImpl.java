@@ -0,0 +1,108 @@
+package com.skyroute.skyroute.flight.repository;
+
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.route.entity.Route;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class FlightProjectionRepositoryImpl implements FlightProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<FlightSimpleResponse> findSimpleResponses(Specification<Flight> specification, Pageable pageable) {
+        TypedQuery<FlightSimpleResponse> query = entityManager.createQuery(
+                simpleResponseQuery(specification, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+    }
+
+    @Override
+    public List<FlightSimpleResponse> findSimpleResponses(Specification<Flight> specification, Sort sort, int limit) {
+        return entityManager.createQuery(simpleResponseQuery(specification, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Flight> streamAll(Specification<Flight> specification, Sort sort, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Flight> query = criteriaBuilder.createQuery(Flight.class);
+        Root<Flight> flight = query.from(Flight.class);
+        Fetch<Flight, Route> route = flight.fetch("route", JoinType.LEFT);
+        route.fetch("origin", JoinType.LEFT);
+        route.fetch("destination", JoinType.LEFT);
+
+        Predicate predicate = specification.toPredicate(flight, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, flight, criteriaBuilder));
+        }
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<FlightSimpleResponse> simpleResponseQuery(Specification<Flight> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FlightSimpleResponse> query = criteriaBuilder.createQuery(FlightSimpleResponse.class);
+        Root<Flight> flight = query.from(Flight.class);
+        Join<Flight, Route> route = flight.join("route", JoinType.LEFT);
+        Join<Route, Airport> origin = route.join("origin", JoinType.LEFT);
+        Join<Route, Airport> destination = route.join("destination", JoinType.LEFT);
+
+        query.select(criteriaBuilder.construct(FlightSimpleResponse.class,
+                flight.get("id"),
+                flight.get("flightNumber"),
+                origin.get("city"),
+                destination.get("city"),
+                flight.get("departureTime"),
+                flight.get("arrivalTime"),
+                flight.get("price"),
+                flight.get("availableSeats")));
+
+        Predicate predicate = specification.toPredicate(flight, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, flight, criteriaBuilder));
+        }
+        return query;
+    }
+
+    private long count(Specification<Flight> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Flight> flight = query.from(Flight.class);
+        query.select(criteriaBuilder.count(flight));
+
+        Predicate predicate = specification.toPredicate(flight, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
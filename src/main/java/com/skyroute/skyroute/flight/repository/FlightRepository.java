@@ -1,25 +1,138 @@
 package com.skyroute.skyroute.flight.repository;
 
+import com.skyroute.skyroute.flight.dto.FlightRevision;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
 import com.skyroute.skyroute.flight.entity.Flight;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FlightRepository extends JpaRepository<Flight, Long>, JpaSpecificationExecutor<Flight> {
+public interface FlightRepository extends JpaRepository<Flight, Long>, JpaSpecificationExecutor<Flight>,
+    FlightProjectionRepository {
   @EntityGraph(attributePaths = { "aircraft", "route", "route.origin", "route.destination" })
   Page<Flight> findAll(Pageable pageable);
 
   @EntityGraph(attributePaths = { "aircraft", "route", "route.origin", "route.destination" })
   Optional<Flight> findById(Long id);
 
+  @Query("""
+          SELECT new com.skyroute.skyroute.flight.dto.FlightSimpleResponse(
+              f.id, f.flightNumber, o.city, d.city, f.departureTime, f.arrivalTime, f.price, f.availableSeats)
+          FROM Flight f
+          LEFT JOIN f.route r
+          LEFT JOIN r.origin o
+          LEFT JOIN r.destination d
+          WHERE f.id = :id
+      """)
+  Optional<FlightSimpleResponse> findSimpleById(@Param("id") Long id);
+
+  @Query("""
+          SELECT new com.skyroute.skyroute.flight.dto.FlightRevision(f.version, COALESCE(f.updatedAt, f.createdAt))
+          FROM Flight f
+          WHERE f.id = :id
+      """)
+  Optional<FlightRevision> findRevisionById(@Param("id") Long id);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+          UPDATE Flight f
+          SET f.available = CASE WHEN f.availableSeats > :seats THEN true ELSE false END,
+              f.availableSeats = f.availableSeats - :seats,
+              f.updatedAt = :now,
+              f.version = f.version + 1
+          WHERE f.id = :id
+            AND f.available = true
+            AND f.availableSeats >= :seats
+            AND f.departureTime > :now
+            AND NOT EXISTS (
+                SELECT 1 FROM FlightSeatLease l WHERE l.flightId = f.id AND l.leaseUntil > :now)
+      """)
+  int reserveSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+          UPDATE Flight f
+          SET f.available = CASE WHEN f.departureTime > :now THEN true ELSE f.available END,
+              f.availableSeats = f.availableSeats + :seats,
+              f.updatedAt = :now,
+              f.version = f.version + 1
+          WHERE f.id = :id
+      """)
+  int releaseSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+          UPDATE Flight f
+          SET f.available = CASE
+                  WHEN f.availableSeats - :consumed <= 0 THEN false
+                  WHEN :consumed < 0 AND f.departureTime > :now THEN true
+                  ELSE f.available END,
+              f.availableSeats = f.availableSeats - :consumed,
+              f.updatedAt = :now,
+              f.version = f.version + 1
+          WHERE f.id = :id
+            AND EXISTS (
+                SELECT 1 FROM FlightSeatLease l WHERE l.flightId = f.id AND l.owner = :owner)
+      """)
+  int applySeatDelta(@Param("id") Long id, @Param("consumed") int consumed, @Param("owner") String owner,
+      @Param("now") LocalDateTime now);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT f FROM Flight f WHERE f.id = :id")
+  Optional<Flight> findForUpdate(@Param("id") Long id);
+
+  @EntityGraph(attributePaths = { "route", "route.origin", "route.destination" })
+  List<Flight> findAllByAvailableTrueAndDepartureTimeAfter(LocalDateTime departureTime);
+
+  @EntityGraph(attributePaths = { "route", "route.origin", "route.destination" })
+  List<Flight> findAllByIdIn(Collection<Long> ids);
+
+  @EntityGraph(attributePaths = { "route", "route.origin", "route.destination" })
+  @Query("SELECT f FROM Flight f WHERE f.route.id = :routeId AND f.departureTime > :now")
+  List<Flight> findUpcomingByRoute(@Param("routeId") Long routeId, @Param("now") LocalDateTime now);
+
+  @EntityGraph(attributePaths = { "route", "route.origin", "route.destination" })
+  @Query("""
+          SELECT f FROM Flight f
+          WHERE (f.route.origin.id = :airportId OR f.route.destination.id = :airportId)
+            AND f.departureTime > :now
+      """)
+  List<Flight> findUpcomingByAirport(@Param("airportId") Long airportId, @Param("now") LocalDateTime now);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+          UPDATE Flight f
+          SET f.updatedAt = :now,
+              f.version = f.version + 1
+          WHERE f.route.id = :routeId
+            AND f.departureTime > :now
+      """)
+  int touchUpcomingByRoute(@Param("routeId") Long routeId, @Param("now") LocalDateTime now);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+          UPDATE Flight f
+          SET f.updatedAt = :now,
+              f.version = f.version + 1
+          WHERE f.route.id IN (
+                SELECT r.id FROM Route r WHERE r.origin.id = :airportId OR r.destination.id = :airportId)
+            AND f.departureTime > :now
+      """)
+  int touchUpcomingByAirport(@Param("airportId") Long airportId, @Param("now") LocalDateTime now);
+
   @Query("""
           SELECT r.destination.code, r.destination.city, MIN(f.price)
           FROM Flight f
@@ -31,4 +144,20 @@ public interface FlightRepository extends JpaRepository<Flight, Long>, JpaSpecif
           ORDER BY r.destination.code
       """)
   List<Object[]> findMinPricesByDestinations(@Param("destinationCodes") List<String> destinationCodes);
+
+  @Query("""
+          SELECT CAST(f.departureTime AS LocalDate), MIN(f.price), MAX(f.availableSeats), COUNT(f), MIN(f.departureTime)
+          FROM Flight f
+          JOIN f.route r
+          WHERE (r.origin.code = :origin OR UPPER(r.origin.city) = :origin)
+            AND (r.destination.code = :destination OR UPPER(r.destination.city) = :destination)
+            AND f.available = true
+            AND f.availableSeats > 0
+            AND f.departureTime >= :from
+            AND f.departureTime < :to
+          GROUP BY CAST(f.departureTime AS LocalDate)
+          ORDER BY CAST(f.departureTime AS LocalDate)
+      """)
+  List<Object[]> findDailyFaresByRoute(@Param("origin") String origin, @Param("destination") String destination,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.skyroute.skyroute.flight.repository;
+
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.flight.entity.FlightSeatLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FlightSeatLeaseRepository extends JpaRepository<FlightSeatLease, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM FlightSeatLease l WHERE l.flightId = :flightId")
+    Optional<FlightSeatLease> findForUpdate(@Param("flightId") Long flightId);
+
+    List<FlightSeatLease> findAllByOwner(String owner);
+
+    boolean existsByFlightIdAndLeaseUntilAfter(Long flightId, LocalDateTime now);
+
+    @Query("""
+            SELECT COALESCE(SUM(b.bookedSeats), 0)
+            FROM Booking b
+            WHERE b.flight.id = :flightId AND b.bookingStatus <> :cancelled
+            """)
+    long sumBookedSeats(@Param("flightId") Long flightId, @Param("cancelled") BookingStatus cancelled);
+
+    @Modifying
+    @Query("""
+            UPDATE FlightSeatLease l
+            SET l.leaseUntil = :until
+            WHERE l.flightId IN :flightIds AND l.owner = :owner
+            """)
+    int renew(@Param("flightIds") Collection<Long> flightIds, @Param("owner") String owner,
+              @Param("until") LocalDateTime until);
+
+    @Query("SELECT l.flightId FROM FlightSeatLease l WHERE l.flightId IN :flightIds AND l.owner = :owner")
+    List<Long> findOwnedFlightIds(@Param("flightIds") Collection<Long> flightIds, @Param("owner") String owner);
+
+    @Modifying
+    @Query("""
+            UPDATE FlightSeatLease l
+            SET l.owner = null, l.leaseUntil = null
+            WHERE l.flightId = :flightId AND l.owner = :owner
+            """)
+    int release(@Param("flightId") Long flightId, @Param("owner") String owner);
+}
@@ -0,0 +1,35 @@
+package com.skyroute.skyroute.flight.scheduler;
+
+import com.skyroute.skyroute.flight.event.FlightChangeFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightChangeScheduler {
+
+    private final FlightChangeFeed flightChangeFeed;
+
+    @Scheduled(fixedDelayString = "${app.flights.changes.sync-interval:1s}")
+    public void syncFlightChanges() {
+        try {
+            flightChangeFeed.sync();
+        } catch (Exception e) {
+            log.error("Error syncing flight changes", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.flights.changes.purge-interval:5m}")
+    public void purgeExpiredFlightChanges() {
+        try {
+            flightChangeFeed.purgeExpired();
+        } catch (Exception e) {
+            log.error("Error purging expired flight changes", e);
+        }
+    }
+}
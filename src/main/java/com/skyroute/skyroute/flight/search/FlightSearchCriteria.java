@@ -0,0 +1,38 @@
+package com.skyroute.skyroute.flight.search;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+public record FlightSearchCriteria(
+        String origin,
+        String destination,
+        LocalDate departureDate,
+        Integer passengers,
+        Double maxPrice
+) {
+    private static final DateTimeFormatter DEPARTURE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public static FlightSearchCriteria of(Optional<String> origin, Optional<String> destination,
+                                          Optional<String> departureDate, Optional<Integer> passengers,
+                                          Optional<Double> maxPrice) {
+        return new FlightSearchCriteria(
+                origin.filter(value -> !value.isBlank()).orElse(null),
+                destination.filter(value -> !value.isBlank()).orElse(null),
+                departureDate.flatMap(FlightSearchCriteria::parseDepartureDate).orElse(null),
+                passengers.orElse(null),
+                maxPrice.orElse(null));
+    }
+
+    public static Optional<LocalDate> parseDepartureDate(String departureDate) {
+        if (departureDate == null || departureDate.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(departureDate, DEPARTURE_DATE_FORMATTER));
+        } catch (DateTimeParseException exception) {
+            return Optional.empty();
+        }
+    }
+}
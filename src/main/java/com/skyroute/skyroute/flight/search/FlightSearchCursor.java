@@ -0,0 +1,57 @@
+package com.skyroute.skyroute.flight.search;
+
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidSearchCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+
+public record FlightSearchCursor(LocalDateTime departureTime, double price, long id) {
+
+    public static final Sort SORT = Sort.by("departureTime", "price", "id");
+
+    public static final Comparator<FlightSnapshot> ORDER = Comparator
+            .comparing(FlightSnapshot::departureTime)
+            .thenComparingDouble(FlightSnapshot::price)
+            .thenComparing(FlightSnapshot::id);
+
+    private static final String SEPARATOR = "|";
+
+    public static FlightSearchCursor of(FlightSimpleResponse flight) {
+        return new FlightSearchCursor(flight.departureDate(), flight.price(), flight.id());
+    }
+
+    public static FlightSearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            return new FlightSearchCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Double.parseDouble(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException exception) {
+            throw new InvalidSearchCursorException("cursor is not a nextCursor returned by a previous search");
+        }
+    }
+
+    public String encode() {
+        String raw = departureTime + SEPARATOR + price + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean precedes(FlightSnapshot snapshot) {
+        int byDeparture = departureTime.compareTo(snapshot.departureTime());
+        if (byDeparture != 0) {
+            return byDeparture < 0;
+        }
+        int byPrice = Double.compare(price, snapshot.price());
+        if (byPrice != 0) {
+            return byPrice < 0;
+        }
+        return id < snapshot.id();
+    }
+}
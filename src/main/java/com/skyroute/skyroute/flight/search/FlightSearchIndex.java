@@ -0,0 +1,258 @@
+package com.skyroute.skyroute.flight.search;
+
+import com.skyroute.skyroute.flight.dto.FlightCursorPage;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.event.FlightSnapshotVersions;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class FlightSearchIndex {
+
+    private static final Map<String, Comparator<FlightSnapshot>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(FlightSnapshot::id),
+            "flightNumber", Comparator.comparing(FlightSnapshot::flightNumber),
+            "departureTime", Comparator.comparing(FlightSnapshot::departureTime),
+            "arrivalTime", Comparator.comparing(FlightSnapshot::arrivalTime),
+            "price", Comparator.comparingDouble(FlightSnapshot::price),
+            "availableSeats", Comparator.comparingInt(FlightSnapshot::availableSeats));
+
+    private final FlightRepository flightRepository;
+    private final boolean enabled;
+
+    private final Map<Long, FlightSnapshot> flightsById = new ConcurrentHashMap<>();
+    private final Map<SearchKey, Map<Long, FlightSnapshot>> flightsByKey = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> airportCodesByCity = new ConcurrentHashMap<>();
+    private final Set<Long> changedWhileWarming = new HashSet<>();
+    private final FlightSnapshotVersions versions = new FlightSnapshotVersions();
+    private volatile boolean ready;
+
+    public FlightSearchIndex(FlightRepository flightRepository,
+                             @Value("${app.flight-search.index.enabled:true}") boolean enabled) {
+        this.flightRepository = flightRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightSnapshot> snapshots = flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(now)
+                .stream()
+                .map(FlightMapper::toSnapshot)
+                .filter(snapshot -> snapshot.isBookableAt(now))
+                .toList();
+
+        synchronized (this) {
+            snapshots.stream()
+                    .filter(snapshot -> !changedWhileWarming.contains(snapshot.id()))
+                    .forEach(this::put);
+            changedWhileWarming.clear();
+            ready = true;
+        }
+        log.info("Flight search index warmed with {} flights", flightsById.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            if (versions.isStale(event, flightsById.get(event.flightId()))) {
+                return;
+            }
+            if (!ready) {
+                changedWhileWarming.add(event.flightId());
+            }
+            remove(event.flightId());
+            boolean bookable = !event.isDeleted() && event.snapshot().isBookableAt(LocalDateTime.now());
+            if (bookable) {
+                put(event.snapshot());
+            }
+            versions.applied(event, bookable);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return flightsById.size();
+    }
+
+    public Optional<Page<FlightSimpleResponse>> search(FlightSearchCriteria criteria, Pageable pageable) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        Optional<Comparator<FlightSnapshot>> comparator = comparatorFor(pageable.getSort());
+        if (comparator.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<FlightSnapshot> matches = matching(criteria)
+                .sorted(comparator.get())
+                .toList();
+
+        return Optional.of(toPage(matches, pageable));
+    }
+
+    public Optional<FlightCursorPage> searchAfter(FlightSearchCriteria criteria, Optional<FlightSearchCursor> cursor,
+                                                  int size) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        List<FlightSimpleResponse> rows = matching(criteria)
+                .filter(snapshot -> cursor.map(c -> c.precedes(snapshot)).orElse(true))
+                .sorted(FlightSearchCursor.ORDER)
+                .limit(size + 1L)
+                .map(FlightMapper::toSimpleResponse)
+                .toList();
+
+        return Optional.of(FlightCursorPage.of(rows, size));
+    }
+
+    private Stream<FlightSnapshot> matching(FlightSearchCriteria criteria) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> origins = resolveAirportCodes(criteria.origin());
+        Set<String> destinations = resolveAirportCodes(criteria.destination());
+
+        return candidates(origins, destinations, criteria.departureDate())
+                .filter(snapshot -> snapshot.isBookableAt(now))
+                .filter(snapshot -> criteria.passengers() == null
+                        || snapshot.availableSeats() >= criteria.passengers())
+                .filter(snapshot -> criteria.maxPrice() == null
+                        || snapshot.price() <= criteria.maxPrice());
+    }
+
+    private Stream<FlightSnapshot> candidates(Set<String> origins, Set<String> destinations, LocalDate day) {
+        if (origins != null && destinations != null && day != null) {
+            return origins.stream()
+                    .flatMap(origin -> destinations.stream().map(destination -> new SearchKey(origin, destination, day)))
+                    .map(flightsByKey::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(bucket -> bucket.values().stream());
+        }
+
+        return flightsByKey.entrySet().stream()
+                .filter(entry -> entry.getKey().matches(origins, destinations, day))
+                .flatMap(entry -> entry.getValue().values().stream());
+    }
+
+    private Set<String> resolveAirportCodes(String term) {
+        if (term == null) {
+            return null;
+        }
+
+        String normalized = term.toUpperCase(Locale.ROOT);
+        Set<String> codes = new HashSet<>(airportCodesByCity.getOrDefault(normalized, Set.of()));
+        codes.add(normalized);
+        return codes;
+    }
+
+    private Optional<Comparator<FlightSnapshot>> comparatorFor(Sort sort) {
+        Comparator<FlightSnapshot> comparator = null;
+
+        for (Sort.Order order : sort) {
+            Comparator<FlightSnapshot> propertyComparator = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (propertyComparator == null) {
+                return Optional.empty();
+            }
+            if (order.isDescending()) {
+                propertyComparator = propertyComparator.reversed();
+            }
+            comparator = comparator == null ? propertyComparator : comparator.thenComparing(propertyComparator);
+        }
+
+        Comparator<FlightSnapshot> byId = SORTABLE_PROPERTIES.get("id");
+        return Optional.of(comparator == null ? byId : comparator.thenComparing(byId));
+    }
+
+    private Page<FlightSimpleResponse> toPage(List<FlightSnapshot> matches, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches.stream().map(FlightMapper::toSimpleResponse).toList(), pageable,
+                    matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<FlightSimpleResponse> content = matches.subList(from, to).stream()
+                .map(FlightMapper::toSimpleResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private void put(FlightSnapshot snapshot) {
+        flightsById.put(snapshot.id(), snapshot);
+        flightsByKey.computeIfAbsent(SearchKey.of(snapshot), key -> new ConcurrentHashMap<>())
+                .put(snapshot.id(), snapshot);
+        registerCity(snapshot.originCity(), snapshot.originCode());
+        registerCity(snapshot.destinationCity(), snapshot.destinationCode());
+    }
+
+    private void remove(Long flightId) {
+        FlightSnapshot previous = flightsById.remove(flightId);
+        if (previous == null) {
+            return;
+        }
+
+        SearchKey key = SearchKey.of(previous);
+        Map<Long, FlightSnapshot> bucket = flightsByKey.get(key);
+        if (bucket != null) {
+            bucket.remove(flightId);
+            if (bucket.isEmpty()) {
+                flightsByKey.remove(key);
+            }
+        }
+    }
+
+    private void registerCity(String city, String code) {
+        if (city == null || code == null) {
+            return;
+        }
+        airportCodesByCity.computeIfAbsent(city.toUpperCase(Locale.ROOT), key -> ConcurrentHashMap.newKeySet())
+                .add(code.toUpperCase(Locale.ROOT));
+    }
+
+    private record SearchKey(String origin, String destination, LocalDate day) {
+
+        static SearchKey of(FlightSnapshot snapshot) {
+            return new SearchKey(
+                    snapshot.originCode() != null ? snapshot.originCode().toUpperCase(Locale.ROOT) : null,
+                    snapshot.destinationCode() != null ? snapshot.destinationCode().toUpperCase(Locale.ROOT) : null,
+                    snapshot.departureTime().toLocalDate());
+        }
+
+        boolean matches(Set<String> origins, Set<String> destinations, LocalDate departureDay) {
+            return (origins == null || origins.contains(origin))
+                    && (destinations == null || destinations.contains(destination))
+                    && (departureDay == null || departureDay.equals(day));
+        }
+    }
+}
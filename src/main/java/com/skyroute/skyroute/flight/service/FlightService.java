@@ -1,5 +1,6 @@
 package com.skyroute.skyroute.flight.service;
 
+import com.skyroute.skyroute.flight.dto.FlightCursorPage;
 import com.skyroute.skyroute.flight.dto.FlightRequest;
 import com.skyroute.skyroute.flight.dto.FlightResponse;
 import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
@@ -32,6 +33,21 @@ public interface FlightService {
             Pageable pageable
     );
 
+    FlightCursorPage searchFlightsAfter(
+            Optional<String> origin,
+            Optional<String> destination,
+            Optional<String> departureDate,
+            Optional<Integer> passengers,
+            Optional<String> cursor,
+            int size);
+
+    FlightCursorPage searchFlightsByBudgetAndCityAfter(
+            Optional<String> origin,
+            Optional<String> destination,
+            Optional<Double> budget,
+            Optional<String> cursor,
+            int size);
+
     Page<FlightResponse> getFlightsPage(Pageable pageable);
 
     FlightResponse createFlight(FlightRequest request);
@@ -48,7 +64,7 @@ public interface FlightService {
 
     Flight findById(Long id);
 
-    void bookSeats(Long flightId, int bookedSeats);
+    Flight bookSeats(Long flightId, int bookedSeats);
 
     void releaseSeats(Long flightId, int seatsToRelease);
 
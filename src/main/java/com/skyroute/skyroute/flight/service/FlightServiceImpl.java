@@ -4,15 +4,25 @@ import com.skyroute.skyroute.aircraft.entity.Aircraft;
 import com.skyroute.skyroute.aircraft.service.AircraftService;
 import com.skyroute.skyroute.flight.dto.*;
 import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
 import com.skyroute.skyroute.flight.helper.FlightHelper;
+import com.skyroute.skyroute.flight.inventory.SeatInventory;
+import com.skyroute.skyroute.flight.pricing.MinPriceCache;
 import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchCriteria;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
+import com.skyroute.skyroute.flight.search.FlightSearchIndex;
 import com.skyroute.skyroute.flight.specification.FlightSpecification;
 import com.skyroute.skyroute.flight.specification.FlightSpecificationBuilder;
 import com.skyroute.skyroute.flight.validation.FlightValidator;
 import com.skyroute.skyroute.route.entity.Route;
 import com.skyroute.skyroute.route.service.RouteService;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidBookingOperationException;
+import com.skyroute.skyroute.shared.exception.custom_exception.NotEnoughSeatsException;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -32,6 +42,10 @@ public class FlightServiceImpl implements FlightService {
     private final RouteService routeService;
     private final FlightValidator flightValidator;
     private final FlightHelper flightHelper;
+    private final FlightSearchIndex flightSearchIndex;
+    private final MinPriceCache minPriceCache;
+    private final SeatInventory seatInventory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,23 +55,28 @@ public class FlightServiceImpl implements FlightService {
             Optional<String> departureDate,
             Optional<Integer> passengers,
             Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        Specification<Flight> specification = FlightSpecificationBuilder.builder()
-                .originEquals(origin)
-                .destinationEquals(destination)
-                .departureDateEquals(departureDate)
-                .passengersAvailable(passengers)
-                .onlyAvailable(Optional.of(LocalDateTime.now()), true)
-                .build();
-
-        return flightRepository.findAll(specification, pageable)
-                .map(FlightMapper::toSimpleResponse);
+        FlightSearchCriteria criteria = FlightSearchCriteria.of(origin, destination, departureDate, passengers,
+                Optional.empty());
+
+        return flightSearchIndex.search(criteria, pageable)
+                .orElseGet(() -> {
+                    Specification<Flight> specification = FlightSpecificationBuilder.builder()
+                            .originEquals(origin)
+                            .destinationEquals(destination)
+                            .departureDateEquals(departureDate)
+                            .passengersAvailable(passengers)
+                            .onlyAvailable(Optional.of(LocalDateTime.now()), true)
+                            .build();
+
+                    return flightRepository.findSimpleResponses(specification, pageable);
+                });
     }
 
     @Override
     @Transactional(readOnly = true)
     public FlightSimpleResponse getFlightSimpleById(Long id) {
-        return FlightMapper.toSimpleResponse(findById(id));
+        return flightRepository.findSimpleById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Flight with id: " + id + " not found"));
     }
 
     @Override
@@ -67,16 +86,66 @@ public class FlightServiceImpl implements FlightService {
             Optional<String> destination,
             Optional<Double> budget,
             Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
+        FlightSearchCriteria criteria = FlightSearchCriteria.of(origin, destination, Optional.empty(),
+                Optional.empty(), budget);
+
+        return flightSearchIndex.search(criteria, pageable)
+                .orElseGet(() -> {
+                    Specification<Flight> specification = FlightSpecificationBuilder.builder()
+                            .originEquals(origin)
+                            .destinationEquals(destination)
+                            .pricelessThanOrEqual(budget)
+                            .onlyAvailable(Optional.of(LocalDateTime.now()), true)
+                            .build();
+
+                    return flightRepository.findSimpleResponses(specification, pageable);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FlightCursorPage searchFlightsAfter(
+            Optional<String> origin,
+            Optional<String> destination,
+            Optional<String> departureDate,
+            Optional<Integer> passengers,
+            Optional<String> cursor,
+            int size) {
+        FlightSearchCriteria criteria = FlightSearchCriteria.of(origin, destination, departureDate, passengers,
+                Optional.empty());
+        Optional<FlightSearchCursor> after = decodeCursor(cursor);
+
+        return flightSearchIndex.searchAfter(criteria, after, size)
+                .orElseGet(() -> findSliceAfter(FlightSpecificationBuilder.builder()
+                        .originEquals(origin)
+                        .destinationEquals(destination)
+                        .departureDateEquals(departureDate)
+                        .passengersAvailable(passengers)
+                        .onlyAvailable(Optional.of(LocalDateTime.now()), true)
+                        .after(after)
+                        .build(), size));
+    }
 
-        Specification<Flight> specification = FlightSpecificationBuilder.builder()
-                .originEquals(origin)
-                .destinationEquals(destination)
-                .pricelessThanOrEqual(budget)
-                .onlyAvailable(Optional.of(now), true)
-                .build();
-        return flightRepository.findAll(specification, pageable)
-                .map(FlightMapper::toSimpleResponse);
+    @Override
+    @Transactional(readOnly = true)
+    public FlightCursorPage searchFlightsByBudgetAndCityAfter(
+            Optional<String> origin,
+            Optional<String> destination,
+            Optional<Double> budget,
+            Optional<String> cursor,
+            int size) {
+        FlightSearchCriteria criteria = FlightSearchCriteria.of(origin, destination, Optional.empty(),
+                Optional.empty(), budget);
+        Optional<FlightSearchCursor> after = decodeCursor(cursor);
+
+        return flightSearchIndex.searchAfter(criteria, after, size)
+                .orElseGet(() -> findSliceAfter(FlightSpecificationBuilder.builder()
+                        .originEquals(origin)
+                        .destinationEquals(destination)
+                        .pricelessThanOrEqual(budget)
+                        .onlyAvailable(Optional.of(LocalDateTime.now()), true)
+                        .after(after)
+                        .build(), size));
     }
 
     @Override
@@ -99,8 +168,10 @@ public class FlightServiceImpl implements FlightService {
                 request.arrivalTime());
 
         Flight flight = flightHelper.buildFlightFromRequest(request, aircraft, route);
+        Flight savedFlight = flightRepository.save(flight);
+        publishFlightChanged(savedFlight);
 
-        return FlightMapper.toResponse(flightRepository.save(flight));
+        return FlightMapper.toResponse(savedFlight);
     }
 
     @Override
@@ -110,8 +181,12 @@ public class FlightServiceImpl implements FlightService {
         Aircraft aircraft = flightHelper.resolveAircraftForUpdate(request.aircraftId());
 
         validateFlightUpdate(flight, aircraft, request);
+        FlightSnapshot previous = FlightMapper.toSnapshot(flight);
         flightHelper.applyFlightUpdates(flight, request, aircraft);
-        return FlightMapper.toResponse(flightRepository.save(flight));
+        Flight savedFlight = flightRepository.save(flight);
+        flightRepository.flush();
+        eventPublisher.publishEvent(FlightChangedEvent.updated(previous, FlightMapper.toSnapshot(savedFlight)));
+        return FlightMapper.toResponse(savedFlight);
     }
 
     @Override
@@ -123,7 +198,9 @@ public class FlightServiceImpl implements FlightService {
     @Override
     @Transactional
     public void deleteFlight(Long id) {
-        flightRepository.delete(findById(id));
+        Flight flight = findById(id);
+        flightRepository.delete(flight);
+        eventPublisher.publishEvent(FlightChangedEvent.deleted(FlightMapper.toSnapshot(flight)));
     }
 
     @Override
@@ -147,39 +224,55 @@ public class FlightServiceImpl implements FlightService {
 
     @Override
     @Transactional
-    public void bookSeats(Long flightId, int bookedSeats) {
-        Flight flight = findById(flightId);
+    public Flight bookSeats(Long flightId, int bookedSeats) {
+        flightValidator.validateSeatsRequested(bookedSeats);
+        if (seatInventory.reserve(flightId, bookedSeats)) {
+            return findById(flightId);
+        }
 
-        flightValidator.validateSeatsToBook(flight, bookedSeats);
+        int reserved = flightRepository.reserveSeats(flightId, bookedSeats, LocalDateTime.now());
+        Flight flight = findById(flightId);
+        if (reserved == 0) {
+            throw seatReservationFailure(flight, bookedSeats);
+        }
 
-        flight.setAvailableSeats(flight.getAvailableSeats() - bookedSeats);
-        flightRepository.save(flight);
+        publishFlightChanged(flight);
+        return flight;
     }
 
     @Override
     @Transactional
     public void releaseSeats(Long flightId, int seatsToRelease) {
         flightValidator.validateSeatsToRelease(seatsToRelease);
-
-        Flight flight = findById(flightId);
-        flight.setAvailableSeats(flight.getAvailableSeats() + seatsToRelease);
-
-        if (flight.getAvailableSeats() > 0 &&
-                flight.getDepartureTime().isAfter(LocalDateTime.now())) {
-            flight.setAvailable(true);
+        if (seatInventory.release(flightId, seatsToRelease)) {
+            return;
         }
-        flightRepository.save(flight);
+
+        flightRepository.releaseSeats(flightId, seatsToRelease, LocalDateTime.now());
+        publishFlightChanged(findById(flightId));
     }
 
     @Override
     public List<MinPriceResponse> getMinPricesByDestinations(List<String> destinationCodes) {
-        return flightRepository.findMinPricesByDestinations(destinationCodes)
-                .stream()
-                .map(result -> new MinPriceResponse(
-                        (String) result[0],
-                        (String) result[1],
-                        (Double) result[2]))
-                .toList();
+        return minPriceCache.lookup(destinationCodes)
+                .orElseGet(() -> flightRepository.findMinPricesByDestinations(destinationCodes)
+                        .stream()
+                        .map(result -> new MinPriceResponse(
+                                (String) result[0],
+                                (String) result[1],
+                                (Double) result[2]))
+                        .toList());
+    }
+
+    private Optional<FlightSearchCursor> decodeCursor(Optional<String> cursor) {
+        return cursor.filter(value -> !value.isBlank()).map(FlightSearchCursor::decode);
+    }
+
+    private FlightCursorPage findSliceAfter(Specification<Flight> specification, int size) {
+        List<FlightSimpleResponse> rows = flightRepository.findSimpleResponses(specification, FlightSearchCursor.SORT,
+                size + 1);
+
+        return FlightCursorPage.of(rows, size);
     }
 
     private void validateFlightUpdate(Flight flight, Aircraft aircraft, FlightUpdate request) {
@@ -192,6 +285,7 @@ public class FlightServiceImpl implements FlightService {
     }
 
     @Override
+    @Transactional
     public int markFlightsAsUnavailableAndReleaseSeats(LocalDateTime now) {
         Specification<Flight> spec = FlightSpecification.hasDepartedBefore(now);
         List<Flight> flightsToUpdate = flightRepository.findAll(spec);
@@ -202,6 +296,7 @@ public class FlightServiceImpl implements FlightService {
         });
 
         flightRepository.saveAll(flightsToUpdate);
+        flightsToUpdate.forEach(this::publishFlightChanged);
 
         return flightsToUpdate.size();
     }
@@ -212,6 +307,7 @@ public class FlightServiceImpl implements FlightService {
         Flight flight = findById(id);
         flight.setAvailable(request.available());
         Flight savedFlight = flightRepository.save(flight);
+        publishFlightChanged(savedFlight);
         return FlightMapper.toResponse(savedFlight);
     }
 
@@ -223,6 +319,24 @@ public class FlightServiceImpl implements FlightService {
         if (flight.getAvailableSeats() <= 0 || flight.getDepartureTime().isBefore(now)) {
             flight.setAvailable(false);
             flightRepository.save(flight);
+            publishFlightChanged(flight);
+        }
+    }
+
+    private RuntimeException seatReservationFailure(Flight flight, int seatsRequested) {
+        if (!flight.isAvailable() || !flight.getDepartureTime().isAfter(LocalDateTime.now())) {
+            return new InvalidBookingOperationException("Flight not available for booking");
+        }
+        if (seatInventory.isLeasedElsewhere(flight.getId())) {
+            return new SeatInventoryUnavailableException(
+                    "Seat inventory for flight " + flight.getId() + " is managed by another instance, please retry");
         }
+        return new NotEnoughSeatsException("Not enough seats available. Requested: " + seatsRequested
+                + ". Available: " + flight.getAvailableSeats());
+    }
+
+    private void publishFlightChanged(Flight flight) {
+        flightRepository.flush();
+        eventPublisher.publishEvent(FlightChangedEvent.updated(FlightMapper.toSnapshot(flight)));
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.skyroute.skyroute.flight.specification;
 
 import com.skyroute.skyroute.flight.entity.Flight;
-import jakarta.persistence.criteria.Expression;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
@@ -71,20 +71,11 @@ public class FlightSpecification {
         return (root, query, criteriaBuilder) -> {
             Path<LocalDateTime> departureTime = root.get("departureTime");
 
-            Expression<String> departureDateStr = criteriaBuilder.function(
-                    "FORMATDATETIME",
-                    String.class,
-                    departureTime,
-                    criteriaBuilder.literal("yyyy-MM-dd")
-            );
-
-            String searchDateStr = date.toString();
-
             Predicate isAvailable = criteriaBuilder.isTrue(root.get("available"));
-            Predicate dateMatches = criteriaBuilder.equal(departureDateStr, searchDateStr);
-            Predicate timeIsValid = criteriaBuilder.greaterThanOrEqualTo(departureTime, searchStart);
+            Predicate departsFromStart = criteriaBuilder.greaterThanOrEqualTo(departureTime, searchStart);
+            Predicate departsBeforeEnd = criteriaBuilder.lessThan(departureTime, searchEnd);
 
-            return criteriaBuilder.and(isAvailable, dateMatches, timeIsValid);
+            return criteriaBuilder.and(isAvailable, departsFromStart, departsBeforeEnd);
         };
     }
 
@@ -112,6 +103,23 @@ public class FlightSpecification {
                         criteriaBuilder.lessThanOrEqualTo(root.get("price"), maxPrice);
     }
 
+    public static Specification<Flight> isAfterCursor(FlightSearchCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Path<LocalDateTime> departureTime = root.get("departureTime");
+            Path<Double> price = root.get("price");
+
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(departureTime, cursor.departureTime()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(departureTime, cursor.departureTime()),
+                            criteriaBuilder.greaterThan(price, cursor.price())),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(departureTime, cursor.departureTime()),
+                            criteriaBuilder.equal(price, cursor.price()),
+                            criteriaBuilder.greaterThan(root.get("id"), cursor.id())));
+        };
+    }
+
     public static Specification<Flight> hasDepartedBefore(LocalDateTime now) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.and(
@@ -1,6 +1,7 @@
 package com.skyroute.skyroute.flight.specification;
 
 import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -49,6 +50,11 @@ public class FlightSpecificationBuilder {
         return this;
     }
 
+    public FlightSpecificationBuilder after(Optional<FlightSearchCursor> cursor) {
+        cursor.ifPresent(c -> specification = specification.and(FlightSpecification.isAfterCursor(c)));
+        return this;
+    }
+
     public Specification<Flight> build() {
         return this.specification;
     }
@@ -59,9 +59,7 @@ public class FlightValidator {
     }
 
     public void validateSeatsToBook(Flight flight, int seatsRequested){
-        if (seatsRequested <= 0){
-            throw new BusinessException("Seats requested must be greater than 0");
-        }
+        validateSeatsRequested(seatsRequested);
 
         if (seatsRequested > flight.getAvailableSeats()){
             throw new BusinessException("Not enough seats available. requested: " + seatsRequested
@@ -69,6 +67,12 @@ public class FlightValidator {
         }
     }
 
+    public void validateSeatsRequested(int seatsRequested){
+        if (seatsRequested <= 0){
+            throw new BusinessException("Seats requested must be greater than 0");
+        }
+    }
+
     public void validateSeatsToRelease(int seatsToRelease){
         if (seatsToRelease <= 0){
             throw new BusinessException("Seats to release must be positive");
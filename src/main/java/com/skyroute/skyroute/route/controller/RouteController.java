@@ -3,6 +3,7 @@ package com.skyroute.skyroute.route.controller;
 import com.skyroute.skyroute.route.dto.RouteRequest;
 import com.skyroute.skyroute.route.dto.RouteResponse;
 import com.skyroute.skyroute.route.service.RouteService;
+import com.skyroute.skyroute.shared.catalog.CatalogVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -19,6 +21,7 @@ import java.util.List;
 @Tag(name = "Route", description = "Route management APIs")
 public class RouteController {
     private final RouteService routeService;
+    private final CatalogVersions catalogVersions;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,8 +33,8 @@ public class RouteController {
 
     @GetMapping
     @Operation(summary = "List all Routes", description = "Retrieve a List of all registered routes")
-    public ResponseEntity<List<RouteResponse>> getAllRoute(){
-        return ResponseEntity.ok(routeService.getAllRoutes());
+    public ResponseEntity<List<RouteResponse>> getAllRoute(WebRequest request){
+        return catalogVersions.routes().respond(request, routeService::getAllRoutes);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,4 @@
+package com.skyroute.skyroute.route.event;
+
+public record RouteChangedEvent(Long routeId) {
+}
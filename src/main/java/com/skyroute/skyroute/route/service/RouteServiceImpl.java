@@ -6,11 +6,13 @@ import com.skyroute.skyroute.route.dto.RouteMapper;
 import com.skyroute.skyroute.route.dto.RouteRequest;
 import com.skyroute.skyroute.route.dto.RouteResponse;
 import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
 import com.skyroute.skyroute.route.repository.RouteRepository;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
 import com.skyroute.skyroute.shared.exception.custom_exception.InvalidRouteException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.List;
 public class RouteServiceImpl implements RouteService {
     private final RouteRepository routeRepository;
     private final AirportService airportService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -33,6 +36,7 @@ public class RouteServiceImpl implements RouteService {
 
         Route route = RouteMapper.toEntity(request, origin, destination);
         Route savedRoute = routeRepository.save(route);
+        eventPublisher.publishEvent(new RouteChangedEvent(savedRoute.getId()));
 
         return RouteMapper.toDto(savedRoute);
     }
@@ -66,6 +70,7 @@ public class RouteServiceImpl implements RouteService {
         existingRoute.setDestination(destination);
 
         Route updatedRoute = routeRepository.save(existingRoute);
+        eventPublisher.publishEvent(new RouteChangedEvent(updatedRoute.getId()));
         return RouteMapper.toDto(updatedRoute);
     }
 
@@ -73,6 +78,7 @@ public class RouteServiceImpl implements RouteService {
     public void deleteRoute(Long id) {
         Route route = findRouteById(id);
         routeRepository.delete(route);
+        eventPublisher.publishEvent(new RouteChangedEvent(route.getId()));
     }
 
     private void validateUniqueRouteFromUpdate(Long routeId, Long originId, Long destinationId){
@@ -0,0 +1,40 @@
+package com.skyroute.skyroute.security.details;
+
+import com.skyroute.skyroute.user.entity.UserIdentity;
+import com.skyroute.skyroute.user.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+public record AuthenticatedUser(Long id, String email, Role role, long securityStamp) implements UserDetails, UserIdentity {
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role.name())
+        );
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -3,14 +3,17 @@ package com.skyroute.skyroute.security.details;
 import com.skyroute.skyroute.user.entity.User;
 import com.skyroute.skyroute.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -20,4 +23,16 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         return new CustomUserDetails(user);
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        if (!(userDetails instanceof CustomUserDetails customUserDetails)) {
+            return userDetails;
+        }
+        User user = customUserDetails.user();
+        userRepository.updatePassword(user.getId(), newPassword);
+        user.setPassword(newPassword);
+        log.debug("Rehashed password of user {} with the configured BCrypt cost", user.getId());
+        return customUserDetails;
+    }
 }
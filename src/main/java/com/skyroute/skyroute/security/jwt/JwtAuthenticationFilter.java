@@ -1,6 +1,9 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
 import com.skyroute.skyroute.security.details.CustomUserDetailsService;
+import com.skyroute.skyroute.user.enums.Role;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final SecurityStampService securityStampService;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
@@ -44,17 +48,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String username = jwtUtil.extractUsername(jwt);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                jwtUtil.verify(jwt).ifPresent(claims -> authenticate(claims, request));
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e);
@@ -62,4 +57,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(Claims claims, HttpServletRequest request) {
+        UserDetails userDetails = claims.get(JwtUtil.USER_ID_CLAIM) != null
+                ? authenticatedUser(claims)
+                : loadUser(claims.getSubject());
+        if (userDetails != null) {
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+    }
+
+    private AuthenticatedUser authenticatedUser(Claims claims) {
+        AuthenticatedUser user = new AuthenticatedUser(
+                claims.get(JwtUtil.USER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                Role.valueOf(claims.get(JwtUtil.ROLE_CLAIM, String.class)),
+                claims.get(JwtUtil.SECURITY_STAMP_CLAIM, Long.class));
+        return securityStampService.isCurrent(user.id(), user.securityStamp()) ? user : null;
+    }
+
+    private UserDetails loadUser(String username) {
+        if (username == null) {
+            return null;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        return username.equals(userDetails.getUsername()) ? userDetails : null;
+    }
 }
@@ -1,6 +1,11 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
+import com.skyroute.skyroute.security.details.CustomUserDetails;
+import com.skyroute.skyroute.user.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,22 +16,42 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.expiration}")
-    private Long expiration;
-
-    @Value("${jwt.refresh-expiration}")
-    private Long refreshExpiration;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String SECURITY_STAMP_CLAIM = "stamp";
+
+    private final Long expiration;
+    private final Long refreshExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.refresh-expiration}") Long refreshExpiration,
+                   @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries) {
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheMaxEntries);
+    }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     public String extractUsername(String token) {
@@ -43,48 +68,63 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims, claims.getExpiration().getTime(), now);
+        }
+        return claims;
     }
 
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
+        Map<String, Object> claims = identityClaims(userDetails);
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
+        Map<String, Object> claims = identityClaims(userDetails);
         claims.put("type", "refresh");
         return createToken(claims, userDetails.getUsername(), refreshExpiration);
     }
 
+    private Map<String, Object> identityClaims(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserDetails(User user)) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().name());
+            claims.put(SECURITY_STAMP_CLAIM, user.getSecurityStamp());
+        } else if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(USER_ID_CLAIM, user.id());
+            claims.put(ROLE_CLAIM, user.role().name());
+            claims.put(SECURITY_STAMP_CLAIM, user.securityStamp());
+        }
+        return claims;
+    }
+
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        if (token == null || token.trim().isEmpty()) {
-            return false;
-        }
+        return verify(token)
+                .map(claims -> userDetails.getUsername().equals(claims.getSubject()) && isCurrent(claims, userDetails))
+                .orElse(false);
+    }
 
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (Exception e) {
-            return false;
-        }
+    private boolean isCurrent(Claims claims, UserDetails userDetails) {
+        Long securityStamp = claims.get(SECURITY_STAMP_CLAIM, Long.class);
+        return securityStamp == null
+                || !(userDetails instanceof CustomUserDetails(User user))
+                || securityStamp >= user.getSecurityStamp();
     }
 }
@@ -0,0 +1,11 @@
+package com.skyroute.skyroute.security.jwt;
+
+import java.time.LocalDateTime;
+
+public record SecurityStamp(Long userId, long securityStamp, LocalDateTime expiresAt) {
+
+    SecurityStamp merge(SecurityStamp other) {
+        return new SecurityStamp(userId, Math.max(securityStamp, other.securityStamp),
+                expiresAt.isAfter(other.expiresAt) ? expiresAt : other.expiresAt);
+    }
+}
@@ -0,0 +1,28 @@
+package com.skyroute.skyroute.security.jwt;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "security_stamp_changes")
+@Entity
+public class SecurityStampChange {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long securityStamp;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
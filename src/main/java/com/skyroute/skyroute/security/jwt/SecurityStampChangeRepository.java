@@ -0,0 +1,27 @@
+package com.skyroute.skyroute.security.jwt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SecurityStampChangeRepository extends JpaRepository<SecurityStampChange, Long> {
+
+    @Query("""
+            SELECT new com.skyroute.skyroute.security.jwt.SecurityStamp(c.userId, c.securityStamp, c.expiresAt)
+            FROM SecurityStampChange c
+            WHERE c.changedAt >= :since AND c.expiresAt > :now
+            """)
+    List<SecurityStamp> findChangedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SecurityStampChange c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,4 @@
+package com.skyroute.skyroute.security.jwt;
+
+public record SecurityStampChangedEvent(Long userId, long securityStamp) {
+}
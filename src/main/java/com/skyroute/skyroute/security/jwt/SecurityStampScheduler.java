@@ -0,0 +1,34 @@
+package com.skyroute.skyroute.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SecurityStampScheduler {
+
+    private final SecurityStampService securityStampService;
+
+    @Scheduled(fixedDelayString = "${app.security.stamp.sync-interval:2s}")
+    public void syncSecurityStamps() {
+        try {
+            securityStampService.sync();
+        } catch (Exception e) {
+            log.error("Error syncing security stamps", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.stamp.purge-interval:5m}")
+    public void purgeExpiredSecurityStamps() {
+        try {
+            securityStampService.purgeExpired();
+        } catch (Exception e) {
+            log.error("Error purging expired security stamps", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.skyroute.skyroute.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class SecurityStampService {
+
+    public static final long REVOKED = Long.MAX_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SecurityStampChangeRepository repository;
+    private final Duration accessTokenLifetime;
+    private final Duration syncOverlap;
+    private final Map<Long, SecurityStamp> stamps = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedUntil = EPOCH;
+
+    public SecurityStampService(SecurityStampChangeRepository repository,
+                                @Value("${jwt.expiration}") long accessTokenExpiration,
+                                @Value("${app.security.stamp.sync-overlap:5s}") Duration syncOverlap) {
+        this.repository = repository;
+        this.accessTokenLifetime = Duration.ofMillis(accessTokenExpiration);
+        this.syncOverlap = syncOverlap;
+    }
+
+    public boolean isCurrent(Long userId, long securityStamp) {
+        SecurityStamp current = stamps.get(userId);
+        return current == null || securityStamp >= current.securityStamp();
+    }
+
+    public void update(SecurityStamp stamp) {
+        stamps.merge(stamp.userId(), stamp, SecurityStamp::merge);
+    }
+
+    @EventListener
+    @Transactional
+    public void record(SecurityStampChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        SecurityStampChange change = repository.findById(event.userId())
+                .orElseGet(() -> SecurityStampChange.builder().userId(event.userId()).build());
+        change.setSecurityStamp(Math.max(change.getSecurityStamp(), event.securityStamp()));
+        change.setChangedAt(now);
+        change.setExpiresAt(now.plus(accessTokenLifetime));
+        repository.save(change);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSecurityStampChanged(SecurityStampChangedEvent event) {
+        update(new SecurityStamp(event.userId(), event.securityStamp(), LocalDateTime.now().plus(accessTokenLifetime)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = syncedUntil.equals(EPOCH) ? EPOCH : syncedUntil.minus(syncOverlap);
+        List<SecurityStamp> changed = repository.findChangedSince(since, now);
+        changed.forEach(this::update);
+        syncedUntil = now;
+        return changed.size();
+    }
+
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = repository.deleteExpired(now);
+        stamps.values().removeIf(stamp -> stamp.expiresAt().isBefore(now));
+        if (purged > 0) {
+            log.debug("Purged {} expired security stamp changes", purged);
+        }
+        return purged;
+    }
+}
@@ -1,28 +1,106 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.revocation.RevocationStore;
+import com.skyroute.skyroute.security.revocation.RevokedTokenEntry;
+import com.skyroute.skyroute.security.revocation.RevokedTokenIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
+@Slf4j
 @Service
 public class TokenBlacklistService {
 
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevocationStore store;
+    private final JwtUtil jwtUtil;
+    private final Duration defaultTtl;
+    private final Duration syncOverlap;
+    private final RevokedTokenIndex index;
+    private volatile LocalDateTime syncedUntil = EPOCH;
+
+    public TokenBlacklistService(RevocationStore store,
+                                 JwtUtil jwtUtil,
+                                 @Value("${jwt.refresh-expiration}") long refreshExpiration,
+                                 @Value("${app.security.revocation.bucket-width:1h}") Duration bucketWidth,
+                                 @Value("${app.security.revocation.expected-per-bucket:10000}") int expectedPerBucket,
+                                 @Value("${app.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${app.security.revocation.sync-overlap:5s}") Duration syncOverlap) {
+        this.store = store;
+        this.jwtUtil = jwtUtil;
+        this.defaultTtl = Duration.ofMillis(refreshExpiration);
+        this.syncOverlap = syncOverlap;
+        this.index = new RevokedTokenIndex(bucketWidth, expectedPerBucket, falsePositiveRate);
+    }
 
     public void addToBlacklist(String token) {
-        blacklistedTokens.add(token);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = jwtUtil.verify(token)
+                .map(claims -> LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))
+                .orElse(now.plus(defaultTtl));
+        String tokenId = tokenId(token);
+        store.revoke(tokenId, expiresAt);
+        index.add(tokenId, expiresAt);
     }
 
     public boolean isBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        String tokenId = tokenId(token);
+        LocalDateTime now = LocalDateTime.now();
+        return index.mightContain(tokenId, now) && store.isRevoked(tokenId, now);
+    }
+
+    public boolean isRevoked(String token) {
+        return store.isRevoked(tokenId(token), LocalDateTime.now());
     }
 
     public void removeFromBlacklist(String token) {
-        blacklistedTokens.remove(token);
+        store.remove(tokenId(token));
     }
 
     public void clearBlacklist() {
-        blacklistedTokens.clear();
+        store.clear();
+        index.clear();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = syncedUntil.equals(EPOCH) ? EPOCH : syncedUntil.minus(syncOverlap);
+        List<RevokedTokenEntry> revoked = store.revokedSince(since, now);
+        revoked.forEach(entry -> index.add(entry.tokenId(), entry.expiresAt()));
+        syncedUntil = now;
+        return revoked.size();
+    }
+
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = store.purgeExpired(now);
+        int buckets = index.expire(now);
+        if (purged > 0 || buckets > 0) {
+            log.debug("Purged {} expired revoked tokens and {} filter buckets", purged, buckets);
+        }
+        return purged;
+    }
+
+    static String tokenId(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,59 @@
+package com.skyroute.skyroute.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    Claims get(String token, long nowMillis) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= nowMillis) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String token, Claims claims, long expiresAt, long nowMillis) {
+        if (maxEntries <= 0 || expiresAt <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(token, new Entry(claims, expiresAt));
+    }
+
+    void invalidate(String token) {
+        entries.remove(token);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= nowMillis);
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<String> tokens = entries.keySet().iterator();
+        while (entries.size() > target && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.skyroute.skyroute.security.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${app.security.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${app.security.password.threads:0}") int threads,
+                                                  @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${app.security.password.max-queue-wait:2s}") Duration maxQueueWait) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, maxQueueWait, meterRegistry);
+    }
+}
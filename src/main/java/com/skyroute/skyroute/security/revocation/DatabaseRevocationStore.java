@@ -0,0 +1,55 @@
+package com.skyroute.skyroute.security.revocation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.revocation.store", havingValue = "database")
+public class DatabaseRevocationStore implements RevocationStore {
+
+    private final RevokedTokenRepository repository;
+
+    @Override
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            repository.insert(tokenId, expiresAt, now);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Token {} is already revoked", tokenId);
+            repository.extend(tokenId, expiresAt, now);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, LocalDateTime now) {
+        return repository.existsByTokenIdAndExpiresAtAfter(tokenId, now);
+    }
+
+    @Override
+    public void remove(String tokenId) {
+        repository.deleteById(tokenId);
+    }
+
+    @Override
+    public void clear() {
+        repository.deleteAllInBatch();
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        return repository.deleteExpired(now);
+    }
+
+    @Override
+    public List<RevokedTokenEntry> revokedSince(LocalDateTime since, LocalDateTime now) {
+        return repository.findRevokedSince(since, now);
+    }
+}
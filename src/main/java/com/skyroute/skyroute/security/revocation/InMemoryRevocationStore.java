@@ -0,0 +1,75 @@
+package com.skyroute.skyroute.security.revocation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+@ConditionalOnProperty(name = "app.security.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRevocationStore implements RevocationStore {
+
+    private final long bucketMillis;
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> expiring = new ConcurrentSkipListMap<>();
+
+    public InMemoryRevocationStore(@Value("${app.security.revocation.bucket-width:1h}") Duration bucketWidth) {
+        this.bucketMillis = bucketWidth.toMillis();
+    }
+
+    @Override
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        revoked.merge(tokenId, expiresAt, (current, next) -> next.isAfter(current) ? next : current);
+        expiring.computeIfAbsent(RevokedTokenIndex.bucketOf(expiresAt, bucketMillis), bucket -> ConcurrentHashMap.newKeySet())
+                .add(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, LocalDateTime now) {
+        LocalDateTime expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(now);
+    }
+
+    @Override
+    public void remove(String tokenId) {
+        revoked.remove(tokenId);
+    }
+
+    @Override
+    public void clear() {
+        revoked.clear();
+        expiring.clear();
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        long currentBucket = RevokedTokenIndex.bucketOf(now, bucketMillis);
+        int purged = 0;
+        Map.Entry<Long, Set<String>> oldest;
+        while ((oldest = expiring.firstEntry()) != null && oldest.getKey() < currentBucket) {
+            expiring.remove(oldest.getKey());
+            for (String tokenId : oldest.getValue()) {
+                if (revoked.computeIfPresent(tokenId, (id, expiresAt) -> expiresAt.isAfter(now) ? expiresAt : null) == null) {
+                    purged++;
+                }
+            }
+        }
+        return purged;
+    }
+
+    @Override
+    public List<RevokedTokenEntry> revokedSince(LocalDateTime since, LocalDateTime now) {
+        return List.of();
+    }
+
+    int size() {
+        return revoked.size();
+    }
+}
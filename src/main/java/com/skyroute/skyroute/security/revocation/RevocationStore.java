@@ -0,0 +1,19 @@
+package com.skyroute.skyroute.security.revocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevocationStore {
+
+    void revoke(String tokenId, LocalDateTime expiresAt);
+
+    boolean isRevoked(String tokenId, LocalDateTime now);
+
+    void remove(String tokenId);
+
+    void clear();
+
+    int purgeExpired(LocalDateTime now);
+
+    List<RevokedTokenEntry> revokedSince(LocalDateTime since, LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.skyroute.skyroute.security.revocation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "revoked_tokens")
+@Entity
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", length = 32)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+}
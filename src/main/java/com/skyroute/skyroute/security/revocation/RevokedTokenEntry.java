@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.security.revocation;
+
+import java.time.LocalDateTime;
+
+public record RevokedTokenEntry(String tokenId, LocalDateTime expiresAt) {
+}
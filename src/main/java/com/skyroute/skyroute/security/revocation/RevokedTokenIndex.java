@@ -0,0 +1,56 @@
+package com.skyroute.skyroute.security.revocation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class RevokedTokenIndex {
+
+    private final long bucketMillis;
+    private final int expectedPerBucket;
+    private final double falsePositiveRate;
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    public RevokedTokenIndex(Duration bucketWidth, int expectedPerBucket, double falsePositiveRate) {
+        this.bucketMillis = bucketWidth.toMillis();
+        this.expectedPerBucket = expectedPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public void add(String tokenId, LocalDateTime expiresAt) {
+        buckets.computeIfAbsent(bucketOf(expiresAt, bucketMillis),
+                        bucket -> new BloomFilter(expectedPerBucket, falsePositiveRate))
+                .add(BloomFilter.hash(tokenId));
+    }
+
+    public boolean mightContain(String tokenId, LocalDateTime now) {
+        long hash = BloomFilter.hash(tokenId);
+        for (BloomFilter filter : buckets.tailMap(bucketOf(now, bucketMillis), true).values()) {
+            if (filter.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int expire(LocalDateTime now) {
+        ConcurrentNavigableMap<Long, BloomFilter> expired = buckets.headMap(bucketOf(now, bucketMillis), false);
+        int dropped = expired.size();
+        expired.clear();
+        return dropped;
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    public int buckets() {
+        return buckets.size();
+    }
+
+    static long bucketOf(LocalDateTime time, long bucketMillis) {
+        return Math.floorDiv(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), bucketMillis);
+    }
+}
@@ -0,0 +1,48 @@
+package com.skyroute.skyroute.security.revocation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO revoked_tokens (token_id, expires_at, revoked_at)
+            VALUES (:tokenId, :expiresAt, :revokedAt)
+            """)
+    void insert(@Param("tokenId") String tokenId, @Param("expiresAt") LocalDateTime expiresAt,
+                @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE RevokedToken r
+            SET r.expiresAt = :expiresAt, r.revokedAt = :revokedAt
+            WHERE r.tokenId = :tokenId AND r.expiresAt < :expiresAt
+            """)
+    int extend(@Param("tokenId") String tokenId, @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("revokedAt") LocalDateTime revokedAt);
+
+    boolean existsByTokenIdAndExpiresAtAfter(String tokenId, LocalDateTime now);
+
+    @Query("""
+            SELECT new com.skyroute.skyroute.security.revocation.RevokedTokenEntry(r.tokenId, r.expiresAt)
+            FROM RevokedToken r
+            WHERE r.revokedAt >= :since AND r.expiresAt > :now
+            """)
+    List<RevokedTokenEntry> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,35 @@
+package com.skyroute.skyroute.security.revocation;
+
+import com.skyroute.skyroute.security.jwt.TokenBlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRevocationScheduler {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.sync-interval:2s}")
+    public void syncRevokedTokens() {
+        try {
+            tokenBlacklistService.sync();
+        } catch (Exception e) {
+            log.error("Error syncing revoked tokens", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.purge-interval:5m}")
+    public void purgeExpiredTokens() {
+        try {
+            tokenBlacklistService.purgeExpired();
+        } catch (Exception e) {
+            log.error("Error purging expired revoked tokens", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "catalog_revisions")
+@Entity
+public class CatalogRevision {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,19 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CatalogRevision r SET r.revision = r.revision + 1, r.changedAt = :now WHERE r.name = :name")
+    int bump(@Param("name") String name, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+public record CatalogVersion(String eTag, Instant lastModified, Duration maxAge) {
+
+    public <T> ResponseEntity<T> respond(WebRequest request, Supplier<T> body) {
+        boolean notModified = lastModified == null
+                ? request.checkNotModified(eTag)
+                : request.checkNotModified(eTag, lastModified.toEpochMilli());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .eTag(eTag);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return notModified ? response.build() : response.body(body.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.dto.MinPriceResponse;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class CatalogVersions {
+
+    private static final String AIRPORTS = "airports";
+    private static final String ROUTES = "routes";
+
+    private final CatalogRevisionRepository revisionRepository;
+    private final FlightRepository flightRepository;
+    private final Duration catalogMaxAge;
+    private final Duration flightMaxAge;
+
+    public CatalogVersions(CatalogRevisionRepository revisionRepository,
+                           FlightRepository flightRepository,
+                           @Value("${app.http-cache.catalog-max-age:300s}") Duration catalogMaxAge,
+                           @Value("${app.http-cache.flight-max-age:30s}") Duration flightMaxAge) {
+        this.revisionRepository = revisionRepository;
+        this.flightRepository = flightRepository;
+        this.catalogMaxAge = catalogMaxAge;
+        this.flightMaxAge = flightMaxAge;
+    }
+
+    @EventListener
+    public void onAirportChanged(AirportChangedEvent event) {
+        revisionRepository.bump(AIRPORTS, LocalDateTime.now());
+    }
+
+    @EventListener
+    public void onRouteChanged(RouteChangedEvent event) {
+        revisionRepository.bump(ROUTES, LocalDateTime.now());
+    }
+
+    public CatalogVersion airports() {
+        return catalogVersion(AIRPORTS, catalogMaxAge, revisions(AIRPORTS));
+    }
+
+    public CatalogVersion routes() {
+        return catalogVersion(ROUTES, catalogMaxAge, revisions(ROUTES, AIRPORTS));
+    }
+
+    public Optional<CatalogVersion> flight(Long flightId) {
+        return flightRepository.findRevisionById(flightId).map(flight -> {
+            List<Version> versions = new ArrayList<>();
+            versions.add(new Version(flight.version(), toInstant(flight.updatedAt())));
+            versions.addAll(revisions(ROUTES, AIRPORTS));
+            return catalogVersion("flight-" + flightId, flightMaxAge, versions);
+        });
+    }
+
+    public CatalogVersion minPrices(List<MinPriceResponse> minPrices) {
+        String digest = DigestUtils.md5DigestAsHex(minPrices.toString().getBytes(StandardCharsets.UTF_8));
+        return new CatalogVersion("\"min-prices-" + digest + "\"", null, flightMaxAge);
+    }
+
+    private List<Version> revisions(String... names) {
+        Map<String, CatalogRevision> revisions = revisionRepository.findAllById(List.of(names)).stream()
+                .collect(Collectors.toMap(CatalogRevision::getName, Function.identity()));
+        return Stream.of(names)
+                .map(revisions::get)
+                .map(revision -> revision == null
+                        ? new Version(0, Instant.EPOCH)
+                        : new Version(revision.getRevision(), toInstant(revision.getChangedAt())))
+                .toList();
+    }
+
+    private CatalogVersion catalogVersion(String resource, Duration maxAge, List<Version> versions) {
+        String eTag = versions.stream()
+                .map(version -> Long.toHexString(version.value()))
+                .collect(Collectors.joining("-", "\"" + resource + "-", "\""));
+        Instant lastModified = versions.stream()
+                .map(Version::changedAt)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        return new CatalogVersion(eTag, lastModified, maxAge);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record Version(long value, Instant changedAt) {
+    }
+}
@@ -2,7 +2,9 @@ package com.skyroute.skyroute.shared.exception;
 
 import com.skyroute.skyroute.shared.exception.custom_exception.*;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -44,6 +46,48 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
         }
 
+        @ExceptionHandler(SeatInventoryUnavailableException.class)
+        public ResponseEntity<ErrorResponse> handleSeatInventoryUnavailableException(
+                        SeatInventoryUnavailableException exception, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.SERVICE_UNAVAILABLE,
+                                exception.getMessage(),
+                                request.getRequestURI());
+                return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        @ExceptionHandler(PasswordHashingUnavailableException.class)
+        public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(
+                        PasswordHashingUnavailableException exception, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.SERVICE_UNAVAILABLE,
+                                exception.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+
+        @ExceptionHandler(IdempotencyKeyInProgressException.class)
+        public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgressException(
+                        IdempotencyKeyInProgressException exception, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.CONFLICT,
+                                exception.getMessage(),
+                                request.getRequestURI());
+                return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
+        @ExceptionHandler(IdempotencyKeyReusedException.class)
+        public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(
+                        IdempotencyKeyReusedException exception, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.UNPROCESSABLE_ENTITY,
+                                exception.getMessage(),
+                                request.getRequestURI());
+                return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+
         @ExceptionHandler(BusinessException.class)
         public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException exception,
                         HttpServletRequest request) {
@@ -146,6 +190,26 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
         }
 
+        @ExceptionHandler(InvalidSearchCursorException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidSearchCursorException(InvalidSearchCursorException exception,
+                        HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.BAD_REQUEST,
+                                "Validation failed: " + exception.getMessage(),
+                                request.getRequestURI());
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+                        OptimisticLockingFailureException exception, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.CONFLICT,
+                                "The resource was modified concurrently, please retry",
+                                request.getRequestURI());
+                return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
         @ExceptionHandler(IllegalArgumentException.class)
         public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException exception,
                         HttpServletRequest request) {
@@ -0,0 +1,11 @@
+package com.skyroute.skyroute.shared.exception.custom_exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyKeyInProgressException extends BusinessException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.skyroute.skyroute.shared.exception.custom_exception;
+
+public class InvalidSearchCursorException extends RuntimeException {
+    public InvalidSearchCursorException(String message) {
+        super(message);
+    }
+}
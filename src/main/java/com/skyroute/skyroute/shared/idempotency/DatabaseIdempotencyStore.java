@@ -0,0 +1,95 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyInProgressException;
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyReusedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration processingTimeout;
+    private final Duration pollInterval;
+
+    public DatabaseIdempotencyStore(IdempotencyRecordRepository repository,
+                                    @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                                    @Value("${app.idempotency.processing-timeout:30s}") Duration processingTimeout,
+                                    @Value("${app.idempotency.poll-interval:50ms}") Duration pollInterval) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.processingTimeout = processingTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> begin(String key, String fingerprint, Duration wait) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                repository.insert(key, fingerprint, now.plus(processingTimeout));
+                return Optional.empty();
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Idempotency key {} is already taken", key);
+            }
+
+            IdempotencyRecord record = repository.findById(key).orElse(null);
+            if (record == null) {
+                continue;
+            }
+            if (record.getExpiresAt().isBefore(now)) {
+                repository.deleteIfExpired(key, now);
+                continue;
+            }
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException("Idempotency key was already used for a different request");
+            }
+            if (record.getStatusCode() != null) {
+                return Optional.of(new IdempotentResponse(record.getStatusCode(), record.getResponseBody()));
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyKeyInProgressException("A request with this idempotency key is still being processed");
+            }
+            pause();
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        repository.complete(key, response.status(), response.body(), LocalDateTime.now().plus(ttl));
+    }
+
+    @Override
+    public void abandon(String key) {
+        repository.deleteInProgress(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("A request with this idempotency key is still being processed");
+        }
+    }
+}
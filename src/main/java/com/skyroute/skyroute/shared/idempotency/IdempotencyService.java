@@ -0,0 +1,110 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+
+    public IdempotencyService(IdempotencyStore store, ObjectMapper objectMapper,
+                              @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public <T> ResponseEntity<T> execute(String idempotencyKey, Long userId, String operation, Object request,
+                                         TypeReference<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must contain between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = userId + ":" + idempotencyKey;
+        Optional<IdempotentResponse> stored = store.begin(key, fingerprint(operation, request), waitTimeout);
+        if (stored.isPresent()) {
+            return replay(stored.get(), responseType);
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            store.abandon(key);
+            throw e;
+        }
+
+        try {
+            store.complete(key, new IdempotentResponse(response.getStatusCode().value(), write(response.getBody())));
+        } catch (RuntimeException e) {
+            log.warn("Could not store response for idempotency key {}, releasing it", key, e);
+            release(key);
+        }
+        return response;
+    }
+
+    private void release(String key) {
+        try {
+            store.abandon(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}", key, e);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotentResponse stored, TypeReference<T> responseType) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true");
+        if (stored.body() == null) {
+            return builder.build();
+        }
+        try {
+            return builder.body(objectMapper.readValue(stored.body(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response could not be read", e);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+            return operation + " " + HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String write(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response could not be stored", e);
+        }
+    }
+}
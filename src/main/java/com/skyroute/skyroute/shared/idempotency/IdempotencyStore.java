@@ -0,0 +1,13 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    Optional<IdempotentResponse> begin(String key, String fingerprint, Duration wait);
+
+    void complete(String key, IdempotentResponse response);
+
+    void abandon(String key);
+}
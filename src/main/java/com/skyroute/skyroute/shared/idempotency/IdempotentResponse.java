@@ -0,0 +1,4 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+public record IdempotentResponse(int status, String body) {
+}
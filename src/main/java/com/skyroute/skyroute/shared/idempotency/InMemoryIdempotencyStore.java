@@ -0,0 +1,114 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyInProgressException;
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyReusedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                                    @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> begin(String key, String fingerprint, Duration wait) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (true) {
+            Entry entry;
+            synchronized (this) {
+                evict(LocalDateTime.now());
+                entry = entries.get(key);
+                if (entry == null) {
+                    entries.put(key, new Entry(fingerprint));
+                    return Optional.empty();
+                }
+            }
+            if (!entry.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException("Idempotency key was already used for a different request");
+            }
+
+            IdempotentResponse response = await(entry, deadline);
+            if (response != null) {
+                return Optional.of(response);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.expiresAt = LocalDateTime.now().plus(ttl);
+            entry.result.complete(response);
+        }
+    }
+
+    @Override
+    public synchronized void abandon(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            entry.result.complete(null);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private IdempotentResponse await(Entry entry, long deadline) {
+        try {
+            return entry.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException("A request with this idempotency key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("A request with this idempotency key is still being processed");
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void evict(LocalDateTime now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            boolean completed = entry.expiresAt != null;
+            if (completed && (entry.expiresAt.isBefore(now) || entries.size() >= maxEntries)) {
+                iterator.remove();
+            } else if (entries.size() < maxEntries) {
+                return;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+        private LocalDateTime expiresAt;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+public enum ClientKey {
+    IP,
+    USER
+}
@@ -0,0 +1,68 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyroute.skyroute.security.details.CustomUserDetails;
+import com.skyroute.skyroute.shared.exception.ErrorResponse;
+import com.skyroute.skyroute.user.entity.UserIdentity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimiter.Route route = rateLimiter.route(request.getMethod(), request.getRequestURI());
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long wait = route.tryAcquire(client(route, request), System.nanoTime());
+        if (wait == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests, please retry in " + retryAfterSeconds + " seconds", request.getRequestURI()));
+    }
+
+    private Object client(RateLimiter.Route route, HttpServletRequest request) {
+        if (route.key() == ClientKey.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserIdentity user) {
+                return user.getId();
+            }
+            if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                return userDetails.user().getId();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,23 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration idleTimeout,
+        @DefaultValue List<Rule> rules) {
+
+    public record Rule(
+            String name,
+            List<String> patterns,
+            @DefaultValue List<String> methods,
+            int limit,
+            Duration period,
+            @DefaultValue("ip") ClientKey key) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitScheduler {
+
+    private final RateLimiter rateLimiter;
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:1m}")
+    public void evictIdleBuckets() {
+        try {
+            int evicted = rateLimiter.evictIdle(System.nanoTime());
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit buckets", evicted);
+            }
+        } catch (Exception e) {
+            log.error("Error evicting idle rate limit buckets", e);
+        }
+    }
+}
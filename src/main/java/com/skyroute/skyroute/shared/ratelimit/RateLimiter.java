@@ -0,0 +1,159 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class RateLimiter {
+
+    private final List<Route> routes;
+    private final long idleNanos;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleNanos = properties.idleTimeout().toNanos();
+        this.routes = properties.enabled()
+                ? properties.rules().stream().map(rule -> new Route(rule, meterRegistry)).toList()
+                : List.of();
+        Gauge.builder("skyroute.ratelimit.buckets", this, RateLimiter::buckets)
+                .register(meterRegistry);
+    }
+
+    public Route route(String method, String path) {
+        PathContainer pathContainer = null;
+        for (Route route : routes) {
+            if (!route.appliesTo(method)) {
+                continue;
+            }
+            if (route.paths.contains(path)) {
+                return route;
+            }
+            if (!route.mayMatch(path)) {
+                continue;
+            }
+            if (pathContainer == null) {
+                pathContainer = PathContainer.parsePath(path);
+            }
+            if (route.matches(pathContainer)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    public int evictIdle(long now) {
+        int evicted = 0;
+        for (Route route : routes) {
+            evicted += route.evictIdle(now, idleNanos);
+        }
+        return evicted;
+    }
+
+    public int buckets() {
+        return routes.stream().mapToInt(route -> route.buckets.size()).sum();
+    }
+
+    public static final class Route {
+
+        private final String name;
+        private final ClientKey key;
+        private final Set<String> methods;
+        private final Set<String> paths;
+        private final List<String> prefixes;
+        private final List<PathPattern> patterns;
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final Map<Object, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        private Route(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            if (rule.limit() <= 0 || rule.period() == null || rule.period().isNegative() || rule.period().isZero()) {
+                throw new IllegalArgumentException("Rate limit rule " + rule.name() + " needs a positive limit and period");
+            }
+            this.name = rule.name();
+            this.key = rule.key();
+            this.methods = rule.methods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.paths = rule.patterns().stream()
+                    .filter(pattern -> literalPrefix(pattern).equals(pattern))
+                    .collect(Collectors.toUnmodifiableSet());
+            List<String> wildcards = rule.patterns().stream().filter(pattern -> !paths.contains(pattern)).toList();
+            this.prefixes = wildcards.stream().map(Route::literalPrefix).distinct().toList();
+            this.patterns = wildcards.stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.emissionInterval = rule.period().toNanos() / rule.limit();
+            this.burstTolerance = emissionInterval * rule.limit();
+            this.rejected = Counter.builder("skyroute.ratelimit.rejected")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public ClientKey key() {
+            return key;
+        }
+
+        public long tryAcquire(Object client, long now) {
+            TokenBucket bucket = buckets.get(client);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(client, ignored -> new TokenBucket(now));
+            }
+            long wait = bucket.tryAcquire(now, emissionInterval, burstTolerance);
+            if (wait > 0) {
+                rejected.increment();
+            }
+            return wait;
+        }
+
+        private boolean appliesTo(String method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+
+        private boolean mayMatch(String path) {
+            for (String prefix : prefixes) {
+                if (path.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(PathContainer path) {
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int evictIdle(long now, long idleNanos) {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            return before - buckets.size();
+        }
+
+        private static String literalPrefix(String pattern) {
+            int wildcard = pattern.length();
+            for (char marker : new char[]{'*', '?', '{'}) {
+                int index = pattern.indexOf(marker);
+                if (index >= 0) {
+                    wildcard = Math.min(wildcard, index);
+                }
+            }
+            return pattern.substring(0, wildcard);
+        }
+    }
+}
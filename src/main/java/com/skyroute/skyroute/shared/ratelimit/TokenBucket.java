@@ -0,0 +1,33 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+final class TokenBucket {
+
+    private static final AtomicLongFieldUpdater<TokenBucket> THEORETICAL_ARRIVAL =
+            AtomicLongFieldUpdater.newUpdater(TokenBucket.class, "theoreticalArrival");
+
+    private volatile long theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = now;
+    }
+
+    long tryAcquire(long now, long emissionInterval, long burstTolerance) {
+        while (true) {
+            long current = theoreticalArrival;
+            long next = Math.max(current, now) + emissionInterval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (THEORETICAL_ARRIVAL.compareAndSet(this, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrival > idleNanos;
+    }
+}
@@ -0,0 +1,156 @@
+package com.skyroute.skyroute.shared.timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private final ArrayDeque<Timeout<T>> overdue = new ArrayDeque<>();
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick.toMillis() <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Tick must be at least 1ms and wheel size at least 2");
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.currentTime = floor(start.toEpochMilli(), tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize, currentTime));
+    }
+
+    public synchronized Timeout<T> schedule(T payload, Instant deadline) {
+        Timeout<T> timeout = new Timeout<>(this, payload, deadline.toEpochMilli());
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized List<T> advance(Instant now) {
+        List<T> expired = new ArrayList<>();
+        drain(overdue, expired);
+        long target = now.toEpochMilli();
+        while (currentTime + tickMillis <= target) {
+            Level<T> first = levels.getFirst();
+            drain(first.bucketFor(currentTime), expired);
+            currentTime += tickMillis;
+            first.currentTime = currentTime;
+            int top = 0;
+            while (top + 1 < levels.size() && currentTime % levels.get(top + 1).tickMillis == 0) {
+                levels.get(++top).currentTime = currentTime;
+            }
+            for (int index = top; index > 0; index--) {
+                cascade(levels.get(index).bucketFor(currentTime));
+            }
+        }
+        drain(overdue, expired);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Timeout<T> timeout) {
+        if (timeout.deadline < currentTime) {
+            overdue.add(timeout);
+            return;
+        }
+        for (int index = 0; ; index++) {
+            if (index == levels.size()) {
+                long tick = levels.getLast().tickMillis * wheelSize;
+                levels.add(new Level<>(tick, wheelSize, floor(currentTime, tick)));
+            }
+            Level<T> level = levels.get(index);
+            if (timeout.deadline < level.currentTime + level.tickMillis * wheelSize) {
+                level.bucketFor(timeout.deadline).add(timeout);
+                return;
+            }
+        }
+    }
+
+    private void cascade(ArrayDeque<Timeout<T>> bucket) {
+        List<Timeout<T>> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout<T> timeout : moving) {
+            if (!timeout.cancelled) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void drain(ArrayDeque<Timeout<T>> bucket, List<T> expired) {
+        Timeout<T> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            if (!timeout.cancelled) {
+                timeout.cancelled = true;
+                size--;
+                expired.add(timeout.payload);
+            }
+        }
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.cancelled) {
+            return false;
+        }
+        timeout.cancelled = true;
+        size--;
+        return true;
+    }
+
+    private static long floor(long value, long unit) {
+        return Math.floorDiv(value, unit) * unit;
+    }
+
+    private static final class Level<T> {
+        private final long tickMillis;
+        private final ArrayDeque<Timeout<T>>[] buckets;
+        private long currentTime;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMillis, int wheelSize, long currentTime) {
+            this.tickMillis = tickMillis;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+            this.currentTime = currentTime;
+        }
+
+        private ArrayDeque<Timeout<T>> bucketFor(long time) {
+            return buckets[(int) Math.floorMod(Math.floorDiv(time, tickMillis), buckets.length)];
+        }
+    }
+
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadline;
+        private boolean cancelled;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T payload, long deadline) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public Instant deadline() {
+            return Instant.ofEpochMilli(deadline);
+        }
+
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.skyroute.skyroute.user.entity;
+
+import com.skyroute.skyroute.user.enums.Role;
+
+public interface UserIdentity {
+
+    Long getId();
+
+    Role getRole();
+}
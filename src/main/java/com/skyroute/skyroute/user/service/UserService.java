@@ -6,6 +6,7 @@ import com.skyroute.skyroute.user.dto.UserProfileUpdateRequest;
 import com.skyroute.skyroute.user.dto.UserRequest;
 import com.skyroute.skyroute.user.dto.UserResponse;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,4 +35,6 @@ public interface UserService {
     UserResponse updateUserRole(Long id, RoleUpdateRequest roleRequest);
 
     User getCurrentUser();
+
+    UserIdentity getCurrentUserIdentity();
 }
@@ -1,7 +1,10 @@
 package com.skyroute.skyroute.user.service;
 
 import com.skyroute.skyroute.cloudinary.CloudinaryService;
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
 import com.skyroute.skyroute.security.details.CustomUserDetails;
+import com.skyroute.skyroute.security.jwt.SecurityStampChangedEvent;
+import com.skyroute.skyroute.security.jwt.SecurityStampService;
 import com.skyroute.skyroute.shared.exception.custom_exception.EmailAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
 import com.skyroute.skyroute.shared.exception.custom_exception.InvalidUpdateRequestException;
@@ -12,8 +15,10 @@ import com.skyroute.skyroute.user.dto.UserProfileUpdateRequest;
 import com.skyroute.skyroute.user.dto.UserRequest;
 import com.skyroute.skyroute.user.dto.UserResponse;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +38,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final CloudinaryService cloudinaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResponse createUser(UserRequest userRequest, MultipartFile image) {
@@ -88,11 +94,16 @@ public class UserServiceImpl implements UserService {
             }
         }
 
+        boolean credentialsChanged = changesCredentials(user, updateRequest.email(), updateRequest.password())
+                || (updateRequest.role() != null && updateRequest.role() != user.getRole());
         updateUserFields(user, updateRequest);
 
         if (updateRequest.password() != null) {
             user.setPassword(passwordEncoder.encode(updateRequest.password()));
         }
+        if (credentialsChanged) {
+            rotateSecurityStamp(user);
+        }
 
         if (image != null && !image.isEmpty()) {
             String newImageUrl = cloudinaryService.updateImage(user.getUserImgUrl(), image);
@@ -117,11 +128,15 @@ public class UserServiceImpl implements UserService {
             }
         }
 
+        boolean credentialsChanged = changesCredentials(currentUser, updateRequest.email(), updateRequest.password());
         updateUserProfileFields(currentUser, updateRequest);
 
         if (updateRequest.password() != null) {
             currentUser.setPassword(passwordEncoder.encode(updateRequest.password()));
         }
+        if (credentialsChanged) {
+            rotateSecurityStamp(currentUser);
+        }
 
         if (image != null && !image.isEmpty()) {
             String newImageUrl = cloudinaryService.updateImage(currentUser.getUserImgUrl(), image);
@@ -145,6 +160,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new SecurityStampChangedEvent(user.getId(), SecurityStampService.REVOKED));
     }
 
     @Override
@@ -215,7 +231,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponse updateUserRole(Long id, RoleUpdateRequest roleRequest) {
         User user = findUserEntityById(id);
-        user.setRole(roleRequest.role());
+        if (roleRequest.role() != user.getRole()) {
+            user.setRole(roleRequest.role());
+            rotateSecurityStamp(user);
+        }
 
         User savedUser = userRepository.save(user);
         return userMapper.toResponse(savedUser);
@@ -223,10 +242,34 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails(User user)) {
+        UserIdentity identity = getCurrentUserIdentity();
+        if (identity instanceof User user) {
             return user;
         }
+        return findUserEntityById(identity.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserIdentity getCurrentUserIdentity() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            if (authentication.getPrincipal() instanceof CustomUserDetails(User user)) {
+                return user;
+            }
+            if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                return user;
+            }
+        }
         throw new IllegalStateException("No authenticated user found");
     }
+
+    private boolean changesCredentials(User user, String email, String password) {
+        return password != null || (email != null && !email.equals(user.getEmail()));
+    }
+
+    private void rotateSecurityStamp(User user) {
+        user.setSecurityStamp(user.getSecurityStamp() + 1);
+        eventPublisher.publishEvent(new SecurityStampChangedEvent(user.getId(), user.getSecurityStamp()));
+    }
 }
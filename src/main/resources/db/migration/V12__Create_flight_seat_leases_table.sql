@@ -0,0 +1,10 @@
+-- Ownership leases for flights whose seats are counted in memory by one instance
+CREATE TABLE flight_seat_leases (
+    flight_id BIGINT PRIMARY KEY,
+    owner VARCHAR(64) NULL,
+    lease_until TIMESTAMP NULL,
+    seat_total INT NOT NULL,
+    FOREIGN KEY (flight_id) REFERENCES flights(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_flight_seat_leases_owner ON flight_seat_leases(owner);
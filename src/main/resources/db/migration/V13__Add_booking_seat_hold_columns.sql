@@ -0,0 +1,5 @@
+-- Seat hold expiry for CREATED bookings and optimistic locking between expiry and status changes
+ALTER TABLE booking ADD COLUMN hold_expires_at TIMESTAMP NULL;
+ALTER TABLE booking ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_booking_status_hold ON booking(booking_status, hold_expires_at);
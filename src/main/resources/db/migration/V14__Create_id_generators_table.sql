@@ -0,0 +1,8 @@
+-- Pooled id allocation for bookings so Hibernate can batch their inserts (IDENTITY ids disable JDBC batching)
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(50) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'booking', COALESCE(MAX(id), 0) + 50 FROM booking;
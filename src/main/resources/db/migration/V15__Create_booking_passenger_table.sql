@@ -0,0 +1,57 @@
+-- One row per passenger instead of two parallel element collections, ordered by ordinal
+CREATE TABLE booking_passenger (
+    booking_id BIGINT NOT NULL,
+    ordinal INT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    birth_date DATE NOT NULL,
+    PRIMARY KEY (booking_id, ordinal),
+    FOREIGN KEY (booking_id) REFERENCES booking(id) ON DELETE CASCADE
+);
+
+-- Passengers of bookings whose old name and birth date lists had different sizes, kept for manual review
+CREATE TABLE booking_passenger_unmatched (
+    booking_id BIGINT NOT NULL,
+    ordinal INT NOT NULL,
+    name VARCHAR(100),
+    birth_date DATE,
+    PRIMARY KEY (booking_id, ordinal),
+    FOREIGN KEY (booking_id) REFERENCES booking(id) ON DELETE CASCADE
+);
+
+-- The old tables have no order column; Hibernate rewrote each list in order, so number the rows in insertion order
+ALTER TABLE booking_passenger_names ADD COLUMN seq BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY;
+ALTER TABLE booking_passenger_birth_dates ADD COLUMN seq BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY;
+
+INSERT INTO booking_passenger (booking_id, ordinal, name, birth_date)
+SELECT n.booking_id, n.ordinal, n.passenger_names, d.passenger_birth_dates
+FROM (SELECT booking_id, passenger_names,
+             ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+      FROM booking_passenger_names) n
+JOIN (SELECT booking_id, passenger_birth_dates,
+             ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+      FROM booking_passenger_birth_dates) d
+    ON d.booking_id = n.booking_id AND d.ordinal = n.ordinal;
+
+INSERT INTO booking_passenger_unmatched (booking_id, ordinal, name, birth_date)
+SELECT n.booking_id, n.ordinal, n.passenger_names, NULL
+FROM (SELECT booking_id, passenger_names,
+             ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+      FROM booking_passenger_names) n
+LEFT JOIN (SELECT booking_id,
+                  ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+           FROM booking_passenger_birth_dates) d
+    ON d.booking_id = n.booking_id AND d.ordinal = n.ordinal
+WHERE d.booking_id IS NULL
+UNION ALL
+SELECT d.booking_id, d.ordinal, NULL, d.passenger_birth_dates
+FROM (SELECT booking_id, passenger_birth_dates,
+             ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+      FROM booking_passenger_birth_dates) d
+LEFT JOIN (SELECT booking_id,
+                  ROW_NUMBER() OVER (PARTITION BY booking_id ORDER BY seq) - 1 AS ordinal
+           FROM booking_passenger_names) n
+    ON n.booking_id = d.booking_id AND n.ordinal = d.ordinal
+WHERE n.booking_id IS NULL;
+
+DROP TABLE booking_passenger_names;
+DROP TABLE booking_passenger_birth_dates;
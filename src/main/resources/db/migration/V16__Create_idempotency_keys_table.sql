@@ -0,0 +1,9 @@
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    fingerprint VARCHAR(300) NOT NULL,
+    status_code INT NULL,
+    response_body TEXT,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
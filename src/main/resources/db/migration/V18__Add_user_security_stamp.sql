@@ -0,0 +1,2 @@
+-- Bumped whenever a user's role, credentials or email change so tokens issued earlier stop being accepted
+ALTER TABLE users ADD COLUMN security_stamp BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- Latest security stamp change per user, shared by all replicas; kept without a foreign key so deletions survive the user row
+CREATE TABLE security_stamp_changes (
+    user_id BIGINT PRIMARY KEY,
+    security_stamp BIGINT NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_security_stamp_changes_changed_at ON security_stamp_changes (changed_at);
+CREATE INDEX idx_security_stamp_changes_expires_at ON security_stamp_changes (expires_at);
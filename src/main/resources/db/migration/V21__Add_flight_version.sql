@@ -0,0 +1,2 @@
+-- Bumped on every flight write so change events applied out of order can be recognised as stale
+ALTER TABLE flights ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Composite indexes matching the public flight search predicates
+CREATE INDEX idx_flights_route_available_departure ON flights(route_id, available, departure_time);
+CREATE INDEX idx_flights_available_departure_price ON flights(available, departure_time, price);
@@ -0,0 +1,10 @@
+-- Flight changes shared by all replicas, polled to keep each instance's in-memory flight caches current; kept without a foreign key so deletions survive the flight row
+CREATE TABLE flight_changes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    flight_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_flight_changes_changed_at ON flight_changes (changed_at);
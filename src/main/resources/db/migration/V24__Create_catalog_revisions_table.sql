@@ -0,0 +1,10 @@
+-- Revision of each catalog shared by all replicas, bumped in the same transaction as the change so ETags match on every instance
+CREATE TABLE catalog_revisions (
+    name VARCHAR(50) PRIMARY KEY,
+    revision BIGINT NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO catalog_revisions (name, revision, changed_at) VALUES
+('airports', 0, CURRENT_TIMESTAMP),
+('routes', 0, CURRENT_TIMESTAMP);
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -231,6 +232,23 @@ public class AirportControllerTest {
 
             verify(airportService).getAllAirports();
         }
+
+        @Test
+        void getAllAirports_shouldReturnNotModified_whenETagMatches() throws Exception{
+            when(airportService.getAllAirports()).thenReturn(List.of(createAirportResponse()));
+
+            String eTag = mockMvc.perform(get("/api/airports"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/airports").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(airportService, times(1)).getAllAirports();
+        }
     }
 
     @Nested
@@ -4,6 +4,7 @@ import com.skyroute.skyroute.airport.dto.AirportCreateRequest;
 import com.skyroute.skyroute.airport.dto.AirportResponse;
 import com.skyroute.skyroute.airport.dto.AirportUpdateRequest;
 import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
 import com.skyroute.skyroute.airport.repository.AirportRepository;
 import com.skyroute.skyroute.airport.service.AirportServiceImpl;
 import com.skyroute.skyroute.cloudinary.CloudinaryService;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
@@ -39,6 +41,9 @@ public class AirportServiceTest {
     @Mock
     private CloudinaryService cloudinaryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AirportServiceImpl airportService;
 
@@ -74,6 +79,7 @@ public class AirportServiceTest {
             verify(airportRepository).findByCode("MAD");
             verify(cloudinaryService).uploadImage(testImage);
             verify(airportRepository).save(any(Airport.class));
+            verify(eventPublisher).publishEvent(new AirportChangedEvent(testAirport.getId()));
         }
 
         @Test
@@ -426,6 +432,7 @@ public class AirportServiceTest {
             verify(airportRepository).findById(1L);
             verify(cloudinaryService).deleteImageByUrl(anyString());
             verify(airportRepository).delete(testAirport);
+            verify(eventPublisher).publishEvent(new AirportChangedEvent(testAirport.getId()));
         }
 
         @Test
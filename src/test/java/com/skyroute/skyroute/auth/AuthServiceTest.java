@@ -157,7 +157,7 @@ public class AuthServiceTest {
 
     @Test
     void refreshToken_shouldReturnNewTokens_whenValidRefreshToken() {
-        when(tokenBlacklistService.isBlacklisted("refreshToken")).thenReturn(false);
+        when(tokenBlacklistService.isRevoked("refreshToken")).thenReturn(false);
         when(jwtUtil.extractUsername("refreshToken")).thenReturn(testUser.getEmail());
         when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(jwtUtil.validateToken("refreshToken", testUserDetails)).thenReturn(true);
@@ -171,7 +171,7 @@ public class AuthServiceTest {
         assertEquals("newRefreshToken", result.refreshToken());
         assertEquals("Bearer", result.tokenType());
 
-        verify(tokenBlacklistService).isBlacklisted("refreshToken");
+        verify(tokenBlacklistService).isRevoked("refreshToken");
         verify(jwtUtil).extractUsername("refreshToken");
         verify(userRepository).findByEmail(testUser.getEmail());
         verify(jwtUtil).validateToken("refreshToken", testUserDetails);
@@ -182,20 +182,20 @@ public class AuthServiceTest {
 
     @Test
     void refreshToken_shouldThrowRuntimeException_whenTokenIsBlacklisted() {
-        when(tokenBlacklistService.isBlacklisted("refreshToken")).thenReturn(true);
+        when(tokenBlacklistService.isRevoked("refreshToken")).thenReturn(true);
 
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
                 () -> authService.refreshToken(testRefreshTokenRequest));
 
         assertEquals("Token has been revoked", exception.getMessage());
-        verify(tokenBlacklistService).isBlacklisted("refreshToken");
+        verify(tokenBlacklistService).isRevoked("refreshToken");
         verify(jwtUtil, never()).extractUsername(any());
     }
 
     @Test
     void refreshToken_shouldThrowUserNotFoundException_whenUserNotFound() {
-        when(tokenBlacklistService.isBlacklisted("refreshToken")).thenReturn(false);
+        when(tokenBlacklistService.isRevoked("refreshToken")).thenReturn(false);
         when(jwtUtil.extractUsername("refreshToken")).thenReturn("nonexistent@email.com");
         when(userRepository.findByEmail("nonexistent@email.com")).thenReturn(Optional.empty());
 
@@ -204,14 +204,14 @@ public class AuthServiceTest {
                 () -> authService.refreshToken(testRefreshTokenRequest));
 
         assertEquals("User not found with email: nonexistent@email.com", exception.getMessage());
-        verify(tokenBlacklistService).isBlacklisted("refreshToken");
+        verify(tokenBlacklistService).isRevoked("refreshToken");
         verify(jwtUtil).extractUsername("refreshToken");
         verify(userRepository).findByEmail("nonexistent@email.com");
     }
 
     @Test
     void refreshToken_shouldThrowRuntimeException_whenInvalidToken() {
-        when(tokenBlacklistService.isBlacklisted("refreshToken")).thenReturn(false);
+        when(tokenBlacklistService.isRevoked("refreshToken")).thenReturn(false);
         when(jwtUtil.extractUsername("refreshToken")).thenReturn(testUser.getEmail());
         when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
         when(jwtUtil.validateToken("refreshToken", testUserDetails)).thenReturn(false);
@@ -221,7 +221,7 @@ public class AuthServiceTest {
                 () -> authService.refreshToken(testRefreshTokenRequest));
 
         assertEquals("Invalid refresh token", exception.getMessage());
-        verify(tokenBlacklistService).isBlacklisted("refreshToken");
+        verify(tokenBlacklistService).isRevoked("refreshToken");
         verify(jwtUtil).extractUsername("refreshToken");
         verify(userRepository).findByEmail(testUser.getEmail());
         verify(jwtUtil).validateToken("refreshToken", testUserDetails);
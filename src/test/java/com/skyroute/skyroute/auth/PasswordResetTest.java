@@ -84,6 +84,7 @@ public class PasswordResetTest {
         assertTrue(passwordEncoder.matches("newpassword123", updatedUser.getPassword()));
         assertNull(updatedUser.getPasswordResetToken());
         assertNull(updatedUser.getPasswordResetTokenExpiresAt());
+        assertEquals(1L, updatedUser.getSecurityStamp());
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.booking.number.BookingNumberGenerator;
+import com.skyroute.skyroute.booking.number.CrockfordBase32;
+import com.skyroute.skyroute.booking.number.SequentialBookingNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+class BookingNumberGeneratorBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 200_000;
+    private static final int ROUNDS = 5;
+    private static final int COLLISION_THREADS = 8;
+    private static final long COLLISION_IDS = 100_000_000L;
+    private static final long COLLISION_RANGE = COLLISION_IDS + (1L << 24);
+
+    private static final BookingNumberGenerator UUID_PREFIX =
+            () -> "SR-" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+
+    @Test
+    void sequentialGenerator_shouldOutperformUuidPrefix_underContention() throws Exception {
+        BookingNumberGenerator sequential = new SequentialBookingNumberGenerator("0");
+
+        for (int threads : new int[]{1, THREADS}) {
+            nanosPerId(UUID_PREFIX, threads);
+            nanosPerId(sequential, threads);
+            double uuidNanos = nanosPerId(UUID_PREFIX, threads);
+            double sequentialNanos = nanosPerId(sequential, threads);
+            log.info("{} threads: uuid prefix={} ns/id, sequential={} ns/id (wall clock per id)", threads,
+                    Math.round(uuidNanos * 10) / 10.0, Math.round(sequentialNanos * 10) / 10.0);
+            assertTrue(sequentialNanos < uuidNanos);
+        }
+    }
+
+    @Test
+    void sequentialGenerator_shouldNotCollide_over100MillionIds() throws Exception {
+        BookingNumberGenerator generator = new SequentialBookingNumberGenerator("42");
+        long first = counter(generator.next());
+        AtomicLongArray seen = new AtomicLongArray((int) (COLLISION_RANGE / 64 + 1));
+        LongAdder collisions = new LongAdder();
+        AtomicLong remaining = new AtomicLong(COLLISION_IDS);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(COLLISION_THREADS)) {
+            for (int thread = 0; thread < COLLISION_THREADS; thread++) {
+                executor.execute(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        String bookingNumber = generator.next();
+                        long offset = counter(bookingNumber) - first - 1;
+                        if (offset < 0 || offset >= COLLISION_RANGE || !markFirstSeen(seen, offset)) {
+                            collisions.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        log.info("Generated {} booking numbers on {} threads in {}s, {} collisions", COLLISION_IDS, COLLISION_THREADS,
+                Math.round((System.nanoTime() - start) / 1e7) / 100.0, collisions.sum());
+        assertEquals(0, collisions.sum());
+    }
+
+    private double nanosPerId(BookingNumberGenerator generator, int threads) throws Exception {
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int thread = 0; thread < threads; thread++) {
+                    executor.execute(() -> {
+                        int length = 0;
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            length += generator.next().length();
+                        }
+                        assertTrue(length > 0);
+                    });
+                }
+            }
+        }
+        return (System.nanoTime() - start) / (double) ((long) ROUNDS * threads * IDS_PER_THREAD);
+    }
+
+    private long counter(String bookingNumber) {
+        return CrockfordBase32.decode(bookingNumber.substring(5));
+    }
+
+    private boolean markFirstSeen(AtomicLongArray seen, long offset) {
+        int index = (int) (offset >>> 6);
+        long bit = 1L << (offset & 63);
+        long current;
+        do {
+            current = seen.get(index);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!seen.compareAndSet(index, current, current | bit));
+        return true;
+    }
+}
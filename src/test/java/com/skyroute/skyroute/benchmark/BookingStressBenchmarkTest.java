@@ -0,0 +1,269 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.aircraft.repository.AircraftRepository;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.repository.AirportRepository;
+import com.skyroute.skyroute.booking.dto.BookingRequest;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.booking.service.BookingService;
+import com.skyroute.skyroute.email.EmailService;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.repository.RouteRepository;
+import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
+import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import com.skyroute.skyroute.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingStressBenchmarkTest {
+
+    private static final int HOT_FLIGHTS = 4;
+    private static final int SEATS_PER_FLIGHT = 200;
+    private static final int OPERATIONS = 3_000;
+    private static final int PLATFORM_THREADS = 32;
+    private static final long SEED = 20_240_601L;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private AirportRepository airportRepository;
+
+    @Autowired
+    private AircraftRepository aircraftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Airport origin;
+    private Airport destination;
+    private Route route;
+    private Aircraft aircraft;
+    private final List<Flight> flights = new ArrayList<>();
+
+    enum Workers {
+        PLATFORM(() -> Executors.newFixedThreadPool(PLATFORM_THREADS)),
+        VIRTUAL(Executors::newVirtualThreadPerTaskExecutor);
+
+        private final Supplier<ExecutorService> factory;
+
+        Workers(Supplier<ExecutorService> factory) {
+            this.factory = factory;
+        }
+    }
+
+    enum Operation {
+        CREATE, CANCEL, DELETE
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .firstName("Stress")
+                .lastName("Benchmark")
+                .email("stress.benchmark@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        origin = airportRepository.save(Airport.builder().code("STA").city("Stress Origin").imageUrl("a.jpg").build());
+        destination = airportRepository.save(Airport.builder().code("STB").city("Stress Destination").imageUrl("b.jpg").build());
+        route = routeRepository.save(Route.builder().origin(origin).destination(destination).build());
+        aircraft = aircraftRepository.save(Aircraft.builder().manufacturer("Boeing").model("737").capacity(SEATS_PER_FLIGHT).build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(10).withNano(0);
+        for (int i = 0; i < HOT_FLIGHTS; i++) {
+            flights.add(flightRepository.save(Flight.builder()
+                    .flightNumber("ST" + i)
+                    .route(route)
+                    .aircraft(aircraft)
+                    .availableSeats(SEATS_PER_FLIGHT)
+                    .price(100.0)
+                    .departureTime(departure.plusHours(i))
+                    .arrivalTime(departure.plusHours(i + 2))
+                    .available(true)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingsOfUser());
+        flightRepository.deleteAll(flights);
+        routeRepository.delete(route);
+        airportRepository.deleteAll(List.of(origin, destination));
+        aircraftRepository.delete(aircraft);
+        userRepository.delete(user);
+    }
+
+    @ParameterizedTest(name = "{0} threads")
+    @EnumSource(Workers.class)
+    void mixedWorkload_shouldNeverOversellHotFlights(Workers workers) {
+        List<Long> bookingIds = Collections.synchronizedList(new ArrayList<>());
+        Operation[] operations = new Operation[OPERATIONS];
+        long[] latencies = new long[OPERATIONS];
+        AtomicInteger created = new AtomicInteger();
+        Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = workers.factory.get()) {
+            for (int i = 0; i < OPERATIONS; i++) {
+                int index = i;
+                executor.execute(() -> {
+                    SplittableRandom random = new SplittableRandom(SEED + index);
+                    Operation operation = pickOperation(random, bookingIds);
+                    operations[index] = operation;
+                    long operationStart = System.nanoTime();
+                    try {
+                        run(operation, random, bookingIds);
+                        if (operation == Operation.CREATE) {
+                            created.incrementAndGet();
+                        }
+                    } catch (BusinessException | EntityNotFoundException | ConcurrencyFailureException e) {
+                        rejected.computeIfAbsent(e.getClass().getSimpleName(), name -> new LongAdder()).increment();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        latencies[index] = System.nanoTime() - operationStart;
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("{} threads: {} operations in {}s, {} bookings/s, {} ops/s, rejected {}", workers, OPERATIONS,
+                Math.round(seconds * 100) / 100.0, Math.round(created.get() / seconds),
+                Math.round(OPERATIONS / seconds), rejected);
+        for (Operation operation : Operation.values()) {
+            logLatencies(workers, operation, operations, latencies);
+        }
+
+        assertTrue(errors.isEmpty(), () -> "Unexpected failures: " + errors);
+        assertTrue(created.get() > 0);
+        assertNoOversell();
+    }
+
+    private Operation pickOperation(SplittableRandom random, List<Long> bookingIds) {
+        int roll = random.nextInt(100);
+        if (roll < 60 || bookingIds.isEmpty()) {
+            return Operation.CREATE;
+        }
+        return roll < 85 ? Operation.CANCEL : Operation.DELETE;
+    }
+
+    private void run(Operation operation, SplittableRandom random, List<Long> bookingIds) {
+        switch (operation) {
+            case CREATE -> {
+                Flight flight = flights.get(random.nextInt(HOT_FLIGHTS));
+                int seats = 1 + random.nextInt(3);
+                BookingRequest request = new BookingRequest(flight.getId(), seats,
+                        Collections.nCopies(seats, "Ada Lovelace"), Collections.nCopies(seats, LocalDate.of(1990, 12, 10)));
+                bookingIds.add(bookingService.createBooking(request, user).bookingId());
+            }
+            case CANCEL -> bookingService.cancelBooking(randomBooking(random, bookingIds), user);
+            case DELETE -> bookingService.deleteBooking(randomBooking(random, bookingIds), user);
+        }
+    }
+
+    private Long randomBooking(SplittableRandom random, List<Long> bookingIds) {
+        synchronized (bookingIds) {
+            return bookingIds.get(random.nextInt(bookingIds.size()));
+        }
+    }
+
+    private void assertNoOversell() {
+        Map<Long, Integer> activeSeats = bookingsOfUser().stream()
+                .filter(booking -> booking.getBookingStatus() != BookingStatus.CANCELLED)
+                .collect(Collectors.groupingBy(booking -> booking.getFlight().getId(),
+                        Collectors.summingInt(Booking::getBookedSeats)));
+
+        for (Flight flight : flights) {
+            int availableSeats = flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats();
+            int bookedSeats = activeSeats.getOrDefault(flight.getId(), 0);
+            log.info("Flight {}: {} booked + {} available of {}", flight.getFlightNumber(), bookedSeats,
+                    availableSeats, SEATS_PER_FLIGHT);
+            assertTrue(availableSeats >= 0, () -> flight.getFlightNumber() + " has negative available seats");
+            assertEquals(SEATS_PER_FLIGHT, bookedSeats + availableSeats,
+                    () -> flight.getFlightNumber() + " seats are out of balance");
+        }
+    }
+
+    private List<Booking> bookingsOfUser() {
+        return bookingRepository.findAll().stream()
+                .filter(booking -> booking.getUser().getId().equals(user.getId()))
+                .toList();
+    }
+
+    private void logLatencies(Workers workers, Operation operation, Operation[] operations, long[] latencies) {
+        long[] sorted = new long[OPERATIONS];
+        int count = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (operations[i] == operation) {
+                sorted[count++] = latencies[i];
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(sorted, 0, count);
+        log.info("{} threads {} x{}: p50={}ms p95={}ms p99={}ms max={}ms", workers, operation, count,
+                millis(sorted, count, 0.50), millis(sorted, count, 0.95), millis(sorted, count, 0.99),
+                millis(sorted, count, 1.0));
+    }
+
+    private double millis(long[] sorted, int count, double percentile) {
+        int index = Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+        return Math.round(sorted[index] / 10_000.0) / 100.0;
+    }
+}
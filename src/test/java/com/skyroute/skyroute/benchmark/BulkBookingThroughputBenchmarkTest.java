@@ -0,0 +1,147 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.aircraft.repository.AircraftRepository;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.repository.AirportRepository;
+import com.skyroute.skyroute.booking.dto.BookingRequest;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.booking.service.BookingService;
+import com.skyroute.skyroute.email.EmailService;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.repository.RouteRepository;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import com.skyroute.skyroute.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkBookingThroughputBenchmarkTest {
+
+    private static final int FLIGHTS = 5;
+    private static final int BOOKINGS_PER_REQUEST = 50;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private AirportRepository airportRepository;
+
+    @Autowired
+    private AircraftRepository aircraftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Airport origin;
+    private Airport destination;
+    private Route route;
+    private Aircraft aircraft;
+    private final List<Flight> flights = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .firstName("Bulk")
+                .lastName("Benchmark")
+                .email("bulk.benchmark@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        origin = airportRepository.save(Airport.builder().code("BKA").city("Bulk Origin").imageUrl("a.jpg").build());
+        destination = airportRepository.save(Airport.builder().code("BKB").city("Bulk Destination").imageUrl("b.jpg").build());
+        route = routeRepository.save(Route.builder().origin(origin).destination(destination).build());
+        aircraft = aircraftRepository.save(Aircraft.builder().manufacturer("Airbus").model("A380").capacity(100_000).build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(10).withNano(0);
+        for (int i = 0; i < FLIGHTS; i++) {
+            flights.add(flightRepository.save(Flight.builder()
+                    .flightNumber("BK" + i)
+                    .route(route)
+                    .aircraft(aircraft)
+                    .availableSeats(100_000)
+                    .price(100.0)
+                    .departureTime(departure.plusHours(i))
+                    .arrivalTime(departure.plusHours(i + 2))
+                    .available(true)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getUser().getId().equals(user.getId()))
+                .toList());
+        flightRepository.deleteAll(flights);
+        routeRepository.delete(route);
+        airportRepository.deleteAll(List.of(origin, destination));
+        aircraftRepository.delete(aircraft);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void bulkRequest_shouldOutperformOneRequestPerBooking() {
+        List<BookingRequest> requests = IntStream.range(0, BOOKINGS_PER_REQUEST)
+                .mapToObj(i -> new BookingRequest(flights.get(i % FLIGHTS).getId(), 2,
+                        List.of("Ada Lovelace", "Alan Turing"),
+                        List.of(LocalDate.of(1990, 12, 10), LocalDate.of(1985, 6, 23))))
+                .toList();
+
+        long singleNanos = nanosPerRound(() -> requests.forEach(request -> bookingService.createBooking(request, user)));
+        long bulkNanos = nanosPerRound(() -> bookingService.createBookings(requests, user));
+
+        double singleThroughput = BOOKINGS_PER_REQUEST * 1e9 / singleNanos;
+        double bulkThroughput = BOOKINGS_PER_REQUEST * 1e9 / bulkNanos;
+        log.info("{} bookings: single calls={} bookings/s, bulk={} bookings/s ({}x)", BOOKINGS_PER_REQUEST,
+                Math.round(singleThroughput), Math.round(bulkThroughput),
+                Math.round(bulkThroughput / singleThroughput * 10) / 10.0);
+        assertTrue(bulkNanos < singleNanos);
+    }
+
+    private long nanosPerRound(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,87 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.email.smtp.PooledJavaMailSender;
+import com.skyroute.skyroute.email.smtp.SmtpStandIn;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+class EmailDispatchBenchmarkTest {
+
+    private static final int EMAILS = 1_000;
+    private static final int WORKERS = 4;
+    private static final int BATCH_SIZE = 50;
+    private static final Duration HANDSHAKE = Duration.ofMillis(60);
+
+    @Test
+    void pooledBatches_shouldSendSeveralTimesMoreEmailsPerSecond_thanConnectionPerEmail() throws Exception {
+        try (SmtpStandIn smtp = new SmtpStandIn(HANDSHAKE)) {
+            JavaMailSenderImpl perEmail = configure(new JavaMailSenderImpl(), smtp);
+            PooledJavaMailSender pooled = configure(new PooledJavaMailSender(WORKERS, Duration.ofMinutes(1)), smtp);
+
+            double perEmailRate = emailsPerSecond(perEmail, 1, smtp);
+            double pooledRate = emailsPerSecond(pooled, BATCH_SIZE, smtp);
+            pooled.destroy();
+
+            log.info("{} emails on {} workers against a relay with a {}ms handshake: connection per email={} emails/s, "
+                            + "pooled batches of {}={} emails/s ({}x), {} connections opened", EMAILS, WORKERS,
+                    HANDSHAKE.toMillis(), Math.round(perEmailRate), BATCH_SIZE, Math.round(pooledRate),
+                    Math.round(pooledRate / perEmailRate * 10) / 10.0, pooled.connectionsOpened());
+            assertTrue(pooledRate > 3 * perEmailRate);
+            assertTrue(pooled.connectionsOpened() <= WORKERS);
+        }
+    }
+
+    private double emailsPerSecond(JavaMailSender mailSender, int batchSize, SmtpStandIn smtp) throws Exception {
+        List<MimeMessage[]> batches = new ArrayList<>();
+        for (int sent = 0; sent < EMAILS; sent += batchSize) {
+            MimeMessage[] batch = new MimeMessage[Math.min(batchSize, EMAILS - sent)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = message(mailSender, sent + i);
+            }
+            batches.add(batch);
+        }
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WORKERS)) {
+            batches.forEach(batch -> executor.execute(() -> mailSender.send(batch)));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        for (int i = 0; i < EMAILS; i++) {
+            assertNotNull(smtp.awaitMessage(5, TimeUnit.SECONDS));
+        }
+        return EMAILS / seconds;
+    }
+
+    private <T extends JavaMailSenderImpl> T configure(T mailSender, SmtpStandIn smtp) {
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+        return mailSender;
+    }
+
+    private MimeMessage message(JavaMailSender mailSender, int index) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@skyroute.com");
+        helper.setTo("passenger" + index + "@skyroute.com");
+        helper.setSubject("Your booking SR-" + index);
+        helper.setText("Plain body " + index, "<p>Html body " + index + "</p>");
+        return message;
+    }
+}
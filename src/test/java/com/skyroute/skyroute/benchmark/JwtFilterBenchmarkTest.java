@@ -0,0 +1,90 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.security.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Date;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter";
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 50_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final UserDetails user = new User("ada@skyroute.com", "password", Collections.emptyList());
+
+    @Test
+    void singleParseVerification_shouldBeCheaperPerRequest_thanRepeatedParsing() {
+        JwtUtil cached = new JwtUtil(SECRET, 3_600_000L, 86_400_000L, 10_000);
+        JwtUtil uncached = new JwtUtil(SECRET, 3_600_000L, 86_400_000L, 0);
+        String token = cached.generateToken(user);
+
+        Measurement legacy = measure(this::legacyFilter, token);
+        Measurement singleParse = measure(jwt -> uncached.verify(jwt)
+                .map(claims -> user.getUsername().equals(claims.getSubject()))
+                .orElse(false), token);
+        Measurement cacheHit = measure(jwt -> cached.verify(jwt)
+                .map(claims -> user.getUsername().equals(claims.getSubject()))
+                .orElse(false), token);
+
+        log.info("JWT filter per request: key+parser per call, 3 parses={} ns {} B, single parse={} ns {} B, "
+                        + "verified cache hit={} ns {} B",
+                Math.round(legacy.nanos()), Math.round(legacy.bytes()),
+                Math.round(singleParse.nanos()), Math.round(singleParse.bytes()),
+                Math.round(cacheHit.nanos()), Math.round(cacheHit.bytes()));
+        assertTrue(singleParse.nanos() < legacy.nanos());
+        assertTrue(singleParse.bytes() < legacy.bytes());
+        assertTrue(cacheHit.nanos() < singleParse.nanos());
+    }
+
+    private boolean legacyFilter(String token) {
+        String username = legacyClaims(token).getSubject();
+        return username.equals(user.getUsername())
+                && legacyClaims(token).getSubject().equals(user.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private Measurement measure(Predicate<String> filter, String token) {
+        int accepted = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            accepted += filter.test(token) ? 1 : 0;
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            accepted += filter.test(token) ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertEquals(WARMUP + REQUESTS, accepted);
+        return new Measurement(nanos / (double) REQUESTS, allocated / (double) REQUESTS);
+    }
+
+    private record Measurement(double nanos, double bytes) {
+    }
+}
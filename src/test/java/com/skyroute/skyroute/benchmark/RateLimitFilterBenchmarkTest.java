@@ -0,0 +1,78 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.shared.ratelimit.ClientKey;
+import com.skyroute.skyroute.shared.ratelimit.RateLimitProperties;
+import com.skyroute.skyroute.shared.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+class RateLimitFilterBenchmarkTest {
+
+    private static final int CLIENTS = 1_024;
+    private static final int WARMUP = 200_000;
+    private static final int REQUESTS = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void rateLimitCheck_shouldCostLessThanAMicrosecondPerRequest() {
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, Duration.ofMinutes(1), List.of(
+                new RateLimitProperties.Rule("login", List.of("/api/auth/login"), List.of("POST"), 10,
+                        Duration.ofMinutes(1), ClientKey.IP),
+                new RateLimitProperties.Rule("forgot-password", List.of("/api/auth/forgot-password"), List.of("POST"),
+                        5, Duration.ofMinutes(15), ClientKey.IP),
+                new RateLimitProperties.Rule("flight-search", List.of("/api/flights/search",
+                        "/api/flights/search-filters", "/api/flights/connections", "/api/flights/fare-calendar",
+                        "/api/flights/min-prices", "/api/flights/budget"), List.of(), 1_000_000,
+                        Duration.ofSeconds(1), ClientKey.IP))), new SimpleMeterRegistry());
+        String[] clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+
+        Measurement matched = measure(rateLimiter, "GET", "/api/flights/fare-calendar", clients);
+        Measurement unmatched = measure(rateLimiter, "GET", "/api/bookings/42", clients);
+
+        log.info("Rate limit check per request: matched route={} ns {} B, unmatched route={} ns {} B",
+                Math.round(matched.nanos()), Math.round(matched.bytes()),
+                Math.round(unmatched.nanos()), Math.round(unmatched.bytes()));
+        assertTrue(matched.nanos() < 1_000);
+        assertTrue(unmatched.nanos() < 1_000);
+    }
+
+    private Measurement measure(RateLimiter rateLimiter, String method, String path, String[] clients) {
+        long granted = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            granted += check(rateLimiter, method, path, clients[i & (CLIENTS - 1)]);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            granted += check(rateLimiter, method, path, clients[i & (CLIENTS - 1)]);
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertTrue(granted > 0);
+        return new Measurement(nanos / (double) REQUESTS, allocated / (double) REQUESTS);
+    }
+
+    private long check(RateLimiter rateLimiter, String method, String path, String client) {
+        RateLimiter.Route route = rateLimiter.route(method, path);
+        return route == null || route.tryAcquire(client, System.nanoTime()) == 0 ? 1 : 0;
+    }
+
+    private record Measurement(double nanos, double bytes) {
+    }
+}
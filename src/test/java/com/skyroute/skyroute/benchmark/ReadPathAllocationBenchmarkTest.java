@@ -0,0 +1,149 @@
+package com.skyroute.skyroute.benchmark;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.booking.specification.BookingSpecification;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.specification.FlightSpecification;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class ReadPathAllocationBenchmarkTest {
+
+    private static final int FLIGHTS = 200;
+    private static final int BOOKINGS = 200;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .firstName("Benchmark")
+                .lastName("User")
+                .email("benchmark.user@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        Airport origin = entityManager.persist(Airport.builder().code("BMA").city("Bench Origin").imageUrl("a.jpg").build());
+        Airport destination = entityManager.persist(Airport.builder().code("BMB").city("Bench Destination").imageUrl("b.jpg").build());
+        Route route = entityManager.persist(Route.builder().origin(origin).destination(destination).build());
+        Aircraft aircraft = entityManager.persist(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+
+        LocalDateTime departure = LocalDateTime.now().plusDays(10).withNano(0);
+        Flight flight = null;
+        for (int i = 0; i < FLIGHTS; i++) {
+            flight = entityManager.persist(Flight.builder()
+                    .flightNumber("BM" + i)
+                    .route(route)
+                    .aircraft(aircraft)
+                    .availableSeats(150)
+                    .price(50.0 + i)
+                    .departureTime(departure.plusHours(i))
+                    .arrivalTime(departure.plusHours(i + 2))
+                    .available(true)
+                    .build());
+        }
+        for (int i = 0; i < BOOKINGS; i++) {
+            entityManager.persist(Booking.builder()
+                    .bookingNumber("SR-BM%04d".formatted(i))
+                    .bookedSeats(3)
+                    .passengers(BookingMapper.toPassengers(List.of("Ada Lovelace", "Alan Turing", "Grace Hopper"),
+                            List.of(LocalDate.of(1990, 1, 1), LocalDate.of(1985, 6, 23), LocalDate.of(1992, 12, 9))))
+                    .totalPrice(150.0)
+                    .bookingStatus(BookingStatus.CONFIRMED)
+                    .user(user)
+                    .flight(flight)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void flightSearchPage_projectionShouldAllocateLessThanEntityMapping() {
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("departureTime"));
+
+        long entityBytes = bytesPerRequest(() -> flightRepository
+                .findAll(FlightSpecification.hasOriginEquals("BMA"), pageable)
+                .map(FlightMapper::toSimpleResponse));
+        long projectionBytes = bytesPerRequest(() -> flightRepository
+                .findSimpleResponses(FlightSpecification.hasOriginEquals("BMA"), pageable));
+
+        log.info("Flight search page: entity+mapper={} B/op, projection={} B/op", entityBytes, projectionBytes);
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    @Test
+    void bookingListPage_projectionShouldAllocateLessThanEntityMapping() {
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("bookingNumber"));
+
+        long entityBytes = bytesPerRequest(() -> bookingRepository
+                .findAll(BookingSpecification.hasUserId(user.getId()), pageable)
+                .map(BookingMapper::toDto));
+        long projectionBytes = bytesPerRequest(() -> bookingRepository
+                .findResponses(BookingSpecification.hasUserId(user.getId()), pageable));
+
+        log.info("Booking list page: entity+mapper={} B/op, projection={} B/op", entityBytes, projectionBytes);
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    private long bytesPerRequest(Runnable request) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runDetached(request);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            runDetached(request);
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+    }
+
+    private void runDetached(Runnable request) {
+        request.run();
+        entityManager.clear();
+    }
+}
@@ -50,7 +50,7 @@ public class BookingSpecificationUnitTest {
     Join<Object, Object> destinationJoin;
 
     @Mock
-    Join<Object, Object> passengerNames;
+    Join<Object, Object> passengers;
 
     @Nested
     class HasStatusTest {
@@ -482,7 +482,8 @@ public class BookingSpecificationUnitTest {
             String passengerName = "Pepe";
             when(criteriaBuilder.like(any(), anyString())).thenReturn(predicate);
             when(criteriaBuilder.lower(any())).thenReturn(null);
-            when(root.join(eq("passengerNames"), any())).thenReturn(passengerNames);
+            when(root.join(eq("passengers"), any())).thenReturn(passengers);
+            when(passengers.get("name")).thenReturn(null);
             Specification<Booking> specification = BookingSpecification.hasPassengerName(passengerName);
             Predicate result = specification.toPredicate(root, query, criteriaBuilder);
 
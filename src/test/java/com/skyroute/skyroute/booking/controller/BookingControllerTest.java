@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.skyroute.skyroute.booking.dto.BookingRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.dto.BulkBookingRequest;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
 import com.skyroute.skyroute.booking.service.BookingService;
 import com.skyroute.skyroute.shared.exception.custom_exception.BookingAccessDeniedException;
@@ -33,6 +34,7 @@ import org.springframework.web.context.WebApplicationContext;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -123,7 +125,7 @@ public class BookingControllerTest {
                     List.of(createBookingResponse()),
                     PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.getAllBookingsUser(testUser, 0, 10, "createdAt", "DESC")).thenReturn(bookingPage);
 
             mockMvc.perform(get("/api/bookings/user")
@@ -136,7 +138,7 @@ public class BookingControllerTest {
                     .andExpect(jsonPath("$.content").isArray())
                     .andExpect(jsonPath("$.content[0].bookingNumber").value("SR-ABC123"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingService).getAllBookingsUser(testUser, 0, 10, "createdAt", "DESC");
         }
 
@@ -156,7 +158,7 @@ public class BookingControllerTest {
         @WithMockUser(roles = "USER")
         void getBookingById_shouldReturnBooking_whenBookingExists() throws Exception {
             BookingResponse response = createBookingResponse();
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.getBookingById(1L, testUser)).thenReturn(response);
 
             mockMvc.perform(get("/api/bookings/1"))
@@ -171,7 +173,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void getBookingById_shouldReturnNotFound_whenBookingDoesNotExist() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.getBookingById(99L, testUser)).thenThrow(new EntityNotFoundException("Booking not found"));
 
             mockMvc.perform(get("/api/bookings/99"))
@@ -183,7 +185,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void getBookingById_shouldReturnForbidden_whenUserDoesNotOwnBooking() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.getBookingById(1L, testUser)).thenThrow(new BookingAccessDeniedException("User cannot access this booking"));
 
             mockMvc.perform(get("/api/bookings/1"))
@@ -312,6 +314,142 @@ public class BookingControllerTest {
         }
     }
 
+    @Nested
+    class CreateBookingsInBulkTest {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBookings_shouldReturnCreatedBookings_whenValidRequest() throws Exception {
+            BulkBookingRequest request = new BulkBookingRequest(List.of(createBookingRequest(), createBookingRequest()));
+            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(bookingService.createBookings(anyList(), eq(testUser)))
+                    .thenReturn(List.of(createBookingResponse(), createBookingResponse()));
+
+            mockMvc.perform(post("/api/bookings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].bookingNumber").value("SR-ABC123"));
+
+            verify(bookingService).createBookings(argThat(bookings -> bookings.size() == 2), eq(testUser));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBookings_shouldReturnBadRequest_whenNoBookings() throws Exception {
+            mockMvc.perform(post("/api/bookings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkBookingRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookingService, never()).createBookings(any(), any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBookings_shouldReturnBadRequest_whenOneBookingIsInvalid() throws Exception {
+            BookingRequest invalid = new BookingRequest(
+                    -1L,
+                    2,
+                    List.of("Pepe", "Maria"),
+                    List.of(LocalDate.of(1990, 1, 1), LocalDate.of(1991, 1, 1))
+            );
+            BulkBookingRequest request = new BulkBookingRequest(List.of(createBookingRequest(), invalid));
+
+            mockMvc.perform(post("/api/bookings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookingService, never()).createBookings(any(), any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBookings_shouldReturnConflict_whenNotEnoughSeats() throws Exception {
+            BulkBookingRequest request = new BulkBookingRequest(List.of(createBookingRequest()));
+            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(bookingService.createBookings(anyList(), eq(testUser)))
+                    .thenThrow(new NotEnoughSeatsException("Not enough seats available. Requested: 2. Available: 1"));
+
+            mockMvc.perform(post("/api/bookings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict());
+        }
+    }
+
+    @Nested
+    class IdempotencyKeyTests {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBooking_shouldReplayFirstResponse_whenRetriedWithSameKey() throws Exception {
+            String key = UUID.randomUUID().toString();
+            BookingRequest request = createBookingRequest();
+            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(bookingService.createBooking(any(BookingRequest.class), eq(testUser))).thenReturn(createBookingResponse());
+
+            mockMvc.perform(post("/api/bookings")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+            mockMvc.perform(post("/api/bookings")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.bookingNumber").value("SR-ABC123"));
+
+            verify(bookingService, times(1)).createBooking(any(BookingRequest.class), eq(testUser));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void createBooking_shouldReturnUnprocessableEntity_whenKeyReusedForDifferentRequest() throws Exception {
+            String key = UUID.randomUUID().toString();
+            BookingRequest other = new BookingRequest(2L, 1, List.of("Pepe"), List.of(LocalDate.of(1990, 1, 1)));
+            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(bookingService.createBooking(any(BookingRequest.class), eq(testUser))).thenReturn(createBookingResponse());
+
+            mockMvc.perform(post("/api/bookings")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createBookingRequest())))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post("/api/bookings")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(other)))
+                    .andExpect(status().isUnprocessableEntity());
+
+            verify(bookingService, times(1)).createBooking(any(BookingRequest.class), eq(testUser));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void cancelBooking_shouldRunAgain_whenFirstAttemptFailed() throws Exception {
+            String key = UUID.randomUUID().toString();
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
+            doThrow(new EntityNotFoundException("Booking not found")).doNothing()
+                    .when(bookingService).cancelBooking(1L, testUser);
+
+            mockMvc.perform(post("/api/bookings/1/cancel").header("Idempotency-Key", key))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(post("/api/bookings/1/cancel").header("Idempotency-Key", key))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(post("/api/bookings/1/cancel").header("Idempotency-Key", key))
+                    .andExpect(status().isNoContent())
+                    .andExpect(header().string("Idempotent-Replayed", "true"));
+
+            verify(bookingService, times(2)).cancelBooking(1L, testUser);
+        }
+    }
+
     @Nested
     class UpdateBookingStatusTests {
 
@@ -319,7 +457,7 @@ public class BookingControllerTest {
         @WithMockUser(roles = "USER")
         void updateBookingStatus_shouldUpdateStatus_whenValidTransition() throws Exception {
             BookingResponse response = createBookingResponse();
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updateBookingStatus(1L, BookingStatus.CANCELLED, testUser)).thenReturn(response);
 
             mockMvc.perform(put("/api/bookings/1/status")
@@ -334,7 +472,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void updateBookingStatus_shouldReturnBadRequest_whenInvalidTransition() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updateBookingStatus(1L, BookingStatus.CONFIRMED, testUser)).thenThrow(new InvalidBookingOperationException("A CONFIRMED booking can only be CANCELLED"));
 
             mockMvc.perform(put("/api/bookings/1/status")
@@ -347,7 +485,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void updateBookingStatus_shouldReturnNotFound_whenBookingDoesNotExist() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updateBookingStatus(99L, BookingStatus.CANCELLED, testUser)).thenThrow(new EntityNotFoundException("Booking not found"));
 
             mockMvc.perform(put("/api/bookings/99/status")
@@ -374,7 +512,7 @@ public class BookingControllerTest {
         @WithMockUser(roles = "USER")
         void confirmBooking_shouldConfirmBooking_whenValidRequest() throws Exception {
             BookingResponse response = createBookingResponse();
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.confirmBooking(1L, testUser)).thenReturn(response);
 
             mockMvc.perform(post("/api/bookings/1/confirm"))
@@ -388,7 +526,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void confirmBooking_shouldReturnNotFound_whenBookingDoesNotExist() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.confirmBooking(99L, testUser))
                     .thenThrow(new EntityNotFoundException("Booking not found"));
 
@@ -413,7 +551,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void cancelBooking_shouldCancelBooking_whenValidRequest() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             doNothing().when(bookingService).cancelBooking(1L, testUser);
 
             mockMvc.perform(post("/api/bookings/1/cancel"))
@@ -425,7 +563,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void cancelBooking_shouldReturnNotFound_whenBookingDoesNotExist() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             doThrow(new EntityNotFoundException("Booking not found")).when(bookingService).cancelBooking(99L, testUser);
 
             mockMvc.perform(post("/api/bookings/99/cancel"))
@@ -451,7 +589,7 @@ public class BookingControllerTest {
         void updatePassengerNames_shouldUpdateNames_whenValidRequest() throws Exception {
             List<String> newNames = List.of("Lola", "Juan");
             BookingResponse response = createBookingResponse();
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updatePassengerNames(1L, newNames, testUser)).thenReturn(response);
 
             mockMvc.perform(put("/api/bookings/1/passenger-names")
@@ -468,7 +606,7 @@ public class BookingControllerTest {
         @WithMockUser(roles = "USER")
         void updatePassengerNames_shouldReturnForbidden_whenBookingConfirmed() throws Exception {
             List<String> newNames = List.of("Lola", "Juan");
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updatePassengerNames(1L, newNames, testUser)).thenThrow(new BookingAccessDeniedException("Cannot modify passenger birth dates after booking is CONFORMED or CANCELLED"));
 
             mockMvc.perform(put("/api/bookings/1/passenger-names")
@@ -499,7 +637,7 @@ public class BookingControllerTest {
         void updatePassengerBirthDates_shouldUpdateBirthDates_whenValidRequest() throws Exception {
             List<LocalDate> newDates = List.of(LocalDate.of(1990, 1, 1), LocalDate.of(1992, 1, 1));
             BookingResponse response = createBookingResponse();
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updatePassengerBirthDates(1L, newDates, testUser)).thenReturn(response);
 
             mockMvc.perform(put("/api/bookings/1/passenger-birth-dates")
@@ -516,7 +654,7 @@ public class BookingControllerTest {
         @WithMockUser(roles = "USER")
         void updatePassengerBirthDates_shouldReturnForbidden_whenBookingConfirmed() throws Exception {
             List<LocalDate> newDates = List.of(LocalDate.of(1990, 1, 1), LocalDate.of(1992, 1, 1));
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingService.updatePassengerBirthDates(1L, newDates, testUser)).thenThrow(new BookingAccessDeniedException("Cannot modify passenger birth dates after booking is CONFORMED or CANCELLED"));
 
             mockMvc.perform(put("/api/bookings/1/passenger-birth-dates")
@@ -546,7 +684,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void deleteBooking_shouldDeleteBooking_whenValidRequest() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             doNothing().when(bookingService).deleteBooking(1L, testUser);
 
             mockMvc.perform(delete("/api/bookings/1"))
@@ -558,7 +696,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void deleteBooking_shouldReturnNotFound_whenBookingDoesNotExist() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             doThrow(new EntityNotFoundException("Booking not found"))
                     .when(bookingService).deleteBooking(99L, testUser);
 
@@ -571,7 +709,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "USER")
         void deleteBooking_shouldReturnForbidden_whenUserTriesToDeleteConfirmedBooking() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             doThrow(new BookingAccessDeniedException("Users can only delete bookings in CREATED status"))
                     .when(bookingService).deleteBooking(1L, testUser);
 
@@ -584,7 +722,7 @@ public class BookingControllerTest {
         @Test
         @WithMockUser(roles = "ADMIN")
         void deleteBooking_shouldAllowAdmin_toDeleteAnyBooking() throws Exception {
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             doNothing().when(bookingService).deleteBooking(1L, testAdmin);
 
             mockMvc.perform(delete("/api/bookings/1"))
@@ -71,7 +71,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldReturnFilteredBookings_whenNoFiltersProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -81,7 +81,7 @@ public class BookingFilterControllerTest {
                     .andExpect(jsonPath("$.content").isArray())
                     .andExpect(jsonPath("$.content[0].bookingNumber").value("SR-ABC123"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -90,7 +90,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByStatus_whenStatusProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -109,7 +109,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByBookingNumber_whenBookingNumberProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -119,7 +119,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].bookingNumber").value("SR-ABC123"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -128,7 +128,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByFlightDepartureDate_whenDateProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -138,7 +138,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -147,7 +147,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByMinPrice_whenMinPriceProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -157,7 +157,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].totalPrice").value(399.99));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -166,7 +166,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByOriginAirport_whenOriginProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -176,7 +176,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].originAirport").value("Madrid"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -185,7 +185,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByDestinationAirport_whenDestinationProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -195,7 +195,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].destinationAirport").value("Valencia"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -204,7 +204,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterByPassengerName_whenPassengerNameProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -214,7 +214,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].passengerNames[0]").value("Pepa"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -223,7 +223,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldFilterFutureFlights_whenFutureFlightsOnlyIsTrue() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -233,7 +233,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -242,7 +242,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldApplyMultipleFilters_whenMultipleFiltersProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -256,7 +256,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -265,7 +265,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldApplyPagination_whenPaginationParamsProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -276,7 +276,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -285,7 +285,7 @@ public class BookingFilterControllerTest {
         void filterMyBookings_shouldApplySorting_whenSortParamsProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(bookingPage);
 
@@ -296,7 +296,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -304,7 +304,7 @@ public class BookingFilterControllerTest {
         @WithMockUser(roles = "USER")
         void filterMyBookings_shouldReturnEmptyPage_whenNoBookingsMatchFilters() throws Exception {
             Page<BookingResponse> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            when(userService.getCurrentUser()).thenReturn(testUser);
+            when(userService.getCurrentUserIdentity()).thenReturn(testUser);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testUser)))
                     .thenReturn(emptyPage);
 
@@ -314,7 +314,7 @@ public class BookingFilterControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content").isArray());
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testUser));
         }
 
@@ -344,7 +344,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldReturnFilteredBookings_whenNoFiltersProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -354,7 +354,7 @@ public class BookingFilterControllerTest {
                     .andExpect(jsonPath("$.content").isArray())
                     .andExpect(jsonPath("$.content[0].bookingNumber").value("SR-ABC123"));
 
-            verify(userService).getCurrentUser();
+            verify(userService).getCurrentUserIdentity();
             verify(bookingFilterService).filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin));
         }
 
@@ -363,7 +363,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByUserId_whenUserIdProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -381,7 +381,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByUserEmail_whenUserEmailProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -399,7 +399,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByUserName_whenUserNameProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -417,7 +417,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByFlightId_whenFlightIdProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -435,7 +435,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByFlightNumber_whenFlightNumberProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -453,7 +453,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByMaxPrice_whenMaxPriceProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -471,7 +471,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterByPriceRange_whenMinAndMaxPriceProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -490,7 +490,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterActiveBookings_whenActiveOnlyIsTrue() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -508,7 +508,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldFilterPendingBookings_whenPendingOnlyIsTrue() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -526,7 +526,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldApplyAllFilters_whenAllFiltersProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(0, 10),
                     1);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
@@ -570,7 +570,7 @@ public class BookingFilterControllerTest {
         @WithMockUser(roles = "ADMIN")
         void filterAdminBookings_shouldReturnEmptyPage_whenNoBookingsMatchFilters() throws Exception {
             Page<BookingResponse> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(emptyPage);
 
@@ -588,7 +588,7 @@ public class BookingFilterControllerTest {
         void filterAdminBookings_shouldApplyPaginationAndSorting_whenParamsProvided() throws Exception {
             Page<BookingResponse> bookingPage = new PageImpl<>(List.of(createBookingResponse()), PageRequest.of(2, 10),
                     100);
-            when(userService.getCurrentUser()).thenReturn(testAdmin);
+            when(userService.getCurrentUserIdentity()).thenReturn(testAdmin);
             when(bookingFilterService.filterBookings(any(BookingFilterRequest.class), any(), eq(testAdmin)))
                     .thenReturn(bookingPage);
 
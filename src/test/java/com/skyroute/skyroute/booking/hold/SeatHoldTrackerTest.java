@@ -0,0 +1,77 @@
+package com.skyroute.skyroute.booking.hold;
+
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldTrackerTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private SeatHoldTracker seatHoldTracker;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        seatHoldTracker = new SeatHoldTracker(bookingRepository, Duration.ofMinutes(15), Duration.ofSeconds(30),
+                Duration.ofSeconds(1), 64);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void holdUntil_shouldAddConfiguredTtl() {
+        assertEquals(now.plusMinutes(15), seatHoldTracker.holdUntil(now));
+    }
+
+    @Test
+    void expired_shouldReturnOnlyHoldsPastTheirExpiry() {
+        seatHoldTracker.track(1L, now.plusSeconds(5));
+        seatHoldTracker.track(2L, now.plusMinutes(10));
+
+        assertTrue(seatHoldTracker.expired(now).isEmpty());
+        assertEquals(List.of(1L), seatHoldTracker.expired(now.plusSeconds(7)));
+        assertEquals(1, seatHoldTracker.pendingHolds());
+    }
+
+    @Test
+    void track_shouldReplacePreviousHoldOfSameBooking() {
+        seatHoldTracker.track(1L, now.plusSeconds(5));
+        seatHoldTracker.track(1L, now.plusMinutes(5));
+
+        assertTrue(seatHoldTracker.expired(now.plusSeconds(7)).isEmpty());
+        assertEquals(1, seatHoldTracker.pendingHolds());
+    }
+
+    @Test
+    void retryLater_shouldScheduleHoldAgainAfterRetryDelay() {
+        seatHoldTracker.retryLater(1L, now);
+
+        assertTrue(seatHoldTracker.expired(now.plusSeconds(20)).isEmpty());
+        assertEquals(List.of(1L), seatHoldTracker.expired(now.plusSeconds(32)));
+    }
+
+    @Test
+    void rehydrate_shouldTrackPendingHoldsStoredInDatabase() {
+        when(bookingRepository.findHolds(BookingStatus.CREATED)).thenReturn(List.of(
+                new BookingHold(1L, now.minusMinutes(1)),
+                new BookingHold(2L, now.plusMinutes(5))));
+
+        seatHoldTracker.rehydrate();
+
+        assertEquals(List.of(1L), seatHoldTracker.expired(now));
+        assertEquals(1, seatHoldTracker.pendingHolds());
+    }
+}
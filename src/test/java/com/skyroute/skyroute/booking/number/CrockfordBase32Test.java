@@ -0,0 +1,35 @@
+package com.skyroute.skyroute.booking.number;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrockfordBase32Test {
+
+    @Test
+    void encode_shouldPadToFixedLength_andRoundTrip() {
+        assertEquals("000", CrockfordBase32.encode(0, 3));
+        assertEquals("00Z", CrockfordBase32.encode(31, 3));
+        assertEquals("010", CrockfordBase32.encode(32, 3));
+        assertEquals(123_456_789L, CrockfordBase32.decode(CrockfordBase32.encode(123_456_789L, 9)));
+    }
+
+    @Test
+    void encode_shouldKeepNumericOrder_asLexicographicOrder() {
+        assertTrue(CrockfordBase32.encode(999, 4).compareTo(CrockfordBase32.encode(1_000, 4)) < 0);
+        assertTrue(CrockfordBase32.encode(31, 4).compareTo(CrockfordBase32.encode(32, 4)) < 0);
+    }
+
+    @Test
+    void encode_shouldReject_whenValueDoesNotFit() {
+        assertThrows(IllegalArgumentException.class, () -> CrockfordBase32.encode(32, 1));
+        assertThrows(IllegalArgumentException.class, () -> CrockfordBase32.encode(-1, 3));
+    }
+
+    @Test
+    void decode_shouldAcceptLowercaseAndAmbiguousCharacters() {
+        assertEquals(CrockfordBase32.decode("01A"), CrockfordBase32.decode("oLa"));
+        assertEquals(CrockfordBase32.decode("11"), CrockfordBase32.decode("iI"));
+        assertThrows(IllegalArgumentException.class, () -> CrockfordBase32.decode("U"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.skyroute.skyroute.booking.number;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequentialBookingNumberGeneratorTest {
+
+    private static final long NOW = SequentialBookingNumberGenerator.EPOCH_SECOND + 86_400;
+
+    @Test
+    void next_shouldStartWithPrefixAndNode_andHaveFixedLength() {
+        SequentialBookingNumberGenerator generator = new SequentialBookingNumberGenerator(33, () -> NOW);
+
+        String bookingNumber = generator.next();
+
+        assertTrue(bookingNumber.startsWith("SR-11"));
+        assertEquals(3 + SequentialBookingNumberGenerator.NODE_CHARS + SequentialBookingNumberGenerator.COUNTER_CHARS,
+                bookingNumber.length());
+    }
+
+    @Test
+    void next_shouldBeStrictlyIncreasing_evenWhenClockStandsStillOrGoesBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SequentialBookingNumberGenerator generator = new SequentialBookingNumberGenerator(1, clock::get);
+
+        String previous = generator.next();
+        for (int i = 0; i < 50_000; i++) {
+            if (i == 20_000) {
+                clock.addAndGet(-60);
+            }
+            String next = generator.next();
+            assertTrue(next.compareTo(previous) > 0, next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void next_shouldJumpToClock_afterIdlePeriod() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SequentialBookingNumberGenerator generator = new SequentialBookingNumberGenerator(1, clock::get);
+        generator.next();
+
+        clock.addAndGet(3_600);
+
+        long counter = CrockfordBase32.decode(generator.next().substring(5));
+        assertEquals(NOW + 3_600 - SequentialBookingNumberGenerator.EPOCH_SECOND, counter >> SequentialBookingNumberGenerator.SEQUENCE_BITS);
+    }
+
+    @Test
+    void next_shouldNotCollide_acrossThreadsAndNodes() throws Exception {
+        Set<String> bookingNumbers = ConcurrentHashMap.newKeySet();
+        List<SequentialBookingNumberGenerator> nodes = List.of(
+                new SequentialBookingNumberGenerator(0, () -> NOW),
+                new SequentialBookingNumberGenerator(1, () -> NOW));
+        List<Runnable> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            SequentialBookingNumberGenerator generator = nodes.get(thread % 2);
+            tasks.add(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    bookingNumbers.add(generator.next());
+                }
+            });
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            tasks.forEach(executor::execute);
+        }
+
+        assertEquals(8 * 50_000, bookingNumbers.size());
+    }
+
+    @Test
+    void nodeIndex_shouldParseConfiguredNode() {
+        assertEquals(7, SequentialBookingNumberGenerator.nodeIndex("7"));
+        assertEquals(0, SequentialBookingNumberGenerator.nodeIndex(" 0 "));
+    }
+
+    @Test
+    void nodeIndex_shouldFail_whenNodeIsMissingOrNotANumber() {
+        assertThrows(IllegalStateException.class, () -> SequentialBookingNumberGenerator.nodeIndex(""));
+        assertThrows(IllegalStateException.class, () -> SequentialBookingNumberGenerator.nodeIndex(null));
+        assertThrows(IllegalStateException.class, () -> SequentialBookingNumberGenerator.nodeIndex("skyroute-7d9f8-x2k4p"));
+    }
+
+    @Test
+    void constructor_shouldReject_whenNodeOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialBookingNumberGenerator(1_024, () -> NOW));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialBookingNumberGenerator("-1"));
+        assertTrue(new SequentialBookingNumberGenerator(1_023, () -> NOW).next().startsWith("SR-ZZ"));
+    }
+}
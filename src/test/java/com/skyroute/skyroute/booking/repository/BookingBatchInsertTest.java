@@ -0,0 +1,121 @@
+package com.skyroute.skyroute.booking.repository;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.entity.Passenger;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BookingBatchInsertTest {
+
+    private static final int BOOKINGS = 40;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .firstName("Batch")
+                .lastName("Tester")
+                .email("batch.tester@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        Airport origin = entityManager.persist(Airport.builder().code("BTA").city("Batch A").imageUrl("a.jpg").build());
+        Airport destination = entityManager.persist(Airport.builder().code("BTB").city("Batch B").imageUrl("b.jpg").build());
+        Route route = entityManager.persist(Route.builder().origin(origin).destination(destination).build());
+        Aircraft aircraft = entityManager.persist(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(3).withNano(0);
+        flight = entityManager.persist(Flight.builder()
+                .flightNumber("BT001")
+                .route(route)
+                .aircraft(aircraft)
+                .availableSeats(180)
+                .price(80.0)
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(2))
+                .available(true)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void saveAll_shouldAssignIdsBeforeFlush_andInsertBookingsInBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Booking> saved = bookingRepository.saveAll(IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> booking("SR-BT%04d".formatted(i)))
+                .toList());
+
+        assertTrue(saved.stream().allMatch(booking -> booking.getId() != null));
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(BOOKINGS, saved.stream().map(Booking::getId).distinct().count());
+
+        entityManager.flush();
+
+        assertEquals(BOOKINGS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void saveAll_shouldPersistPassengersOfEveryBooking() {
+        List<Long> ids = bookingRepository.saveAll(List.of(booking("SR-BT1001"), booking("SR-BT1002")))
+                .stream().map(Booking::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        ids.forEach(id -> {
+            Booking booking = bookingRepository.findById(id).orElseThrow();
+            assertEquals(List.of("Ada Lovelace", "Alan Turing"), booking.getPassengerNames());
+            assertEquals(2, booking.getPassengerBirthDates().size());
+        });
+    }
+
+    private Booking booking(String bookingNumber) {
+        return Booking.builder()
+                .bookingNumber(bookingNumber)
+                .bookedSeats(2)
+                .passengers(new ArrayList<>(List.of(new Passenger("Ada Lovelace", LocalDate.of(1990, 12, 10)),
+                        new Passenger("Alan Turing", LocalDate.of(1985, 6, 23)))))
+                .totalPrice(160.0)
+                .bookingStatus(BookingStatus.CREATED)
+                .user(user)
+                .flight(flight)
+                .build();
+    }
+}
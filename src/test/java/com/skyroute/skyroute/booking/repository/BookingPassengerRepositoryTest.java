@@ -0,0 +1,90 @@
+package com.skyroute.skyroute.booking.repository;
+
+import com.skyroute.skyroute.booking.dto.BookingMapper;
+import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.entity.Passenger;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BookingPassengerRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void migration_shouldPairNamesAndBirthDatesOfSeedBookingsInOrder() {
+        Booking booking = findByBookingNumber("BK003");
+
+        assertEquals(List.of(
+                new Passenger("Bob Smith", LocalDate.of(1988, 11, 8)),
+                new Passenger("Sarah Smith", LocalDate.of(1992, 3, 15)),
+                new Passenger("Emma Smith", LocalDate.of(2015, 9, 20))), booking.getPassengers());
+    }
+
+    @Test
+    void findAll_shouldLoadPassengersOfWholePageInOneQuery() {
+        List<BookingResponse> page = bookingRepository.findAll(PageRequest.of(0, 10, Sort.by("id")))
+                .map(BookingMapper::toDto)
+                .getContent();
+
+        assertEquals(10, page.size());
+        assertTrue(page.stream().allMatch(response -> response.passengerNames().size() == response.bookedSeats()));
+        assertEquals(1, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void updatingOnePassenger_shouldOnlyUpdateItsRow() {
+        Booking booking = findByBookingNumber("BK007");
+        Passenger second = booking.getPassengers().get(1);
+        statistics.clear();
+
+        booking.getPassengers().set(1, new Passenger("Renamed Passenger", second.getBirthDate()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(0, statistics.getCollectionRemoveCount());
+        Booking reloaded = findByBookingNumber("BK007");
+        assertEquals("Renamed Passenger", reloaded.getPassengers().get(1).getName());
+        assertEquals(4, reloaded.getPassengers().size());
+    }
+
+    private Booking findByBookingNumber(String bookingNumber) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT b FROM Booking b WHERE b.bookingNumber = :bookingNumber", Booking.class)
+                .setParameter("bookingNumber", bookingNumber)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,122 @@
+package com.skyroute.skyroute.booking.repository;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
+import com.skyroute.skyroute.booking.dto.BookingResponse;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.specification.BookingSpecification;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BookingProjectionRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private Booking first;
+    private Booking second;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .firstName("Projection")
+                .lastName("Tester")
+                .email("projection.tester@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        Airport origin = entityManager.persist(Airport.builder().code("PJA").city("Projection A").imageUrl("a.jpg").build());
+        Airport destination = entityManager.persist(Airport.builder().code("PJB").city("Projection B").imageUrl("b.jpg").build());
+        Route route = entityManager.persist(Route.builder().origin(origin).destination(destination).build());
+        Aircraft aircraft = entityManager.persist(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(3).withNano(0);
+        Flight flight = entityManager.persist(Flight.builder()
+                .flightNumber("PJ001")
+                .route(route)
+                .aircraft(aircraft)
+                .availableSeats(100)
+                .price(80.0)
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(2))
+                .available(true)
+                .build());
+
+        first = entityManager.persist(booking("SR-PJ0001", flight, List.of("Ada Lovelace", "Alan Turing"),
+                List.of(LocalDate.of(1990, 12, 10), LocalDate.of(1985, 6, 23))));
+        second = entityManager.persist(booking("SR-PJ0002", flight, List.of("Grace Hopper"),
+                List.of(LocalDate.of(1992, 12, 9))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findResponses_shouldMatchEntityMapping() {
+        Page<BookingResponse> page = bookingRepository.findResponses(BookingSpecification.hasUserId(user.getId()),
+                PageRequest.of(0, 10, Sort.by("bookingNumber")));
+
+        BookingResponse projected = page.getContent().get(0);
+        BookingResponse mapped = BookingMapper.toDto(bookingRepository.findById(first.getId()).orElseThrow());
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(projected, mapped);
+        assertEquals(List.of("Grace Hopper"), page.getContent().get(1).passengerNames());
+        assertEquals(List.of("09-12-1992"), page.getContent().get(1).passengerBirthDates());
+    }
+
+    @Test
+    void findResponses_shouldNotDuplicateBookings_whenJoiningPassengerNames() {
+        Page<BookingResponse> page = bookingRepository.findResponses(
+                BookingSpecification.hasUserId(user.getId()).and(BookingSpecification.hasPassengerName("a")),
+                PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    void findResponse_shouldReturnEmpty_whenNoBookingMatches() {
+        Optional<BookingResponse> found = bookingRepository.findResponse(BookingSpecification.hasId(second.getId()));
+        Optional<BookingResponse> missing = bookingRepository.findResponse(BookingSpecification.hasId(-1L));
+
+        assertEquals("SR-PJ0002", found.orElseThrow().bookingNumber());
+        assertTrue(missing.isEmpty());
+    }
+
+    private Booking booking(String bookingNumber, Flight flight, List<String> names, List<LocalDate> birthDates) {
+        return Booking.builder()
+                .bookingNumber(bookingNumber)
+                .bookedSeats(names.size())
+                .passengers(BookingMapper.toPassengers(names, birthDates))
+                .totalPrice(80.0 * names.size())
+                .bookingStatus(BookingStatus.CREATED)
+                .user(user)
+                .flight(flight)
+                .build();
+    }
+}
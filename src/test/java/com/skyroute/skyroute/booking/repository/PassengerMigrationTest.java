@@ -0,0 +1,86 @@
+package com.skyroute.skyroute.booking.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassengerMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:passenger-migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate("14");
+    }
+
+    @Test
+    void v15_shouldPairNamesAndBirthDatesInInsertionOrder() {
+        jdbcTemplate.update("DELETE FROM booking_passenger_names WHERE booking_id = 1");
+        jdbcTemplate.update("DELETE FROM booking_passenger_birth_dates WHERE booking_id = 1");
+        for (String name : List.of("Zoe Last", "Adam First", "Mia Middle")) {
+            jdbcTemplate.update("INSERT INTO booking_passenger_names (booking_id, passenger_names) VALUES (1, ?)", name);
+        }
+        for (String birthDate : List.of("2001-01-01", "1970-12-31", "1990-06-15")) {
+            jdbcTemplate.update("INSERT INTO booking_passenger_birth_dates (booking_id, passenger_birth_dates) VALUES (1, ?)",
+                    Date.valueOf(birthDate));
+        }
+
+        migrate("15");
+
+        assertEquals(List.of("Zoe Last|2001-01-01", "Adam First|1970-12-31", "Mia Middle|1990-06-15"),
+                jdbcTemplate.queryForList("""
+                        SELECT CONCAT(name, '|', birth_date) FROM booking_passenger
+                        WHERE booking_id = 1 ORDER BY ordinal
+                        """, String.class));
+        assertEquals(0, count("booking_passenger_unmatched"));
+    }
+
+    @Test
+    void v15_shouldKeepUnpairedPassengers_whenListSizesDiffer() {
+        jdbcTemplate.update("INSERT INTO booking_passenger_names (booking_id, passenger_names) VALUES (2, 'Extra Name')");
+        jdbcTemplate.update("INSERT INTO booking_passenger_birth_dates (booking_id, passenger_birth_dates) VALUES (3, ?)",
+                Date.valueOf("2020-02-02"));
+        int names = count("booking_passenger_names");
+        int birthDates = count("booking_passenger_birth_dates");
+
+        migrate("15");
+
+        List<Map<String, Object>> unmatched = jdbcTemplate.queryForList(
+                "SELECT booking_id, ordinal, name, birth_date FROM booking_passenger_unmatched ORDER BY booking_id");
+        assertEquals(2, unmatched.size());
+        assertEquals("Extra Name", unmatched.get(0).get("NAME"));
+        assertNull(unmatched.get(0).get("BIRTH_DATE"));
+        assertEquals(1, unmatched.get(0).get("ORDINAL"));
+        assertNull(unmatched.get(1).get("NAME"));
+        assertEquals(Date.valueOf("2020-02-02"), unmatched.get(1).get("BIRTH_DATE"));
+        assertEquals(3, unmatched.get(1).get("ORDINAL"));
+        assertEquals(names - 1, count("booking_passenger"));
+        assertEquals(birthDates - 1, count("booking_passenger"));
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.skyroute.skyroute.booking.service;
 
 import com.skyroute.skyroute.booking.dto.BookingFilterRequest;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.entity.Booking;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
@@ -23,6 +24,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,8 +59,8 @@ class BookingFilterServiceTest {
 
         @Test
         void shouldReturnFilteredBookingsForUser() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withBookingStatus(BookingStatus.CONFIRMED).build();
@@ -69,13 +71,13 @@ class BookingFilterServiceTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).bookingNumber()).isEqualTo(testBooking.getBookingNumber());
 
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldReturnFilteredBookingsForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withBookingStatus(BookingStatus.CONFIRMED).build();
@@ -85,13 +87,13 @@ class BookingFilterServiceTest {
             assertThat(result.getTotalElements()).isEqualTo(1);
             assertThat(result.getContent()).hasSize(1);
 
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleNullFilterRequestForUser() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             Page<BookingResponse> result = bookingFilterService.filterBookings(null, defaultPageable, testUser);
@@ -99,13 +101,13 @@ class BookingFilterServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getTotalElements()).isEqualTo(1);
 
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleNullFilterRequestForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             Page<BookingResponse> result = bookingFilterService.filterBookings(null, defaultPageable, testAdmin);
@@ -113,13 +115,13 @@ class BookingFilterServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getTotalElements()).isEqualTo(1);
 
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldReturnEmptyPageWhenNoBookingsMatch() {
-            Page<Booking> emptyPage = new PageImpl<>(List.of(), defaultPageable, 0);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> emptyPage = new PageImpl<>(List.of(), defaultPageable, 0);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(emptyPage);
 
             BookingFilterRequest filter = buildFilter().withBookingStatus(BookingStatus.CANCELLED).build();
@@ -136,93 +138,93 @@ class BookingFilterServiceTest {
 
         @Test
         void shouldApplyUserIdFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withUserId(1L).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyUserEmailFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withUserEmail("user@example.com").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyUserNameFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withUserName("John Doe").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyFlightIdFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withFlightId(1L).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyFlightNumberFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withFlightNumber("SK123").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyActiveOnlyFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withActiveOnly(true).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyPendingOnlyFilterForAdmin() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withPendingOnly(true).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testAdmin);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
     }
 
@@ -231,119 +233,119 @@ class BookingFilterServiceTest {
 
         @Test
         void shouldApplyBookingStatusFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withBookingStatus(BookingStatus.CONFIRMED).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyBookingNumberFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withBookingNumber("SR-123").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyDepartureDateFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withFlightDepartureDate(LocalDate.now()).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyPriceRangeFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withMinPrice(100.0).withMaxPrice(500.0).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyOriginAirportFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withOriginAirport("MAD").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyDestinationAirportFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withDestinationAirport("VAL").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyPassengerNameFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withPassengerName("John Smith").build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyFutureFlightsFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withFutureFlightsOnly(true).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldApplyPastFlightsFilter() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withFutureFlightsOnly(false).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
     }
 
@@ -352,8 +354,8 @@ class BookingFilterServiceTest {
 
         @Test
         void shouldHandleEmptyStringFilters() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter()
@@ -365,52 +367,52 @@ class BookingFilterServiceTest {
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleZeroPriceValues() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withMinPrice(0.0).withMaxPrice(0.0).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleOnlyMinPrice() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withMinPrice(100.0).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleOnlyMaxPrice() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter().withMaxPrice(500.0).build();
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
 
         @Test
         void shouldHandleMultipleFiltersAtOnce() {
-            Page<Booking> bookingPage = createPageWithBookings(testBooking);
-            when(bookingRepository.findAll(any(Specification.class), eq(defaultPageable)))
+            Page<BookingResponse> bookingPage = createPageWithBookings(testBooking);
+            when(bookingRepository.findResponses(any(Specification.class), eq(defaultPageable)))
                     .thenReturn(bookingPage);
 
             BookingFilterRequest filter = buildFilter()
@@ -425,7 +427,7 @@ class BookingFilterServiceTest {
             Page<BookingResponse> result = bookingFilterService.filterBookings(filter, defaultPageable, testUser);
 
             assertThat(result).isNotNull();
-            verify(bookingRepository).findAll(any(Specification.class), eq(defaultPageable));
+            verify(bookingRepository).findResponses(any(Specification.class), eq(defaultPageable));
         }
     }
 
@@ -449,10 +451,9 @@ class BookingFilterServiceTest {
                 .bookedSeats(2)
                 .totalPrice(399.98)
                 .bookingStatus(BookingStatus.CREATED)
-                .passengerNames(List.of("John", "Jane"))
-                .passengerBirthDates(List.of(
+                .passengers(BookingMapper.toPassengers(List.of("John", "Jane"), List.of(
                         LocalDate.of(1990, 1, 1),
-                        LocalDate.of(1992, 2, 2)))
+                        LocalDate.of(1992, 2, 2))))
                 .user(testUser)
                 .flight(createFlight())
                 .build();
@@ -488,8 +489,9 @@ class BookingFilterServiceTest {
                 .build();
     }
 
-    private Page<Booking> createPageWithBookings(Booking... bookings) {
-        return new PageImpl<>(List.of(bookings), defaultPageable, bookings.length);
+    private Page<BookingResponse> createPageWithBookings(Booking... bookings) {
+        List<BookingResponse> responses = Stream.of(bookings).map(BookingMapper::toDto).toList();
+        return new PageImpl<>(responses, defaultPageable, bookings.length);
     }
 
     private FilterBuilder buildFilter() {
@@ -2,10 +2,13 @@ package com.skyroute.skyroute.booking.service;
 
 import com.skyroute.skyroute.aircraft.entity.Aircraft;
 import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
 import com.skyroute.skyroute.booking.dto.BookingRequest;
 import com.skyroute.skyroute.booking.dto.BookingResponse;
 import com.skyroute.skyroute.booking.entity.Booking;
 import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.hold.SeatHoldTracker;
+import com.skyroute.skyroute.booking.number.BookingNumberGenerator;
 import com.skyroute.skyroute.email.EmailService;
 import com.skyroute.skyroute.flight.service.FlightService;
 import com.skyroute.skyroute.shared.exception.custom_exception.BookingAccessDeniedException;
@@ -15,16 +18,19 @@ import com.skyroute.skyroute.booking.repository.BookingRepository;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.route.entity.Route;
 import com.skyroute.skyroute.shared.exception.custom_exception.InvalidBookingOperationException;
+import com.skyroute.skyroute.shared.exception.custom_exception.NotEnoughSeatsException;
 import com.skyroute.skyroute.user.entity.User;
 import com.skyroute.skyroute.user.enums.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Nested;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -49,6 +55,12 @@ public class BookingServiceUnitTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private SeatHoldTracker seatHoldTracker;
+
+    @Mock
+    private BookingNumberGenerator bookingNumberGenerator;
+
     @InjectMocks
     private BookingServiceImpl bookingServiceImpl;
 
@@ -77,55 +89,70 @@ public class BookingServiceUnitTest {
         @Test
         void gelAllBookingsAdmin_shouldReturnPaginatedBookings_whenValidRequest() {
             Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt"));
-            Page<Booking> bookingPage = new PageImpl<>(List.of(testBooking), pageable, 1);
+            Page<BookingResponse> bookingPage = new PageImpl<>(List.of(BookingMapper.toDto(testBooking)), pageable, 1);
 
-            when(bookingRepository.findAll(any(Pageable.class))).thenReturn(bookingPage);
+            when(bookingRepository.findResponses(any(Specification.class), any(Pageable.class))).thenReturn(bookingPage);
 
             Page<BookingResponse> result = bookingServiceImpl.getAllBookingsAdmin(0, 10, "createdAt", "ASC");
 
             assertEquals(1, result.getTotalElements());
             assertEquals(testBooking.getBookingNumber(), result.getContent().getFirst().bookingNumber());
 
-            verify(bookingRepository, times(1)).findAll(any(Pageable.class));
+            verify(bookingRepository, times(1)).findResponses(any(Specification.class), any(Pageable.class));
+            verify(bookingRepository, never()).findAll(any(Pageable.class));
         }
 
         @Test
         void gelAllBookingsUser_shouldReturnPaginatedBookings_whenUserIsAuth() {
             Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
-            Page<Booking> bookingPage = new PageImpl<>(List.of(testBooking), pageable, 1);
+            Page<BookingResponse> bookingPage = new PageImpl<>(List.of(BookingMapper.toDto(testBooking)), pageable, 1);
 
-            when(bookingRepository.findAllByUser(any(Pageable.class), eq(testUser))).thenReturn(bookingPage);
+            when(bookingRepository.findResponses(any(Specification.class), any(Pageable.class))).thenReturn(bookingPage);
 
             Page<BookingResponse> result = bookingServiceImpl.getAllBookingsUser(testUser, 0, 10, "id", "ASC");
 
             assertEquals(1, result.getTotalElements());
             assertEquals(testBooking.getBookingNumber(), result.getContent().getFirst().bookingNumber());
 
-            verify(bookingRepository, times(1)).findAllByUser(any(Pageable.class), eq(testUser));
+            verify(bookingRepository, times(1)).findResponses(any(Specification.class), any(Pageable.class));
         }
 
         @Test
         void getBookingById_shouldReturnBooking_whenExist() {
-            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+            when(bookingRepository.findResponse(any(Specification.class)))
+                    .thenReturn(Optional.of(BookingMapper.toDto(testBooking)));
 
             BookingResponse response = bookingServiceImpl.getBookingById(1L, testUser);
 
             assertEquals(testBooking.getBookingNumber(), response.bookingNumber());
             assertEquals(testBooking.getTotalPrice(), response.totalPrice());
 
-            verify(bookingRepository, times(1)).findById(1L);
+            verify(bookingRepository, times(1)).findResponse(any(Specification.class));
+            verify(bookingRepository, never()).findById(any());
         }
 
         @Test
         void getBookingById_shouldReturnBooking_whenNoExist() {
-            when(bookingRepository.findById(99L)).thenReturn(Optional.empty());
+            when(bookingRepository.findResponse(any(Specification.class))).thenReturn(Optional.empty());
+            when(bookingRepository.existsById(99L)).thenReturn(false);
 
             EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
                     () -> bookingServiceImpl.getBookingById(99L, testUser));
 
             assertEquals("Booking not found", exception.getMessage());
 
-            verify(bookingRepository, times(1)).findById(99L);
+            verify(bookingRepository, times(1)).findResponse(any(Specification.class));
+        }
+
+        @Test
+        void getBookingById_shouldThrowAccessDenied_whenBookingBelongsToAnotherUser() {
+            when(bookingRepository.findResponse(any(Specification.class))).thenReturn(Optional.empty());
+            when(bookingRepository.existsById(1L)).thenReturn(true);
+
+            BookingAccessDeniedException exception = assertThrows(BookingAccessDeniedException.class,
+                    () -> bookingServiceImpl.getBookingById(1L, anotherUser));
+
+            assertEquals("User cannot access this booking", exception.getMessage());
         }
     }
 
@@ -134,11 +161,8 @@ public class BookingServiceUnitTest {
 
         @Test
         void createBooking_shouldCreateBooking_whenValidRequest() {
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(true);
-            when(flightService.hasAvailableSeats(1L, 2)).thenReturn(true);
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
             when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
-            doNothing().when(flightService).bookSeats(1L, 2);
             doNothing().when(emailService).sendBookingConfirmationEmail(any(Booking.class), any(User.class), any(Flight.class));
 
             BookingResponse result = bookingServiceImpl.createBooking(testRequest, testUser);
@@ -148,74 +172,97 @@ public class BookingServiceUnitTest {
             assertEquals(testBooking.getTotalPrice(), result.totalPrice());
             assertEquals(testBooking.getBookedSeats(), result.bookedSeats());
 
-            verify(flightService).findById(1L);
-            verify(flightService).isFlightAvailable(1L);
-            verify(flightService).hasAvailableSeats(1L, 2);
             verify(flightService).bookSeats(1L, 2);
-            verify(flightService).updateAvailabilityIfNeeded(1L);
+            verify(flightService, never()).findById(anyLong());
+            verify(flightService, never()).updateAvailabilityIfNeeded(anyLong());
             verify(bookingRepository).save(any(Booking.class));
             verify(emailService).sendBookingConfirmationEmail(any(Booking.class), any(User.class), any(Flight.class));
         }
 
+        @Test
+        void createBooking_shouldHoldSeatsUntilExpiry_whenBookingCreated() {
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
+            when(seatHoldTracker.holdUntil(any(LocalDateTime.class))).thenReturn(expiresAt);
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+                Booking booking = invocation.getArgument(0);
+                booking.setId(7L);
+                return booking;
+            });
+
+            bookingServiceImpl.createBooking(testRequest, testUser);
+
+            verify(bookingRepository).save(argThat(booking -> expiresAt.equals(booking.getHoldExpiresAt())));
+            verify(seatHoldTracker).track(7L, expiresAt);
+        }
+
+        @Test
+        void createBooking_shouldAssignGeneratedBookingNumber() {
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
+            when(bookingNumberGenerator.next()).thenReturn("SR-01000000001");
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            BookingResponse result = bookingServiceImpl.createBooking(testRequest, testUser);
+
+            assertEquals("SR-01000000001", result.bookingNumber());
+        }
+
         @Test
         void createBooking_shouldThrowException_whenFlightNotFound() {
-            when(flightService.findById(1L)).thenThrow(new EntityNotFoundException("Flight with id: 1 not found"));
+            when(flightService.bookSeats(1L, 2)).thenThrow(new EntityNotFoundException("Flight with id: 1 not found"));
 
             EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> bookingServiceImpl.createBooking(testRequest, testUser));
 
             assertEquals("Flight with id: 1 not found", exception.getMessage());
 
-            verify(flightService).findById(1L);
             verify(bookingRepository, never()).save(any());
-            verify(flightService, never()).bookSeats(anyLong(), anyInt());
         }
 
         @Test
         void createBooking_shouldThrowException_whenFlightNotAvailable() {
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(false);
+            when(flightService.bookSeats(1L, 2))
+                    .thenThrow(new InvalidBookingOperationException("Flight not available for booking"));
 
             BusinessException exception = assertThrows(BusinessException.class,
                     () -> bookingServiceImpl.createBooking(testRequest, testUser));
 
             assertEquals("Flight not available for booking", exception.getMessage());
 
-            verify(flightService).findById(1L);
-            verify(flightService).isFlightAvailable(1L);
             verify(bookingRepository, never()).save(any());
-            verify(flightService, never()).bookSeats(anyLong(), anyInt());
         }
 
         @Test
         void createBooking_shouldThrowException_whenInsufficientSeats() {
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(true);
-            when(flightService.hasAvailableSeats(1L, 2)).thenReturn(false);
+            when(flightService.bookSeats(1L, 2))
+                    .thenThrow(new NotEnoughSeatsException("Not enough seats available. Requested: 2. Available: 1"));
 
             BusinessException exception = assertThrows(BusinessException.class, () -> bookingServiceImpl.createBooking(testRequest, testUser));
 
             assertTrue(exception.getMessage().contains("Not enough seats available"));
 
-            verify(flightService, atLeastOnce()).findById(1L);
-            verify(flightService).isFlightAvailable(1L);
-            verify(flightService).hasAvailableSeats(1L, 2);
             verify(bookingRepository, never()).save(any());
+        }
+
+        @Test
+        void createBooking_shouldNotReserveSeats_whenBookedSeatsAreNotPositive() {
+            BookingRequest request = new BookingRequest(1L, 0, List.of(), List.of());
+
+            assertThrows(IllegalArgumentException.class, () -> bookingServiceImpl.createBooking(request, testUser));
+
             verify(flightService, never()).bookSeats(anyLong(), anyInt());
+            verify(bookingRepository, never()).save(any());
         }
 
         @Test
         void createBooking_shouldCalculateCorrectTotalPrice() {
             testFlight.setPrice(100.0);
 
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(true);
-            when(flightService.hasAvailableSeats(1L, 2)).thenReturn(true);
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
             when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
                 Booking booking = invocation.getArgument(0);
                 booking.setId(1L);
                 return booking;
             });
-            doNothing().when(flightService).bookSeats(1L, 2);
             doNothing().when(emailService).sendBookingConfirmationEmail(any(Booking.class), any(User.class), any(Flight.class));
 
             BookingResponse result = bookingServiceImpl.createBooking(testRequest, testUser);
@@ -230,11 +277,8 @@ public class BookingServiceUnitTest {
 
         @Test
         void createBooking_shouldSendEmail_whenBookingCreated() {
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(true);
-            when(flightService.hasAvailableSeats(1L, 2)).thenReturn(true);
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
             when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
-            doNothing().when(flightService).bookSeats(1L, 2);
             doNothing().when(emailService).sendBookingConfirmationEmail(any(Booking.class), any(User.class), any(Flight.class));
 
             bookingServiceImpl.createBooking(testRequest, testUser);
@@ -244,11 +288,8 @@ public class BookingServiceUnitTest {
 
         @Test
         void createBooking_shouldNotFail_whenEmailSendingFails() {
-            when(flightService.findById(1L)).thenReturn(testFlight);
-            when(flightService.isFlightAvailable(1L)).thenReturn(true);
-            when(flightService.hasAvailableSeats(1L, 2)).thenReturn(true);
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
             when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
-            doNothing().when(flightService).bookSeats(1L, 2);
 
             BookingResponse result = bookingServiceImpl.createBooking(testRequest, testUser);
 
@@ -257,6 +298,57 @@ public class BookingServiceUnitTest {
         }
     }
 
+    @Nested
+    class CreateBookingsInBulkTests {
+
+        @Test
+        void createBookings_shouldReserveSeatsOncePerFlight_andSaveAllBookingsTogether() {
+            Flight otherFlight = createTestFlight();
+            otherFlight.setId(2L);
+            otherFlight.setPrice(50.0);
+            BookingRequest otherRequest = new BookingRequest(2L, 1, List.of("Juan"), List.of(LocalDate.of(1985, 5, 5)));
+            when(flightService.bookSeats(1L, 4)).thenReturn(testFlight);
+            when(flightService.bookSeats(2L, 1)).thenReturn(otherFlight);
+            when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            List<BookingResponse> result = bookingServiceImpl.createBookings(
+                    List.of(testRequest, otherRequest, testRequest), testUser);
+
+            assertEquals(3, result.size());
+            assertEquals(List.of(1L, 2L, 1L), result.stream().map(BookingResponse::flightId).toList());
+            assertEquals(50.0, result.get(1).totalPrice());
+            verify(flightService).bookSeats(1L, 4);
+            verify(flightService).bookSeats(2L, 1);
+            verify(bookingRepository, never()).save(any());
+            verify(seatHoldTracker, times(3)).track(any(), any());
+            verify(emailService, times(3)).sendBookingConfirmationEmail(any(Booking.class), eq(testUser), any(Flight.class));
+        }
+
+        @Test
+        void createBookings_shouldNotSaveAnyBooking_whenOneFlightHasNotEnoughSeats() {
+            BookingRequest otherRequest = new BookingRequest(2L, 1, List.of("Juan"), List.of(LocalDate.of(1985, 5, 5)));
+            when(flightService.bookSeats(1L, 2)).thenReturn(testFlight);
+            when(flightService.bookSeats(2L, 1))
+                    .thenThrow(new NotEnoughSeatsException("Not enough seats available. Requested: 1. Available: 0"));
+
+            assertThrows(NotEnoughSeatsException.class,
+                    () -> bookingServiceImpl.createBookings(List.of(otherRequest, testRequest), testUser));
+
+            verify(bookingRepository, never()).saveAll(any());
+            verifyNoInteractions(emailService);
+        }
+
+        @Test
+        void createBookings_shouldNotReserveSeats_whenAnyBookedSeatsAreNotPositive() {
+            BookingRequest invalid = new BookingRequest(2L, 0, List.of(), List.of());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookingServiceImpl.createBookings(List.of(testRequest, invalid), testUser));
+
+            verify(flightService, never()).bookSeats(anyLong(), anyInt());
+        }
+    }
+
     @Nested
     class UpdateBookingStatusTests {
 
@@ -370,6 +462,59 @@ public class BookingServiceUnitTest {
         }
     }
 
+    @Nested
+    class ExpireHoldTests {
+
+        @Test
+        void expireHold_shouldCancelBookingAndReleaseSeats_whenHoldHasExpired() {
+            LocalDateTime now = LocalDateTime.now();
+            testBooking.setHoldExpiresAt(now.minusSeconds(1));
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+            when(bookingRepository.save(testBooking)).thenReturn(testBooking);
+
+            boolean expired = bookingServiceImpl.expireHold(1L, now);
+
+            assertTrue(expired);
+            assertEquals(BookingStatus.CANCELLED, testBooking.getBookingStatus());
+            assertNull(testBooking.getHoldExpiresAt());
+            verify(flightService).releaseSeats(testFlight.getId(), testBooking.getBookedSeats());
+            verify(emailService).sendBookingCancellationEmail(testBooking, testBooking.getUser(), testBooking.getFlight());
+        }
+
+        @Test
+        void expireHold_shouldDoNothing_whenBookingIsNoLongerCreated() {
+            LocalDateTime now = LocalDateTime.now();
+            testBooking.setHoldExpiresAt(now.minusSeconds(1));
+            testBooking.setBookingStatus(BookingStatus.CONFIRMED);
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+            assertFalse(bookingServiceImpl.expireHold(1L, now));
+
+            verify(flightService, never()).releaseSeats(anyLong(), anyInt());
+            verify(bookingRepository, never()).save(any());
+        }
+
+        @Test
+        void expireHold_shouldDoNothing_whenHoldHasNotExpiredYet() {
+            LocalDateTime now = LocalDateTime.now();
+            testBooking.setHoldExpiresAt(now.plusMinutes(1));
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+            assertFalse(bookingServiceImpl.expireHold(1L, now));
+
+            verify(flightService, never()).releaseSeats(anyLong(), anyInt());
+        }
+
+        @Test
+        void expireHold_shouldDoNothing_whenBookingWasDeleted() {
+            when(bookingRepository.findById(1L)).thenReturn(Optional.empty());
+
+            assertFalse(bookingServiceImpl.expireHold(1L, LocalDateTime.now()));
+
+            verify(flightService, never()).releaseSeats(anyLong(), anyInt());
+        }
+    }
+
     @Nested
     class CancelBookingTests {
 
@@ -464,6 +609,28 @@ public class BookingServiceUnitTest {
             verify(bookingRepository).save(testBooking);
         }
 
+        @Test
+        void updatePassengerNames_shouldKeepBirthDatesOfEachPassenger() {
+            List<LocalDate> birthDates = testBooking.getPassengerBirthDates();
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+            when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+
+            bookingServiceImpl.updatePassengerNames(1L, List.of("Pepa", "Luisa"), testUser);
+
+            assertEquals(birthDates, testBooking.getPassengerBirthDates());
+        }
+
+        @Test
+        void updatePassengerNames_shouldThrowException_whenCountDoesNotMatchPassengers() {
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> bookingServiceImpl.updatePassengerNames(1L, List.of("Pepa"), testUser));
+
+            assertEquals(List.of("pepe", "pepa"), testBooking.getPassengerNames());
+            verify(bookingRepository, never()).save(any());
+        }
+
         @Test
         void updatePassengerBirthDates_shouldUpdate_whenUserAndBookingCreated() {
             testBooking.setBookingStatus(BookingStatus.CREATED);
@@ -552,6 +719,18 @@ public class BookingServiceUnitTest {
 
             verify(bookingRepository).delete(testBooking);
         }
+
+        @Test
+        void deleteBooking_shouldDeleteBookingBeforeReleasingSeats() {
+            testBooking.setBookingStatus(BookingStatus.CREATED);
+            when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+            bookingServiceImpl.deleteBooking(1L, testUser);
+
+            InOrder inOrder = inOrder(bookingRepository, flightService);
+            inOrder.verify(bookingRepository).delete(testBooking);
+            inOrder.verify(flightService).releaseSeats(testFlight.getId(), testBooking.getBookedSeats());
+        }
     }
 
     @Nested
@@ -559,29 +738,29 @@ public class BookingServiceUnitTest {
 
         @Test
         void createPageable_ShouldUseDefaults_WhenInvalidSortField() {
-            when(bookingRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+            when(bookingRepository.findResponses(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
 
             assertDoesNotThrow(() -> bookingServiceImpl.getAllBookingsAdmin(0, 10, "invalidField", "DESC"));
 
-            verify(bookingRepository).findAll(argThat((Pageable pageable) -> pageable.getSort().getOrderFor("createdAt") != null));
+            verify(bookingRepository).findResponses(any(Specification.class), argThat((Pageable pageable) -> pageable.getSort().getOrderFor("createdAt") != null));
         }
 
         @Test
         void createPageable_ShouldUseDefaults_WhenInvalidSortDirection() {
-            when(bookingRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+            when(bookingRepository.findResponses(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
 
             assertDoesNotThrow(() -> bookingServiceImpl.getAllBookingsAdmin(0, 10, "id", "INVALID"));
 
-            verify(bookingRepository).findAll(argThat((Pageable pageable) -> pageable.getSort().getOrderFor("id").getDirection() == Sort.Direction.DESC));
+            verify(bookingRepository).findResponses(any(Specification.class), argThat((Pageable pageable) -> pageable.getSort().getOrderFor("id").getDirection() == Sort.Direction.DESC));
         }
 
         @Test
         void createPageable_ShouldLimitPageSize_WhenTooLarge() {
-            when(bookingRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+            when(bookingRepository.findResponses(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
 
             assertDoesNotThrow(() -> bookingServiceImpl.getAllBookingsAdmin(0, 20, "id", "ASC"));
 
-            verify(bookingRepository).findAll(argThat((Pageable pageable) -> pageable.getPageSize() == 10));
+            verify(bookingRepository).findResponses(any(Specification.class), argThat((Pageable pageable) -> pageable.getPageSize() == 10));
         }
 
         @Test
@@ -703,10 +882,9 @@ public class BookingServiceUnitTest {
         return Booking.builder()
                 .id(1L).bookingNumber("SR-ABC123").bookedSeats(2)
                 .totalPrice(399.98).bookingStatus(BookingStatus.CREATED)
-                .passengerNames(List.of("pepe", "pepa"))
-                .passengerBirthDates(List.of(
+                .passengers(BookingMapper.toPassengers(List.of("pepe", "pepa"), List.of(
                         LocalDate.of(1990, 1, 1),
-                        LocalDate.of(1992, 2, 2)))
+                        LocalDate.of(1992, 2, 2))))
                 .user(testUser)
                 .flight(createTestFlight())
                 .build();
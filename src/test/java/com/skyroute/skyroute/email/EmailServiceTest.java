@@ -2,6 +2,7 @@ package com.skyroute.skyroute.email;
 
 import com.skyroute.skyroute.airport.entity.Airport;
 import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.email.outbox.EmailOutbox;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.route.entity.Route;
 import com.skyroute.skyroute.user.entity.User;
@@ -19,6 +20,9 @@ import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +35,9 @@ class EmailServiceTest {
     @Mock
     private MimeMessage mimeMessage;
 
+    @Mock
+    private EmailOutbox emailOutbox;
+
     @Mock
     private Booking mockBooking;
 
@@ -53,7 +60,7 @@ class EmailServiceTest {
 
     @BeforeEach
     void setUp() {
-        emailService = new EmailService(mailSender);
+        emailService = new EmailService(mailSender, emailOutbox);
     }
 
     @Test
@@ -117,53 +124,47 @@ class EmailServiceTest {
     }
 
     @Test
-    void sendBookingConfirmationEmail_shouldSendEmailSuccessfully() throws MessagingException {
+    void sendBookingConfirmationEmail_shouldQueueEmailInOutbox() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingConfirmationEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(eq("john.doe@example.com"), eq(BookingEmailTemplates.getSubject()),
+                contains("SR-ABC123"), contains("SR-ABC123"));
     }
 
     @Test
-    void sendBookingConfirmationEmail_shouldCallMailSenderMethods() throws MessagingException {
+    void sendBookingConfirmationEmail_shouldNotSendEmailSynchronously() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingConfirmationEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender, times(1)).createMimeMessage();
-        verify(mailSender, times(1)).send(mimeMessage);
+        verify(mailSender, never()).createMimeMessage();
+        verify(mailSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
-    void sendBookingConfirmationEmail_shouldNotThrowException_whenMessagingFails() {
+    void sendBookingConfirmationEmail_shouldNotThrowException_whenOutboxFails() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("SMTP server unavailable"))
-                .when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Outbox unavailable"))
+                .when(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
 
         assertDoesNotThrow(() -> emailService.sendBookingConfirmationEmail(mockBooking, mockUser, mockFlight));
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
     }
 
     private void setupMockBooking() {
@@ -195,102 +196,90 @@ class EmailServiceTest {
     }
 
     @Test
-    void sendBookingConfirmationStatusEmail_shouldSendEmailSuccessfully() throws MessagingException {
+    void sendBookingConfirmationStatusEmail_shouldQueueEmailInOutbox() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingConfirmationStatusEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(eq("john.doe@example.com"), eq(BookingConfirmationStatusEmailTemplates.getSubject()),
+                contains("SR-ABC123"), contains("SR-ABC123"));
     }
 
     @Test
-    void sendBookingConfirmationStatusEmail_shouldCallMailSenderMethods() throws MessagingException {
+    void sendBookingConfirmationStatusEmail_shouldNotSendEmailSynchronously() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingConfirmationStatusEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender, times(1)).createMimeMessage();
-        verify(mailSender, times(1)).send(mimeMessage);
+        verify(mailSender, never()).createMimeMessage();
+        verify(mailSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
-    void sendBookingConfirmationStatusEmail_shouldNotThrowException_whenMessagingFails() {
+    void sendBookingConfirmationStatusEmail_shouldNotThrowException_whenOutboxFails() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("SMTP server unavailable"))
-                .when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Outbox unavailable"))
+                .when(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
 
         assertDoesNotThrow(() -> emailService.sendBookingConfirmationStatusEmail(mockBooking, mockUser, mockFlight));
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
     }
 
     @Test
-    void sendBookingCancellationEmail_shouldSendEmailSuccessfully() throws MessagingException {
+    void sendBookingCancellationEmail_shouldQueueEmailInOutbox() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingCancellationEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(eq("john.doe@example.com"), eq(BookingCancellationEmailTemplates.getSubject()),
+                contains("SR-ABC123"), contains("SR-ABC123"));
     }
 
     @Test
-    void sendBookingCancellationEmail_shouldCallMailSenderMethods() throws MessagingException {
+    void sendBookingCancellationEmail_shouldNotSendEmailSynchronously() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
         emailService.sendBookingCancellationEmail(mockBooking, mockUser, mockFlight);
 
-        verify(mailSender, times(1)).createMimeMessage();
-        verify(mailSender, times(1)).send(mimeMessage);
+        verify(mailSender, never()).createMimeMessage();
+        verify(mailSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
-    void sendBookingCancellationEmail_shouldNotThrowException_whenMessagingFails() {
+    void sendBookingCancellationEmail_shouldNotThrowException_whenOutboxFails() {
         setupMockBooking();
         setupMockUser();
         setupMockFlight();
         setupMockRoute();
         setupMockAirports();
 
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("SMTP server unavailable"))
-                .when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Outbox unavailable"))
+                .when(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
 
         assertDoesNotThrow(() -> emailService.sendBookingCancellationEmail(mockBooking, mockUser, mockFlight));
 
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutbox).enqueue(anyString(), anyString(), anyString(), anyString());
     }
 }
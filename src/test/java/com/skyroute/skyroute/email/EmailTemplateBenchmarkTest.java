@@ -0,0 +1,74 @@
+package com.skyroute.skyroute.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@Tag("benchmark")
+class EmailTemplateBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int RENDERS = 100_000;
+    private static final Object[] ARGS = {"Ada", "Lovelace", "SR-0A1B2C3D4E5", "SR001", "Madrid", "Barcelona",
+            "15-01-2024 10:00", "15-01-2024 14:00", 299.99};
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void precompiledTemplates_shouldRenderFasterAndAllocateLess_thanStringFormat() {
+        record Case(String name, EmailTemplate template) {
+        }
+        Case[] cases = {
+                new Case("booking plain text", BookingEmailTemplates.PLAIN_TEXT),
+                new Case("booking html", BookingEmailTemplates.HTML),
+                new Case("confirmation html", BookingConfirmationStatusEmailTemplates.HTML),
+                new Case("cancellation html", BookingCancellationEmailTemplates.HTML)
+        };
+
+        for (Case benchmarkCase : cases) {
+            EmailTemplate template = benchmarkCase.template();
+            Function<Object[], String> stringFormat = args -> String.format(Locale.US, template.pattern(), args);
+            Function<Object[], String> precompiled = template::render;
+
+            Measurement formatted = measure(stringFormat);
+            Measurement rendered = measure(precompiled);
+
+            log.info("{}: String.format={} ns/render {} B/render, precompiled={} ns/render {} B/render "
+                            + "({}x faster, {}x less allocation)", benchmarkCase.name(),
+                    Math.round(formatted.nanos()), Math.round(formatted.bytes()),
+                    Math.round(rendered.nanos()), Math.round(rendered.bytes()),
+                    Math.round(formatted.nanos() / rendered.nanos() * 10) / 10.0,
+                    Math.round(formatted.bytes() / rendered.bytes() * 10) / 10.0);
+            assertTrue(rendered.nanos() < formatted.nanos());
+            assertTrue(rendered.bytes() < formatted.bytes());
+        }
+    }
+
+    private Measurement measure(Function<Object[], String> renderer) {
+        long length = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            length += renderer.apply(ARGS).length();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < RENDERS; i++) {
+            length += renderer.apply(ARGS).length();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertTrue(length > 0);
+        return new Measurement(nanos / (double) RENDERS, allocated / (double) RENDERS);
+    }
+
+    private record Measurement(double nanos, double bytes) {
+    }
+}
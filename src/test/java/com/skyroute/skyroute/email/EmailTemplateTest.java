@@ -0,0 +1,57 @@
+package com.skyroute.skyroute.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    private static final Double[] PRICES = {299.99, 1.005, 0.125, 2.675, 10_000_000.0, -3.5, 0.0, -0.0, 1e-9,
+            Double.NaN, Double.POSITIVE_INFINITY, null};
+
+    @Test
+    void render_shouldMatchStringFormat_forEveryBookingTemplate() {
+        EmailTemplate[] templates = {
+                BookingEmailTemplates.PLAIN_TEXT, BookingEmailTemplates.HTML,
+                BookingConfirmationStatusEmailTemplates.PLAIN_TEXT, BookingConfirmationStatusEmailTemplates.HTML,
+                BookingCancellationEmailTemplates.PLAIN_TEXT, BookingCancellationEmailTemplates.HTML
+        };
+
+        for (EmailTemplate template : templates) {
+            for (Double price : PRICES) {
+                Object[] args = {"Ada", "Lovelace", "SR-0A1B2C3D4E5", "SR001", "Madrid", "Barcelona",
+                        "15-01-2024 10:00", "15-01-2024 14:00", price};
+
+                assertEquals(String.format(Locale.US, template.pattern(), args), template.render(args));
+            }
+        }
+    }
+
+    @Test
+    void render_shouldUnescapePercentSigns() {
+        EmailTemplate template = EmailTemplate.compile("<table width=\"100%%\">%s</table>");
+
+        assertEquals("<table width=\"100%\">Ada</table>", template.render("Ada"));
+    }
+
+    @Test
+    void render_shouldMatchStringFormat_forMissingArguments() {
+        EmailTemplate template = EmailTemplate.compile("Dear %s, total $%.2f");
+
+        assertEquals(String.format(Locale.US, template.pattern(), null, null), template.render(null, null));
+    }
+
+    @Test
+    void render_shouldReject_whenArgumentCountDiffers() {
+        EmailTemplate template = EmailTemplate.compile("Dear %s %s");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render("Ada"));
+    }
+
+    @Test
+    void compile_shouldReject_unsupportedSpecifiers() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Seats: %d"));
+    }
+}
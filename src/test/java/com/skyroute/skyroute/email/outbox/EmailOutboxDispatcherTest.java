@@ -0,0 +1,157 @@
+package com.skyroute.skyroute.email.outbox;
+
+import com.skyroute.skyroute.email.EmailService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxRepository repository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private MimeMessage firstMime;
+
+    @Mock
+    private MimeMessage secondMime;
+
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailOutboxDispatcher(repository, emailService, 1, 10, 100, 50, Duration.ofMillis(1), 3,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(2), Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void deliver_shouldSendClaimedEmailsInOneBatch_andMarkThemSent() throws MessagingException {
+        when(repository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(message(1L, 1), message(2L, 1)));
+        when(emailService.createEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(firstMime, secondMime);
+
+        dispatcher.deliver(List.of(1L, 2L));
+
+        verify(emailService).send(firstMime, secondMime);
+        verify(repository).markSent(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deliver_shouldSkipEmails_claimedElsewhere() {
+        when(repository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        dispatcher.deliver(List.of(1L));
+
+        verify(repository, never()).findAllById(any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void deliver_shouldMarkSentOnlyDeliveredEmails_whenBatchPartiallyFails() throws MessagingException {
+        when(repository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(message(1L, 1), message(2L, 1)));
+        when(emailService.createEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(firstMime, secondMime);
+        doThrow(new MailSendException(Map.of(secondMime, new MessagingException("Mailbox unavailable"))))
+                .when(emailService).send(firstMime, secondMime);
+
+        dispatcher.deliver(List.of(1L, 2L));
+
+        verify(repository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(repository).reschedule(eq(2L), any(LocalDateTime.class), contains("Mailbox unavailable"));
+    }
+
+    @Test
+    void deliver_shouldRescheduleWithBackoff_whenSendFails() throws MessagingException {
+        when(repository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(message(1L, 2)));
+        when(emailService.createEmail(anyString(), anyString(), anyString(), anyString())).thenReturn(firstMime);
+        doThrow(new MailSendException("Connection refused")).when(emailService).send(firstMime);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.deliver(List.of(1L));
+
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).reschedule(eq(1L), nextAttempt.capture(), contains("Connection refused"));
+        assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(30)));
+        verify(repository, never()).markSent(any(), any());
+        verify(repository, never()).markDead(any(), any());
+    }
+
+    @Test
+    void deliver_shouldMoveToDeadLetter_afterMaxAttempts() throws MessagingException {
+        when(repository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(message(1L, 3)));
+        when(emailService.createEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new MessagingException("Invalid address"));
+
+        dispatcher.deliver(List.of(1L));
+
+        verify(repository).markDead(eq(1L), contains("Invalid address"));
+        verify(repository, never()).reschedule(any(), any(), any());
+        verify(emailService, never()).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    void backoff_shouldGrowExponentially_withJitterAndCap() {
+        for (int i = 0; i < 100; i++) {
+            Duration first = dispatcher.backoff(1);
+            Duration third = dispatcher.backoff(3);
+            Duration capped = dispatcher.backoff(20);
+
+            assertTrue(first.compareTo(Duration.ofSeconds(15)) >= 0 && first.compareTo(Duration.ofSeconds(30)) <= 0);
+            assertTrue(third.compareTo(Duration.ofSeconds(60)) >= 0 && third.compareTo(Duration.ofSeconds(120)) <= 0);
+            assertTrue(capped.compareTo(Duration.ofMinutes(5)) <= 0);
+        }
+    }
+
+    @Test
+    void purgeSent_shouldDeleteSentEmailsOlderThanRetention() {
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+        dispatcher.purgeSent();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).deleteSentBefore(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+    }
+
+    private EmailOutboxMessage message(Long id, int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(id)
+                .recipient("ada@skyroute.com")
+                .subject("Subject")
+                .plainText("Plain")
+                .htmlContent("<p>Html</p>")
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
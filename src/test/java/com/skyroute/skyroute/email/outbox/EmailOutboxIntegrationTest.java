@@ -0,0 +1,164 @@
+package com.skyroute.skyroute.email.outbox;
+
+import com.skyroute.skyroute.email.EmailService;
+import com.skyroute.skyroute.email.smtp.PooledJavaMailSender;
+import com.skyroute.skyroute.email.smtp.SmtpStandIn;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EmailOutbox.class, EmailOutboxDispatcher.class, EmailService.class, EmailOutboxIntegrationTest.SmtpConfig.class})
+@TestPropertySource(properties = {
+        "app.email.outbox.max-attempts=3",
+        "app.email.outbox.initial-backoff=1ms",
+        "app.email.outbox.max-backoff=2ms"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxIntegrationTest {
+
+    private static final SmtpStandIn SMTP = new SmtpStandIn();
+    private static final String RECIPIENT = "outbox.tester@skyroute.com";
+
+    @TestConfiguration
+    static class SmtpConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            PooledJavaMailSender mailSender = new PooledJavaMailSender(2, Duration.ofMinutes(1));
+            mailSender.setHost("localhost");
+            mailSender.setPort(SMTP.port());
+            return mailSender;
+        }
+    }
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        SMTP.rejectMail(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll(repository.findAll().stream()
+                .filter(message -> message.getRecipient().equals(RECIPIENT))
+                .toList());
+    }
+
+    @AfterAll
+    static void stopSmtp() throws IOException {
+        SMTP.close();
+    }
+
+    @Test
+    void enqueue_shouldSendEmailAfterCommit() throws InterruptedException {
+        EmailOutboxMessage queued = transactionTemplate.execute(status ->
+                emailOutbox.enqueue(RECIPIENT, "Committed booking", "Plain body", "<p>Html body</p>"));
+
+        String received = SMTP.awaitMessage(5, TimeUnit.SECONDS);
+
+        assertNotNull(received);
+        assertTrue(received.contains("Subject: Committed booking"));
+        EmailOutboxMessage sent = awaitMessage(queued.getId(), message -> message.getStatus() == EmailOutboxStatus.SENT);
+        assertEquals(1, sent.getAttempts());
+        assertNotNull(sent.getSentAt());
+    }
+
+    @Test
+    void enqueue_shouldNotStoreOrSendEmail_whenTransactionRollsBack() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailOutbox.enqueue(RECIPIENT, "Rolled back booking", "Plain body", "<p>Html body</p>");
+            status.setRollbackOnly();
+        });
+
+        assertNull(SMTP.awaitMessage(300, TimeUnit.MILLISECONDS));
+        assertTrue(repository.findAll().stream().noneMatch(message -> message.getRecipient().equals(RECIPIENT)));
+    }
+
+    @Test
+    void dispatchDue_shouldRetryAndDeliver_onceSmtpRecovers() throws InterruptedException {
+        SMTP.rejectMail(true);
+        EmailOutboxMessage queued = emailOutbox.enqueue(RECIPIENT, "Retried booking", "Plain body", "<p>Html body</p>");
+        EmailOutboxMessage failed = awaitMessage(queued.getId(), message -> message.getLastError() != null);
+        assertEquals(EmailOutboxStatus.PENDING, failed.getStatus());
+
+        SMTP.rejectMail(false);
+        EmailOutboxMessage sent = pollUntil(queued.getId(), message -> message.getStatus() == EmailOutboxStatus.SENT);
+
+        assertTrue(sent.getAttempts() >= 2);
+        assertNull(sent.getLastError());
+        assertTrue(SMTP.awaitMessage(5, TimeUnit.SECONDS).contains("Subject: Retried booking"));
+    }
+
+    @Test
+    void dispatchDue_shouldMoveEmailToDeadLetter_afterMaxAttempts() throws InterruptedException {
+        SMTP.rejectMail(true);
+        EmailOutboxMessage queued = emailOutbox.enqueue(RECIPIENT, "Dead booking", "Plain body", "<p>Html body</p>");
+
+        EmailOutboxMessage dead = pollUntil(queued.getId(), message -> message.getStatus() == EmailOutboxStatus.DEAD);
+
+        assertEquals(3, dead.getAttempts());
+        assertTrue(dead.getLastError().contains("451"));
+        assertEquals(0, dispatcher.dispatchDue());
+    }
+
+    private EmailOutboxMessage pollUntil(Long id, Predicate<EmailOutboxMessage> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            EmailOutboxMessage message = repository.findById(id).orElseThrow();
+            if (condition.test(message)) {
+                return message;
+            }
+            dispatcher.dispatchDue();
+            Thread.sleep(20);
+        }
+        return fail("Email " + id + " did not reach the expected state");
+    }
+
+    private EmailOutboxMessage awaitMessage(Long id, Predicate<EmailOutboxMessage> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            EmailOutboxMessage message = repository.findById(id).orElseThrow();
+            if (condition.test(message)) {
+                return message;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Email " + id + " did not reach the expected state");
+    }
+}
@@ -0,0 +1,103 @@
+package com.skyroute.skyroute.email.smtp;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledJavaMailSenderTest {
+
+    private SmtpStandIn smtp;
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        smtp = new SmtpStandIn();
+        mailSender = sender(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mailSender.destroy();
+        smtp.close();
+    }
+
+    @Test
+    void send_shouldDeliverBatchOverOneConnection() throws Exception {
+        mailSender.send(message("First"), message("Second"), message("Third"));
+
+        assertTrue(smtp.awaitMessage(5, TimeUnit.SECONDS).contains("Subject: First"));
+        assertTrue(smtp.awaitMessage(5, TimeUnit.SECONDS).contains("Subject: Second"));
+        assertTrue(smtp.awaitMessage(5, TimeUnit.SECONDS).contains("Subject: Third"));
+        assertEquals(1, mailSender.connectionsOpened());
+    }
+
+    @Test
+    void send_shouldReuseWarmConnection_acrossBatches() throws Exception {
+        mailSender.send(message("First"));
+        mailSender.send(message("Second"));
+
+        assertEquals(1, mailSender.connectionsOpened());
+        assertEquals(1, smtp.sessions());
+        assertEquals(1, mailSender.idleConnections());
+    }
+
+    @Test
+    void send_shouldOpenNewConnection_whenIdleConnectionExpired() throws Exception {
+        mailSender.destroy();
+        mailSender = sender(Duration.ofMillis(1));
+
+        mailSender.send(message("First"));
+        Thread.sleep(20);
+        mailSender.send(message("Second"));
+
+        assertEquals(2, mailSender.connectionsOpened());
+    }
+
+    @Test
+    void send_shouldKeepConnection_whenServerRejectsMessage() throws Exception {
+        smtp.rejectMail(true);
+        assertThrows(MailSendException.class, () -> mailSender.send(message("Rejected")));
+
+        smtp.rejectMail(false);
+        mailSender.send(message("Accepted"));
+
+        assertTrue(smtp.awaitMessage(5, TimeUnit.SECONDS).contains("Subject: Accepted"));
+        assertEquals(1, mailSender.connectionsOpened());
+    }
+
+    @Test
+    void destroy_shouldCloseIdleConnections() throws Exception {
+        mailSender.send(message("First"));
+
+        mailSender.destroy();
+
+        assertEquals(0, mailSender.idleConnections());
+    }
+
+    private PooledJavaMailSender sender(Duration idleTimeout) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, idleTimeout);
+        sender.setHost("localhost");
+        sender.setPort(smtp.port());
+        return sender;
+    }
+
+    private MimeMessage message(String subject) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom("noreply@skyroute.com");
+        helper.setTo("ada@skyroute.com");
+        helper.setSubject(subject);
+        helper.setText("Body");
+        return message;
+    }
+}
@@ -0,0 +1,268 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.flight.connection.ConnectionSearchService;
+import com.skyroute.skyroute.flight.dto.ConnectionItineraryResponse;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionSearchServiceTest {
+
+    private static final long MAD = 1L;
+    private static final long BCN = 2L;
+    private static final long LHR = 3L;
+    private static final long CDG = 4L;
+    private static final long JFK = 5L;
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private ConnectionSearchService service;
+    private LocalDateTime tomorrow;
+    private String date;
+
+    @BeforeEach
+    void setUp() {
+        service = new ConnectionSearchService(flightRepository, 45, 24, 50);
+        when(flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        service.warmUp();
+        tomorrow = LocalDate.now().plusDays(1).atTime(8, 0);
+        date = tomorrow.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+    }
+
+    @Nested
+    class SearchConnectionsTests {
+        @Test
+        void searchConnections_shouldReturnDirectAndOneStopItineraries() {
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+            add(2L, MAD, LHR, tomorrow, 2, 80.0, 10);
+            add(3L, LHR, BCN, tomorrow.plusHours(3), 2, 70.0, 10);
+
+            List<ConnectionItineraryResponse> itineraries = search("MAD", "BCN", Optional.empty());
+
+            assertEquals(2, itineraries.size());
+            assertEquals(0, itineraries.get(0).stops());
+            assertEquals(1, itineraries.get(1).stops());
+            assertEquals(List.of(2L, 3L), legIds(itineraries.get(1)));
+            assertEquals(150.0, itineraries.get(1).totalPrice());
+            assertEquals(300, itineraries.get(1).durationMinutes());
+        }
+
+        @Test
+        void searchConnections_shouldMatchAirportsByCity() {
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+
+            assertEquals(1, search("madrid", "Barcelona", Optional.empty()).size());
+        }
+
+        @Test
+        void searchConnections_shouldFindEveryRoute_whenAirportIdsAreNotInFirstSeenOrder() {
+            add(1L, MAD, LHR, tomorrow, 2, 80.0, 10);
+            add(2L, BCN, MAD, tomorrow, 2, 90.0, 10);
+            add(3L, LHR, BCN, tomorrow, 2, 70.0, 10);
+
+            assertEquals(List.of(List.of(1L)), legIdsOf(search("MAD", "LHR", Optional.of(0))));
+            assertEquals(List.of(List.of(2L)), legIdsOf(search("BCN", "MAD", Optional.of(0))));
+            assertEquals(List.of(List.of(3L)), legIdsOf(search("LHR", "BCN", Optional.of(0))));
+        }
+
+        @Test
+        void searchConnections_shouldRespectMinimumConnectionTime() {
+            add(1L, MAD, LHR, tomorrow, 2, 80.0, 10);
+            add(2L, LHR, BCN, tomorrow.plusHours(2).plusMinutes(30), 2, 70.0, 10);
+
+            assertTrue(search("MAD", "BCN", Optional.empty()).isEmpty());
+        }
+
+        @Test
+        void searchConnections_shouldLimitStops() {
+            add(1L, MAD, LHR, tomorrow, 1, 50.0, 10);
+            add(2L, LHR, CDG, tomorrow.plusHours(2), 1, 50.0, 10);
+            add(3L, CDG, JFK, tomorrow.plusHours(4), 1, 50.0, 10);
+            add(4L, JFK, BCN, tomorrow.plusHours(6), 1, 50.0, 10);
+            add(5L, CDG, BCN, tomorrow.plusHours(4), 1, 50.0, 10);
+
+            List<ConnectionItineraryResponse> twoStops = search("MAD", "BCN", Optional.empty());
+            List<ConnectionItineraryResponse> oneStop = search("MAD", "BCN", Optional.of(1));
+
+            assertEquals(1, twoStops.size());
+            assertEquals(List.of(1L, 2L, 5L), legIds(twoStops.getFirst()));
+            assertTrue(oneStop.isEmpty());
+        }
+
+        @Test
+        void searchConnections_shouldNotRevisitAirports() {
+            add(1L, MAD, LHR, tomorrow, 1, 50.0, 10);
+            add(2L, LHR, CDG, tomorrow.plusHours(2), 1, 50.0, 10);
+            add(3L, CDG, LHR, tomorrow.plusHours(4), 1, 50.0, 10);
+            add(4L, LHR, BCN, tomorrow.plusHours(6), 1, 50.0, 10);
+
+            List<ConnectionItineraryResponse> itineraries = search("MAD", "BCN", Optional.empty());
+
+            assertEquals(List.of(List.of(1L, 4L)), itineraries.stream().map(ConnectionSearchServiceTest::legIds).toList());
+        }
+
+        @Test
+        void searchConnections_shouldReturnEarliestArrivals_whenMoreItinerariesThanMaxResults() {
+            service = new ConnectionSearchService(flightRepository, 45, 24, 2);
+            service.warmUp();
+            add(1L, MAD, BCN, tomorrow.plusHours(3), 2, 100.0, 10);
+            add(2L, MAD, BCN, tomorrow, 2, 100.0, 10);
+            add(3L, MAD, LHR, tomorrow, 1, 50.0, 10);
+            add(4L, LHR, BCN, tomorrow.plusHours(2), 1, 50.0, 10);
+            add(5L, MAD, BCN, tomorrow.plusHours(1), 2, 100.0, 10);
+
+            List<ConnectionItineraryResponse> itineraries = search("MAD", "BCN", Optional.empty());
+
+            assertEquals(List.of(List.of(2L), List.of(5L)),
+                    itineraries.stream().map(ConnectionSearchServiceTest::legIds).toList());
+        }
+
+        @Test
+        void searchConnections_shouldSkipLegsWithoutEnoughSeats() {
+            add(1L, MAD, LHR, tomorrow, 2, 80.0, 10);
+            add(2L, LHR, BCN, tomorrow.plusHours(3), 2, 70.0, 1);
+
+            assertTrue(service.searchConnections("MAD", "BCN", date, Optional.of(2), Optional.empty()).isEmpty());
+        }
+
+        @Test
+        void searchConnections_shouldThrowBusinessException_whenMaxStopsOutOfRange() {
+            assertThrows(BusinessException.class, () -> search("MAD", "BCN", Optional.of(3)));
+        }
+
+        @Test
+        void searchConnections_shouldThrowBusinessException_whenDateIsInvalid() {
+            assertThrows(BusinessException.class,
+                    () -> service.searchConnections("MAD", "BCN", "2025-12-01", Optional.empty(), Optional.empty()));
+        }
+    }
+
+    @Nested
+    class ChangeTests {
+        @Test
+        void onFlightChanged_shouldHideFlight_whenSoldOutOrDeleted() {
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+            FlightSnapshot second = add(2L, MAD, BCN, tomorrow.plusHours(1), 2, 100.0, 10);
+            assertEquals(2, search("MAD", "BCN", Optional.empty()).size());
+
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 0);
+            service.onFlightChanged(FlightChangedEvent.deleted(second));
+            service.refresh();
+
+            assertTrue(search("MAD", "BCN", Optional.empty()).isEmpty());
+        }
+
+        @Test
+        void onFlightChanged_shouldReflectRescheduledFlight() {
+            add(1L, MAD, LHR, tomorrow, 2, 80.0, 10);
+            add(2L, LHR, BCN, tomorrow.plusHours(2).plusMinutes(30), 2, 70.0, 10);
+            assertTrue(search("MAD", "BCN", Optional.empty()).isEmpty());
+
+            add(2L, LHR, BCN, tomorrow.plusHours(4), 2, 70.0, 10);
+
+            assertEquals(1, search("MAD", "BCN", Optional.empty()).size());
+        }
+
+        @Test
+        void onFlightChanged_shouldUpdatePriceInPlace() {
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+            search("MAD", "BCN", Optional.empty());
+
+            add(1L, MAD, BCN, tomorrow, 2, 60.0, 10);
+
+            assertEquals(60.0, search("MAD", "BCN", Optional.empty()).getFirst().totalPrice());
+        }
+
+        @Test
+        void onFlightChanged_shouldKeepServingCurrentGraph_untilRebuild() {
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+            FlightSnapshot added = new FlightSnapshot(2L, "SR2", 12L, MAD, "MAD", "Madrid", BCN, "BCN", "Barcelona",
+                    tomorrow.plusHours(1), tomorrow.plusHours(3), 90.0, 10, true, 0L);
+
+            service.onFlightChanged(FlightChangedEvent.updated(added));
+            List<ConnectionItineraryResponse> beforeRebuild = search("MAD", "BCN", Optional.empty());
+            service.refresh();
+
+            assertEquals(1, beforeRebuild.size());
+            assertEquals(2, search("MAD", "BCN", Optional.empty()).size());
+        }
+
+        @Test
+        void searchConnections_shouldDropItinerary_whenLegWasRemovedSinceRebuild() {
+            FlightSnapshot flight = add(1L, MAD, BCN, tomorrow, 2, 100.0, 10);
+
+            service.onFlightChanged(FlightChangedEvent.deleted(flight));
+
+            assertTrue(search("MAD", "BCN", Optional.empty()).isEmpty());
+        }
+
+        @Test
+        void onFlightChanged_shouldIgnoreOlderSnapshot_whenItArrivesAfterNewerOne() {
+            add(1L, MAD, BCN, tomorrow, 2, 60.0, 10, 2);
+            add(1L, MAD, BCN, tomorrow, 2, 100.0, 10, 1);
+            add(2L, MAD, BCN, tomorrow.plusHours(1), 2, 100.0, 0, 3);
+            add(2L, MAD, BCN, tomorrow.plusHours(1), 2, 100.0, 10, 2);
+
+            List<ConnectionItineraryResponse> itineraries = search("MAD", "BCN", Optional.empty());
+
+            assertEquals(1, itineraries.size());
+            assertEquals(60.0, itineraries.getFirst().totalPrice());
+        }
+    }
+
+    private List<ConnectionItineraryResponse> search(String origin, String destination, Optional<Integer> maxStops) {
+        return service.searchConnections(origin, destination, date, Optional.empty(), maxStops);
+    }
+
+    private FlightSnapshot add(Long id, long originId, long destinationId, LocalDateTime departure, int hours,
+                               double price, int seats) {
+        return add(id, originId, destinationId, departure, hours, price, seats, 0);
+    }
+
+    private FlightSnapshot add(Long id, long originId, long destinationId, LocalDateTime departure, int hours,
+                               double price, int seats, long version) {
+        FlightSnapshot snapshot = new FlightSnapshot(id, "SR" + id, originId * 10 + destinationId, originId,
+                code(originId), city(originId), destinationId, code(destinationId), city(destinationId), departure,
+                departure.plusHours(hours), price, seats, seats > 0, version);
+        service.onFlightChanged(FlightChangedEvent.updated(snapshot));
+        service.refresh();
+        return snapshot;
+    }
+
+    private static List<List<Long>> legIdsOf(List<ConnectionItineraryResponse> itineraries) {
+        return itineraries.stream().map(ConnectionSearchServiceTest::legIds).toList();
+    }
+
+    private static List<Long> legIds(ConnectionItineraryResponse itinerary) {
+        return itinerary.legs().stream().map(FlightSimpleResponse::id).toList();
+    }
+
+    private static String code(long airportId) {
+        return List.of("MAD", "BCN", "LHR", "CDG", "JFK").get((int) airportId - 1);
+    }
+
+    private static String city(long airportId) {
+        return List.of("Madrid", "Barcelona", "London", "Paris", "New York").get((int) airportId - 1);
+    }
+}
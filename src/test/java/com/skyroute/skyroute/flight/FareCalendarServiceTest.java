@@ -0,0 +1,239 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.calendar.FareCalendarService;
+import com.skyroute.skyroute.flight.dto.FareCalendarDayResponse;
+import com.skyroute.skyroute.flight.dto.FareCalendarResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FareCalendarServiceTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private FareCalendarService fareCalendarService;
+
+    private YearMonth nextMonth;
+    private String month;
+
+    @BeforeEach
+    void setUp() {
+        fareCalendarService = new FareCalendarService(flightRepository, Duration.ofMinutes(5));
+        nextMonth = YearMonth.now().plusMonths(1);
+        month = nextMonth.format(DateTimeFormatter.ofPattern("MM/yyyy"));
+    }
+
+    @Nested
+    class GetFareCalendarTests {
+        @Test
+        void getFareCalendar_shouldReturnEveryDayOfMonth_withAggregatedFares() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+
+            FareCalendarResponse calendar = fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            assertEquals(nextMonth.lengthOfMonth(), calendar.days().size());
+            assertEquals(new FareCalendarDayResponse(day, 89.0, 40, 3L), calendar.days().get(4));
+            assertEquals(new FareCalendarDayResponse(nextMonth.atDay(1), null, 0, 0L), calendar.days().getFirst());
+            verify(flightRepository).findDailyFaresByRoute(eq("MAD"), eq("BCN"),
+                    eq(nextMonth.atDay(1).atStartOfDay()), eq(nextMonth.plusMonths(1).atDay(1).atStartOfDay()));
+        }
+
+        @Test
+        void getFareCalendar_shouldServeFromCache_onRepeatedRequests() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            verify(flightRepository, times(1)).findDailyFaresByRoute(any(), any(), any(), any());
+            assertEquals(1, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void getFareCalendar_shouldShareCache_acrossCaseAndSpacing() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+
+            fareCalendarService.getFareCalendar(" madrid ", "bcn", month);
+            fareCalendarService.getFareCalendar("MADRID", "BCN", month);
+
+            verify(flightRepository, times(1)).findDailyFaresByRoute(eq("MADRID"), eq("BCN"), any(), any());
+            assertEquals(1, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void getFareCalendar_shouldNotCacheEmptyCalendars() {
+            stubFares();
+
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            verify(flightRepository, times(2)).findDailyFaresByRoute(any(), any(), any(), any());
+        }
+
+        @Test
+        void getFareCalendar_shouldSkipQuery_whenMonthIsInThePast() {
+            String pastMonth = YearMonth.now().minusMonths(1).format(DateTimeFormatter.ofPattern("MM/yyyy"));
+
+            FareCalendarResponse calendar = fareCalendarService.getFareCalendar("MAD", "BCN", pastMonth);
+
+            assertTrue(calendar.days().stream().allMatch(day -> day.minPrice() == null));
+            verifyNoInteractions(flightRepository);
+        }
+
+        @Test
+        void getFareCalendar_shouldThrowBusinessException_whenMonthIsInvalid() {
+            assertThrows(BusinessException.class, () -> fareCalendarService.getFareCalendar("MAD", "BCN", "2025-12"));
+        }
+    }
+
+    @Nested
+    class InvalidationTests {
+        @Test
+        void onFlightChanged_shouldEvictCalendar_whenFlightOnRouteAndMonthChanges() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("Madrid", "BCN", month);
+
+            fareCalendarService.onFlightChanged(FlightChangedEvent.updated(snapshot("MAD", "BCN", day.atTime(12, 0))));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void onFlightChanged_shouldEvictCalendar_whenRequestedWithDifferentCase() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("madrid", "barcelona", month);
+
+            fareCalendarService.onFlightChanged(FlightChangedEvent.updated(snapshot("MAD", "BCN", day.atTime(12, 0))));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void onFlightChanged_shouldKeepCalendar_whenFlightIsOnAnotherRouteOrMonth() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            fareCalendarService.onFlightChanged(FlightChangedEvent.updated(snapshot("MAD", "LHR", day.atTime(12, 0))));
+            fareCalendarService.onFlightChanged(FlightChangedEvent.updated(
+                    snapshot("MAD", "BCN", day.plusMonths(1).atTime(12, 0))));
+
+            assertEquals(1, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void onFlightChanged_shouldEvictPreviousMonth_whenFlightIsRescheduled() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            fareCalendarService.onFlightChanged(FlightChangedEvent.updated(
+                    snapshot("MAD", "BCN", day.atTime(7, 0)),
+                    snapshot("MAD", "BCN", day.plusMonths(1).atTime(7, 0))));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void onFlightChanged_shouldEvictEveryCalendar_whenDeletedFlightRouteIsUnknown() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+            fareCalendarService.getFareCalendar("MAD", "LHR", month);
+
+            fareCalendarService.onFlightChanged(FlightChangedEvent.deleted(1L, 4L));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void getFareCalendar_shouldReload_whenEarliestCachedFlightHasDeparted() {
+            LocalDateTime departed = LocalDateTime.now().minusMinutes(1);
+            stubFares(row(departed.toLocalDate(), 89.0, 40, 1L, departed));
+            String currentMonth = YearMonth.from(departed).format(DateTimeFormatter.ofPattern("MM/yyyy"));
+
+            fareCalendarService.getFareCalendar("MAD", "BCN", currentMonth);
+            fareCalendarService.getFareCalendar("MAD", "BCN", currentMonth);
+
+            verify(flightRepository, times(2)).findDailyFaresByRoute(any(), any(), any(), any());
+        }
+
+        @Test
+        void getFareCalendar_shouldReload_whenCachedCalendarIsOlderThanMaxAge() {
+            fareCalendarService = new FareCalendarService(flightRepository, Duration.ZERO);
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            verify(flightRepository, times(2)).findDailyFaresByRoute(any(), any(), any(), any());
+        }
+
+        @Test
+        void onRouteChanged_shouldEvictEveryCalendar() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+            fareCalendarService.getFareCalendar("MAD", "LHR", month);
+
+            fareCalendarService.onRouteChanged(new RouteChangedEvent(1L));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+
+        @Test
+        void onAirportChanged_shouldEvictEveryCalendar() {
+            LocalDate day = nextMonth.atDay(5);
+            stubFares(row(day, 89.0, 40, 3L, day.atTime(7, 0)));
+            fareCalendarService.getFareCalendar("MAD", "BCN", month);
+
+            fareCalendarService.onAirportChanged(new AirportChangedEvent(1L));
+
+            assertEquals(0, fareCalendarService.cachedCalendars());
+        }
+    }
+
+    private void stubFares(Object[]... rows) {
+        when(flightRepository.findDailyFaresByRoute(any(), any(), any(), any()))
+                .thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private Object[] row(LocalDate day, double minPrice, int maxSeats, long flights, LocalDateTime firstDeparture) {
+        return new Object[]{day, minPrice, maxSeats, flights, firstDeparture};
+    }
+
+    private FlightSnapshot snapshot(String originCode, String destinationCode, LocalDateTime departure) {
+        return new FlightSnapshot(1L, "SR001", 1L, 1L, originCode, "Madrid", 2L, destinationCode, "Barcelona",
+                departure, departure.plusHours(2), 100.0, 50, true, 0L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.event.FlightCatalogListener;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlightCatalogListenerTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FlightCatalogListener listener;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void onRouteChanged_shouldPublishUpdatedSnapshot_forEveryUpcomingFlightOnRoute() {
+        when(flightRepository.touchUpcomingByRoute(eq(1L), any())).thenReturn(2);
+        when(flightRepository.findUpcomingByRoute(eq(1L), any())).thenReturn(List.of(flight(10L, 3L), flight(11L, 5L)));
+
+        listener.onRouteChanged(new RouteChangedEvent(1L));
+
+        ArgumentCaptor<FlightChangedEvent> captor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(10L, 11L), captor.getAllValues().stream().map(FlightChangedEvent::flightId).toList());
+        assertEquals("LIS", captor.getAllValues().getFirst().snapshot().originCode());
+        assertEquals(3L, captor.getAllValues().getFirst().snapshot().version());
+        assertFalse(captor.getAllValues().getFirst().isDeleted());
+    }
+
+    @Test
+    void onAirportChanged_shouldPublishUpdatedSnapshot_forEveryUpcomingFlightThroughAirport() {
+        when(flightRepository.touchUpcomingByAirport(eq(7L), any())).thenReturn(1);
+        when(flightRepository.findUpcomingByAirport(eq(7L), any())).thenReturn(List.of(flight(10L, 3L)));
+
+        listener.onAirportChanged(new AirportChangedEvent(7L));
+
+        ArgumentCaptor<FlightChangedEvent> captor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals("Lisboa", captor.getValue().snapshot().originCity());
+    }
+
+    @Test
+    void onRouteChanged_shouldPublishNothing_whenRouteHasNoUpcomingFlights() {
+        when(flightRepository.touchUpcomingByRoute(eq(1L), any())).thenReturn(0);
+
+        listener.onRouteChanged(new RouteChangedEvent(1L));
+
+        verify(flightRepository, never()).findUpcomingByRoute(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Flight flight(Long id, long version) {
+        Airport origin = Airport.builder().id(7L).code("LIS").city("Lisboa").build();
+        Airport destination = Airport.builder().id(2L).code("BCN").city("Barcelona").build();
+        return Flight.builder()
+                .id(id)
+                .flightNumber("SR" + id)
+                .route(Route.builder().id(1L).origin(origin).destination(destination).build())
+                .departureTime(now.plusDays(1))
+                .arrivalTime(now.plusDays(1).plusHours(2))
+                .price(100.0)
+                .availableSeats(10)
+                .available(true)
+                .version(version)
+                .build();
+    }
+}
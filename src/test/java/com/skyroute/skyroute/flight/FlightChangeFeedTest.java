@@ -0,0 +1,135 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.flight.dto.FlightMapper;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.entity.FlightChange;
+import com.skyroute.skyroute.flight.event.FlightChangeFeed;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightChangeRepository;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlightChangeFeedTest {
+
+    @Mock
+    private FlightChangeRepository changeRepository;
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FlightChangeFeed feed;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        feed = new FlightChangeFeed(changeRepository, flightRepository, eventPublisher, Duration.ofSeconds(5),
+                Duration.ofMinutes(10));
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void record_shouldStoreVersionAndDeletion_ofEveryChange() {
+        Flight flight = flight(1L, 4L);
+
+        feed.record(FlightChangedEvent.deleted(FlightMapper.toSnapshot(flight)));
+
+        ArgumentCaptor<FlightChange> captor = ArgumentCaptor.forClass(FlightChange.class);
+        verify(changeRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getFlightId());
+        assertEquals(4L, captor.getValue().getVersion());
+        assertTrue(captor.getValue().isDeleted());
+    }
+
+    @Test
+    void sync_shouldPublishCurrentSnapshot_forFlightsChangedByAnotherInstance() {
+        when(changeRepository.findAllByChangedAtGreaterThanEqual(any())).thenReturn(List.of(
+                change(1L, 2L, false), change(1L, 3L, false)));
+        when(flightRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(flight(1L, 3L)));
+
+        assertEquals(1, feed.sync());
+
+        ArgumentCaptor<FlightChangedEvent> captor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(3L, captor.getValue().snapshot().version());
+        assertEquals("MAD", captor.getValue().snapshot().originCode());
+    }
+
+    @Test
+    void sync_shouldPublishDeletion_forFlightsDeletedByAnotherInstance() {
+        when(changeRepository.findAllByChangedAtGreaterThanEqual(any())).thenReturn(List.of(
+                change(1L, 3L, false), change(1L, 3L, true)));
+
+        feed.sync();
+
+        ArgumentCaptor<FlightChangedEvent> captor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertTrue(captor.getValue().isDeleted());
+        assertEquals(1L, captor.getValue().flightId());
+        assertEquals(3L, captor.getValue().version());
+        verify(flightRepository, never()).findAllByIdIn(any());
+    }
+
+    @Test
+    void sync_shouldSkipChanges_alreadyAppliedOnThisInstance() {
+        feed.onFlightChanged(FlightChangedEvent.updated(FlightMapper.toSnapshot(flight(1L, 3L))));
+        when(changeRepository.findAllByChangedAtGreaterThanEqual(any())).thenReturn(List.of(change(1L, 3L, false)));
+
+        assertEquals(0, feed.sync());
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void sync_shouldLookBackByOverlap_sinceLastSync() {
+        when(changeRepository.findAllByChangedAtGreaterThanEqual(any())).thenReturn(List.of());
+        feed.sync();
+        LocalDateTime afterFirstSync = LocalDateTime.now();
+
+        feed.sync();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(changeRepository, times(2)).findAllByChangedAtGreaterThanEqual(since.capture());
+        assertFalse(since.getAllValues().get(1).isAfter(afterFirstSync.minusSeconds(5)));
+        assertTrue(since.getAllValues().get(1).isAfter(now.minusSeconds(6)));
+    }
+
+    private FlightChange change(Long flightId, long version, boolean deleted) {
+        return new FlightChange(null, flightId, version, deleted, now);
+    }
+
+    private Flight flight(Long id, long version) {
+        Airport origin = Airport.builder().id(1L).code("MAD").city("Madrid").build();
+        Airport destination = Airport.builder().id(2L).code("BCN").city("Barcelona").build();
+        return Flight.builder()
+                .id(id)
+                .flightNumber("SR" + id)
+                .route(Route.builder().id(1L).origin(origin).destination(destination).build())
+                .departureTime(now.plusDays(1))
+                .arrivalTime(now.plusDays(1).plusHours(2))
+                .price(100.0)
+                .availableSeats(10)
+                .available(true)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.flight.entity.FlightChange;
+import com.skyroute.skyroute.flight.event.FlightChangeFeed;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FlightChangeFeed.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FlightChangeRepositoryTest {
+
+    @Autowired
+    private FlightChangeRepository repository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void record_shouldStoreChanges_publishedInsideTransactionOnly() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(FlightChangedEvent.deleted(999_999L, 2L)));
+        eventPublisher.publishEvent(FlightChangedEvent.deleted(999_998L, 1L));
+
+        List<FlightChange> changes = repository.findAll();
+        assertEquals(1, changes.size());
+        assertEquals(999_999L, changes.getFirst().getFlightId());
+        assertEquals(2L, changes.getFirst().getVersion());
+        assertTrue(changes.getFirst().isDeleted());
+    }
+
+    @Test
+    void findAllByChangedAtGreaterThanEqual_shouldReturnRecentChanges_andPurgeOldOnes() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        repository.save(new FlightChange(null, 1L, 3L, false, now));
+        repository.save(new FlightChange(null, 2L, 1L, true, now.minusMinutes(20)));
+
+        List<FlightChange> changed = repository.findAllByChangedAtGreaterThanEqual(now.minusMinutes(1));
+
+        assertEquals(List.of(1L), changed.stream().map(FlightChange::getFlightId).toList());
+        assertEquals(1, repository.deleteChangedBefore(now.minusMinutes(10)));
+        assertEquals(1, repository.count());
+    }
+}
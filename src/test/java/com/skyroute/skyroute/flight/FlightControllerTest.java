@@ -3,10 +3,21 @@ package com.skyroute.skyroute.flight;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.skyroute.skyroute.aircraft.dto.AircraftResponse;
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.aircraft.repository.AircraftRepository;
 import com.skyroute.skyroute.airport.dto.AirportResponse;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.repository.AirportRepository;
+import com.skyroute.skyroute.flight.calendar.FareCalendarService;
+import com.skyroute.skyroute.flight.connection.ConnectionSearchService;
 import com.skyroute.skyroute.flight.dto.*;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.export.FlightExportService;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
 import com.skyroute.skyroute.flight.service.FlightService;
 import com.skyroute.skyroute.route.dto.RouteResponse;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.repository.RouteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,16 +26,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidSearchCursorException;
 import org.junit.jupiter.api.Nested;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,9 +61,30 @@ class FlightControllerTest {
         @Autowired
         private WebApplicationContext context;
 
+        @Autowired
+        private FlightRepository flightRepository;
+
+        @Autowired
+        private RouteRepository routeRepository;
+
+        @Autowired
+        private AirportRepository airportRepository;
+
+        @Autowired
+        private AircraftRepository aircraftRepository;
+
         @MockitoBean
         private FlightService flightService;
 
+        @MockitoBean
+        private ConnectionSearchService connectionSearchService;
+
+        @MockitoBean
+        private FareCalendarService fareCalendarService;
+
+        @MockitoBean
+        private FlightExportService flightExportService;
+
         private MockMvc mockMvc;
         private ObjectMapper objectMapper;
 
@@ -156,6 +195,50 @@ class FlightControllerTest {
 
                         verify(flightService).getFlightSimpleById(1L);
                 }
+
+                @Test
+                void getFlightById_shouldReturnNotModified_withoutQuerying_whenETagMatches() throws Exception {
+                        Long id = persistFlight().getId();
+                        when(flightService.getFlightSimpleById(id)).thenReturn(createFlightSimpleResponse());
+
+                        String eTag = mockMvc.perform(get("/api/flights/{id}", id))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                                        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                        mockMvc.perform(get("/api/flights/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                        .andExpect(status().isNotModified());
+
+                        verify(flightService, times(1)).getFlightSimpleById(id);
+                }
+
+                private Flight persistFlight() {
+                        Airport origin = airportRepository.save(Airport.builder().code("ETA").city("ETag A").imageUrl("a.jpg").build());
+                        Airport destination = airportRepository.save(Airport.builder().code("ETB").city("ETag B").imageUrl("b.jpg").build());
+                        Route route = routeRepository.save(Route.builder().origin(origin).destination(destination).build());
+                        Aircraft aircraft = aircraftRepository.save(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+                        LocalDateTime departure = LocalDateTime.now().plusDays(3);
+                        return flightRepository.save(Flight.builder()
+                                        .flightNumber("ETAG01")
+                                        .route(route)
+                                        .aircraft(aircraft)
+                                        .availableSeats(180)
+                                        .price(100.0)
+                                        .departureTime(departure)
+                                        .arrivalTime(departure.plusHours(2))
+                                        .available(true)
+                                        .build());
+                }
+
+                @Test
+                void getFlightById_shouldAnswerWithoutValidators_whenFlightDoesNotExist() throws Exception {
+                        when(flightService.getFlightSimpleById(999_999L))
+                                        .thenThrow(new EntityNotFoundException("Flight not found"));
+
+                        mockMvc.perform(get("/api/flights/999999").header(HttpHeaders.IF_NONE_MATCH, "\"flight-999999-0-0-0\""))
+                                        .andExpect(status().isNotFound())
+                                        .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+                }
         }
 
         @Nested
@@ -184,6 +267,45 @@ class FlightControllerTest {
                                         any(Pageable.class));
                 }
 
+                @Test
+                void getFlightsByBudgetAndCityAfter_shouldReturnCursorSlice() throws Exception {
+                        FlightCursorPage slice = new FlightCursorPage(List.of(createFlightSimpleResponse()), 1, true,
+                                        "next-cursor");
+
+                        when(flightService.searchFlightsByBudgetAndCityAfter(any(), any(), any(), any(), anyInt()))
+                                        .thenReturn(slice);
+
+                        mockMvc.perform(get("/api/flights/search-filters/cursor")
+                                        .param("budget", "500.0")
+                                        .param("size", "1"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.content[0].id").value(1L))
+                                        .andExpect(jsonPath("$.hasNext").value(true))
+                                        .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                                        .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+                        verify(flightService).searchFlightsByBudgetAndCityAfter(
+                                        eq(Optional.empty()),
+                                        eq(Optional.empty()),
+                                        eq(Optional.of(500.0)),
+                                        eq(Optional.empty()),
+                                        eq(1));
+                        verify(flightService, never()).searchFlightsByBudgetAndCity(any(), any(), any(), any(Pageable.class));
+                }
+
+                @Test
+                void getFlightsByBudgetAndCityAfter_shouldReturnBadRequest_whenCursorIsMalformed() throws Exception {
+                        when(flightService.searchFlightsByBudgetAndCityAfter(any(), any(), any(), any(), anyInt()))
+                                        .thenThrow(new InvalidSearchCursorException(
+                                                        "cursor is not a nextCursor returned by a previous search"));
+
+                        mockMvc.perform(get("/api/flights/search-filters/cursor")
+                                        .param("cursor", "not-a-cursor"))
+                                        .andExpect(status().isBadRequest())
+                                        .andExpect(jsonPath("$.message").value(
+                                                        "Validation failed: cursor is not a nextCursor returned by a previous search"));
+                }
+
                 @Test
                 void searchFlightsByBudgetAndCity_shouldReturnFlights_withoutFilters() throws Exception {
                         PageImpl<FlightSimpleResponse> page = new PageImpl<>(List.of());
@@ -212,6 +334,88 @@ class FlightControllerTest {
                 }
         }
 
+        @Nested
+        class SearchConnectionsTests {
+                @Test
+                void searchConnections_shouldReturnItineraries_withoutAuthentication() throws Exception {
+                        FlightSimpleResponse leg = createFlightSimpleResponse();
+                        ConnectionItineraryResponse itinerary = new ConnectionItineraryResponse(0, leg.origin(),
+                                        leg.destination(), leg.departureDate(), leg.arrivalDate(), 90, leg.price(),
+                                        List.of(leg));
+
+                        when(connectionSearchService.searchConnections(any(), any(), any(), any(), any()))
+                                        .thenReturn(List.of(itinerary));
+
+                        mockMvc.perform(get("/api/flights/connections")
+                                        .param("origin", "MAD")
+                                        .param("destination", "BCN")
+                                        .param("departureDate", "01/12/2025")
+                                        .param("maxStops", "1"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[0].stops").value(0))
+                                        .andExpect(jsonPath("$[0].legs[0].flightNumber").value("SR001"));
+
+                        verify(connectionSearchService).searchConnections("MAD", "BCN", "01/12/2025",
+                                        Optional.empty(), Optional.of(1));
+                }
+        }
+
+        @Nested
+        class GetFareCalendarTests {
+                @Test
+                void getFareCalendar_shouldReturnDailyFares_withoutAuthentication() throws Exception {
+                        FareCalendarResponse calendar = new FareCalendarResponse("MAD", "BCN", YearMonth.of(2025, 12),
+                                        List.of(new FareCalendarDayResponse(LocalDate.of(2025, 12, 1), 99.0, 40, 2L)));
+
+                        when(fareCalendarService.getFareCalendar("MAD", "BCN", "12/2025")).thenReturn(calendar);
+
+                        mockMvc.perform(get("/api/flights/fare-calendar")
+                                        .param("origin", "MAD")
+                                        .param("destination", "BCN")
+                                        .param("month", "12/2025"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.days[0].minPrice").value(99.0))
+                                        .andExpect(jsonPath("$.days[0].maxAvailableSeats").value(40));
+                }
+
+                @Test
+                void getFareCalendar_shouldReturnBadRequest_whenMonthIsInvalid() throws Exception {
+                        when(fareCalendarService.getFareCalendar("MAD", "BCN", "2025-12"))
+                                        .thenThrow(new BusinessException("Invalid month format. Expected MM/yyyy"));
+
+                        mockMvc.perform(get("/api/flights/fare-calendar")
+                                        .param("origin", "MAD")
+                                        .param("destination", "BCN")
+                                        .param("month", "2025-12"))
+                                        .andExpect(status().isBadRequest());
+                }
+        }
+
+        @Nested
+        class ExportFlightsTests {
+                @Test
+                void exportFlights_shouldStreamNdjson_withoutAuthentication() throws Exception {
+                        when(flightExportService.exportFlights(eq(Optional.of("MAD")), eq(Optional.empty()),
+                                        eq(Optional.empty()), eq(Optional.empty()), eq(Optional.of(300.0)), any()))
+                                        .thenAnswer(invocation -> {
+                                                OutputStream outputStream = invocation.getArgument(5);
+                                                outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                                                return 2L;
+                                        });
+
+                        MvcResult result = mockMvc.perform(get("/api/flights/export")
+                                        .param("origin", "MAD")
+                                        .param("budget", "300"))
+                                        .andExpect(request().asyncStarted())
+                                        .andReturn();
+
+                        mockMvc.perform(asyncDispatch(result))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                                        .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+                }
+        }
+
         @Nested
         class GetAllFlightsAdminTests {
                 @Test
@@ -0,0 +1,125 @@
+package com.skyroute.skyroute.flight;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.export.FlightExportService;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FlightExportServiceTest {
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private FlightExportService flightExportService;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        flightExportService = new FlightExportService(flightRepository, entityManager.getEntityManager(),
+                objectMapper, 2, 2);
+
+        Airport origin = entityManager.persist(Airport.builder().code("EXA").city("Export A").imageUrl("a.jpg").build());
+        Airport destination = entityManager.persist(Airport.builder().code("EXB").city("Export B").imageUrl("b.jpg").build());
+        Route route = entityManager.persist(Route.builder().origin(origin).destination(destination).build());
+        Aircraft aircraft = entityManager.persist(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+
+        departure = LocalDateTime.now().plusDays(5).withNano(0);
+        entityManager.persist(flight("EX003", route, aircraft, departure.plusHours(3), 300.0, true));
+        entityManager.persist(flight("EX001", route, aircraft, departure.plusHours(1), 100.0, true));
+        entityManager.persist(flight("EX002", route, aircraft, departure.plusHours(2), 200.0, true));
+        entityManager.persist(flight("EX004", route, aircraft, departure.plusHours(4), 50.0, false));
+        entityManager.persist(flight("EX005", route, aircraft, LocalDateTime.now().minusDays(1), 50.0, true));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportFlights_shouldWriteOneJsonLinePerAvailableFlight_inDepartureOrder() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = flightExportService.exportFlights(Optional.of("EXA"), Optional.of("EXB"), Optional.empty(),
+                Optional.empty(), Optional.empty(), output);
+
+        List<JsonNode> lines = readLines(output);
+        assertEquals(3, exported);
+        assertEquals(List.of("EX001", "EX002", "EX003"),
+                lines.stream().map(line -> line.get("flightNumber").asText()).toList());
+        assertEquals("Export A", lines.getFirst().get("origin").asText());
+        assertEquals(departure.plusHours(1), LocalDateTime.parse(lines.getFirst().get("departureDate").asText()));
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    void exportFlights_shouldApplyBudgetFilter() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = flightExportService.exportFlights(Optional.of("EXA"), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.of(150.0), output);
+
+        assertEquals(1, exported);
+        assertEquals("EX001", readLines(output).getFirst().get("flightNumber").asText());
+    }
+
+    @Test
+    void exportFlights_shouldWriteNothing_whenNoFlightMatches() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = flightExportService.exportFlights(Optional.of("EXB"), Optional.of("EXA"), Optional.empty(),
+                Optional.empty(), Optional.empty(), output);
+
+        assertEquals(0, exported);
+        assertEquals(0, output.size());
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream output) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private Flight flight(String flightNumber, Route route, Aircraft aircraft, LocalDateTime departureTime,
+                          double price, boolean available) {
+        return Flight.builder()
+                .flightNumber(flightNumber)
+                .route(route)
+                .aircraft(aircraft)
+                .availableSeats(100)
+                .price(price)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(2))
+                .available(available)
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.flight.dto.FlightCursorPage;
+import com.skyroute.skyroute.flight.dto.FlightSimpleResponse;
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchCriteria;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
+import com.skyroute.skyroute.flight.search.FlightSearchIndex;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidSearchCursorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlightSearchIndexTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private FlightSearchIndex index;
+    private LocalDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        index = new FlightSearchIndex(flightRepository, true);
+        when(flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        index.warmUp();
+        tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+    }
+
+    @Nested
+    class SearchTests {
+        @Test
+        void search_shouldMatchByCodeOrCityAndDay() {
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50)));
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow.plusDays(1), 90.0, 50)));
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(3L, "MAD", "Madrid", "LHR", "London", tomorrow, 200.0, 50)));
+
+            Page<FlightSimpleResponse> byCode = search(new FlightSearchCriteria("MAD", "BCN", tomorrow.toLocalDate(), null, null));
+            Page<FlightSimpleResponse> byCity = search(new FlightSearchCriteria("madrid", "barcelona", null, null, null));
+
+            assertEquals(List.of(1L), byCode.getContent().stream().map(FlightSimpleResponse::id).toList());
+            assertEquals(List.of(1L, 2L), byCity.getContent().stream().map(FlightSimpleResponse::id).toList());
+        }
+
+        @Test
+        void search_shouldApplyPassengersAndBudgetFilters() {
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 2)));
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 90.0, 10)));
+
+            Page<FlightSimpleResponse> byPassengers = search(new FlightSearchCriteria(null, null, null, 5, null));
+            Page<FlightSimpleResponse> byBudget = search(new FlightSearchCriteria(null, null, null, null, 100.0));
+
+            assertEquals(List.of(2L), byPassengers.getContent().stream().map(FlightSimpleResponse::id).toList());
+            assertEquals(List.of(2L), byBudget.getContent().stream().map(FlightSimpleResponse::id).toList());
+        }
+
+        @Test
+        void search_shouldSortAndPage() {
+            for (long id = 1; id <= 5; id++) {
+                index.onFlightChanged(FlightChangedEvent.updated(
+                        snapshot(id, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 100.0 - id, 10)));
+            }
+
+            Page<FlightSimpleResponse> page = index.search(
+                    new FlightSearchCriteria("MAD", null, null, null, null),
+                    PageRequest.of(1, 2, Sort.by("price"))).orElseThrow();
+
+            assertEquals(5, page.getTotalElements());
+            assertEquals(List.of(3L, 2L), page.getContent().stream().map(FlightSimpleResponse::id).toList());
+        }
+
+        @Test
+        void searchAfter_shouldWalkAllFlightsWithCursor() {
+            for (long id = 1; id <= 5; id++) {
+                index.onFlightChanged(FlightChangedEvent.updated(
+                        snapshot(id, "MAD", "Madrid", "BCN", "Barcelona", tomorrow.plusHours(6 - id), 100.0, 10)));
+            }
+            FlightSearchCriteria criteria = new FlightSearchCriteria("MAD", "BCN", null, null, null);
+
+            FlightCursorPage first = index.searchAfter(criteria, Optional.empty(), 2).orElseThrow();
+            FlightCursorPage second = index.searchAfter(criteria,
+                    Optional.of(FlightSearchCursor.decode(first.nextCursor())), 2).orElseThrow();
+            FlightCursorPage last = index.searchAfter(criteria,
+                    Optional.of(FlightSearchCursor.decode(second.nextCursor())), 2).orElseThrow();
+
+            assertEquals(List.of(5L, 4L), first.content().stream().map(FlightSimpleResponse::id).toList());
+            assertEquals(List.of(3L, 2L), second.content().stream().map(FlightSimpleResponse::id).toList());
+            assertEquals(List.of(1L), last.content().stream().map(FlightSimpleResponse::id).toList());
+            assertFalse(last.hasNext());
+            assertNull(last.nextCursor());
+        }
+
+        @Test
+        void decode_shouldThrowInvalidSearchCursorException_whenCursorIsMalformed() {
+            assertThrows(InvalidSearchCursorException.class, () -> FlightSearchCursor.decode("not-a-cursor"));
+        }
+
+        @Test
+        void search_shouldFallBack_whenSortPropertyIsNotIndexed() {
+            Optional<Page<FlightSimpleResponse>> result = index.search(
+                    new FlightSearchCriteria(null, null, null, null, null),
+                    PageRequest.of(0, 10, Sort.by("route.origin.city")));
+
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        void search_shouldFallBack_whenIndexIsDisabled() {
+            FlightSearchIndex disabled = new FlightSearchIndex(flightRepository, false);
+            disabled.warmUp();
+
+            assertTrue(disabled.search(new FlightSearchCriteria(null, null, null, null, null),
+                    PageRequest.of(0, 10)).isEmpty());
+        }
+    }
+
+    @Nested
+    class ChangeTests {
+        @Test
+        void onFlightChanged_shouldMoveFlightBetweenBuckets_whenDepartureChanges() {
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50)));
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow.plusDays(2), 120.0, 50)));
+
+            assertTrue(search(new FlightSearchCriteria("MAD", "BCN", tomorrow.toLocalDate(), null, null)).isEmpty());
+            assertEquals(1, search(new FlightSearchCriteria("MAD", "BCN", tomorrow.plusDays(2).toLocalDate(), null, null))
+                    .getTotalElements());
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        void onFlightChanged_shouldDropFlight_whenSoldOutOrDeleted() {
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50)));
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50)));
+
+            index.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 0)));
+            index.onFlightChanged(FlightChangedEvent.deleted(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50)));
+
+            assertEquals(0, index.size());
+        }
+
+        @Test
+        void onFlightChanged_shouldIgnoreOlderSnapshot_whenItArrivesAfterNewerOne() {
+            FlightSnapshot older = snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50);
+            FlightSnapshot newer = withVersion(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow.plusDays(2), 120.0, 50), 1);
+
+            index.onFlightChanged(FlightChangedEvent.updated(newer));
+            index.onFlightChanged(FlightChangedEvent.updated(older));
+
+            assertTrue(search(new FlightSearchCriteria("MAD", "BCN", tomorrow.toLocalDate(), null, null)).isEmpty());
+            assertEquals(1, search(new FlightSearchCriteria("MAD", "BCN", tomorrow.plusDays(2).toLocalDate(), null, null))
+                    .getTotalElements());
+        }
+
+        @Test
+        void onFlightChanged_shouldNotBringBackFlight_whenStaleUpdateArrivesAfterRemoval() {
+            FlightSnapshot flight = withVersion(snapshot(1L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50), 3);
+
+            index.onFlightChanged(FlightChangedEvent.deleted(flight));
+            index.onFlightChanged(FlightChangedEvent.updated(flight));
+            index.onFlightChanged(FlightChangedEvent.updated(withVersion(flight, 2)));
+            index.onFlightChanged(FlightChangedEvent.updated(withVersion(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 0), 5)));
+            index.onFlightChanged(FlightChangedEvent.updated(withVersion(snapshot(2L, "MAD", "Madrid", "BCN", "Barcelona", tomorrow, 120.0, 50), 4)));
+
+            assertEquals(0, index.size());
+        }
+    }
+
+    private Page<FlightSimpleResponse> search(FlightSearchCriteria criteria) {
+        return index.search(criteria, PageRequest.of(0, 10)).orElseThrow();
+    }
+
+    private FlightSnapshot snapshot(Long id, String originCode, String originCity, String destinationCode,
+                                    String destinationCity, LocalDateTime departure, double price, int seats) {
+        return new FlightSnapshot(id, "SR" + id, 1L, 1L, originCode, originCity, 2L, destinationCode,
+                destinationCity, departure, departure.plusHours(2), price, seats, true, 0L);
+    }
+
+    private FlightSnapshot withVersion(FlightSnapshot snapshot, long version) {
+        return new FlightSnapshot(snapshot.id(), snapshot.flightNumber(), snapshot.routeId(), snapshot.originId(),
+                snapshot.originCode(), snapshot.originCity(), snapshot.destinationId(), snapshot.destinationCode(),
+                snapshot.destinationCity(), snapshot.departureTime(), snapshot.arrivalTime(), snapshot.price(),
+                snapshot.availableSeats(), snapshot.available(), version);
+    }
+}
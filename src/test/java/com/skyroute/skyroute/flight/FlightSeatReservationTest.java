@@ -0,0 +1,159 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.entity.FlightSeatLease;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FlightSeatReservationTest {
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Route route;
+    private Aircraft aircraft;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        Airport origin = entityManager.persist(Airport.builder().code("SRA").city("Seats A").imageUrl("a.jpg").build());
+        Airport destination = entityManager.persist(Airport.builder().code("SRB").city("Seats B").imageUrl("b.jpg").build());
+        route = entityManager.persist(Route.builder().origin(origin).destination(destination).build());
+        aircraft = entityManager.persist(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void reserveSeats_shouldDecrementSeats_whenEnoughSeatsAvailable() {
+        Flight flight = persist("RSV100", 10, true, now.plusDays(1));
+
+        int updated = flightRepository.reserveSeats(flight.getId(), 4, now);
+
+        Flight reloaded = flightRepository.findById(flight.getId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(6, reloaded.getAvailableSeats());
+        assertTrue(reloaded.isAvailable());
+    }
+
+    @Test
+    void reserveSeats_shouldMarkFlightUnavailable_whenLastSeatsAreTaken() {
+        Flight flight = persist("RSV101", 3, true, now.plusDays(1));
+
+        int updated = flightRepository.reserveSeats(flight.getId(), 3, now);
+
+        Flight reloaded = flightRepository.findById(flight.getId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(0, reloaded.getAvailableSeats());
+        assertFalse(reloaded.isAvailable());
+    }
+
+    @Test
+    void reserveSeats_shouldUpdateNothing_whenSeatsAreShortUnavailableOrDeparted() {
+        Flight shortOfSeats = persist("RSV102", 2, true, now.plusDays(1));
+        Flight unavailable = persist("RSV103", 50, false, now.plusDays(1));
+        Flight departed = persist("RSV104", 50, true, now.minusHours(1));
+
+        assertEquals(0, flightRepository.reserveSeats(shortOfSeats.getId(), 3, now));
+        assertEquals(0, flightRepository.reserveSeats(unavailable.getId(), 3, now));
+        assertEquals(0, flightRepository.reserveSeats(departed.getId(), 3, now));
+        assertEquals(2, flightRepository.findById(shortOfSeats.getId()).orElseThrow().getAvailableSeats());
+    }
+
+    @Test
+    void reserveSeats_shouldUpdateNothing_whileAnotherInstanceHoldsSeatLease() {
+        Flight leased = persist("RSV107", 50, true, now.plusDays(1));
+        Flight expired = persist("RSV108", 50, true, now.plusDays(1));
+        entityManager.persist(FlightSeatLease.builder()
+                .flightId(leased.getId()).owner("node-a").leaseUntil(now.plusSeconds(30)).seatTotal(50).build());
+        entityManager.persist(FlightSeatLease.builder()
+                .flightId(expired.getId()).owner("node-a").leaseUntil(now.minusSeconds(1)).seatTotal(50).build());
+        entityManager.flush();
+
+        assertEquals(0, flightRepository.reserveSeats(leased.getId(), 3, now));
+        assertEquals(1, flightRepository.reserveSeats(expired.getId(), 3, now));
+    }
+
+    @Test
+    void releaseSeats_shouldRestoreSeatsAndAvailability_whenFlightHasNotDeparted() {
+        Flight soldOut = persist("RSV105", 0, false, now.plusDays(1));
+        Flight departed = persist("RSV106", 0, false, now.minusHours(1));
+
+        flightRepository.releaseSeats(soldOut.getId(), 2, now);
+        flightRepository.releaseSeats(departed.getId(), 2, now);
+
+        Flight reopened = flightRepository.findById(soldOut.getId()).orElseThrow();
+        Flight stillClosed = flightRepository.findById(departed.getId()).orElseThrow();
+        assertEquals(2, reopened.getAvailableSeats());
+        assertTrue(reopened.isAvailable());
+        assertEquals(2, stillClosed.getAvailableSeats());
+        assertFalse(stillClosed.isAvailable());
+    }
+
+    @Test
+    void version_shouldIncrease_onEveryEntityAndBulkWrite() {
+        Flight flight = persist("RSV109", 10, true, now.plusDays(1));
+        long created = flight.getVersion();
+
+        flight.setPrice(120.0);
+        flightRepository.flush();
+        long updated = flight.getVersion();
+        flightRepository.reserveSeats(flight.getId(), 2, now);
+        long reserved = flightRepository.findById(flight.getId()).orElseThrow().getVersion();
+        flightRepository.releaseSeats(flight.getId(), 2, now);
+
+        assertTrue(updated > created);
+        assertTrue(reserved > updated);
+        assertTrue(flightRepository.findById(flight.getId()).orElseThrow().getVersion() > reserved);
+    }
+
+    @Test
+    void touchUpcoming_shouldBumpVersion_ofUpcomingFlightsOnRouteOrAirportOnly() {
+        Flight upcoming = persist("RSV110", 10, true, now.plusDays(1));
+        Flight departed = persist("RSV111", 10, true, now.minusHours(1));
+        long upcomingVersion = upcoming.getVersion();
+        long departedVersion = departed.getVersion();
+
+        assertEquals(1, flightRepository.touchUpcomingByRoute(route.getId(), now));
+        assertEquals(1, flightRepository.touchUpcomingByAirport(route.getDestination().getId(), now));
+        assertEquals(0, flightRepository.touchUpcomingByRoute(route.getId() + 1, now));
+
+        assertEquals(upcomingVersion + 2, flightRepository.findById(upcoming.getId()).orElseThrow().getVersion());
+        assertEquals(departedVersion, flightRepository.findById(departed.getId()).orElseThrow().getVersion());
+        assertEquals(List.of(upcoming.getId()), flightRepository.findUpcomingByAirport(route.getOrigin().getId(), now)
+                .stream().map(Flight::getId).toList());
+        assertEquals(1, flightRepository.findUpcomingByRoute(route.getId(), now).size());
+    }
+
+    private Flight persist(String flightNumber, int seats, boolean available, LocalDateTime departureTime) {
+        Flight flight = entityManager.persist(Flight.builder()
+                .flightNumber(flightNumber)
+                .route(route)
+                .aircraft(aircraft)
+                .availableSeats(seats)
+                .price(100.0)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(2))
+                .available(available)
+                .build());
+        entityManager.flush();
+        return flight;
+    }
+}
@@ -5,8 +5,12 @@ import com.skyroute.skyroute.aircraft.service.AircraftService;
 import com.skyroute.skyroute.airport.entity.Airport;
 import com.skyroute.skyroute.flight.dto.*;
 import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
 import com.skyroute.skyroute.flight.helper.FlightHelper;
+import com.skyroute.skyroute.flight.inventory.SeatInventory;
+import com.skyroute.skyroute.flight.pricing.MinPriceCache;
 import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchIndex;
 import com.skyroute.skyroute.flight.service.FlightServiceImpl;
 import com.skyroute.skyroute.flight.validation.FlightValidator;
 import com.skyroute.skyroute.route.entity.Route;
@@ -18,8 +22,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.skyroute.skyroute.shared.exception.custom_exception.BusinessException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidBookingOperationException;
+import com.skyroute.skyroute.shared.exception.custom_exception.NotEnoughSeatsException;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
 import org.junit.jupiter.api.Nested;
 import org.mockito.InjectMocks;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -50,6 +58,14 @@ class FlightServiceTest {
     private FlightValidator flightValidator;
     @Mock
     private FlightHelper flightHelper;
+    @Mock
+    private FlightSearchIndex flightSearchIndex;
+    @Mock
+    private MinPriceCache minPriceCache;
+    @Mock
+    private SeatInventory seatInventory;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private FlightServiceImpl flightService;
@@ -63,7 +79,7 @@ class FlightServiceTest {
     @BeforeEach
     void setUp() {
         flightService = new FlightServiceImpl(flightRepository, aircraftService, routeService, flightValidator,
-                flightHelper);
+                flightHelper, flightSearchIndex, minPriceCache, seatInventory, eventPublisher);
         originAirport = createAirport(1L, "MAD", "Madrid");
         destinationAirport = createAirport(2L, "BCN", "Barcelona");
         testRoute = createRoute(1L, originAirport, destinationAirport);
@@ -79,7 +95,8 @@ class FlightServiceTest {
             List<Flight> flights = List.of(testFlight);
             Page<Flight> flightPage = new PageImpl<>(flights, pageable, flights.size());
 
-            when(flightRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(flightPage);
+            when(flightRepository.findSimpleResponses(any(Specification.class), eq(pageable)))
+                    .thenReturn(flightPage.map(FlightMapper::toSimpleResponse));
 
             Page<FlightSimpleResponse> result = flightService.searchFlights(
                     Optional.of("MAD"),
@@ -91,7 +108,7 @@ class FlightServiceTest {
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
             assertEquals("SR001", result.getContent().getFirst().flightNumber());
-            verify(flightRepository).findAll(any(Specification.class), eq(pageable));
+            verify(flightRepository).findSimpleResponses(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -99,7 +116,8 @@ class FlightServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Flight> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-            when(flightRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+            when(flightRepository.findSimpleResponses(any(Specification.class), eq(pageable)))
+                    .thenReturn(emptyPage.map(FlightMapper::toSimpleResponse));
 
             Page<FlightSimpleResponse> result = flightService.searchFlights(
                     Optional.empty(),
@@ -110,7 +128,7 @@ class FlightServiceTest {
 
             assertNotNull(result);
             assertTrue(result.isEmpty());
-            verify(flightRepository).findAll(any(Specification.class), eq(pageable));
+            verify(flightRepository).findSimpleResponses(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -118,7 +136,8 @@ class FlightServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Flight> flightPage = new PageImpl<>(List.of(testFlight), pageable, 1);
 
-            when(flightRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(flightPage);
+            when(flightRepository.findSimpleResponses(any(Specification.class), eq(pageable)))
+                    .thenReturn(flightPage.map(FlightMapper::toSimpleResponse));
 
             Page<FlightSimpleResponse> result = flightService.searchFlights(
                     Optional.of("MAD"),
@@ -129,7 +148,26 @@ class FlightServiceTest {
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
-            verify(flightRepository).findAll(any(Specification.class), eq(pageable));
+            verify(flightRepository).findSimpleResponses(any(Specification.class), eq(pageable));
+        }
+
+        @Test
+        void searchFlights_shouldServeFromIndex_whenIndexIsReady() {
+            Pageable pageable = PageRequest.of(0, 10);
+            FlightSimpleResponse indexed = FlightMapper.toSimpleResponse(testFlight);
+
+            when(flightSearchIndex.search(any(), eq(pageable)))
+                    .thenReturn(Optional.of(new PageImpl<>(List.of(indexed), pageable, 1)));
+
+            Page<FlightSimpleResponse> result = flightService.searchFlights(
+                    Optional.of("MAD"),
+                    Optional.of("BCN"),
+                    Optional.empty(),
+                    Optional.empty(),
+                    pageable);
+
+            assertEquals(1, result.getTotalElements());
+            verify(flightRepository, never()).findSimpleResponses(any(Specification.class), any(Pageable.class));
         }
     }
 
@@ -137,7 +175,7 @@ class FlightServiceTest {
     class GetFlightSimpleByIdTests {
         @Test
         void getFlightSimpleById_shouldReturnFlightSimpleResponse_whenFlightExists() {
-            when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
+            when(flightRepository.findSimpleById(1L)).thenReturn(Optional.of(FlightMapper.toSimpleResponse(testFlight)));
 
             FlightSimpleResponse result = flightService.getFlightSimpleById(1L);
 
@@ -146,19 +184,20 @@ class FlightServiceTest {
             assertEquals("SR001", result.flightNumber());
             assertEquals("Madrid", result.origin());
             assertEquals("Barcelona", result.destination());
-            verify(flightRepository).findById(1L);
+            verify(flightRepository).findSimpleById(1L);
+            verify(flightRepository, never()).findById(any());
         }
 
         @Test
         void getFlightSimpleById_shouldThrowEntityNotFoundException_whenFlightDoesNotExist() {
-            when(flightRepository.findById(99L)).thenReturn(Optional.empty());
+            when(flightRepository.findSimpleById(99L)).thenReturn(Optional.empty());
 
             EntityNotFoundException exception = assertThrows(
                     EntityNotFoundException.class,
                     () -> flightService.getFlightSimpleById(99L));
 
             assertEquals("Flight with id: 99 not found", exception.getMessage());
-            verify(flightRepository).findById(99L);
+            verify(flightRepository).findSimpleById(99L);
         }
     }
 
@@ -170,7 +209,8 @@ class FlightServiceTest {
             List<Flight> flights = List.of(testFlight);
             Page<Flight> flightPage = new PageImpl<>(flights, pageable, flights.size());
 
-            when(flightRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(flightPage);
+            when(flightRepository.findSimpleResponses(any(Specification.class), eq(pageable)))
+                    .thenReturn(flightPage.map(FlightMapper::toSimpleResponse));
 
             Page<FlightSimpleResponse> result = flightService.searchFlightsByBudgetAndCity(
                     Optional.of("MAD"),
@@ -180,7 +220,7 @@ class FlightServiceTest {
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
-            verify(flightRepository).findAll(any(Specification.class), eq(pageable));
+            verify(flightRepository).findSimpleResponses(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -188,7 +228,8 @@ class FlightServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Flight> flightPage = new PageImpl<>(List.of(), pageable, 0);
 
-            when(flightRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(flightPage);
+            when(flightRepository.findSimpleResponses(any(Specification.class), eq(pageable)))
+                    .thenReturn(flightPage.map(FlightMapper::toSimpleResponse));
 
             Page<FlightSimpleResponse> result = flightService.searchFlightsByBudgetAndCity(
                     Optional.empty(),
@@ -198,7 +239,7 @@ class FlightServiceTest {
 
             assertNotNull(result);
             assertTrue(result.isEmpty());
-            verify(flightRepository).findAll(any(Specification.class), eq(pageable));
+            verify(flightRepository).findSimpleResponses(any(Specification.class), eq(pageable));
         }
     }
 
@@ -383,6 +424,18 @@ class FlightServiceTest {
         assertEquals(299.0, response.minPrice());
     }
 
+    @Test
+    void getMinPricesByDestinations_shouldServeFromCache_whenCacheIsReady() {
+        List<String> destinationCodes = List.of("BCN");
+        List<MinPriceResponse> cached = List.of(new MinPriceResponse("BCN", "Barcelona", 199.0));
+        when(minPriceCache.lookup(destinationCodes)).thenReturn(Optional.of(cached));
+
+        List<MinPriceResponse> result = flightService.getMinPricesByDestinations(destinationCodes);
+
+        assertEquals(cached, result);
+        verify(flightRepository, never()).findMinPricesByDestinations(anyList());
+    }
+
     @Nested
     class UpdateFlightTests {
         @Test
@@ -479,6 +532,7 @@ class FlightServiceTest {
 
             verify(flightRepository).findById(1L);
             verify(flightRepository).delete(testFlight);
+            verify(eventPublisher).publishEvent(FlightChangedEvent.deleted(FlightMapper.toSnapshot(testFlight)));
         }
 
         @Test
@@ -626,43 +680,95 @@ class FlightServiceTest {
     @Nested
     class BookSeatsTests {
         @Test
-        void bookSeats_shouldDecreaseAvailableSeats_whenValidRequest() {
-            testFlight.setAvailableSeats(150);
+        void bookSeats_shouldReserveSeatsWithSingleUpdate_whenValidRequest() {
+            testFlight.setAvailableSeats(140);
+            when(flightRepository.reserveSeats(eq(1L), eq(10), any(LocalDateTime.class))).thenReturn(1);
             when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
-            doNothing().when(flightValidator).validateSeatsToBook(testFlight, 10);
-            when(flightRepository.save(testFlight)).thenReturn(testFlight);
 
-            flightService.bookSeats(1L, 10);
+            Flight result = flightService.bookSeats(1L, 10);
 
-            assertEquals(140, testFlight.getAvailableSeats());
-            verify(flightRepository).findById(1L);
-            verify(flightValidator).validateSeatsToBook(testFlight, 10);
-            verify(flightRepository).save(testFlight);
+            assertSame(testFlight, result);
+            verify(flightValidator).validateSeatsRequested(10);
+            verify(flightRepository).reserveSeats(eq(1L), eq(10), any(LocalDateTime.class));
+            verify(flightRepository, never()).save(any());
+            verify(eventPublisher).publishEvent(any(FlightChangedEvent.class));
         }
 
         @Test
-        void bookSeats_shouldThrowBusinessException_whenNotEnoughSeats() {
+        void bookSeats_shouldSkipDatabaseUpdate_whenSeatInventoryReservesInMemory() {
+            when(seatInventory.reserve(1L, 10)).thenReturn(true);
+            when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
+
+            Flight result = flightService.bookSeats(1L, 10);
+
+            assertSame(testFlight, result);
+            verify(flightRepository, never()).reserveSeats(anyLong(), anyInt(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void bookSeats_shouldThrowNotEnoughSeatsException_whenNoRowUpdatedAndSeatsAreShort() {
             testFlight.setAvailableSeats(5);
+            testFlight.setDepartureTime(LocalDateTime.now().plusDays(1));
+            when(flightRepository.reserveSeats(eq(1L), eq(10), any(LocalDateTime.class))).thenReturn(0);
             when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
-            doThrow(new BusinessException("Not enough seats available. requested: 10. Available: 5"))
-                    .when(flightValidator).validateSeatsToBook(testFlight, 10);
 
-            BusinessException exception = assertThrows(
-                    BusinessException.class,
+            NotEnoughSeatsException exception = assertThrows(
+                    NotEnoughSeatsException.class,
                     () -> flightService.bookSeats(1L, 10)
             );
 
-            assertTrue(exception.getMessage().contains("Not enough seats available"));
-            verify(flightRepository).findById(1L);
-            verify(flightValidator).validateSeatsToBook(testFlight, 10);
-            verify(flightRepository, never()).save(any());
+            assertEquals("Not enough seats available. Requested: 10. Available: 5", exception.getMessage());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        void bookSeats_shouldThrowBusinessException_whenZeroSeatsRequested() {
+        void bookSeats_shouldThrowSeatInventoryUnavailableException_whenAnotherInstanceHoldsSeatLease() {
+            testFlight.setDepartureTime(LocalDateTime.now().plusDays(1));
+            when(flightRepository.reserveSeats(eq(1L), eq(2), any(LocalDateTime.class))).thenReturn(0);
+            when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
+            when(seatInventory.isLeasedElsewhere(1L)).thenReturn(true);
+
+            assertThrows(SeatInventoryUnavailableException.class, () -> flightService.bookSeats(1L, 2));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void bookSeats_shouldThrowInvalidBookingOperationException_whenNoRowUpdatedAndFlightUnavailable() {
+            testFlight.setAvailable(false);
+            when(flightRepository.reserveSeats(eq(1L), eq(10), any(LocalDateTime.class))).thenReturn(0);
+            when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
+
+            InvalidBookingOperationException exception = assertThrows(
+                    InvalidBookingOperationException.class,
+                    () -> flightService.bookSeats(1L, 10)
+            );
+
+            assertEquals("Flight not available for booking", exception.getMessage());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void bookSeats_shouldThrowInvalidBookingOperationException_whenNoRowUpdatedAndFlightDeparted() {
+            testFlight.setDepartureTime(LocalDateTime.now().minusHours(1));
+            when(flightRepository.reserveSeats(eq(1L), eq(10), any(LocalDateTime.class))).thenReturn(0);
             when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
+
+            assertThrows(InvalidBookingOperationException.class, () -> flightService.bookSeats(1L, 10));
+        }
+
+        @Test
+        void bookSeats_shouldThrowEntityNotFoundException_whenFlightDoesNotExist() {
+            when(flightRepository.reserveSeats(eq(99L), eq(10), any(LocalDateTime.class))).thenReturn(0);
+            when(flightRepository.findById(99L)).thenReturn(Optional.empty());
+
+            assertThrows(EntityNotFoundException.class, () -> flightService.bookSeats(99L, 10));
+        }
+
+        @Test
+        void bookSeats_shouldThrowBusinessException_whenZeroSeatsRequested() {
             doThrow(new BusinessException("Seats requested must be greater than 0"))
-                    .when(flightValidator).validateSeatsToBook(testFlight, 0);
+                    .when(flightValidator).validateSeatsRequested(0);
 
             BusinessException exception = assertThrows(
                     BusinessException.class,
@@ -670,45 +776,33 @@ class FlightServiceTest {
             );
 
             assertEquals("Seats requested must be greater than 0", exception.getMessage());
-            verify(flightRepository, never()).save(any());
+            verify(flightRepository, never()).reserveSeats(anyLong(), anyInt(), any());
         }
     }
 
     @Nested
     class ReleaseSeatsTests {
         @Test
-        void releaseSeats_shouldIncreaseAvailableSeats_whenValidRequest() {
-            testFlight.setAvailableSeats(140);
-            testFlight.setDepartureTime(LocalDateTime.now().plusDays(1));
-            testFlight.setArrivalTime(LocalDateTime.now().plusDays(1).plusHours(2));
+        void releaseSeats_shouldIncreaseAvailableSeatsWithSingleUpdate_whenValidRequest() {
+            when(flightRepository.releaseSeats(eq(1L), eq(10), any(LocalDateTime.class))).thenReturn(1);
             when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
-            doNothing().when(flightValidator).validateSeatsToRelease(10);
-            when(flightRepository.save(testFlight)).thenReturn(testFlight);
 
             flightService.releaseSeats(1L, 10);
 
-            assertEquals(150, testFlight.getAvailableSeats());
-            verify(flightRepository).findById(1L);
             verify(flightValidator).validateSeatsToRelease(10);
-            verify(flightRepository).save(testFlight);
+            verify(flightRepository).releaseSeats(eq(1L), eq(10), any(LocalDateTime.class));
+            verify(flightRepository, never()).save(any());
+            verify(eventPublisher).publishEvent(any(FlightChangedEvent.class));
         }
 
         @Test
-        void releaseSeats_shouldReactivateFlight_whenSeatsReleasedAndFlightNotDeparted() {
-            testFlight.setAvailableSeats(0);
-            testFlight.setAvailable(false);
-            testFlight.setDepartureTime(LocalDateTime.now().plusHours(2));
-            when(flightRepository.findById(1L)).thenReturn(Optional.of(testFlight));
-            doNothing().when(flightValidator).validateSeatsToRelease(5);
-            when(flightRepository.save(testFlight)).thenReturn(testFlight);
+        void releaseSeats_shouldSkipDatabaseUpdate_whenSeatInventoryOwnsFlight() {
+            when(seatInventory.release(1L, 10)).thenReturn(true);
 
-            flightService.releaseSeats(1L, 5);
+            flightService.releaseSeats(1L, 10);
 
-            assertEquals(5, testFlight.getAvailableSeats());
-            assertTrue(testFlight.isAvailable(), "The flight should become available again");
-            verify(flightRepository).findById(1L);
-            verify(flightValidator).validateSeatsToRelease(5);
-            verify(flightRepository).save(testFlight);
+            verify(flightRepository, never()).releaseSeats(anyLong(), anyInt(), any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -722,8 +816,7 @@ class FlightServiceTest {
             );
 
             assertEquals("Seats to release must be positive", exception.getMessage());
-            verify(flightRepository, never()).findById(anyLong());
-            verify(flightRepository, never()).save(any());
+            verify(flightRepository, never()).releaseSeats(anyLong(), anyInt(), any());
         }
 
         @Test
@@ -737,7 +830,7 @@ class FlightServiceTest {
             );
 
             assertEquals("Seats to release must be positive", exception.getMessage());
-            verify(flightRepository, never()).save(any());
+            verify(flightRepository, never()).releaseSeats(anyLong(), anyInt(), any());
         }
     }
 
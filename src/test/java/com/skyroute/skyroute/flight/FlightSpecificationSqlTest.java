@@ -0,0 +1,69 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.specification.FlightSpecification;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.skyroute.skyroute.flight.FlightSpecificationSqlTest$CapturingStatementInspector")
+class FlightSpecificationSqlTest {
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void hasDepartureDateEquals_shouldCompareDepartureTimeColumnAsRange() {
+        String date = LocalDate.now().plusDays(3).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+        flightRepository.findAll(FlightSpecification.hasDepartureDateEquals(date));
+
+        String sql = lastSelect();
+        assertFalse(sql.contains("formatdatetime"), sql);
+        assertFalse(sql.matches("(?s).*\\w+\\([^)]*departure_time[^)]*\\).*"),
+                "departure_time must not be wrapped in a function: " + sql);
+        assertTrue(sql.matches("(?s).*departure_time\\s*>=\\s*\\?.*"), sql);
+        assertTrue(sql.matches("(?s).*departure_time\\s*<\\s*\\?.*"), sql);
+    }
+
+    private String lastSelect() {
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .map(statement -> statement.toLowerCase(Locale.ROOT))
+                .filter(statement -> statement.startsWith("select"))
+                .toList();
+        assertFalse(selects.isEmpty(), "No SELECT statement was captured");
+        return selects.getLast();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
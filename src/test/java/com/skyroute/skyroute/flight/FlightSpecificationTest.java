@@ -6,6 +6,7 @@ import com.skyroute.skyroute.airport.entity.Airport;
 import com.skyroute.skyroute.airport.repository.AirportRepository;
 import com.skyroute.skyroute.flight.entity.Flight;
 import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.search.FlightSearchCursor;
 import com.skyroute.skyroute.flight.specification.FlightSpecification;
 import com.skyroute.skyroute.route.entity.Route;
 import com.skyroute.skyroute.route.repository.RouteRepository;
@@ -940,6 +941,63 @@ public class FlightSpecificationTest {
         }
     }
 
+    @Nested
+    class IsAfterCursorTests {
+        @Test
+        void isAfterCursor_shouldReturnRowsStrictlyAfterCursorKey() {
+            LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+            Flight first = createAndSaveFlight("SR001", madridBarcelonaRoute, 150, 100.0, tomorrow, tomorrow.plusHours(2));
+            Flight samePriceLaterId = createAndSaveFlight("SR002", madridBarcelonaRoute, 150, 100.0, tomorrow, tomorrow.plusHours(2));
+            Flight higherPrice = createAndSaveFlight("SR003", madridSevillaRoute, 150, 150.0, tomorrow, tomorrow.plusHours(2));
+            Flight laterDeparture = createAndSaveFlight("SR004", madridSevillaRoute, 150, 50.0, tomorrow.plusHours(1), tomorrow.plusHours(3));
+
+            Specification<Flight> specification = FlightSpecification.isAfterCursor(
+                    new FlightSearchCursor(first.getDepartureTime(), first.getPrice(), first.getId()));
+            List<Flight> results = flightRepository.findAll(specification, FlightSearchCursor.SORT);
+
+            assertEquals(List.of(samePriceLaterId.getId(), higherPrice.getId(), laterDeparture.getId()),
+                    results.stream().map(Flight::getId).toList());
+        }
+
+        @Test
+        void isAfterCursor_shouldLimitSliceWithoutCounting() {
+            LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+            for (int i = 0; i < 5; i++) {
+                createAndSaveFlight("SR00" + i, madridBarcelonaRoute, 150, 100.0 + i, tomorrow.plusHours(i), tomorrow.plusHours(i + 2));
+            }
+
+            List<Flight> firstSlice = flightRepository.findBy(FlightSpecification.isOnlyAvailable(LocalDateTime.now(), true),
+                    query -> query.sortBy(FlightSearchCursor.SORT).limit(3).all());
+            Flight last = firstSlice.getLast();
+            List<Flight> secondSlice = flightRepository.findBy(
+                    FlightSpecification.isAfterCursor(new FlightSearchCursor(last.getDepartureTime(), last.getPrice(), last.getId())),
+                    query -> query.sortBy(FlightSearchCursor.SORT).limit(3).all());
+
+            assertEquals(List.of("SR000", "SR001", "SR002"), firstSlice.stream().map(Flight::getFlightNumber).toList());
+            assertEquals(List.of("SR003", "SR004"), secondSlice.stream().map(Flight::getFlightNumber).toList());
+        }
+    }
+
+    @Nested
+    class FindDailyFaresByRouteTests {
+        @Test
+        void findDailyFaresByRoute_shouldAggregateMinPriceAndSeatsPerDay() {
+            LocalDate day = LocalDate.now().plusDays(2);
+            createAndSaveFlight("SR001", madridBarcelonaRoute, 20, 120.0, day.atTime(8, 0), day.atTime(10, 0));
+            createAndSaveFlight("SR002", madridBarcelonaRoute, 80, 90.0, day.atTime(18, 0), day.atTime(20, 0));
+            createAndSaveFlight("SR003", madridBarcelonaRoute, 10, 70.0, day.plusDays(1).atTime(9, 0), day.plusDays(1).atTime(11, 0));
+            createAndSaveFlight("SR004", madridBarcelonaRoute, 0, 10.0, day.atTime(12, 0), day.atTime(14, 0));
+            createAndSaveFlight("SR005", madridSevillaRoute, 50, 20.0, day.atTime(12, 0), day.atTime(14, 0));
+
+            List<Object[]> rows = flightRepository.findDailyFaresByRoute("MADRID", "BCN",
+                    day.atStartOfDay(), day.plusDays(5).atStartOfDay());
+
+            assertEquals(2, rows.size());
+            assertArrayEquals(new Object[]{day, 90.0, 80, 2L, day.atTime(8, 0)}, rows.get(0));
+            assertArrayEquals(new Object[]{day.plusDays(1), 70.0, 10, 1L, day.plusDays(1).atTime(9, 0)}, rows.get(1));
+        }
+    }
+
     @Nested
     class EdgeCasesAndBoundaryTests {
         @Test
@@ -0,0 +1,181 @@
+package com.skyroute.skyroute.flight;
+
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.dto.MinPriceResponse;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.pricing.MinPriceCache;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MinPriceCacheTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MinPriceCache cache;
+    private LocalDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MinPriceCache(flightRepository, meterRegistry);
+        tomorrow = LocalDateTime.now().plusDays(1);
+    }
+
+    @Nested
+    class LookupTests {
+        @Test
+        void lookup_shouldReturnEmpty_whenCacheIsNotWarmedUp() {
+            assertTrue(cache.lookup(List.of("BCN")).isEmpty());
+            assertEquals(1.0, meterRegistry.get("skyroute.flights.min-price.cache.lookups")
+                    .tag("result", "fallback").counter().count());
+        }
+
+        @Test
+        void lookup_shouldReturnCheapestFlightPerDestination_sortedByCode() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", 250.0, 10, tomorrow)));
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "BCN", "Barcelona", 199.0, 10, tomorrow)));
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(3L, "BCN", "Barcelona", 150.0, 10, tomorrow)));
+
+            List<MinPriceResponse> result = cache.lookup(List.of("MAD", "bcn", "LHR")).orElseThrow();
+
+            assertEquals(List.of(
+                    new MinPriceResponse("BCN", "Barcelona", 150.0),
+                    new MinPriceResponse("MAD", "Madrid", 250.0)), result);
+            verify(flightRepository, never()).findMinPricesByDestinations(any());
+        }
+
+        @Test
+        void lookup_shouldSkipCheapestFlight_whenItHasDeparted() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "BCN", "Barcelona", 99.0, 10,
+                    LocalDateTime.now().plusNanos(50_000_000))));
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "BCN", "Barcelona", 199.0, 10, tomorrow)));
+
+            await(LocalDateTime.now().plusNanos(60_000_000));
+
+            assertEquals(List.of(new MinPriceResponse("BCN", "Barcelona", 199.0)),
+                    cache.lookup(List.of("BCN")).orElseThrow());
+        }
+
+        @Test
+        void lookup_shouldRecordHitRatio() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow)));
+
+            cache.lookup(List.of("BCN", "LHR"));
+
+            assertEquals(0.5, meterRegistry.get("skyroute.flights.min-price.cache.hit.ratio").gauge().value());
+        }
+    }
+
+    @Nested
+    class MaintenanceTests {
+        @Test
+        void warmUp_shouldLoadBookableFlightsAndRecordRefresh() {
+            when(flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(any(LocalDateTime.class)))
+                    .thenReturn(List.of());
+
+            cache.warmUp();
+
+            assertTrue(cache.isReady());
+            assertTrue(cache.lastRefresh().isAfter(Instant.EPOCH));
+        }
+
+        @Test
+        void onFlightChanged_shouldRaisePrice_whenCheapestFlightSellsOut() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow)));
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(2L, "BCN", "Barcelona", 199.0, 10, tomorrow)));
+
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "BCN", "Barcelona", 99.0, 0, tomorrow)));
+
+            assertEquals(199.0, cache.lookup(List.of("BCN")).orElseThrow().getFirst().minPrice());
+        }
+
+        @Test
+        void onFlightChanged_shouldMoveFlight_whenDestinationOrPriceChanges() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow)));
+
+            cache.onFlightChanged(FlightChangedEvent.updated(snapshot(1L, "MAD", "Madrid", 120.0, 10, tomorrow)));
+
+            assertEquals(List.of(new MinPriceResponse("MAD", "Madrid", 120.0)),
+                    cache.lookup(List.of("BCN", "MAD")).orElseThrow());
+        }
+
+        @Test
+        void onFlightChanged_shouldDropDestination_whenLastFlightIsDeleted() {
+            warmUp();
+            FlightSnapshot flight = snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow);
+            cache.onFlightChanged(FlightChangedEvent.updated(flight));
+
+            cache.onFlightChanged(FlightChangedEvent.deleted(flight));
+
+            assertTrue(cache.lookup(List.of("BCN")).orElseThrow().isEmpty());
+        }
+
+        @Test
+        void onFlightChanged_shouldKeepNewerPrice_whenOlderSnapshotArrivesLate() {
+            warmUp();
+            cache.onFlightChanged(FlightChangedEvent.updated(withVersion(snapshot(1L, "BCN", "Barcelona", 149.0, 10, tomorrow), 2)));
+
+            cache.onFlightChanged(FlightChangedEvent.updated(withVersion(snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow), 1)));
+
+            assertEquals(149.0, cache.lookup(List.of("BCN")).orElseThrow().getFirst().minPrice());
+        }
+
+        @Test
+        void onFlightChanged_shouldNotBringBackDeletedFlight_whenUpdateArrivesLate() {
+            warmUp();
+            FlightSnapshot flight = withVersion(snapshot(1L, "BCN", "Barcelona", 99.0, 10, tomorrow), 4);
+
+            cache.onFlightChanged(FlightChangedEvent.deleted(flight));
+            cache.onFlightChanged(FlightChangedEvent.updated(flight));
+
+            assertTrue(cache.lookup(List.of("BCN")).orElseThrow().isEmpty());
+        }
+    }
+
+    private void warmUp() {
+        when(flightRepository.findAllByAvailableTrueAndDepartureTimeAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        cache.warmUp();
+    }
+
+    private void await(LocalDateTime instant) {
+        while (LocalDateTime.now().isBefore(instant)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private FlightSnapshot snapshot(Long id, String destinationCode, String destinationCity, double price, int seats,
+                                    LocalDateTime departure) {
+        return new FlightSnapshot(id, "SR" + id, 1L, 1L, "VLC", "Valencia", 2L, destinationCode, destinationCity,
+                departure, departure.plusHours(2), price, seats, seats > 0, 0L);
+    }
+
+    private FlightSnapshot withVersion(FlightSnapshot snapshot, long version) {
+        return new FlightSnapshot(snapshot.id(), snapshot.flightNumber(), snapshot.routeId(), snapshot.originId(),
+                snapshot.originCode(), snapshot.originCity(), snapshot.destinationId(), snapshot.destinationCode(),
+                snapshot.destinationCity(), snapshot.departureTime(), snapshot.arrivalTime(), snapshot.price(),
+                snapshot.availableSeats(), snapshot.available(), version);
+    }
+}
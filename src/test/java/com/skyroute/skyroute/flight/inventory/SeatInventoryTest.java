@@ -0,0 +1,298 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import com.skyroute.skyroute.flight.dto.FlightSnapshot;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.shared.exception.custom_exception.InvalidBookingOperationException;
+import com.skyroute.skyroute.shared.exception.custom_exception.NotEnoughSeatsException;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    private static final String NODE = "node-a";
+
+    @Mock
+    private SeatLeaseStore leaseStore;
+
+    private SeatInventory seatInventory;
+
+    @BeforeEach
+    void setUp() {
+        seatInventory = inventory("sharded");
+    }
+
+    @Nested
+    class ReserveTests {
+        @Test
+        void reserve_shouldLeaveFlightToDatabase_whenModeIsDatabase() {
+            SeatInventory databaseInventory = inventory("database");
+
+            assertFalse(databaseInventory.reserve(1L, 2));
+            assertFalse(databaseInventory.release(1L, 2));
+            verifyNoInteractions(leaseStore);
+        }
+
+        @Test
+        void reserve_shouldAcquireLeaseOnce_andGrantSeatsInMemory() {
+            grantLease(1L, 5);
+
+            assertTrue(seatInventory.reserve(1L, 2));
+            assertTrue(seatInventory.reserve(1L, 3));
+
+            verify(leaseStore, times(1)).acquire(eq(1L), eq(NODE), any(), any());
+        }
+
+        @Test
+        void reserve_shouldThrowNotEnoughSeatsException_whenCounterIsExhausted() {
+            grantLease(1L, 2);
+            seatInventory.reserve(1L, 2);
+
+            NotEnoughSeatsException exception = assertThrows(NotEnoughSeatsException.class,
+                    () -> seatInventory.reserve(1L, 1));
+
+            assertEquals("Not enough seats available. Requested: 1. Available: 0", exception.getMessage());
+        }
+
+        @Test
+        void reserve_shouldLeaveFlightToDatabase_whenFlightIsNotBookable() {
+            when(leaseStore.acquire(eq(1L), eq(NODE), any(), any())).thenReturn(Optional.empty());
+
+            assertFalse(seatInventory.reserve(1L, 2));
+        }
+
+        @Test
+        void reserve_shouldPropagateUnavailable_whenAnotherInstanceOwnsFlight() {
+            when(leaseStore.acquire(eq(1L), eq(NODE), any(), any()))
+                    .thenThrow(new SeatInventoryUnavailableException("managed by another instance"));
+
+            assertThrows(SeatInventoryUnavailableException.class, () -> seatInventory.reserve(1L, 2));
+        }
+
+        @Test
+        void reserve_shouldCacheUnbookableFlights_insteadOfRetryingLease() {
+            when(leaseStore.acquire(eq(1L), eq(NODE), any(), any())).thenReturn(Optional.empty());
+
+            assertFalse(seatInventory.reserve(1L, 2));
+            assertFalse(seatInventory.reserve(1L, 2));
+            seatInventory.prepare(List.of(1L));
+
+            verify(leaseStore, times(1)).acquire(eq(1L), eq(NODE), any(), any());
+        }
+
+        @Test
+        void reserve_shouldNotAcquireLease_insideCallerTransaction() {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                assertFalse(seatInventory.reserve(1L, 2));
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+
+            verifyNoInteractions(leaseStore);
+        }
+
+        @Test
+        void prepare_shouldAcquireLeaseBeforeTransaction_forReserveToUse() {
+            grantLease(1L, 5);
+            seatInventory.prepare(List.of(1L));
+
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                assertTrue(seatInventory.reserve(1L, 2));
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+            verify(leaseStore, times(1)).acquire(eq(1L), eq(NODE), any(), any());
+        }
+
+        @Test
+        void prepare_shouldAcquireLeaseOnce_whenCalledConcurrently() throws Exception {
+            CountDownLatch acquiring = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(leaseStore.acquire(eq(1L), eq(NODE), any(), any())).thenAnswer(invocation -> {
+                acquiring.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(new SeatLeaseGrant(5, LocalDateTime.now().plusDays(1)));
+            });
+
+            CompletableFuture<Void> first = CompletableFuture.runAsync(() -> seatInventory.prepare(List.of(1L)));
+            assertTrue(acquiring.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() -> seatInventory.prepare(List.of(1L)));
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            verify(leaseStore, times(1)).acquire(eq(1L), eq(NODE), any(), any());
+            assertEquals(1, seatInventory.ownedFlightCount());
+        }
+
+        @Test
+        void reserve_shouldRejectBooking_onceAdminDisablesOwnedFlight() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+
+            seatInventory.onFlightChanged(FlightChangedEvent.updated(disabledSnapshot(1L)));
+
+            InvalidBookingOperationException exception = assertThrows(InvalidBookingOperationException.class,
+                    () -> seatInventory.reserve(1L, 1));
+            assertEquals("Flight not available for booking", exception.getMessage());
+        }
+
+        @Test
+        void isLeasedElsewhere_shouldReportLiveLease_onlyForFlightsNotOwnedHere() {
+            grantLease(1L, 5);
+            seatInventory.reserve(1L, 1);
+            when(leaseStore.isLeased(eq(2L), any())).thenReturn(true);
+
+            assertFalse(seatInventory.isLeasedElsewhere(1L));
+            assertTrue(seatInventory.isLeasedElsewhere(2L));
+        }
+
+        @Test
+        void release_shouldLeaveFlightToDatabase_whenFlightIsNotOwned() {
+            assertFalse(seatInventory.release(1L, 2));
+        }
+    }
+
+    @Nested
+    class FlushTests {
+        @Test
+        void flush_shouldWriteBackNetCommittedSeats_inOneBatch() {
+            grantLease(1L, 10);
+            grantLease(2L, 10);
+            seatInventory.reserve(1L, 3);
+            seatInventory.reserve(2L, 4);
+            seatInventory.release(2L, 1);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any())).thenReturn(Set.of(1L, 2L));
+
+            seatInventory.flush();
+
+            verify(leaseStore).writeBack(eq(Map.of(1L, 3, 2L, 3)), eq(Set.of(1L, 2L)), eq(NODE), any(), any());
+        }
+
+        @Test
+        void flush_shouldRetrySameSeats_whenWriteBackFails() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any()))
+                    .thenThrow(new IllegalStateException("database down"))
+                    .thenReturn(Set.of(1L));
+
+            seatInventory.flush();
+            seatInventory.flush();
+
+            verify(leaseStore, times(2)).writeBack(eq(Map.of(1L, 3)), eq(Set.of(1L)), eq(NODE), any(), any());
+        }
+
+        @Test
+        void flush_shouldForgetFlight_whenLeaseWasTakenOver() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any())).thenReturn(Set.of());
+
+            seatInventory.flush();
+
+            assertEquals(0, seatInventory.ownedFlightCount());
+            seatInventory.reserve(1L, 1);
+            verify(leaseStore, times(2)).acquire(eq(1L), eq(NODE), any(), any());
+        }
+
+        @Test
+        void flush_shouldReleaseLease_whenFlightWasChangedByAdmin() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any())).thenReturn(Set.of(1L));
+
+            seatInventory.onFlightChanged(FlightChangedEvent.updated(snapshot(1L), snapshot(1L)));
+            seatInventory.flush();
+
+            verify(leaseStore).release(eq(1L), eq(0), eq(NODE), any());
+            assertEquals(0, seatInventory.ownedFlightCount());
+        }
+
+        @Test
+        void flush_shouldReleaseLease_whenFlightWasDisabled() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any())).thenReturn(Set.of(1L));
+
+            seatInventory.onFlightChanged(FlightChangedEvent.updated(disabledSnapshot(1L)));
+            seatInventory.flush();
+
+            verify(leaseStore).release(eq(1L), eq(0), eq(NODE), any());
+            assertEquals(0, seatInventory.ownedFlightCount());
+        }
+
+        @Test
+        void onFlightChanged_shouldIgnoreSeatOnlyChanges() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+            when(leaseStore.writeBack(anyMap(), anySet(), eq(NODE), any(), any())).thenReturn(Set.of(1L));
+
+            seatInventory.onFlightChanged(FlightChangedEvent.updated(snapshot(1L)));
+            seatInventory.flush();
+
+            verify(leaseStore, never()).release(anyLong(), anyInt(), anyString(), any());
+            assertEquals(1, seatInventory.ownedFlightCount());
+        }
+
+        @Test
+        void shutdown_shouldWriteBackAndReleaseEveryLease() {
+            grantLease(1L, 10);
+            seatInventory.reserve(1L, 3);
+
+            seatInventory.shutdown();
+
+            verify(leaseStore).release(eq(1L), eq(3), eq(NODE), any());
+        }
+    }
+
+    private SeatInventory inventory(String mode) {
+        return new SeatInventory(leaseStore, mode, NODE, 4, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofSeconds(1));
+    }
+
+    private void grantLease(Long flightId, int seats) {
+        when(leaseStore.acquire(eq(flightId), eq(NODE), any(), any()))
+                .thenReturn(Optional.of(new SeatLeaseGrant(seats, LocalDateTime.now().plusDays(1))));
+    }
+
+    private FlightSnapshot disabledSnapshot(Long id) {
+        FlightSnapshot snapshot = snapshot(id);
+        return new FlightSnapshot(id, snapshot.flightNumber(), 1L, 1L, "MAD", "Madrid", 2L, "BCN", "Barcelona",
+                snapshot.departureTime(), snapshot.arrivalTime(), 100.0, 10, false, 0L);
+    }
+
+    private FlightSnapshot snapshot(Long id) {
+        LocalDateTime departure = LocalDateTime.now().plusDays(1);
+        return new FlightSnapshot(id, "SR" + id, 1L, 1L, "MAD", "Madrid", 2L, "BCN", "Barcelona",
+                departure, departure.plusHours(2), 100.0, 10, true, 0L);
+    }
+}
@@ -0,0 +1,231 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import com.skyroute.skyroute.aircraft.entity.Aircraft;
+import com.skyroute.skyroute.aircraft.repository.AircraftRepository;
+import com.skyroute.skyroute.airport.entity.Airport;
+import com.skyroute.skyroute.airport.repository.AirportRepository;
+import com.skyroute.skyroute.booking.dto.BookingMapper;
+import com.skyroute.skyroute.booking.entity.Booking;
+import com.skyroute.skyroute.booking.enums.BookingStatus;
+import com.skyroute.skyroute.booking.repository.BookingRepository;
+import com.skyroute.skyroute.flight.entity.Flight;
+import com.skyroute.skyroute.flight.entity.FlightSeatLease;
+import com.skyroute.skyroute.flight.event.FlightChangedEvent;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.flight.repository.FlightSeatLeaseRepository;
+import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.repository.RouteRepository;
+import com.skyroute.skyroute.shared.exception.custom_exception.SeatInventoryUnavailableException;
+import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.enums.Role;
+import com.skyroute.skyroute.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SeatLeaseStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class SeatLeaseStoreTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private SeatLeaseStore seatLeaseStore;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightSeatLeaseRepository leaseRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AirportRepository airportRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private AircraftRepository aircraftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Airport origin;
+    private Airport destination;
+    private Route route;
+    private Aircraft aircraft;
+    private Flight flight;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        user = userRepository.save(User.builder()
+                .firstName("Lease")
+                .lastName("Tester")
+                .email("lease.tester@skyroute.com")
+                .password("encodedPassword")
+                .role(Role.USER)
+                .build());
+        origin = airportRepository.save(Airport.builder().code("LSA").city("Lease A").imageUrl("a.jpg").build());
+        destination = airportRepository.save(Airport.builder().code("LSB").city("Lease B").imageUrl("b.jpg").build());
+        route = routeRepository.save(Route.builder().origin(origin).destination(destination).build());
+        aircraft = aircraftRepository.save(Aircraft.builder().manufacturer("Airbus").model("A320").capacity(180).build());
+        flight = flightRepository.save(Flight.builder()
+                .flightNumber("LS001")
+                .route(route)
+                .aircraft(aircraft)
+                .availableSeats(20)
+                .price(100.0)
+                .departureTime(now.plusDays(2))
+                .arrivalTime(now.plusDays(2).plusHours(2))
+                .available(true)
+                .build());
+        booking("SR-LS0001", 3, BookingStatus.CONFIRMED);
+        booking("SR-LS0002", 2, BookingStatus.CANCELLED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getBookingNumber().startsWith("SR-LS"))
+                .toList());
+        leaseRepository.deleteById(flight.getId());
+        flightRepository.deleteById(flight.getId());
+        routeRepository.delete(route);
+        airportRepository.deleteAll(List.of(origin, destination));
+        aircraftRepository.delete(aircraft);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void acquire_shouldSeedFromAvailableSeats_andRememberSeatTotal() {
+        SeatLeaseGrant grant = seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30)).orElseThrow();
+
+        FlightSeatLease lease = leaseRepository.findById(flight.getId()).orElseThrow();
+        assertEquals(20, grant.seats());
+        assertEquals("node-a", lease.getOwner());
+        assertEquals(23, lease.getSeatTotal());
+    }
+
+    @Test
+    void acquire_shouldReject_whenAnotherInstanceHoldsLiveLease() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+
+        assertThrows(SeatInventoryUnavailableException.class,
+                () -> seatLeaseStore.acquire(flight.getId(), "node-b", now, now.plusSeconds(30)));
+    }
+
+    @Test
+    void acquire_shouldRecoverSeatsFromBookings_whenTakingOverExpiredLease() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+        booking("SR-LS0003", 4, BookingStatus.CREATED);
+
+        LocalDateTime afterExpiry = now.plusMinutes(1);
+        SeatLeaseGrant grant = seatLeaseStore.acquire(flight.getId(), "node-b", afterExpiry, afterExpiry.plusSeconds(30))
+                .orElseThrow();
+
+        assertEquals(16, grant.seats());
+        assertEquals(16, flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats());
+        assertEquals("node-b", leaseRepository.findById(flight.getId()).orElseThrow().getOwner());
+    }
+
+    @Test
+    void isLeased_shouldBeTrue_onlyWhileLeaseIsLive() {
+        assertFalse(seatLeaseStore.isLeased(flight.getId(), now));
+
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+
+        assertTrue(seatLeaseStore.isLeased(flight.getId(), now));
+        assertFalse(seatLeaseStore.isLeased(flight.getId(), now.plusMinutes(1)));
+    }
+
+    @Test
+    void writeBack_shouldApplySeats_onlyWhileLeaseIsHeld() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+
+        Set<Long> held = seatLeaseStore.writeBack(Map.of(flight.getId(), 5), Set.of(flight.getId()), "node-a",
+                now, now.plusSeconds(30));
+        Set<Long> lost = seatLeaseStore.writeBack(Map.of(flight.getId(), 5), Set.of(flight.getId()), "node-b",
+                now, now.plusSeconds(30));
+
+        assertEquals(Set.of(flight.getId()), held);
+        assertTrue(lost.isEmpty());
+        assertEquals(15, flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats());
+    }
+
+    @Test
+    void writeBack_shouldPublishUpdatedSnapshot_onlyForAppliedSeats() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+        events.clear();
+
+        seatLeaseStore.writeBack(Map.of(flight.getId(), 5), Set.of(flight.getId()), "node-a", now, now.plusSeconds(30));
+        seatLeaseStore.writeBack(Map.of(flight.getId(), 5), Set.of(flight.getId()), "node-b", now, now.plusSeconds(30));
+        seatLeaseStore.writeBack(Map.of(flight.getId(), 0), Set.of(flight.getId()), "node-a", now, now.plusSeconds(30));
+
+        List<FlightChangedEvent> published = events.stream(FlightChangedEvent.class).toList();
+        assertEquals(1, published.size());
+        assertEquals(flight.getId(), published.getFirst().flightId());
+        assertEquals(15, published.getFirst().snapshot().availableSeats());
+    }
+
+    @Test
+    void release_shouldWriteBackSeatsAndFreeLease() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+
+        seatLeaseStore.release(flight.getId(), 20, "node-a", now);
+
+        Flight soldOut = flightRepository.findById(flight.getId()).orElseThrow();
+        assertEquals(0, soldOut.getAvailableSeats());
+        assertFalse(soldOut.isAvailable());
+        assertNull(leaseRepository.findById(flight.getId()).orElseThrow().getOwner());
+    }
+
+    @Test
+    void recoverOwned_shouldRebuildSeatsAndFreeLeasesLeftByPreviousRun() {
+        seatLeaseStore.acquire(flight.getId(), "node-a", now, now.plusSeconds(30));
+        seatLeaseStore.writeBack(Map.of(flight.getId(), 1), Set.of(flight.getId()), "node-a", now, now.plusSeconds(30));
+
+        List<Long> recovered = seatLeaseStore.recoverOwned("node-a");
+
+        assertEquals(List.of(flight.getId()), recovered);
+        assertEquals(20, flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats());
+        assertNull(leaseRepository.findById(flight.getId()).orElseThrow().getOwner());
+    }
+
+    private void booking(String bookingNumber, int seats, BookingStatus status) {
+        bookingRepository.save(Booking.builder()
+                .bookingNumber(bookingNumber)
+                .bookedSeats(seats)
+                .passengers(BookingMapper.toPassengers(List.of("Ada Lovelace"), List.of(LocalDate.of(1990, 1, 1))))
+                .totalPrice(100.0 * seats)
+                .bookingStatus(status)
+                .user(user)
+                .flight(flight)
+                .build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.skyroute.skyroute.flight.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedSeatCounterTest {
+
+    @Test
+    void tryAcquire_shouldGatherSeatsFromSeveralStripes() {
+        StripedSeatCounter counter = new StripedSeatCounter(10, 4);
+
+        assertTrue(counter.tryAcquire(10));
+        assertEquals(0, counter.available());
+        assertFalse(counter.tryAcquire(1));
+    }
+
+    @Test
+    void tryAcquire_shouldReturnPartiallyTakenSeats_whenRequestCannotBeSatisfied() {
+        StripedSeatCounter counter = new StripedSeatCounter(3, 4);
+
+        assertFalse(counter.tryAcquire(4));
+        assertEquals(3, counter.available());
+        assertTrue(counter.tryAcquire(3));
+    }
+
+    @Test
+    void release_shouldMakeSeatsAvailableAgain() {
+        StripedSeatCounter counter = new StripedSeatCounter(2, 8);
+        counter.tryAcquire(2);
+
+        counter.release(2);
+
+        assertEquals(2, counter.available());
+    }
+
+    @Test
+    void drainUnflushed_shouldReturnNetCommittedSeatsOnce() {
+        StripedSeatCounter counter = new StripedSeatCounter(10, 2);
+        counter.recordCommitted(3);
+        counter.recordCommitted(-1);
+
+        assertEquals(2, counter.drainUnflushed());
+        assertEquals(0, counter.drainUnflushed());
+
+        counter.restoreUnflushed(2);
+        assertEquals(2, counter.drainUnflushed());
+    }
+
+    @Test
+    void tryAcquire_shouldNeverOversell_underConcurrentReservations() throws Exception {
+        int seats = 1_000;
+        int threads = 16;
+        StripedSeatCounter counter = new StripedSeatCounter(seats, 8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int attempt = 0; attempt < 500; attempt++) {
+                        int requested = ThreadLocalRandom.current().nextInt(1, 4);
+                        if (counter.tryAcquire(requested)) {
+                            granted += requested;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get();
+            }
+            assertEquals(seats, granted + counter.available());
+            assertTrue(counter.available() < 3);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.skyroute.skyroute.airport.service.AirportService;
 import com.skyroute.skyroute.route.dto.RouteRequest;
 import com.skyroute.skyroute.route.dto.RouteResponse;
 import com.skyroute.skyroute.route.entity.Route;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
 import com.skyroute.skyroute.route.repository.RouteRepository;
 import com.skyroute.skyroute.route.service.RouteServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
@@ -33,6 +35,9 @@ public class RouteServiceTest {
     @Mock
     private AirportService airportService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RouteServiceImpl routeService;
 
@@ -73,6 +78,7 @@ public class RouteServiceTest {
             verify(airportService).findAirportById(2L);
             verify(routeRepository).existsByOriginIdAndDestinationId(1L, 2L);
             verify(routeRepository).save(any(Route.class));
+            verify(eventPublisher).publishEvent(new RouteChangedEvent(testRoute.getId()));
         }
 
         @Test
@@ -300,6 +306,7 @@ public class RouteServiceTest {
 
             verify(routeRepository).findById(1L);
             verify(routeRepository).delete(testRoute);
+            verify(eventPublisher).publishEvent(new RouteChangedEvent(testRoute.getId()));
         }
 
         @Test
@@ -86,6 +86,18 @@ class CustomUserDetailsServiceTest {
                 .hasMessage("User not found with email: null");
     }
 
+    @Test
+    void updatePassword_ShouldStoreRehashedPassword_AndReturnSamePrincipal() {
+        User user = createUser("test@example.com", Role.USER);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+
+        UserDetails result = customUserDetailsService.updatePassword(userDetails, "rehashedPassword");
+
+        assertThat(result).isSameAs(userDetails);
+        assertThat(result.getPassword()).isEqualTo("rehashedPassword");
+        verify(userRepository).updatePassword(1L, "rehashedPassword");
+    }
+
     private User createUser(String email, Role role) {
         return User.builder()
                 .id(1L)
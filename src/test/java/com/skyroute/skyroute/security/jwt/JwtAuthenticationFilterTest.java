@@ -1,9 +1,12 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
 import com.skyroute.skyroute.security.details.CustomUserDetails;
 import com.skyroute.skyroute.security.details.CustomUserDetailsService;
 import com.skyroute.skyroute.user.entity.User;
 import com.skyroute.skyroute.user.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import jakarta.servlet.FilterChain;
@@ -19,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -37,6 +42,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
+    @Mock
+    private SecurityStampService securityStampService;
+
     @Mock
     private FilterChain filterChain;
 
@@ -47,7 +55,8 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService,
+                securityStampService);
 
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
@@ -105,7 +114,7 @@ class JwtAuthenticationFilterTest {
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil, never()).extractUsername(anyString());
+        verify(jwtUtil, never()).verify(anyString());
     }
 
     @Test
@@ -115,9 +124,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + token);
 
         when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtUtil.extractUsername(token)).thenReturn(username);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(Jwts.claims().subject(username).build()));
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(token, userDetails)).thenReturn(true);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -129,17 +137,79 @@ class JwtAuthenticationFilterTest {
     @Test
     void doFilterInternal_withInvalidToken() throws ServletException, IOException {
         String token = "invalid-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
+        when(jwtUtil.verify(token)).thenReturn(Optional.empty());
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilterInternal_withValidToken_shouldVerifyTokenOnce() throws ServletException, IOException {
+        String token = "valid-token";
         String username = "test@example.com";
         request.addHeader("Authorization", "Bearer " + token);
 
         when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtUtil.extractUsername(token)).thenReturn(username);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(Jwts.claims().subject(username).build()));
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(token, userDetails)).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtUtil).verify(token);
+        verifyNoMoreInteractions(jwtUtil);
+    }
+
+    @Test
+    void doFilterInternal_withIdentityClaims_shouldAuthenticateWithoutLoadingUser() throws ServletException, IOException {
+        String token = "stateless-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(identityClaims(3L)));
+        when(securityStampService.isCurrent(1L, 3L)).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, authentication.getPrincipal());
+        assertEquals(1L, principal.id());
+        assertEquals("test@example.com", principal.email());
+        assertEquals(Role.ADMIN, principal.role());
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")));
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_withStaleSecurityStamp_shouldNotAuthenticate() throws ServletException, IOException {
+        String token = "stale-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(identityClaims(2L)));
+        when(securityStampService.isCurrent(1L, 2L)).thenReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
         verify(filterChain).doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private Claims identityClaims(long securityStamp) {
+        return Jwts.claims()
+                .subject("test@example.com")
+                .add(JwtUtil.USER_ID_CLAIM, 1)
+                .add(JwtUtil.ROLE_CLAIM, "ADMIN")
+                .add(JwtUtil.SECURITY_STAMP_CLAIM, securityStamp)
+                .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.details.CustomUserDetails;
+import com.skyroute.skyroute.user.enums.Role;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,4 +103,78 @@ class JwtUtilTest {
 
         assertTrue(refreshExpiration.after(accessExpiration));
     }
+
+    @Test
+    void verify_shouldReturnClaims_forValidToken() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        Optional<Claims> claims = jwtUtil.verify(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("testuser", claims.get().getSubject());
+        assertTrue(claims.get().getExpiration().after(new Date()));
+    }
+
+    @Test
+    void verify_shouldReturnSameClaims_whenTokenVerifiedAgain() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        Claims first = jwtUtil.verify(token).orElseThrow();
+        Claims second = jwtUtil.verify(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_forTokenSignedWithAnotherKey() {
+        JwtUtil otherIssuer = new JwtUtil("another-secret-key-that-is-long-enough", 3600000L, 86400000L, 10);
+        String token = otherIssuer.generateToken(userDetails);
+
+        assertTrue(jwtUtil.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_forExpiredToken() {
+        JwtUtil expiredIssuer = new JwtUtil("test-secret-key-for-testing-only", -1000L, -1000L, 10);
+        String token = expiredIssuer.generateToken(userDetails);
+
+        assertTrue(jwtUtil.verify(token).isEmpty());
+        assertTrue(expiredIssuer.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_forBlankOrMalformedToken() {
+        assertTrue(jwtUtil.verify(null).isEmpty());
+        assertTrue(jwtUtil.verify(" ").isEmpty());
+        assertTrue(jwtUtil.verify("invalid.token.here").isEmpty());
+    }
+
+    @Test
+    void generateToken_shouldCarryIdentityClaims_forApplicationUser() {
+        CustomUserDetails applicationUser = new CustomUserDetails(applicationUser(4L));
+
+        Claims claims = jwtUtil.verify(jwtUtil.generateToken(applicationUser)).orElseThrow();
+
+        assertEquals("ada@skyroute.com", claims.getSubject());
+        assertEquals(7L, claims.get(JwtUtil.USER_ID_CLAIM, Long.class));
+        assertEquals("ADMIN", claims.get(JwtUtil.ROLE_CLAIM, String.class));
+        assertEquals(4L, claims.get(JwtUtil.SECURITY_STAMP_CLAIM, Long.class));
+    }
+
+    @Test
+    void validateToken_shouldBeInvalid_whenSecurityStampRotated() {
+        String refreshToken = jwtUtil.generateRefreshToken(new CustomUserDetails(applicationUser(4L)));
+
+        assertTrue(jwtUtil.validateToken(refreshToken, new CustomUserDetails(applicationUser(4L))));
+        assertFalse(jwtUtil.validateToken(refreshToken, new CustomUserDetails(applicationUser(5L))));
+    }
+
+    private com.skyroute.skyroute.user.entity.User applicationUser(long securityStamp) {
+        return com.skyroute.skyroute.user.entity.User.builder()
+                .id(7L)
+                .email("ada@skyroute.com")
+                .role(Role.ADMIN)
+                .securityStamp(securityStamp)
+                .build();
+    }
 }
@@ -0,0 +1,34 @@
+package com.skyroute.skyroute.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SecurityStampChangeRepositoryTest {
+
+    @Autowired
+    private SecurityStampChangeRepository repository;
+
+    @Test
+    void findChangedSince_shouldReturnRecentUnexpiredChanges_evenForDeletedUsers() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        repository.save(new SecurityStampChange(999_999L, SecurityStampService.REVOKED, now, now.plusHours(1)));
+        repository.save(new SecurityStampChange(2L, 3L, now.minusMinutes(10), now.plusMinutes(50)));
+        repository.save(new SecurityStampChange(3L, 7L, now, now.minusSeconds(1)));
+
+        List<SecurityStamp> changed = repository.findChangedSince(now.minusMinutes(1), now);
+
+        assertEquals(List.of(new SecurityStamp(999_999L, SecurityStampService.REVOKED, now.plusHours(1))), changed);
+        assertEquals(1, repository.deleteExpired(now));
+        assertEquals(2, repository.count());
+    }
+}
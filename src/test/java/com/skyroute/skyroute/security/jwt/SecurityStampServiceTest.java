@@ -0,0 +1,115 @@
+package com.skyroute.skyroute.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityStampServiceTest {
+
+    @Mock
+    private SecurityStampChangeRepository repository;
+
+    private SecurityStampService securityStampService;
+
+    @BeforeEach
+    void setUp() {
+        securityStampService = new SecurityStampService(repository, 3_600_000L, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void isCurrent_shouldAcceptAnyStamp_forUntouchedUser() {
+        assertTrue(securityStampService.isCurrent(1L, 0L));
+    }
+
+    @Test
+    void isCurrent_shouldRejectOlderStamps_afterRotation() {
+        securityStampService.onSecurityStampChanged(new SecurityStampChangedEvent(1L, 2L));
+
+        assertFalse(securityStampService.isCurrent(1L, 1L));
+        assertTrue(securityStampService.isCurrent(1L, 2L));
+        assertTrue(securityStampService.isCurrent(2L, 0L));
+    }
+
+    @Test
+    void update_shouldNeverMoveStampBackwards() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        securityStampService.update(new SecurityStamp(1L, 3L, expiresAt));
+        securityStampService.update(new SecurityStamp(1L, 2L, expiresAt));
+
+        assertFalse(securityStampService.isCurrent(1L, 2L));
+    }
+
+    @Test
+    void isCurrent_shouldRejectEveryToken_ofDeletedUser() {
+        securityStampService.onSecurityStampChanged(new SecurityStampChangedEvent(1L, SecurityStampService.REVOKED));
+
+        assertFalse(securityStampService.isCurrent(1L, 100L));
+    }
+
+    @Test
+    void record_shouldPersistChangeUntilAccessTokensIssuedBeforeItExpire() {
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        LocalDateTime before = LocalDateTime.now();
+
+        securityStampService.record(new SecurityStampChangedEvent(1L, SecurityStampService.REVOKED));
+
+        ArgumentCaptor<SecurityStampChange> saved = ArgumentCaptor.forClass(SecurityStampChange.class);
+        verify(repository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals(SecurityStampService.REVOKED, saved.getValue().getSecurityStamp());
+        assertFalse(saved.getValue().getExpiresAt().isBefore(before.plusHours(1)));
+    }
+
+    @Test
+    void record_shouldKeepHighestStamp_whenChangeAlreadyStored() {
+        when(repository.findById(1L)).thenReturn(Optional.of(new SecurityStampChange(1L, 5L,
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1))));
+
+        securityStampService.record(new SecurityStampChangedEvent(1L, 4L));
+
+        verify(repository).save(argThat(change -> change.getSecurityStamp() == 5L));
+    }
+
+    @Test
+    void sync_shouldApplyChangesMadeByOtherInstances_incrementally() {
+        when(repository.findChangedSince(any(), any()))
+                .thenReturn(List.of(new SecurityStamp(1L, 4L, LocalDateTime.now().plusHours(1))))
+                .thenReturn(List.of(new SecurityStamp(2L, SecurityStampService.REVOKED, LocalDateTime.now().plusHours(1))));
+
+        securityStampService.sync();
+        securityStampService.sync();
+
+        assertFalse(securityStampService.isCurrent(1L, 3L));
+        assertTrue(securityStampService.isCurrent(1L, 4L));
+        assertFalse(securityStampService.isCurrent(2L, 0L));
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(2)).findChangedSince(since.capture(), any());
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0), since.getAllValues().get(0));
+        assertTrue(since.getAllValues().get(1).isAfter(LocalDateTime.now().minusSeconds(10)));
+    }
+
+    @Test
+    void purgeExpired_shouldForgetStamps_onceOlderTokensHaveExpired() {
+        securityStampService.update(new SecurityStamp(1L, 4L, LocalDateTime.now().minusSeconds(1)));
+        securityStampService.update(new SecurityStamp(2L, 4L, LocalDateTime.now().plusHours(1)));
+
+        securityStampService.purgeExpired();
+
+        verify(repository).deleteExpired(any());
+        assertTrue(securityStampService.isCurrent(1L, 0L));
+        assertFalse(securityStampService.isCurrent(2L, 0L));
+    }
+}
@@ -1,22 +1,39 @@
 package com.skyroute.skyroute.security.jwt;
 
+import com.skyroute.skyroute.security.revocation.InMemoryRevocationStore;
+import com.skyroute.skyroute.security.revocation.RevocationStore;
+import com.skyroute.skyroute.security.revocation.RevokedTokenEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @Execution(ExecutionMode.CONCURRENT)
 @ActiveProfiles("test")
 class TokenBlacklistServiceTest {
 
+    private static final JwtUtil JWT_UTIL =
+            new JwtUtil("test-secret-key-for-testing-only", 3600000L, 86400000L, 100);
+
     private TokenBlacklistService tokenBlacklistService;
 
     @BeforeEach
     void setUp() {
-        tokenBlacklistService = new TokenBlacklistService();
+        tokenBlacklistService = blacklist(new InMemoryRevocationStore(Duration.ofHours(1)));
     }
 
     @Test
@@ -79,4 +96,72 @@ class TokenBlacklistServiceTest {
         assertTrue(tokenBlacklistService.isBlacklisted(token));
     }
 
-}
\ No newline at end of file
+    @Test
+    void addToBlacklist_shouldKeepJwtRevokedUntilItExpires() {
+        RevocationStore store = mock(RevocationStore.class);
+        TokenBlacklistService service = blacklist(store);
+        String refreshToken = JWT_UTIL.generateRefreshToken(
+                new User("ada@skyroute.com", "password", Collections.emptyList()));
+        LocalDateTime tokenExpiry = LocalDateTime.now().plusDays(1);
+
+        service.addToBlacklist(refreshToken);
+
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(store).revoke(eq(TokenBlacklistService.tokenId(refreshToken)), expiresAt.capture());
+        assertTrue(Duration.between(expiresAt.getValue(), tokenExpiry).abs().toSeconds() <= 5);
+    }
+
+    @Test
+    void isBlacklisted_shouldNotQueryStore_whenFilterRulesTokenOut() {
+        RevocationStore store = mock(RevocationStore.class);
+        TokenBlacklistService service = blacklist(store);
+
+        assertFalse(service.isBlacklisted("never-revoked"));
+
+        verify(store, never()).isRevoked(anyString(), any());
+    }
+
+    @Test
+    void isRevoked_shouldAlwaysAskStore() {
+        RevocationStore store = mock(RevocationStore.class);
+        TokenBlacklistService service = blacklist(store);
+        when(store.isRevoked(eq(TokenBlacklistService.tokenId("revoked-elsewhere")), any())).thenReturn(true);
+
+        assertTrue(service.isRevoked("revoked-elsewhere"));
+        assertFalse(service.isBlacklisted("revoked-elsewhere"));
+    }
+
+    @Test
+    void sync_shouldPickUpTokensRevokedByOtherInstances() {
+        RevocationStore store = mock(RevocationStore.class);
+        TokenBlacklistService service = blacklist(store);
+        String tokenId = TokenBlacklistService.tokenId("revoked-elsewhere");
+        when(store.revokedSince(any(), any()))
+                .thenReturn(List.of(new RevokedTokenEntry(tokenId, LocalDateTime.now().plusHours(2))));
+        when(store.isRevoked(eq(tokenId), any())).thenReturn(true);
+
+        assertEquals(1, service.sync());
+
+        assertTrue(service.isBlacklisted("revoked-elsewhere"));
+    }
+
+    @Test
+    void sync_shouldOnlyAskForRecentRevocations_afterFirstSync() {
+        RevocationStore store = mock(RevocationStore.class);
+        TokenBlacklistService service = blacklist(store);
+        service.sync();
+        LocalDateTime secondSync = LocalDateTime.now();
+
+        service.sync();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(store, times(2)).revokedSince(since.capture(), any());
+        assertTrue(since.getAllValues().get(0).getYear() == 1970);
+        assertTrue(since.getAllValues().get(1).isAfter(secondSync.minusSeconds(10)));
+    }
+
+    private TokenBlacklistService blacklist(RevocationStore store) {
+        return new TokenBlacklistService(store, JWT_UTIL, 86400000L, Duration.ofHours(1), 1000, 0.01,
+                Duration.ofSeconds(5));
+    }
+}
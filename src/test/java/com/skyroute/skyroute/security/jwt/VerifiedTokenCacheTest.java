@@ -0,0 +1,68 @@
+package com.skyroute.skyroute.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final Claims claims = Jwts.claims().subject("ada@skyroute.com").build();
+
+    @Test
+    void get_shouldReturnClaims_untilTokenExpires() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token", claims, 2_000, 1_000);
+
+        assertSame(claims, cache.get("token", 1_999));
+        assertNull(cache.get("token", 2_000));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_shouldIgnoreAlreadyExpiredTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token", claims, 1_000, 1_000);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_shouldStayBounded_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("token-" + i, claims, 5_000, 1_000);
+        }
+
+        assertTrue(cache.size() <= 10);
+        assertSame(claims, cache.get("token-99", 1_000));
+    }
+
+    @Test
+    void put_shouldEvictExpiredTokensFirst_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(4);
+        cache.put("live", claims, 10_000, 1_000);
+        for (int i = 0; i < 3; i++) {
+            cache.put("expiring-" + i, claims, 2_000, 1_000);
+        }
+
+        cache.put("new", claims, 10_000, 3_000);
+
+        assertEquals(2, cache.size());
+        assertSame(claims, cache.get("live", 3_000));
+        assertSame(claims, cache.get("new", 3_000));
+    }
+
+    @Test
+    void put_shouldNotCache_whenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put("token", claims, 5_000, 1_000);
+
+        assertNull(cache.get("token", 1_000));
+    }
+}
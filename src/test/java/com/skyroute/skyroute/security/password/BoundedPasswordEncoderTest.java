@@ -0,0 +1,143 @@
+package com.skyroute.skyroute.security.password;
+
+import com.skyroute.skyroute.shared.exception.custom_exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encodeAndMatches_shouldHashOnPool_andRecordMetrics() {
+        encoder = new BoundedPasswordEncoder(4, 2, 4, Duration.ofSeconds(5), meterRegistry);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("skyroute.security.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("skyroute.security.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("skyroute.security.password.queue.wait").timer().count());
+        assertEquals(0, meterRegistry.get("skyroute.security.password.queue.depth").gauge().value());
+    }
+
+    @Test
+    void matches_shouldRejectImmediately_whenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingDelegate(), 4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        awaitQueueDepth(1);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("c", "hash"));
+        assertEquals(1, meterRegistry.get("skyroute.security.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_shouldReject_whenQueuedLongerThanMaxQueueWait() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingDelegate(), 4, 1, 4, Duration.ofMillis(20), meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        awaitQueueDepth(1);
+        Thread.sleep(50);
+
+        release.countDown();
+
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PasswordHashingUnavailableException.class, exception.getCause());
+        assertEquals(1, meterRegistry.get("skyroute.security.password.rejected").counter().count());
+    }
+
+    @Test
+    void upgradeEncoding_shouldBeTrue_onlyWhenBcryptCostDiffers() {
+        encoder = new BoundedPasswordEncoder(5, 1, 4, Duration.ofSeconds(5), meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void authenticate_shouldRehashPassword_whenStoredCostDiffers() {
+        encoder = new BoundedPasswordEncoder(5, 1, 4, Duration.ofSeconds(5), meterRegistry);
+        UserDetails user = User.withUsername("ada@skyroute.com")
+                .password(new BCryptPasswordEncoder(4).encode("secret"))
+                .roles("USER")
+                .build();
+        UserDetailsPasswordService passwordService = mock(UserDetailsPasswordService.class);
+        when(passwordService.updatePassword(any(), anyString())).thenAnswer(invocation -> User.withUserDetails(user)
+                .password(invocation.getArgument(1))
+                .build());
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(encoder);
+        provider.setUserDetailsService(username -> user);
+        provider.setUserDetailsPasswordService(passwordService);
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("ada@skyroute.com", "secret"));
+
+        verify(passwordService).updatePassword(eq(user), argThat(hash -> hash.startsWith("$2a$05$")));
+    }
+
+    private PasswordEncoder blockingDelegate() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                hashing.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("skyroute.security.password.queue.depth").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "Password hash was not queued");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.skyroute.skyroute.security.revocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DatabaseRevocationStore.class)
+@TestPropertySource(properties = "app.security.revocation.store=database")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseRevocationStoreTest {
+
+    @Autowired
+    private DatabaseRevocationStore store;
+
+    @Autowired
+    private RevokedTokenRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void revoke_shouldBeVisibleUntilExpiry() {
+        LocalDateTime now = LocalDateTime.now();
+        store.revoke("token-a", now.plusHours(1));
+
+        assertTrue(store.isRevoked("token-a", now));
+        assertFalse(store.isRevoked("token-a", now.plusHours(2)));
+        assertFalse(store.isRevoked("token-b", now));
+    }
+
+    @Test
+    void revoke_shouldExtendExpiry_whenRevokedAgain() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        store.revoke("token-a", now.plusMinutes(5));
+        store.revoke("token-a", now.plusHours(1));
+        store.revoke("token-a", now.plusMinutes(1));
+
+        assertEquals(now.plusHours(1), repository.findById("token-a").orElseThrow().getExpiresAt());
+    }
+
+    @Test
+    void revokedSince_shouldReturnLiveRevocationsFromAllInstances() {
+        LocalDateTime now = LocalDateTime.now();
+        store.revoke("live", now.plusHours(1));
+        store.revoke("expired", now.minusMinutes(1));
+
+        List<RevokedTokenEntry> revoked = store.revokedSince(now.minusMinutes(1), now);
+
+        assertEquals(List.of("live"), revoked.stream().map(RevokedTokenEntry::tokenId).toList());
+        assertTrue(store.revokedSince(now.plusMinutes(1), now).isEmpty());
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteOnlyExpiredRows() {
+        LocalDateTime now = LocalDateTime.now();
+        store.revoke("live", now.plusHours(1));
+        store.revoke("expired", now.minusMinutes(1));
+
+        assertEquals(1, store.purgeExpired(now));
+
+        assertEquals(List.of("live"), repository.findAll().stream().map(RevokedToken::getTokenId).toList());
+    }
+}
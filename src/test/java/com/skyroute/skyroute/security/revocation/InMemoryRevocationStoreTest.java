@@ -0,0 +1,57 @@
+package com.skyroute.skyroute.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRevocationStoreTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 10, 35);
+    private final InMemoryRevocationStore store = new InMemoryRevocationStore(Duration.ofMinutes(10));
+
+    @Test
+    void isRevoked_shouldHonourPerTokenExpiry() {
+        store.revoke("a", now.plusMinutes(1));
+
+        assertTrue(store.isRevoked("a", now));
+        assertFalse(store.isRevoked("a", now.plusMinutes(1)));
+        assertFalse(store.isRevoked("b", now));
+    }
+
+    @Test
+    void purgeExpired_shouldDropOnlyBucketsThatEndedBeforeNow() {
+        store.revoke("expired", now.minusMinutes(15));
+        store.revoke("same-bucket", now.minusMinutes(1));
+        store.revoke("live", now.plusHours(1));
+
+        assertEquals(1, store.purgeExpired(now));
+
+        assertEquals(2, store.size());
+        assertFalse(store.isRevoked("same-bucket", now));
+        assertTrue(store.isRevoked("live", now));
+        assertEquals(1, store.purgeExpired(now.plusMinutes(10)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void revoke_shouldKeepLatestExpiry_whenRevokedTwice() {
+        store.revoke("a", now.plusHours(2));
+        store.revoke("a", now.minusMinutes(30));
+
+        store.purgeExpired(now);
+
+        assertTrue(store.isRevoked("a", now.plusHours(1)));
+    }
+
+    @Test
+    void remove_shouldForgetToken() {
+        store.revoke("a", now.plusHours(1));
+
+        store.remove("a");
+
+        assertFalse(store.isRevoked("a", now));
+    }
+}
@@ -0,0 +1,56 @@
+package com.skyroute.skyroute.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenIndexTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 10, 30);
+
+    @Test
+    void mightContain_shouldNeverMissAddedTokens() {
+        RevokedTokenIndex index = new RevokedTokenIndex(Duration.ofHours(1), 1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            index.add("token-" + i, now.plusMinutes(i % 120));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(index.mightContain("token-" + i, now));
+        }
+    }
+
+    @Test
+    void mightContain_shouldKeepFalsePositivesNearConfiguredRate() {
+        RevokedTokenIndex index = new RevokedTokenIndex(Duration.ofHours(1), 1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            index.add("revoked-" + i, now.plusMinutes(10));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (index.mightContain("other-" + i, now)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void expire_shouldDropBucketsThatEndedBeforeNow() {
+        RevokedTokenIndex index = new RevokedTokenIndex(Duration.ofHours(1), 100, 0.01);
+        index.add("old", now.minusHours(2));
+        index.add("live", now.plusHours(2));
+
+        assertEquals(1, index.expire(now));
+
+        assertEquals(1, index.buckets());
+        assertFalse(index.mightContain("old", now));
+        assertTrue(index.mightContain("live", now));
+    }
+}
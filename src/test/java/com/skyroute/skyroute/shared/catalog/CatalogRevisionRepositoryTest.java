@@ -0,0 +1,34 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CatalogRevisionRepositoryTest {
+
+    @Autowired
+    private CatalogRevisionRepository repository;
+
+    @Test
+    void bump_shouldIncrementSeededRevision_andStampChangeTime() {
+        LocalDateTime now = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        long routes = repository.findById("routes").orElseThrow().getRevision();
+        long airports = repository.findById("airports").orElseThrow().getRevision();
+
+        assertEquals(1, repository.bump("routes", now));
+        assertEquals(0, repository.bump("unknown", now));
+
+        CatalogRevision bumped = repository.findById("routes").orElseThrow();
+        assertEquals(routes + 1, bumped.getRevision());
+        assertEquals(now, bumped.getChangedAt());
+        assertEquals(airports, repository.findById("airports").orElseThrow().getRevision());
+    }
+}
@@ -0,0 +1,185 @@
+package com.skyroute.skyroute.shared.catalog;
+
+import com.skyroute.skyroute.airport.event.AirportChangedEvent;
+import com.skyroute.skyroute.flight.dto.FlightRevision;
+import com.skyroute.skyroute.flight.dto.MinPriceResponse;
+import com.skyroute.skyroute.flight.repository.FlightRepository;
+import com.skyroute.skyroute.route.event.RouteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionsTest {
+
+    @Mock
+    private CatalogRevisionRepository revisionRepository;
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private CatalogVersions catalogVersions;
+    private Map<String, CatalogRevision> revisions;
+    private LocalDateTime changedAt;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersions = new CatalogVersions(revisionRepository, flightRepository, Duration.ofMinutes(5),
+                Duration.ofSeconds(30));
+        changedAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+        revisions = new HashMap<>();
+        revisions.put("airports", new CatalogRevision("airports", 0, changedAt));
+        revisions.put("routes", new CatalogRevision("routes", 0, changedAt));
+        lenient().when(revisionRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<CatalogRevision> found = new ArrayList<>();
+            ((Iterable<?>) invocation.getArgument(0)).forEach(name -> found.add(revisions.get(name)));
+            return found;
+        });
+    }
+
+    @Nested
+    class VersionTests {
+        @Test
+        void onAirportChanged_shouldBumpPersistedAirportsRevision() {
+            catalogVersions.onAirportChanged(new AirportChangedEvent(1L));
+
+            verify(revisionRepository).bump(eq("airports"), any(LocalDateTime.class));
+        }
+
+        @Test
+        void onRouteChanged_shouldBumpPersistedRoutesRevision() {
+            catalogVersions.onRouteChanged(new RouteChangedEvent(1L));
+
+            verify(revisionRepository).bump(eq("routes"), any(LocalDateTime.class));
+        }
+
+        @Test
+        void airports_shouldMatchOnEveryInstance_andChangeWithPersistedRevision() {
+            CatalogVersions otherInstance = new CatalogVersions(revisionRepository, flightRepository,
+                    Duration.ofMinutes(5), Duration.ofSeconds(30));
+            String before = catalogVersions.airports().eTag();
+
+            assertEquals(before, otherInstance.airports().eTag());
+            revise("airports", 1);
+
+            assertNotEquals(before, otherInstance.airports().eTag());
+            assertEquals(catalogVersions.airports().eTag(), otherInstance.airports().eTag());
+        }
+
+        @Test
+        void routes_shouldChangeETagAndLastModified_whenRouteOrAirportRevisionChanges() {
+            String initial = catalogVersions.routes().eTag();
+            revise("routes", 1);
+            CatalogVersion afterRouteChange = catalogVersions.routes();
+            revise("airports", 1);
+
+            assertNotEquals(initial, afterRouteChange.eTag());
+            assertNotEquals(afterRouteChange.eTag(), catalogVersions.routes().eTag());
+            assertEquals(changedAt.plusMinutes(1).atZone(ZoneId.systemDefault()).toInstant(),
+                    catalogVersions.routes().lastModified());
+        }
+
+        @Test
+        void flight_shouldFollowPersistedFlightVersion() {
+            when(flightRepository.findRevisionById(1L)).thenReturn(Optional.of(new FlightRevision(3L, changedAt)));
+            String before = catalogVersions.flight(1L).orElseThrow().eTag();
+
+            when(flightRepository.findRevisionById(1L))
+                    .thenReturn(Optional.of(new FlightRevision(4L, changedAt.plusSeconds(5))));
+
+            assertNotEquals(before, catalogVersions.flight(1L).orElseThrow().eTag());
+            assertEquals(changedAt.plusSeconds(5).atZone(ZoneId.systemDefault()).toInstant(),
+                    catalogVersions.flight(1L).orElseThrow().lastModified());
+        }
+
+        @Test
+        void flight_shouldBeEmpty_whenFlightDoesNotExist() {
+            when(flightRepository.findRevisionById(99L)).thenReturn(Optional.empty());
+
+            assertTrue(catalogVersions.flight(99L).isEmpty());
+        }
+
+        @Test
+        void minPrices_shouldDeriveETagFromContent() {
+            List<MinPriceResponse> minPrices = List.of(new MinPriceResponse("BCN", "Barcelona", 89.0));
+
+            assertEquals(catalogVersions.minPrices(minPrices).eTag(),
+                    catalogVersions.minPrices(List.of(new MinPriceResponse("BCN", "Barcelona", 89.0))).eTag());
+            assertNotEquals(catalogVersions.minPrices(minPrices).eTag(),
+                    catalogVersions.minPrices(List.of(new MinPriceResponse("BCN", "Barcelona", 79.0))).eTag());
+            assertNull(catalogVersions.minPrices(minPrices).lastModified());
+        }
+    }
+
+    @Nested
+    class RespondTests {
+        @Test
+        @SuppressWarnings("unchecked")
+        void respond_shouldReturnNotModified_withoutLoadingBody_whenETagMatches() {
+            CatalogVersion version = catalogVersions.airports();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/airports");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, version.eTag());
+            Supplier<List<String>> body = mock(Supplier.class);
+
+            ResponseEntity<List<String>> response = version.respond(
+                    new ServletWebRequest(request, new MockHttpServletResponse()), body);
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertEquals(version.eTag(), response.getHeaders().getETag());
+            verifyNoInteractions(body);
+        }
+
+        @Test
+        void respond_shouldReturnBodyWithValidators_whenETagDoesNotMatch() {
+            CatalogVersion version = catalogVersions.airports();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/airports");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+            ResponseEntity<List<String>> response = version.respond(
+                    new ServletWebRequest(request, new MockHttpServletResponse()), () -> List.of("MAD"));
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of("MAD"), response.getBody());
+            assertEquals(version.eTag(), response.getHeaders().getETag());
+            assertEquals(version.lastModified().toEpochMilli(), response.getHeaders().getLastModified());
+            assertEquals("max-age=300, public", response.getHeaders().getCacheControl());
+        }
+
+        @Test
+        void respond_shouldOmitLastModified_whenVersionHasNone() {
+            CatalogVersion version = catalogVersions.minPrices(List.of());
+
+            ResponseEntity<List<String>> response = version.respond(new ServletWebRequest(
+                    new MockHttpServletRequest("GET", "/api/flights/min-prices"), new MockHttpServletResponse()),
+                    List::of);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(-1, response.getHeaders().getLastModified());
+        }
+    }
+
+    private void revise(String name, long revision) {
+        revisions.put(name, new CatalogRevision(name, revision, changedAt.plusMinutes(revision)));
+    }
+}
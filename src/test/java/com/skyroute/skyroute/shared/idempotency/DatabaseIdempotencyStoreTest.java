@@ -0,0 +1,108 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyInProgressException;
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DatabaseIdempotencyStore.class)
+@TestPropertySource(properties = {
+        "app.idempotency.store=database",
+        "app.idempotency.processing-timeout=30s",
+        "app.idempotency.poll-interval=10ms"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseIdempotencyStoreTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private DatabaseIdempotencyStore store;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void begin_shouldClaimNewKey_andReplayStoredResponseAfterwards() {
+        assertTrue(store.begin("1:key", "POST a", WAIT).isEmpty());
+        store.complete("1:key", new IdempotentResponse(201, "{\"id\":1}"));
+
+        assertEquals(Optional.of(new IdempotentResponse(201, "{\"id\":1}")), store.begin("1:key", "POST a", WAIT));
+        assertTrue(repository.findById("1:key").orElseThrow().getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+    }
+
+    @Test
+    void begin_shouldPollUntilInFlightRequestCompletes() throws Exception {
+        store.begin("1:key", "POST a", WAIT);
+
+        CompletableFuture<Optional<IdempotentResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> store.begin("1:key", "POST a", WAIT));
+        Thread.sleep(100);
+        assertFalse(duplicate.isDone());
+        store.complete("1:key", new IdempotentResponse(200, "{}"));
+
+        assertEquals(Optional.of(new IdempotentResponse(200, "{}")), duplicate.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void begin_shouldThrow_whenKeyIsReusedOrStillInProgress() {
+        store.begin("1:key", "POST a", WAIT);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.begin("1:key", "POST b", WAIT));
+        assertThrows(IdempotencyKeyInProgressException.class, () -> store.begin("1:key", "POST a", Duration.ofMillis(30)));
+    }
+
+    @Test
+    void abandon_shouldReleaseInProgressKey_butKeepCompletedOne() {
+        store.begin("1:open", "POST a", WAIT);
+        store.begin("1:done", "POST a", WAIT);
+        store.complete("1:done", new IdempotentResponse(204, null));
+
+        store.abandon("1:open");
+        store.abandon("1:done");
+
+        assertTrue(store.begin("1:open", "POST a", WAIT).isEmpty());
+        assertEquals(Optional.of(new IdempotentResponse(204, null)), store.begin("1:done", "POST a", WAIT));
+    }
+
+    @Test
+    void begin_shouldTakeOverKey_whenPreviousClaimTimedOut() {
+        repository.insert("1:stale", "POST a", LocalDateTime.now().minusSeconds(1));
+
+        assertTrue(store.begin("1:stale", "POST b", WAIT).isEmpty());
+        assertEquals("POST b", repository.findById("1:stale").orElseThrow().getFingerprint());
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteOnlyExpiredKeys() {
+        repository.insert("1:old", "POST a", LocalDateTime.now().minusMinutes(1));
+        store.begin("1:live", "POST a", WAIT);
+
+        store.purgeExpired();
+
+        assertFalse(repository.existsById("1:old"));
+        assertTrue(repository.existsById("1:live"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private static final TypeReference<Map<String, String>> BODY = new TypeReference<>() {};
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new InMemoryIdempotencyStore(Duration.ofHours(1), 100),
+                new ObjectMapper(), Duration.ofSeconds(1));
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void execute_shouldRunActionEveryTime_whenNoKeyGiven() {
+        idempotencyService.execute(null, 1L, "POST /x", "request", BODY, this::created);
+        idempotencyService.execute(null, 1L, "POST /x", "request", BODY, this::created);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_shouldReplayStoredResponse_withoutRunningActionAgain() {
+        ResponseEntity<Map<String, String>> first = idempotencyService.execute("k", 1L, "POST /x", "request", BODY, this::created);
+        ResponseEntity<Map<String, String>> retry = idempotencyService.execute("k", 1L, "POST /x", "request", BODY, this::created);
+
+        assertEquals(1, calls.get());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(Map.of("call", "1"), retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void execute_shouldScopeKeysPerUser() {
+        idempotencyService.execute("k", 1L, "POST /x", "request", BODY, this::created);
+        idempotencyService.execute("k", 2L, "POST /x", "request", BODY, this::created);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_shouldReleaseKey_whenActionFails() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("k", 1L, "POST /x", "request", BODY,
+                () -> { throw new IllegalStateException("boom"); }));
+
+        idempotencyService.execute("k", 1L, "POST /x", "request", BODY, this::created);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_shouldRejectBlankOrOversizedKey() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute(" ", 1L, "POST /x", "request", BODY, this::created));
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("k".repeat(101), 1L, "POST /x", "request", BODY, this::created));
+        assertEquals(0, calls.get());
+    }
+
+    private ResponseEntity<Map<String, String>> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("call", String.valueOf(calls.incrementAndGet())));
+    }
+}
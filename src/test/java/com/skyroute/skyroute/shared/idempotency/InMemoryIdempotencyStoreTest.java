@@ -0,0 +1,93 @@
+package com.skyroute.skyroute.shared.idempotency;
+
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyInProgressException;
+import com.skyroute.skyroute.shared.exception.custom_exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(Duration.ofHours(1), 3);
+    }
+
+    @Test
+    void begin_shouldClaimNewKey_andReplayStoredResponseAfterwards() {
+        assertTrue(store.begin("1:key", "POST a", WAIT).isEmpty());
+        store.complete("1:key", new IdempotentResponse(201, "{\"id\":1}"));
+
+        assertEquals(Optional.of(new IdempotentResponse(201, "{\"id\":1}")), store.begin("1:key", "POST a", WAIT));
+    }
+
+    @Test
+    void begin_shouldWaitForInFlightRequest_andReturnItsResponse() throws Exception {
+        store.begin("1:key", "POST a", WAIT);
+
+        CompletableFuture<Optional<IdempotentResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> store.begin("1:key", "POST a", WAIT));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+        store.complete("1:key", new IdempotentResponse(200, "{}"));
+
+        assertEquals(Optional.of(new IdempotentResponse(200, "{}")), duplicate.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void begin_shouldLetWaitingDuplicateClaimKey_whenFirstRequestAbandonsIt() throws Exception {
+        store.begin("1:key", "POST a", WAIT);
+
+        CompletableFuture<Optional<IdempotentResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> store.begin("1:key", "POST a", WAIT));
+        Thread.sleep(50);
+        store.abandon("1:key");
+
+        assertTrue(duplicate.get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    @Test
+    void begin_shouldThrowReused_whenFingerprintDiffers() {
+        store.begin("1:key", "POST a", WAIT);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.begin("1:key", "POST b", WAIT));
+    }
+
+    @Test
+    void begin_shouldThrowInProgress_whenFirstRequestDoesNotFinishInTime() {
+        store.begin("1:key", "POST a", WAIT);
+
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> store.begin("1:key", "POST a", Duration.ofMillis(20)));
+    }
+
+    @Test
+    void begin_shouldEvictOldestCompletedKeys_whenFull() {
+        for (int i = 0; i < 5; i++) {
+            store.begin("1:key" + i, "POST a", WAIT);
+            store.complete("1:key" + i, new IdempotentResponse(200, null));
+        }
+
+        assertEquals(3, store.size());
+        assertTrue(store.begin("1:key0", "POST a", WAIT).isEmpty());
+    }
+
+    @Test
+    void begin_shouldReclaimKey_whenStoredResponseExpired() {
+        store = new InMemoryIdempotencyStore(Duration.ZERO, 3);
+        store.begin("1:key", "POST a", WAIT);
+        store.complete("1:key", new IdempotentResponse(200, null));
+
+        assertTrue(store.begin("1:key", "POST b", WAIT).isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
+import com.skyroute.skyroute.user.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, Duration.ofMinutes(1), List.of(
+                new RateLimitProperties.Rule("login", List.of("/api/auth/login"), List.of("POST"), 2,
+                        Duration.ofMinutes(1), ClientKey.IP),
+                new RateLimitProperties.Rule("flight-search", List.of("/api/flights/search"), List.of(), 1,
+                        Duration.ofMinutes(1), ClientKey.USER)));
+        filter = new RateLimitFilter(new RateLimiter(properties, new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldReturn429WithRetryAfter_whenClientExceedsLimit() throws Exception {
+        assertEquals(200, send("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(200, send("POST", "/api/auth/login", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = send("POST", "/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+        assertEquals(200, send("POST", "/api/auth/login", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_whenNoRuleMatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send("GET", "/api/bookings", "10.0.0.1").getStatus());
+            assertEquals(200, send("GET", "/api/auth/login", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    void doFilter_shouldKeyByUserId_whenRuleUsesUserKey() throws Exception {
+        authenticate(1L);
+        assertEquals(200, send("GET", "/api/flights/search", "10.0.0.1").getStatus());
+        assertEquals(429, send("GET", "/api/flights/search", "10.0.0.2").getStatus());
+
+        authenticate(2L);
+        assertEquals(200, send("GET", "/api/flights/search", "10.0.0.1").getStatus());
+
+        SecurityContextHolder.clearContext();
+        assertEquals(200, send("GET", "/api/flights/search", "10.0.0.1").getStatus());
+        assertEquals(429, send("GET", "/api/flights/search", "10.0.0.1").getStatus());
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        assertEquals(response.getStatus() == 200, chain.getRequest() != null);
+        return response;
+    }
+
+    private void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@skyroute.com", Role.USER, 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
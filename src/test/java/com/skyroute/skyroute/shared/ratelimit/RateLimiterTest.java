@@ -0,0 +1,120 @@
+package com.skyroute.skyroute.shared.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void route_shouldMatchConfiguredPatternsAndMethods() {
+        RateLimiter rateLimiter = rateLimiter(true,
+                rule("login", List.of("/api/auth/login"), List.of("POST"), 10, ClientKey.IP),
+                rule("search", List.of("/api/flights/search", "/api/routes/**"), List.of(), 100, ClientKey.USER));
+
+        assertEquals("login", rateLimiter.route("POST", "/api/auth/login").name());
+        assertNull(rateLimiter.route("GET", "/api/auth/login"));
+        assertEquals("search", rateLimiter.route("GET", "/api/flights/search").name());
+        assertEquals("search", rateLimiter.route("GET", "/api/routes/12/flights").name());
+        assertNull(rateLimiter.route("GET", "/api/flights/search-filters"));
+        assertNull(rateLimiter.route("GET", "/api/bookings"));
+    }
+
+    @Test
+    void route_shouldReturnNull_whenDisabled() {
+        RateLimiter rateLimiter = rateLimiter(false, rule("login", List.of("/api/auth/login"), List.of(), 10, ClientKey.IP));
+
+        assertNull(rateLimiter.route("POST", "/api/auth/login"));
+    }
+
+    @Test
+    void tryAcquire_shouldAllowBurstUpToLimit_thenReturnWaitUntilNextToken() {
+        RateLimiter.Route route = rateLimiter(true, rule("login", List.of("/api/auth/login"), List.of(), 3, ClientKey.IP))
+                .route("POST", "/api/auth/login");
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, route.tryAcquire("10.0.0.1", now));
+        assertEquals(0, route.tryAcquire("10.0.0.1", now));
+        assertEquals(0, route.tryAcquire("10.0.0.1", now));
+        assertEquals(20 * SECOND, route.tryAcquire("10.0.0.1", now));
+        assertEquals(0, route.tryAcquire("10.0.0.2", now));
+
+        assertEquals(5 * SECOND, route.tryAcquire("10.0.0.1", now + 15 * SECOND));
+        assertEquals(0, route.tryAcquire("10.0.0.1", now + 20 * SECOND));
+        assertEquals(2, meterRegistry.get("skyroute.ratelimit.rejected").tag("rule", "login").counter().count());
+    }
+
+    @Test
+    void tryAcquire_shouldNotGrantMoreThanLimit_underConcurrentRequests() throws InterruptedException {
+        RateLimiter.Route route = rateLimiter(true, rule("login", List.of("/api/auth/login"), List.of(), 50, ClientKey.IP))
+                .route("POST", "/api/auth/login");
+        long now = 1_000 * SECOND;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (route.tryAcquire("10.0.0.1", now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    void evictIdle_shouldRemoveOnlyBucketsIdleLongerThanIdleTimeout() {
+        RateLimiter rateLimiter = rateLimiter(true, rule("login", List.of("/api/auth/login"), List.of(), 2, ClientKey.IP));
+        RateLimiter.Route route = rateLimiter.route("POST", "/api/auth/login");
+        long now = 1_000 * SECOND;
+        route.tryAcquire("10.0.0.1", now);
+        route.tryAcquire("10.0.0.2", now);
+        route.tryAcquire("10.0.0.2", now);
+        route.tryAcquire("10.0.0.2", now);
+
+        assertEquals(1, rateLimiter.evictIdle(now + 91 * SECOND));
+        assertEquals(1, rateLimiter.buckets());
+        assertEquals(1, rateLimiter.evictIdle(now + 121 * SECOND));
+        assertEquals(0, rateLimiter.buckets());
+    }
+
+    @Test
+    void rateLimiter_shouldRejectRule_withoutPositiveLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> rateLimiter(true, rule("broken", List.of("/api/auth/login"), List.of(), 0, ClientKey.IP)));
+    }
+
+    private RateLimiter rateLimiter(boolean enabled, RateLimitProperties.Rule... rules) {
+        return new RateLimiter(new RateLimitProperties(enabled, Duration.ofMinutes(1), List.of(rules)), meterRegistry);
+    }
+
+    private RateLimitProperties.Rule rule(String name, List<String> patterns, List<String> methods, int limit,
+                                          ClientKey key) {
+        return new RateLimitProperties.Rule(name, patterns, methods, limit, Duration.ofMinutes(1), key);
+    }
+}
@@ -0,0 +1,87 @@
+package com.skyroute.skyroute.shared.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2030-01-01T00:00:00Z");
+
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 8, START);
+    }
+
+    @Test
+    void advance_shouldFireTimeout_notBeforeItsDeadline_andWithinOneTick() {
+        wheel.schedule("hold", START.plusMillis(2_500));
+
+        assertTrue(wheel.advance(START.plusMillis(2_499)).isEmpty());
+        assertTrue(wheel.advance(START.plusMillis(2_999)).isEmpty());
+        assertEquals(List.of("hold"), wheel.advance(START.plusSeconds(3)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_shouldCascadeTimeoutsFromHigherLevels() {
+        wheel.schedule("minutes", START.plusSeconds(100));
+        wheel.schedule("hours", START.plusSeconds(3 * 3_600));
+
+        assertTrue(wheel.advance(START.plusSeconds(99)).isEmpty());
+        assertEquals(List.of("minutes"), wheel.advance(START.plusSeconds(101)));
+        assertTrue(wheel.advance(START.plusSeconds(3 * 3_600 - 1)).isEmpty());
+        assertEquals(List.of("hours"), wheel.advance(START.plusSeconds(3 * 3_600 + 1)));
+    }
+
+    @Test
+    void cancel_shouldPreventTimeoutFromFiring() {
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("hold", START.plusSeconds(5));
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(START.plusSeconds(10)).isEmpty());
+    }
+
+    @Test
+    void schedule_shouldFireOnNextAdvance_whenDeadlineAlreadyPassed() {
+        wheel.advance(START.plusSeconds(10));
+
+        wheel.schedule("late", START.plusSeconds(2));
+
+        assertEquals(List.of("late"), wheel.advance(START.plusSeconds(10)));
+    }
+
+    @Test
+    void advance_shouldFireEveryTimeoutExactlyOnce_inDeadlineTickOrder() {
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long offset = random.nextLong(0, 20_000_000);
+            deadlines.add(offset);
+            wheel.schedule(Long.toString(offset), START.plusMillis(offset));
+        }
+
+        List<String> fired = new ArrayList<>();
+        for (long now = 0; now <= 20_001_000; now += 7_919) {
+            for (String payload : wheel.advance(START.plusMillis(now))) {
+                assertTrue(Long.parseLong(payload) <= now);
+                assertTrue(Long.parseLong(payload) > now - 7_919 - 1_000);
+                fired.add(payload);
+            }
+        }
+
+        assertEquals(deadlines.size(), fired.size());
+        assertEquals(0, wheel.size());
+    }
+}
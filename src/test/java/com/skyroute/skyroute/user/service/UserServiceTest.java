@@ -1,7 +1,10 @@
 package com.skyroute.skyroute.user.service;
 
 import com.skyroute.skyroute.cloudinary.CloudinaryService;
+import com.skyroute.skyroute.security.details.AuthenticatedUser;
 import com.skyroute.skyroute.security.details.CustomUserDetails;
+import com.skyroute.skyroute.security.jwt.SecurityStampChangedEvent;
+import com.skyroute.skyroute.security.jwt.SecurityStampService;
 import com.skyroute.skyroute.shared.exception.custom_exception.EmailAlreadyExistsException;
 import com.skyroute.skyroute.shared.exception.custom_exception.EntityNotFoundException;
 import com.skyroute.skyroute.shared.exception.custom_exception.ImageUploadException;
@@ -13,6 +16,7 @@ import com.skyroute.skyroute.user.dto.UserProfileUpdateRequest;
 import com.skyroute.skyroute.user.dto.UserRequest;
 import com.skyroute.skyroute.user.dto.UserResponse;
 import com.skyroute.skyroute.user.entity.User;
+import com.skyroute.skyroute.user.entity.UserIdentity;
 import com.skyroute.skyroute.user.enums.Role;
 import com.skyroute.skyroute.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -65,6 +70,9 @@ class UserServiceTest {
         @Mock
         private Authentication authentication;
 
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private UserServiceImpl userService;
 
@@ -378,6 +386,8 @@ class UserServiceTest {
 
                 assertThat(result).isNotNull();
                 assertThat(result.role()).isEqualTo(Role.ADMIN);
+                assertThat(testUser.getSecurityStamp()).isEqualTo(1L);
+                verify(eventPublisher).publishEvent(new SecurityStampChangedEvent(1L, 1L));
         }
 
         @Test
@@ -387,6 +397,7 @@ class UserServiceTest {
                 userService.deleteUser(1L);
 
                 verify(userRepository).delete(testUser);
+                verify(eventPublisher).publishEvent(new SecurityStampChangedEvent(1L, SecurityStampService.REVOKED));
         }
 
         @Test
@@ -1058,6 +1069,35 @@ class UserServiceTest {
                 assertThat(result.getEmail()).isEqualTo("john@test.com");
         }
 
+        @Test
+        void getCurrentUser_WithTokenPrincipal_ShouldLoadUserById() {
+                AuthenticatedUser principal = new AuthenticatedUser(1L, "john@test.com", Role.USER, 0L);
+
+                SecurityContextHolder.setContext(securityContext);
+                when(securityContext.getAuthentication()).thenReturn(authentication);
+                when(authentication.getPrincipal()).thenReturn(principal);
+                when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+                User result = userService.getCurrentUser();
+
+                assertThat(result).isSameAs(testUser);
+        }
+
+        @Test
+        void getCurrentUserIdentity_WithTokenPrincipal_ShouldNotQueryDatabase() {
+                AuthenticatedUser principal = new AuthenticatedUser(1L, "john@test.com", Role.USER, 0L);
+
+                SecurityContextHolder.setContext(securityContext);
+                when(securityContext.getAuthentication()).thenReturn(authentication);
+                when(authentication.getPrincipal()).thenReturn(principal);
+
+                UserIdentity result = userService.getCurrentUserIdentity();
+
+                assertThat(result.getId()).isEqualTo(1L);
+                assertThat(result.getRole()).isEqualTo(Role.USER);
+                verifyNoInteractions(userRepository);
+        }
+
         @Test
         void getCurrentUser_WithNullAuthentication_ShouldThrowException() {
                 SecurityContextHolder.setContext(securityContext);